@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# Starts the application with the given command, exercises the main endpoints and reports time-to-first-request and
+# resident memory. Expects the database from compose.yaml to be reachable.
+# Usage: ./scripts/smoke-test.sh target/envelope
+#        ./scripts/smoke-test.sh java -jar target/envelope-0.0.1-SNAPSHOT.jar
+set -euo pipefail
+
+BASE_URL="http://localhost:8080"
+USERNAME="smoke-test-$RANDOM"
+PASSWORD="smoke-test-password"
+LOG_FILE="$(mktemp)"
+export TRANSACTION_CURSOR_SECRET="${TRANSACTION_CURSOR_SECRET:-$(openssl rand -base64 48)}"
+
+start=$(date +%s%N)
+"$@" --spring.docker.compose.enabled=false > "$LOG_FILE" 2>&1 &
+pid=$!
+trap 'kill $pid 2> /dev/null || true' EXIT
+
+until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+    kill -0 $pid 2> /dev/null || { cat "$LOG_FILE"; exit 1; }
+    sleep 0.02
+done
+startup=$(( ($(date +%s%N) - start) / 1000000 ))
+
+expect_status() {
+    local expected="$1"
+    shift
+    local actual
+    actual=$(curl -s -o /dev/null -w "%{http_code}" "$@")
+    if [ "$actual" != "$expected" ]; then
+        echo "Expected $expected but got $actual for: $*"
+        exit 1
+    fi
+}
+
+expect_status 201 -X POST "$BASE_URL/api/appusers" -H "Content-Type: application/json" \
+    -d "{\"username\": \"$USERNAME\", \"password\": \"$PASSWORD\"}"
+token=$(curl -sf -X POST "$BASE_URL/api/appusers/login" -u "$USERNAME:$PASSWORD")
+account=$(curl -sf -X POST "$BASE_URL/api/accounts" -H "Authorization: Bearer $token" -H "Content-Type: application/json" \
+    -d '{"name": "Checking", "initialBalance": 100.00}')
+account_id=$(echo "$account" | sed -E 's/.*"id":"([^"]+)".*/\1/')
+expect_status 201 -X POST "$BASE_URL/api/accounts/$account_id/transactions" -H "Authorization: Bearer $token" \
+    -H "Content-Type: application/json" -d '{"amount": -12.50, "memo": "Coffee", "cleared": true}'
+expect_status 200 "$BASE_URL/api/accounts/$account_id/transactions?limit=10" -H "Authorization: Bearer $token"
+expect_status 204 -X DELETE "$BASE_URL/api/appusers" -H "Authorization: Bearer $token"
+
+rss=$(( $(ps -o rss= -p $pid) / 1024 ))
+echo "Time-to-first-request: $startup ms, RSS after smoke test: $rss MB"
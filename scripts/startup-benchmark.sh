@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the application image, with and without the AOT cache.
+# Usage: ./scripts/startup-benchmark.sh [image] [runs]
+set -euo pipefail
+
+IMAGE="${1:-envelope:latest}"
+RUNS="${2:-5}"
+NETWORK="envelope-startup-benchmark"
+CERTS="$(cd "$(dirname "$0")/.." && pwd)/certs"
+CURSOR_SECRET="$(openssl rand -base64 48)"
+
+cleanup() {
+    docker rm -f envelope-benchmark-app envelope-benchmark-db > /dev/null 2>&1 || true
+    docker network rm "$NETWORK" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+cleanup
+docker network create "$NETWORK" > /dev/null
+docker run -d --name envelope-benchmark-db --network "$NETWORK" \
+    -e POSTGRES_DB=application-db -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=postgres \
+    postgres > /dev/null
+until docker exec envelope-benchmark-db pg_isready -U postgres -d application-db > /dev/null 2>&1; do sleep 0.2; done
+
+time_to_first_request() {
+    local start
+    start=$(date +%s%N)
+    docker run -d --name envelope-benchmark-app --network "$NETWORK" -p 8080:8080 \
+        -v "$CERTS:/certs:ro" \
+        -e SPRING_DATASOURCE_URL=jdbc:postgresql://envelope-benchmark-db:5432/application-db \
+        -e OTEL_SDK_DISABLED=true \
+        -e TRANSACTION_CURSOR_SECRET="$CURSOR_SECRET" \
+        "$@" > /dev/null
+    until curl -sf http://localhost:8080/actuator/health > /dev/null; do sleep 0.02; done
+    echo $(( ($(date +%s%N) - start) / 1000000 ))
+    docker rm -f envelope-benchmark-app > /dev/null
+}
+
+report() {
+    local label="$1"
+    shift
+    local total=0
+    for _ in $(seq "$RUNS"); do
+        total=$(( total + $(time_to_first_request "$@") ))
+    done
+    echo "$label: $(( total / RUNS )) ms average time-to-first-request over $RUNS runs"
+}
+
+report "JVM" --entrypoint java "$IMAGE" -javaagent:otel.jar -jar /application/target.jar
+report "JVM + Spring AOT + AOT cache" "$IMAGE"
@@ -0,0 +1,105 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategorizationAutomatonBenchmark {
+
+    private static final int MEMOS = 1_024;
+    private static final String[] MERCHANTS = {
+            "NETFLIX.COM", "SPOTIFY AB", "AMAZON MKTPLACE", "SHELL OIL", "UBER *TRIP", "STARBUCKS", "LIDL", "IKEA",
+            "APPLE.COM/BILL", "CAFÉ CENTRAL", "VODAFONE", "EDP COMERCIAL", "PINGO DOCE", "GALP", "RYANAIR", "BOOKING.COM"
+    };
+
+    @Param({"10", "100", "1000"})
+    private int rules;
+
+    private CategorizationAutomaton automaton;
+    private CategorizationRuleDto[] naiveRules;
+    private String[] memos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(42);
+
+        var generated = new ArrayList<CategorizationRuleDto>();
+        for (var merchant : MERCHANTS) {
+            generated.add(new CategorizationRuleDto(UUID.randomUUID(), merchant.split("[ .*/]")[0], merchant));
+        }
+        while (generated.size() < rules) {
+            generated.add(new CategorizationRuleDto(UUID.randomUUID(), randomWord(random, 4 + random.nextInt(8)), "Generated"));
+        }
+        generated.subList(rules, generated.size()).clear();
+
+        automaton = CategorizationAutomaton.compile(generated);
+        naiveRules = generated.toArray(CategorizationRuleDto[]::new);
+
+        memos = new String[MEMOS];
+        for (var i = 0; i < MEMOS; i++) {
+            memos[i] = "CARD %04d %s %s %06d".formatted(
+                    random.nextInt(10_000),
+                    random.nextInt(3) == 0 ? randomWord(random, 8) : MERCHANTS[random.nextInt(MERCHANTS.length)],
+                    randomWord(random, 6),
+                    random.nextInt(1_000_000)
+            );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MEMOS)
+    public void automaton(Blackhole blackhole) {
+        for (var memo : memos) {
+            blackhole.consume(automaton.categorize(memo));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MEMOS)
+    public void naiveContains(Blackhole blackhole) {
+        for (var memo : memos) {
+            var lowered = memo.toLowerCase(Locale.ROOT);
+            String category = null;
+            for (var rule : naiveRules) {
+                if (lowered.contains(rule.pattern().toLowerCase(Locale.ROOT))) {
+                    category = rule.category();
+                    break;
+                }
+            }
+            blackhole.consume(category);
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        var word = new StringBuilder();
+        for (var i = 0; i < length; i++) {
+            word.append((char) ('A' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+
+}
@@ -0,0 +1,71 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionQueryCursorCodecBenchmark {
+
+    private static final int CURSORS = 1_024;
+    private static final int FINGERPRINT = TransactionQueryCursorCodec.fingerprint("benchmark|null|null|null|null|null|null");
+
+    private TransactionQueryCursorCodec codec;
+    private TransactionQueryCursor[] cursors;
+    private String[] encodedCursors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(42);
+
+        codec = new TransactionQueryCursorCodec("benchmark-transaction-cursor-secret-0123456789");
+        cursors = new TransactionQueryCursor[CURSORS];
+        encodedCursors = new String[CURSORS];
+        for (var i = 0; i < CURSORS; i++) {
+            cursors[i] = new TransactionQueryCursor(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2_500)),
+                    TransactionQuerySortDirection.values()[random.nextInt(2)],
+                    random.nextBoolean()
+            );
+            encodedCursors[i] = codec.encode(cursors[i], FINGERPRINT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CURSORS)
+    public void encode(Blackhole blackhole) {
+        for (var cursor : cursors) {
+            blackhole.consume(codec.encode(cursor, FINGERPRINT));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CURSORS)
+    public void decode(Blackhole blackhole) {
+        for (var i = 0; i < CURSORS; i++) {
+            blackhole.consume(codec.decode(encodedCursors[i], cursors[i].sort(), FINGERPRINT));
+        }
+    }
+
+}
@@ -34,7 +34,8 @@ class AccountMapper {
                 transaction.getAmount().value(),
                 transaction.getDateOfTransaction().value(),
                 transaction.getMemo().value(),
-                transaction.isCleared()
+                transaction.isCleared(),
+                transaction.getCategory() != null ? transaction.getCategory().value() : null
         );
     }
 
@@ -1,19 +1,24 @@
 package dev.felix2000jp.envelope.accounts.application;
 
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationService;
 import dev.felix2000jp.envelope.accounts.application.dtos.AccountDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.AccountListDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.CreateAccountDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateTransferDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransferDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.UpdateAccountDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.UpdateTransactionDto;
 import dev.felix2000jp.envelope.accounts.domain.Account;
 import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.InvalidTransferException;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountBalance;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionAmount;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionCategory;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionDate;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionId;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionMemo;
@@ -23,9 +28,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class AccountService {
@@ -35,11 +44,18 @@ public class AccountService {
     private final SecurityService securityService;
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
-
-    AccountService(SecurityService securityService, AccountRepository accountRepository, AccountMapper accountMapper) {
+    private final CategorizationService categorizationService;
+
+    AccountService(
+            SecurityService securityService,
+            AccountRepository accountRepository,
+            AccountMapper accountMapper,
+            CategorizationService categorizationService
+    ) {
         this.securityService = securityService;
         this.accountRepository = accountRepository;
         this.accountMapper = accountMapper;
+        this.categorizationService = categorizationService;
     }
 
     @Transactional(readOnly = true)
@@ -50,11 +66,31 @@ public class AccountService {
         return accountMapper.toAccountListDto(accounts);
     }
 
+    @Transactional
+    public String getVersionTag() {
+        return versionTag();
+    }
+
+    @Transactional(readOnly = true)
+    public String getReadVersionTag() {
+        return versionTag();
+    }
+
+    @Transactional
+    public String getVersionTag(UUID id) {
+        return versionTag(id);
+    }
+
+    @Transactional(readOnly = true)
+    public String getReadVersionTag(UUID id) {
+        return versionTag(id);
+    }
+
     @Transactional
     public AccountDto create(CreateAccountDto createAccountDto) {
         var user = securityService.loadUserFromSecurityContext();
         var account = Account.from(
-                new AccountId(UUID.randomUUID()),
+                AccountId.generate(),
                 new UserId(user.id()),
                 new AccountName(createAccountDto.name()),
                 new AccountBalance(createAccountDto.initialBalance())
@@ -88,7 +124,7 @@ public class AccountService {
         log.info("Accounts with userId {} deleted", userId);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public AccountDto getAccountById(UUID id) {
         var user = securityService.loadUserFromSecurityContext();
         var account = accountRepository
@@ -137,7 +173,9 @@ public class AccountService {
                 ? new TransactionMemo(addTransactionDto.memo()) 
                 : new TransactionMemo("");
 
-        account.addTransaction(amount, date, memo, addTransactionDto.cleared());
+        var category = categorizationService.categorize(user.id(), memo.value());
+
+        account.addTransaction(amount, date, memo, addTransactionDto.cleared(), category != null ? new TransactionCategory(category) : null);
         accountRepository.save(account);
         log.info("Transaction added to account {} for user {}", account.getId().value(), user.id());
 
@@ -145,6 +183,46 @@ public class AccountService {
         return accountMapper.toTransactionDto(newTransaction);
     }
 
+    @Transactional
+    public TransferDto transfer(CreateTransferDto createTransferDto) {
+        if (createTransferDto.fromAccountId().equals(createTransferDto.toAccountId())) {
+            throw new InvalidTransferException("Cannot transfer to the same account");
+        }
+
+        var user = securityService.loadUserFromSecurityContext();
+        var sourceId = new AccountId(createTransferDto.fromAccountId());
+        var destinationId = new AccountId(createTransferDto.toAccountId());
+        var accounts = accountRepository.findAllForUpdateByIdInAndUserId(List.of(sourceId, destinationId), new UserId(user.id()));
+
+        var source = accounts.stream()
+                .filter(account -> account.getId().equals(sourceId))
+                .findFirst()
+                .orElseThrow(AccountNotFoundException::new);
+        var destination = accounts.stream()
+                .filter(account -> account.getId().equals(destinationId))
+                .findFirst()
+                .orElseThrow(AccountNotFoundException::new);
+
+        var amount = new TransactionAmount(createTransferDto.amount());
+        var date = createTransferDto.date() != null
+                ? new TransactionDate(createTransferDto.date())
+                : new TransactionDate(LocalDate.now());
+        var memo = createTransferDto.memo() != null
+                ? new TransactionMemo(createTransferDto.memo())
+                : new TransactionMemo("");
+
+        var transferId = source.transferTo(destination, amount, date, memo);
+        accountRepository.save(source);
+        accountRepository.save(destination);
+        log.info("Transfer {} from account {} to account {} for user {}", transferId.value(), sourceId.value(), destinationId.value(), user.id());
+
+        return new TransferDto(
+                transferId.value(),
+                accountMapper.toTransactionDto(source.getTransactions().getLast()),
+                accountMapper.toTransactionDto(destination.getTransactions().getLast())
+        );
+    }
+
     @Transactional
     public TransactionDto updateTransaction(UUID accountId, UUID transactionId, UpdateTransactionDto updateTransactionDto) {
         var user = securityService.loadUserFromSecurityContext();
@@ -161,8 +239,11 @@ public class AccountService {
         var memo = updateTransactionDto.memo() != null 
                 ? new TransactionMemo(updateTransactionDto.memo()) 
                 : null;
+        var category = updateTransactionDto.category() != null
+                ? new TransactionCategory(updateTransactionDto.category().strip())
+                : null;
 
-        account.updateTransaction(new TransactionId(transactionId), amount, date, memo);
+        account.updateTransaction(new TransactionId(transactionId), amount, date, memo, category);
         accountRepository.save(account);
         log.info("Transaction {} updated in account {} for user {}", transactionId, account.getId().value(), user.id());
 
@@ -210,4 +291,22 @@ public class AccountService {
         log.info("Transaction {} uncleared in account {} for user {}", transactionId, account.getId().value(), user.id());
     }
 
+    private String versionTag() {
+        var user = securityService.loadUserFromSecurityContext();
+        var versions = accountRepository.findAllVersionsByUserId(new UserId(user.id())).stream()
+                .map(version -> version.accountId().value() + ":" + version.version())
+                .collect(Collectors.joining(","));
+
+        return DigestUtils.md5DigestAsHex(versions.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String versionTag(UUID id) {
+        var user = securityService.loadUserFromSecurityContext();
+        var version = accountRepository
+                .findVersionByIdAndUserId(new AccountId(id), new UserId(user.id()))
+                .orElseThrow(AccountNotFoundException::new);
+
+        return id + ":" + version.version();
+    }
+
 }
@@ -0,0 +1,200 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class CategorizationAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int ASCII = 128;
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final int[] rootTransitions;
+    private final int[] edgeOffsets;
+    private final char[] edgeCharacters;
+    private final int[] edgeTargets;
+    private final int[] failures;
+    private final int[] outputs;
+    private final String[] categories;
+
+    private CategorizationAutomaton(
+            int[] rootTransitions,
+            int[] edgeOffsets,
+            char[] edgeCharacters,
+            int[] edgeTargets,
+            int[] failures,
+            int[] outputs,
+            String[] categories
+    ) {
+        this.rootTransitions = rootTransitions;
+        this.edgeOffsets = edgeOffsets;
+        this.edgeCharacters = edgeCharacters;
+        this.edgeTargets = edgeTargets;
+        this.failures = failures;
+        this.outputs = outputs;
+        this.categories = categories;
+    }
+
+    public static CategorizationAutomaton compile(List<CategorizationRuleDto> rules) {
+        var patterns = rules.stream().map(rule -> normalize(rule.pattern())).toList();
+
+        var maxStates = 1;
+        for (var pattern : patterns) {
+            maxStates += pattern.length();
+        }
+
+        var firstChild = new int[maxStates];
+        Arrays.fill(firstChild, -1);
+        var nextSibling = new int[maxStates];
+        var characters = new char[maxStates];
+        var outputs = new int[maxStates];
+        Arrays.fill(outputs, NO_MATCH);
+        var states = 1;
+
+        for (var rule = 0; rule < patterns.size(); rule++) {
+            var pattern = patterns.get(rule);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+
+            var state = ROOT;
+            for (var i = 0; i < pattern.length(); i++) {
+                var character = pattern.charAt(i);
+                var next = firstChild[state];
+                while (next >= 0 && characters[next] != character) {
+                    next = nextSibling[next];
+                }
+                if (next < 0) {
+                    next = states++;
+                    characters[next] = character;
+                    nextSibling[next] = firstChild[state];
+                    firstChild[state] = next;
+                }
+                state = next;
+            }
+            outputs[state] = Math.min(outputs[state], rule);
+        }
+
+        var edgeOffsets = new int[states + 1];
+        var edgeCharacters = new char[states - 1];
+        var edgeTargets = new int[states - 1];
+        var edges = new long[states - 1];
+        var edgeCount = 0;
+        for (var state = 0; state < states; state++) {
+            edgeOffsets[state] = edgeCount;
+            for (var child = firstChild[state]; child >= 0; child = nextSibling[child]) {
+                edges[edgeCount++] = (long) characters[child] << 32 | child;
+            }
+            Arrays.sort(edges, edgeOffsets[state], edgeCount);
+        }
+        edgeOffsets[states] = edgeCount;
+        for (var edge = 0; edge < edgeCount; edge++) {
+            edgeCharacters[edge] = (char) (edges[edge] >>> 32);
+            edgeTargets[edge] = (int) edges[edge];
+        }
+
+        var failures = new int[states];
+        var queue = new int[states];
+        var head = 0;
+        var tail = 0;
+
+        for (var edge = edgeOffsets[ROOT]; edge < edgeOffsets[ROOT + 1]; edge++) {
+            failures[edgeTargets[edge]] = ROOT;
+            queue[tail++] = edgeTargets[edge];
+        }
+
+        while (head < tail) {
+            var state = queue[head++];
+            outputs[state] = Math.min(outputs[state], outputs[failures[state]]);
+
+            for (var edge = edgeOffsets[state]; edge < edgeOffsets[state + 1]; edge++) {
+                var child = edgeTargets[edge];
+                var fallback = failures[state];
+                var target = child(fallback, edgeCharacters[edge], edgeOffsets, edgeCharacters, edgeTargets);
+                while (target < 0 && fallback != ROOT) {
+                    fallback = failures[fallback];
+                    target = child(fallback, edgeCharacters[edge], edgeOffsets, edgeCharacters, edgeTargets);
+                }
+                failures[child] = Math.max(target, ROOT);
+                queue[tail++] = child;
+            }
+        }
+
+        var rootTransitions = new int[ASCII];
+        for (var edge = edgeOffsets[ROOT]; edge < edgeOffsets[ROOT + 1] && edgeCharacters[edge] < ASCII; edge++) {
+            rootTransitions[edgeCharacters[edge]] = edgeTargets[edge];
+        }
+
+        return new CategorizationAutomaton(
+                rootTransitions,
+                edgeOffsets,
+                edgeCharacters,
+                edgeTargets,
+                failures,
+                Arrays.copyOf(outputs, states),
+                rules.stream().map(CategorizationRuleDto::category).toArray(String[]::new)
+        );
+    }
+
+    public String categorize(String memo) {
+        if (memo == null || categories.length == 0) {
+            return null;
+        }
+
+        var state = ROOT;
+        var best = NO_MATCH;
+        for (var i = 0; i < memo.length(); i++) {
+            state = next(state, Character.toLowerCase(memo.charAt(i)));
+
+            if (outputs[state] < best) {
+                best = outputs[state];
+                if (best == 0) {
+                    break;
+                }
+            }
+        }
+
+        return best == NO_MATCH ? null : categories[best];
+    }
+
+    int size() {
+        return rootTransitions.length
+                + edgeOffsets.length
+                + edgeCharacters.length / 2
+                + edgeTargets.length
+                + failures.length
+                + outputs.length;
+    }
+
+    private int next(int state, char character) {
+        while (state != ROOT) {
+            var child = child(state, character, edgeOffsets, edgeCharacters, edgeTargets);
+            if (child >= 0) {
+                return child;
+            }
+            state = failures[state];
+        }
+
+        if (character < ASCII) {
+            return rootTransitions[character];
+        }
+        return Math.max(child(ROOT, character, edgeOffsets, edgeCharacters, edgeTargets), ROOT);
+    }
+
+    private static int child(int state, char character, int[] edgeOffsets, char[] edgeCharacters, int[] edgeTargets) {
+        var index = Arrays.binarySearch(edgeCharacters, edgeOffsets[state], edgeOffsets[state + 1], character);
+        return index >= 0 ? edgeTargets[index] : -1;
+    }
+
+    private static String normalize(String pattern) {
+        var normalized = new StringBuilder(pattern.length());
+        var stripped = pattern.strip();
+        for (var i = 0; i < stripped.length(); i++) {
+            normalized.append(Character.toLowerCase(stripped.charAt(i)));
+        }
+        return normalized.toString();
+    }
+
+}
@@ -0,0 +1,47 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+class CategorizationAutomatonCache {
+
+    private final Cache<UUID, CategorizationAutomaton> automata;
+
+    CategorizationAutomatonCache(
+            @Value("${categorization-rules.cache-max-weight:8388608}") long maxWeight,
+            @Value("${categorization-rules.cache-ttl:15m}") Duration ttl
+    ) {
+        this.automata = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((UUID _, CategorizationAutomaton automaton) -> automaton.size())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    CategorizationAutomaton get(UUID userId, Function<UUID, CategorizationAutomaton> compiler) {
+        return automata.get(userId, compiler);
+    }
+
+    void evict(UUID userId) {
+        automata.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    automata.invalidate(userId);
+                }
+            });
+        }
+    }
+
+}
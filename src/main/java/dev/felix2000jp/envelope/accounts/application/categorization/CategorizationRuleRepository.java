@@ -0,0 +1,27 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface CategorizationRuleRepository {
+
+    List<CategorizationRuleDto> findAllByUserId(UUID userId);
+
+    void lockByUserId(UUID userId);
+
+    int countByUserId(UUID userId);
+
+    void save(UUID userId, CategorizationRuleDto categorizationRule);
+
+    boolean deleteByIdAndUserId(UUID id, UUID userId);
+
+    void deleteAllByUserId(UUID userId);
+
+    List<TransactionDto> findUncategorizedByUserId(UUID userId, UUID afterId, int limit);
+
+    List<CategorizedTransaction> assignCategories(List<CategoryAssignment> assignments);
+
+}
@@ -0,0 +1,174 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationBackfillDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleListDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateCategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.CategorizationRuleNotFoundException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidCategorizationRuleException;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class CategorizationService {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorizationService.class);
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final SecurityService securityService;
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final CategorizationAutomatonCache categorizationAutomatonCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int maxRulesPerUser;
+    private final int backfillBatchSize;
+    private final int backfillMaxBatches;
+
+    CategorizationService(
+            SecurityService securityService,
+            CategorizationRuleRepository categorizationRuleRepository,
+            CategorizationAutomatonCache categorizationAutomatonCache,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${categorization-rules.max-per-user:1000}") int maxRulesPerUser,
+            @Value("${categorization-rules.backfill-batch-size:1000}") int backfillBatchSize,
+            @Value("${categorization-rules.backfill-max-batches:10}") int backfillMaxBatches
+    ) {
+        this.securityService = securityService;
+        this.categorizationRuleRepository = categorizationRuleRepository;
+        this.categorizationAutomatonCache = categorizationAutomatonCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.maxRulesPerUser = maxRulesPerUser;
+        this.backfillBatchSize = backfillBatchSize;
+        this.backfillMaxBatches = backfillMaxBatches;
+    }
+
+    public CategorizationAutomaton automatonFor(UUID userId) {
+        return categorizationAutomatonCache.get(
+                userId,
+                id -> CategorizationAutomaton.compile(categorizationRuleRepository.findAllByUserId(id))
+        );
+    }
+
+    public String categorize(UUID userId, String memo) {
+        return automatonFor(userId).categorize(memo);
+    }
+
+    @Transactional(readOnly = true)
+    public CategorizationRuleListDto getRules() {
+        var user = securityService.loadUserFromSecurityContext();
+
+        var rules = categorizationRuleRepository.findAllByUserId(user.id());
+        return new CategorizationRuleListDto(rules.size(), rules);
+    }
+
+    @Transactional
+    public CategorizationRuleDto createRule(CreateCategorizationRuleDto createCategorizationRuleDto) {
+        var user = securityService.loadUserFromSecurityContext();
+
+        categorizationRuleRepository.lockByUserId(user.id());
+        if (categorizationRuleRepository.countByUserId(user.id()) >= maxRulesPerUser) {
+            throw new InvalidCategorizationRuleException("Cannot have more than " + maxRulesPerUser + " categorization rules");
+        }
+
+        var rule = new CategorizationRuleDto(
+                Identifiers.next(),
+                createCategorizationRuleDto.pattern().strip(),
+                createCategorizationRuleDto.category().strip()
+        );
+        categorizationRuleRepository.save(user.id(), rule);
+        categorizationAutomatonCache.evict(user.id());
+        log.info("Categorization rule {} created for user {}", rule.id(), user.id());
+
+        return rule;
+    }
+
+    @Transactional
+    public void deleteRule(UUID id) {
+        var user = securityService.loadUserFromSecurityContext();
+
+        if (!categorizationRuleRepository.deleteByIdAndUserId(id, user.id())) {
+            throw new CategorizationRuleNotFoundException();
+        }
+        categorizationAutomatonCache.evict(user.id());
+        log.info("Categorization rule {} deleted for user {}", id, user.id());
+    }
+
+    @Transactional
+    public void deleteByUserId(UUID userId) {
+        categorizationRuleRepository.deleteAllByUserId(userId);
+        categorizationAutomatonCache.evict(userId);
+        log.info("Categorization rules deleted for user {}", userId);
+    }
+
+    public CategorizationBackfillDto backfill(UUID after) {
+        var user = securityService.loadUserFromSecurityContext();
+        var automaton = automatonFor(user.id());
+
+        var scanned = 0;
+        var categorized = 0;
+        var afterId = after == null ? MIN_ID : after;
+        UUID next = null;
+
+        for (var batches = 0; batches < backfillMaxBatches; batches++) {
+            var cursor = afterId;
+            var batch = transactionTemplate.execute(_ -> {
+                var transactions = categorizationRuleRepository.findUncategorizedByUserId(user.id(), cursor, backfillBatchSize);
+
+                var assignments = new ArrayList<CategoryAssignment>();
+                for (var transaction : transactions) {
+                    var category = automaton.categorize(transaction.memo());
+                    if (category != null) {
+                        assignments.add(new CategoryAssignment(transaction.id(), transaction.dateOfTransaction(), category));
+                    }
+                }
+
+                var assigned = assignments.isEmpty() ? List.<CategorizedTransaction>of() : categorizationRuleRepository.assignCategories(assignments);
+                assigned.forEach(transaction -> applicationEventPublisher.publishEvent(new TransactionUpdatedEvent(
+                        user.id(),
+                        transaction.accountId(),
+                        transaction.transactionId(),
+                        transaction.amount(),
+                        transaction.date(),
+                        null,
+                        transaction.amount(),
+                        transaction.date(),
+                        transaction.category()
+                )));
+                var last = transactions.isEmpty() ? null : transactions.getLast().id();
+                return new BackfillBatch(transactions.size(), assigned.size(), last);
+            });
+
+            scanned += batch.scanned();
+            categorized += batch.categorized();
+
+            if (batch.scanned() < backfillBatchSize) {
+                next = null;
+                break;
+            }
+            afterId = batch.lastId();
+            next = afterId;
+        }
+
+        log.info("Categorized {} of {} uncategorized transactions for user {}", categorized, scanned, user.id());
+        return new CategorizationBackfillDto(scanned, categorized, next);
+    }
+
+    private record BackfillBatch(int scanned, int categorized, UUID lastId) {
+    }
+
+}
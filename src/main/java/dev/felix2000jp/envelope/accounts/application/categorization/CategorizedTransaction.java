@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record CategorizedTransaction(UUID accountId, UUID transactionId, BigDecimal amount, LocalDate date, String category) {
+}
@@ -0,0 +1,7 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record CategoryAssignment(UUID transactionId, LocalDate date, String category) {
+}
@@ -0,0 +1,14 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record AccountMonthlyRollupDto(
+        YearMonth month,
+        BigDecimal income,
+        BigDecimal expense,
+        BigDecimal clearedIncome,
+        BigDecimal clearedExpense,
+        int transactionCount
+) {
+}
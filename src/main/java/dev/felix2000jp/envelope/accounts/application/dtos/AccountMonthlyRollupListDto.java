@@ -0,0 +1,6 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.util.List;
+
+public record AccountMonthlyRollupListDto(int total, List<AccountMonthlyRollupDto> rollups) {
+}
@@ -0,0 +1,6 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.util.UUID;
+
+public record CategorizationRuleDto(UUID id, String pattern, String category) {
+}
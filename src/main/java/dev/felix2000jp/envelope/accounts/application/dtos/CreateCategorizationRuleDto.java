@@ -0,0 +1,15 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CreateCategorizationRuleDto(
+        @NotBlank
+        @Size(max = 100)
+        String pattern,
+
+        @NotBlank
+        @Size(max = 64)
+        String category
+) {
+}
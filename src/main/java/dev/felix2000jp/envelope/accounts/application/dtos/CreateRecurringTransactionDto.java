@@ -0,0 +1,35 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurrenceFrequency;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CreateRecurringTransactionDto(
+        @NotNull
+        @Digits(integer = 10, fraction = 2)
+        BigDecimal amount,
+
+        @Size(max = 255)
+        String memo,
+
+        boolean cleared,
+
+        @NotNull
+        RecurrenceFrequency frequency,
+
+        @Min(1)
+        @Max(366)
+        Integer interval,
+
+        @NotNull
+        LocalDate startDate,
+
+        LocalDate endDate
+) {
+}
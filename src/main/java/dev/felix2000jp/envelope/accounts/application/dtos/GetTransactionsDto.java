@@ -1,6 +1,7 @@
 package dev.felix2000jp.envelope.accounts.application.dtos;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 public record GetTransactionsDto(
         int limit,
@@ -9,6 +10,9 @@ public record GetTransactionsDto(
         BigDecimal minAmount,
         BigDecimal maxAmount,
         String memo,
-        Boolean cleared
+        Boolean cleared,
+        LocalDate fromDate,
+        LocalDate toDate,
+        String includeCount
 ) {
 }
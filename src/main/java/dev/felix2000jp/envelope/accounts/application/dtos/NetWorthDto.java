@@ -0,0 +1,7 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.util.List;
+import java.util.UUID;
+
+public record NetWorthDto(List<NetWorthPointDto> points, boolean partial, List<UUID> incompleteAccountIds) {
+}
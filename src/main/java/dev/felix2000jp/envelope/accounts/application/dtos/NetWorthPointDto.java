@@ -0,0 +1,7 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record NetWorthPointDto(YearMonth month, BigDecimal netWorth) {
+}
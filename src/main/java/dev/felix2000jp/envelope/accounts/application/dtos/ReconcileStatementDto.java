@@ -0,0 +1,21 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ReconcileStatementDto(
+        @NotEmpty
+        @Size(max = 5000)
+        List<@NotNull @Valid StatementLineDto> lines,
+
+        @Min(0)
+        @Max(31)
+        Integer dateToleranceDays
+) {
+}
@@ -0,0 +1,13 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public record ReconciliationDto(
+        int matched,
+        BigDecimal clearedAmount,
+        List<UUID> clearedTransactionIds,
+        List<StatementLineDto> unmatchedLines
+) {
+}
@@ -0,0 +1,20 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurrenceFrequency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record RecurringTransactionDto(
+        UUID id,
+        BigDecimal amount,
+        String memo,
+        boolean cleared,
+        RecurrenceFrequency frequency,
+        int interval,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDate nextOccurrence
+) {
+}
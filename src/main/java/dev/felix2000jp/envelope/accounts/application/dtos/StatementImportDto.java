@@ -0,0 +1,6 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.math.BigDecimal;
+
+public record StatementImportDto(int parsed, int imported, int duplicates, BigDecimal balanceDelta) {
+}
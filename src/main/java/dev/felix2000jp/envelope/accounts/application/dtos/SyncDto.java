@@ -0,0 +1,14 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.util.List;
+import java.util.UUID;
+
+public record SyncDto(
+        String token,
+        boolean hasMore,
+        List<AccountDto> accounts,
+        List<SyncTransactionDto> transactions,
+        List<UUID> deletedAccountIds,
+        List<UUID> deletedTransactionIds
+) {
+}
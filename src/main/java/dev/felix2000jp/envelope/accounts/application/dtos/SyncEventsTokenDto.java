@@ -0,0 +1,4 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+public record SyncEventsTokenDto(String token, long expiresIn) {
+}
@@ -0,0 +1,16 @@
+package dev.felix2000jp.envelope.accounts.application.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record SyncTransactionDto(
+        UUID id,
+        UUID accountId,
+        BigDecimal amount,
+        LocalDate dateOfTransaction,
+        String memo,
+        boolean cleared,
+        String category
+) {
+}
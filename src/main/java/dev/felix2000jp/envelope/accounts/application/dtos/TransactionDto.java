@@ -9,6 +9,7 @@ public record TransactionDto(
         BigDecimal amount,
         LocalDate dateOfTransaction,
         String memo,
-        boolean cleared
+        boolean cleared,
+        String category
 ) {
 }
\ No newline at end of file
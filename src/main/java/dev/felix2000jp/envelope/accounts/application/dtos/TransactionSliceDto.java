@@ -2,5 +2,5 @@ package dev.felix2000jp.envelope.accounts.application.dtos;
 
 import java.util.List;
 
-public record TransactionSliceDto(List<TransactionDto> items, String nextCursor, boolean hasMore) {
+public record TransactionSliceDto(List<TransactionDto> items, String nextCursor, boolean hasMore, String prevCursor, Long totalCount) {
 }
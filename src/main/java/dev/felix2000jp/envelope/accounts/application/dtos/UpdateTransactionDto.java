@@ -1,6 +1,7 @@
 package dev.felix2000jp.envelope.accounts.application.dtos;
 
 import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
@@ -13,6 +14,10 @@ public record UpdateTransactionDto(
         LocalDate date,
 
         @Size(max = 255)
-        String memo
+        String memo,
+
+        @Size(max = 64)
+        @Pattern(regexp = ".*\\S.*")
+        String category
 ) {
 }
@@ -0,0 +1,148 @@
+package dev.felix2000jp.envelope.accounts.application.events;
+
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionClearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionRemovedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUnclearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionsChangedEvent;
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+class TransactionEventBatcher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int maxBatchSize;
+
+    TransactionEventBatcher(
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${transaction-events.max-batch-size:500}") int maxBatchSize
+    ) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @EventListener
+    void on(TransactionAddedEvent event) {
+        collect(batch -> batch.added.add(event));
+    }
+
+    @EventListener
+    void on(TransactionUpdatedEvent event) {
+        collect(batch -> batch.updated.add(event));
+    }
+
+    @EventListener
+    void on(TransactionRemovedEvent event) {
+        collect(batch -> batch.removed.add(event));
+    }
+
+    @EventListener
+    void on(TransactionClearedEvent event) {
+        collect(batch -> batch.cleared.add(event));
+    }
+
+    @EventListener
+    void on(TransactionUnclearedEvent event) {
+        collect(batch -> batch.uncleared.add(event));
+    }
+
+    private void collect(Consumer<Batch> collector) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            var batch = new Batch();
+            collector.accept(batch);
+            applicationEventPublisher.publishEvent(batch.toEvent());
+            return;
+        }
+
+        var batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new Batch();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(new BatchSynchronization(batch));
+        }
+        collector.accept(batch);
+
+        if (batch.size() >= maxBatchSize) {
+            applicationEventPublisher.publishEvent(batch.toEvent());
+            batch.clear();
+        }
+    }
+
+    private static final class Batch {
+
+        private final List<TransactionAddedEvent> added = new ArrayList<>();
+        private final List<TransactionUpdatedEvent> updated = new ArrayList<>();
+        private final List<TransactionRemovedEvent> removed = new ArrayList<>();
+        private final List<TransactionClearedEvent> cleared = new ArrayList<>();
+        private final List<TransactionUnclearedEvent> uncleared = new ArrayList<>();
+
+        private int size() {
+            return added.size() + updated.size() + removed.size() + cleared.size() + uncleared.size();
+        }
+
+        private void clear() {
+            added.clear();
+            updated.clear();
+            removed.clear();
+            cleared.clear();
+            uncleared.clear();
+        }
+
+        private TransactionsChangedEvent toEvent() {
+            return new TransactionsChangedEvent(
+                    Identifiers.next(),
+                    List.copyOf(added),
+                    List.copyOf(updated),
+                    List.copyOf(removed),
+                    List.copyOf(cleared),
+                    List.copyOf(uncleared)
+            );
+        }
+
+    }
+
+    private final class BatchSynchronization implements TransactionSynchronization {
+
+        private final Batch batch;
+
+        private BatchSynchronization(Batch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(TransactionEventBatcher.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TransactionEventBatcher.this, batch);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionEventBatcher.this);
+            if (batch.size() > 0) {
+                applicationEventPublisher.publishEvent(batch.toEvent());
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionEventBatcher.this);
+        }
+
+    }
+
+}
@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class CategorizationRuleNotFoundException extends RuntimeException {
+
+    public CategorizationRuleNotFoundException() {
+        super("Categorization rule could not be found");
+    }
+}
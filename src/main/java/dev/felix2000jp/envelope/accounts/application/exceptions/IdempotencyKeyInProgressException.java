@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException() {
+        super("A request with this Idempotency-Key is still being processed, retry later");
+    }
+}
@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+
+    public IdempotencyKeyReuseException() {
+        super("Idempotency-Key was already used for a different request");
+    }
+}
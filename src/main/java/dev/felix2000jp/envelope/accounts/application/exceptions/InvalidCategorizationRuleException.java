@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class InvalidCategorizationRuleException extends RuntimeException {
+
+    public InvalidCategorizationRuleException(String message) {
+        super(message);
+    }
+}
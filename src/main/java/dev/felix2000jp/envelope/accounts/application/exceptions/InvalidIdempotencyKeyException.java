@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    public InvalidIdempotencyKeyException() {
+        super("Idempotency-Key must be between 1 and 255 characters");
+    }
+}
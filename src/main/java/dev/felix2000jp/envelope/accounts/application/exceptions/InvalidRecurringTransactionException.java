@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class InvalidRecurringTransactionException extends RuntimeException {
+
+    public InvalidRecurringTransactionException(String message) {
+        super(message);
+    }
+}
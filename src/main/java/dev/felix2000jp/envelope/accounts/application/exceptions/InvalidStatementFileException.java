@@ -0,0 +1,12 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class InvalidStatementFileException extends RuntimeException {
+
+    public InvalidStatementFileException(String message) {
+        super(message);
+    }
+
+    public InvalidStatementFileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
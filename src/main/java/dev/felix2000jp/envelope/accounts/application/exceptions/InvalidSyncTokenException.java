@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class InvalidSyncTokenException extends RuntimeException {
+
+    public InvalidSyncTokenException() {
+        super("Invalid sync token format");
+    }
+}
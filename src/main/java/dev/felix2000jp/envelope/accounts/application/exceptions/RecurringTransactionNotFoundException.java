@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.exceptions;
+
+public class RecurringTransactionNotFoundException extends RuntimeException {
+
+    public RecurringTransactionNotFoundException() {
+        super("Recurring transaction could not be found");
+    }
+}
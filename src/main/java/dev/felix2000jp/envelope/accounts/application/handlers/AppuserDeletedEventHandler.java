@@ -1,6 +1,8 @@
 package dev.felix2000jp.envelope.accounts.application.handlers;
 
 import dev.felix2000jp.envelope.accounts.application.AccountService;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationService;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncService;
 import dev.felix2000jp.envelope.appusers.domain.events.AppuserDeletedEvent;
 import org.springframework.modulith.events.ApplicationModuleListener;
 import org.springframework.stereotype.Component;
@@ -9,14 +11,20 @@ import org.springframework.stereotype.Component;
 class AppuserDeletedEventHandler {
 
     private final AccountService accountService;
+    private final CategorizationService categorizationService;
+    private final SyncService syncService;
 
-    AppuserDeletedEventHandler(AccountService accountService) {
+    AppuserDeletedEventHandler(AccountService accountService, CategorizationService categorizationService, SyncService syncService) {
         this.accountService = accountService;
+        this.categorizationService = categorizationService;
+        this.syncService = syncService;
     }
 
     @ApplicationModuleListener
     void on(AppuserDeletedEvent event) {
         accountService.deleteByUserId(event.appuserId());
+        categorizationService.deleteByUserId(event.appuserId());
+        syncService.deleteByUserId(event.appuserId());
     }
 
 }
@@ -0,0 +1,33 @@
+package dev.felix2000jp.envelope.accounts.application.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+class IdempotencyKeyCache {
+
+    private final Cache<Key, IdempotencyRecord> records;
+
+    IdempotencyKeyCache(@Value("${idempotency-keys.ttl:24h}") Duration ttl) {
+        this.records = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    IdempotencyRecord get(UUID userId, String idempotencyKey) {
+        return records.getIfPresent(new Key(userId, idempotencyKey));
+    }
+
+    void put(UUID userId, String idempotencyKey, IdempotencyRecord record) {
+        records.put(new Key(userId, idempotencyKey), record);
+    }
+
+    private record Key(UUID userId, String idempotencyKey) {
+    }
+}
@@ -0,0 +1,14 @@
+package dev.felix2000jp.envelope.accounts.application.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyKeyRepository {
+
+    boolean reserve(UUID userId, String idempotencyKey, String requestHash, Duration ttl);
+
+    void complete(UUID userId, String idempotencyKey, String response);
+
+    Optional<IdempotencyRecord> findByUserIdAndKey(UUID userId, String idempotencyKey);
+}
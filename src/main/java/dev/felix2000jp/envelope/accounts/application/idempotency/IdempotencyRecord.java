@@ -0,0 +1,4 @@
+package dev.felix2000jp.envelope.accounts.application.idempotency;
+
+public record IdempotencyRecord(String requestHash, String response) {
+}
@@ -0,0 +1,116 @@
+package dev.felix2000jp.envelope.accounts.application.idempotency;
+
+import dev.felix2000jp.envelope.accounts.application.AccountService;
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.IdempotencyKeyInProgressException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.IdempotencyKeyReuseException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidIdempotencyKeyException;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+
+@Service
+public class IdempotentTransactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotentTransactionService.class);
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final SecurityService securityService;
+    private final AccountService accountService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyKeyCache idempotencyKeyCache;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+
+    IdempotentTransactionService(
+            SecurityService securityService,
+            AccountService accountService,
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            IdempotencyKeyCache idempotencyKeyCache,
+            JsonMapper jsonMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${idempotency-keys.ttl:24h}") Duration ttl
+    ) {
+        this.securityService = securityService;
+        this.accountService = accountService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.idempotencyKeyCache = idempotencyKeyCache;
+        this.jsonMapper = jsonMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+    }
+
+    public TransactionDto addTransaction(UUID accountId, AddTransactionDto addTransactionDto, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+
+        var user = securityService.loadUserFromSecurityContext();
+        var requestHash = requestHash(accountId, addTransactionDto);
+
+        var cached = idempotencyKeyCache.get(user.id(), idempotencyKey);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        var record = transactionTemplate.execute(_ -> {
+            if (!idempotencyKeyRepository.reserve(user.id(), idempotencyKey, requestHash, ttl)) {
+                return idempotencyKeyRepository.findByUserIdAndKey(user.id(), idempotencyKey).orElseThrow(IdempotencyKeyInProgressException::new);
+            }
+
+            var transaction = accountService.addTransaction(accountId, addTransactionDto);
+            var response = jsonMapper.writeValueAsString(transaction);
+            idempotencyKeyRepository.complete(user.id(), idempotencyKey, response);
+            return new IdempotencyRecord(requestHash, response);
+        });
+
+        idempotencyKeyCache.put(user.id(), idempotencyKey, record);
+        return replay(record, requestHash);
+    }
+
+    private TransactionDto replay(IdempotencyRecord record, String requestHash) {
+        if (!record.requestHash().equals(requestHash)) {
+            log.warn("Idempotency key reused with a different request");
+            throw new IdempotencyKeyReuseException();
+        }
+
+        return jsonMapper.readValue(record.response(), TransactionDto.class);
+    }
+
+    private String requestHash(UUID accountId, AddTransactionDto addTransactionDto) {
+        var request = "%s|%s|%s|%s|%s".formatted(
+                accountId,
+                normalizeAmount(addTransactionDto.amount()),
+                addTransactionDto.date(),
+                addTransactionDto.memo(),
+                addTransactionDto.cleared()
+        );
+
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(request.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String normalizeAmount(BigDecimal amount) {
+        return amount == null ? null : amount.stripTrailingZeros().toPlainString();
+    }
+
+}
@@ -0,0 +1,188 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+class CsvStatementParser implements StatementParser {
+
+    private static final List<String> DATE_COLUMNS = List.of("date", "transaction date", "posted date", "booking date");
+    private static final List<String> AMOUNT_COLUMNS = List.of("amount");
+    private static final List<String> DEBIT_COLUMNS = List.of("debit", "withdrawal");
+    private static final List<String> CREDIT_COLUMNS = List.of("credit", "deposit");
+    private static final List<String> MEMO_COLUMNS = List.of("memo", "description", "payee", "name", "details");
+    private static final int MAX_FIELD_LENGTH = 4096;
+
+    private long lineNumber = 1;
+    private char delimiter = ',';
+
+    @Override
+    public void parse(Reader reader, Consumer<AddTransactionDto> consumer) throws IOException {
+        var pushback = new PushbackReader(reader, MAX_FIELD_LENGTH);
+        delimiter = detectDelimiter(pushback);
+        var input = new BufferedReader(pushback);
+
+        var header = readRecord(input);
+        if (header == null) {
+            return;
+        }
+
+        var dateColumn = column(header, DATE_COLUMNS);
+        var amountColumn = column(header, AMOUNT_COLUMNS);
+        var debitColumn = column(header, DEBIT_COLUMNS);
+        var creditColumn = column(header, CREDIT_COLUMNS);
+        var memoColumn = column(header, MEMO_COLUMNS);
+
+        if (dateColumn < 0 || (amountColumn < 0 && debitColumn < 0 && creditColumn < 0)) {
+            throw new InvalidStatementFileException("CSV header must contain a date and an amount column");
+        }
+
+        while (true) {
+            var recordLine = lineNumber;
+            var record = readRecord(input);
+            if (record == null) {
+                return;
+            }
+
+            if (record.size() == 1 && record.getFirst().isBlank()) {
+                continue;
+            }
+
+            var amount = amountColumn >= 0 ? field(record, amountColumn) : debitOrCredit(record, debitColumn, creditColumn);
+            consumer.accept(StatementValues.transaction(amount, decimalSeparator(), date(field(record, dateColumn), recordLine), field(record, memoColumn), recordLine));
+        }
+    }
+
+    private List<String> readRecord(BufferedReader input) throws IOException {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        var quoted = false;
+
+        var next = input.read();
+        if (next < 0) {
+            return null;
+        }
+
+        while (next >= 0) {
+            var character = (char) next;
+
+            if (quoted) {
+                if (character == '"') {
+                    input.mark(1);
+                    if (input.read() == '"') {
+                        field.append('"');
+                    } else {
+                        input.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (character == '\n') {
+                        lineNumber++;
+                    }
+                    field.append(character);
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == delimiter) {
+                fields.add(field.toString().strip());
+                field.setLength(0);
+            } else if (character == '\n') {
+                lineNumber++;
+                break;
+            } else if (character != '\r') {
+                field.append(character);
+            }
+
+            if (field.length() > MAX_FIELD_LENGTH) {
+                throw new InvalidStatementFileException("Field too long on line " + lineNumber);
+            }
+
+            next = input.read();
+        }
+
+        if (quoted) {
+            throw new InvalidStatementFileException("Unterminated quoted field on line " + lineNumber);
+        }
+
+        fields.add(field.toString().strip());
+        return fields;
+    }
+
+    private char detectDelimiter(PushbackReader input) throws IOException {
+        var buffer = new char[MAX_FIELD_LENGTH];
+        var length = 0;
+        var semicolons = 0;
+        var commas = 0;
+        var endOfLine = false;
+
+        while (length < buffer.length && !endOfLine) {
+            var read = input.read(buffer, length, buffer.length - length);
+            if (read < 0) {
+                break;
+            }
+
+            for (var i = length; i < length + read && !endOfLine; i++) {
+                switch (buffer[i]) {
+                    case ';' -> semicolons++;
+                    case ',' -> commas++;
+                    case '\n' -> endOfLine = true;
+                    default -> {
+                    }
+                }
+            }
+            length += read;
+        }
+
+        input.unread(buffer, 0, length);
+        return semicolons > commas ? ';' : ',';
+    }
+
+    private char decimalSeparator() {
+        return delimiter == ';' ? ',' : '.';
+    }
+
+    private String debitOrCredit(List<String> record, int debitColumn, int creditColumn) {
+        var debit = field(record, debitColumn);
+        if (debit != null && !debit.isBlank()) {
+            return debit.strip().startsWith("-") ? debit : "-" + debit.strip();
+        }
+
+        return field(record, creditColumn);
+    }
+
+    private LocalDate date(String value, long recordLine) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(value.strip());
+        } catch (DateTimeParseException ex) {
+            throw new InvalidStatementFileException("Invalid date on line " + recordLine);
+        }
+    }
+
+    private static String field(List<String> record, int column) {
+        return column >= 0 && column < record.size() ? record.get(column) : null;
+    }
+
+    private static int column(List<String> header, List<String> names) {
+        for (var i = 0; i < header.size(); i++) {
+            if (names.contains(header.get(i).replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
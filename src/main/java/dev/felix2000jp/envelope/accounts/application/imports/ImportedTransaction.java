@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ImportedTransaction(UUID id, BigDecimal amount, LocalDate date, String memo, String category, UUID fingerprint) {
+}
@@ -0,0 +1,159 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+class OfxStatementParser implements StatementParser {
+
+    private static final int MAX_TOKEN_LENGTH = 4096;
+
+    private long lineNumber = 1;
+    private boolean inTransaction;
+    private String amount;
+    private LocalDate date;
+    private String name;
+    private String memo;
+
+    @Override
+    public void parse(Reader reader, Consumer<AddTransactionDto> consumer) throws IOException {
+        var input = new BufferedReader(reader);
+        var token = new StringBuilder();
+        String element = null;
+
+        int next;
+        while ((next = input.read()) >= 0) {
+            var character = (char) next;
+
+            if (character == '<') {
+                assign(element, token);
+                token.setLength(0);
+
+                var tag = readTag(input);
+                if (tag.startsWith("/")) {
+                    element = null;
+                    var closed = tag.substring(1);
+                    if (closed.equals("STMTTRN") || closed.equals("BANKTRANLIST")) {
+                        emit(consumer);
+                    }
+                } else if (tag.startsWith("?") || tag.startsWith("!")) {
+                    element = null;
+                } else {
+                    element = tag;
+                    if (tag.equals("STMTTRN")) {
+                        emit(consumer);
+                        inTransaction = true;
+                    }
+                }
+                continue;
+            }
+
+            if (character == '\n') {
+                lineNumber++;
+            }
+
+            if (element != null) {
+                token.append(character);
+                if (token.length() > MAX_TOKEN_LENGTH) {
+                    throw new InvalidStatementFileException("Value too long on line " + lineNumber);
+                }
+            }
+        }
+
+        assign(element, token);
+        emit(consumer);
+    }
+
+    private String readTag(BufferedReader input) throws IOException {
+        var tag = new StringBuilder();
+
+        int next;
+        while ((next = input.read()) >= 0 && next != '>') {
+            if (next == '\n') {
+                lineNumber++;
+            }
+            tag.append((char) next);
+            if (tag.length() > MAX_TOKEN_LENGTH) {
+                throw new InvalidStatementFileException("Tag too long on line " + lineNumber);
+            }
+        }
+
+        if (next < 0) {
+            throw new InvalidStatementFileException("Unterminated tag on line " + lineNumber);
+        }
+
+        var value = tag.toString().strip();
+        var end = value.indexOf(' ');
+        return (end >= 0 ? value.substring(0, end) : value).toUpperCase(Locale.ROOT);
+    }
+
+    private void assign(String element, StringBuilder token) {
+        if (!inTransaction || element == null) {
+            return;
+        }
+
+        var value = unescape(token.toString().strip());
+        if (value.isEmpty()) {
+            return;
+        }
+
+        switch (element) {
+            case "TRNAMT" -> amount = value.indexOf('.') < 0 ? value.replace(',', '.') : value;
+            case "DTPOSTED" -> date = date(value);
+            case "NAME", "PAYEE" -> name = value;
+            case "MEMO" -> memo = value;
+            default -> {
+            }
+        }
+    }
+
+    private void emit(Consumer<AddTransactionDto> consumer) {
+        if (inTransaction) {
+            consumer.accept(StatementValues.transaction(amount, date, StatementValues.firstNonBlank(name, memo), lineNumber));
+        }
+
+        inTransaction = false;
+        amount = null;
+        date = null;
+        name = null;
+        memo = null;
+    }
+
+    private LocalDate date(String value) {
+        if (value.length() < 8) {
+            throw new InvalidStatementFileException("Invalid date on line " + lineNumber);
+        }
+
+        try {
+            return LocalDate.of(
+                    Integer.parseInt(value.substring(0, 4)),
+                    Integer.parseInt(value.substring(4, 6)),
+                    Integer.parseInt(value.substring(6, 8))
+            );
+        } catch (NumberFormatException | DateTimeException ex) {
+            throw new InvalidStatementFileException("Invalid date on line " + lineNumber);
+        }
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+
+        return value
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&");
+    }
+
+}
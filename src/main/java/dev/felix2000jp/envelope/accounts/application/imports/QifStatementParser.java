@@ -0,0 +1,87 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+class QifStatementParser implements StatementParser {
+
+    @Override
+    public void parse(Reader reader, Consumer<AddTransactionDto> consumer) throws IOException {
+        var input = new BufferedReader(reader);
+
+        String amount = null;
+        LocalDate date = null;
+        String payee = null;
+        String memo = null;
+        var started = false;
+        var lineNumber = 0L;
+
+        String line;
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+
+            if (line.isEmpty() || line.startsWith("!")) {
+                continue;
+            }
+
+            var value = line.substring(1).strip();
+            switch (line.charAt(0)) {
+                case 'D' -> date = date(value, lineNumber);
+                case 'T' -> amount = value;
+                case 'U' -> amount = amount == null ? value : amount;
+                case 'P' -> payee = value;
+                case 'M' -> memo = value;
+                case '^' -> {
+                    if (started) {
+                        consumer.accept(StatementValues.transaction(amount, date, StatementValues.firstNonBlank(payee, memo), lineNumber));
+                    }
+                    amount = null;
+                    date = null;
+                    payee = null;
+                    memo = null;
+                    started = false;
+                    continue;
+                }
+                default -> {
+                }
+            }
+            started = true;
+        }
+
+        if (started) {
+            consumer.accept(StatementValues.transaction(amount, date, StatementValues.firstNonBlank(payee, memo), lineNumber));
+        }
+    }
+
+    private LocalDate date(String value, long lineNumber) {
+        try {
+            if (value.length() == 10 && value.charAt(4) == '-') {
+                return LocalDate.parse(value);
+            }
+
+            var apostrophe = value.indexOf('\'');
+            var parts = value.replace('\'', '/').replace(" ", "").split("[/.-]");
+            if (parts.length != 3) {
+                throw new InvalidStatementFileException("Invalid date on line " + lineNumber);
+            }
+
+            var year = Integer.parseInt(parts[2]);
+            if (parts[2].length() <= 2) {
+                year += apostrophe >= 0 ? 2000 : 1900;
+            }
+
+            return LocalDate.of(year, Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        } catch (NumberFormatException | DateTimeException ex) {
+            throw new InvalidStatementFileException("Invalid date on line " + lineNumber);
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+class StatementFingerprinter {
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<String, Integer> occurrences = new HashMap<>();
+    private final MessageDigest digest;
+
+    StatementFingerprinter() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    UUID fingerprint(AddTransactionDto transaction) {
+        var key = "%s|%s|%s".formatted(
+                transaction.amount().setScale(2).toPlainString(),
+                transaction.date(),
+                normalizeMemo(transaction.memo())
+        );
+        var occurrence = occurrences.merge(key, 1, Integer::sum);
+
+        var hash = ByteBuffer.wrap(digest.digest((key + "|" + occurrence).getBytes(StandardCharsets.UTF_8)));
+        return new UUID(hash.getLong(), hash.getLong());
+    }
+
+    static String normalizeMemo(String memo) {
+        if (memo == null) {
+            return "";
+        }
+
+        var normalized = Normalizer.normalize(memo, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return NON_ALPHANUMERIC.matcher(normalized).replaceAll(" ").strip();
+    }
+
+}
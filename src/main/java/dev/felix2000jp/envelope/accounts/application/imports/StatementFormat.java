@@ -0,0 +1,42 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+public enum StatementFormat {
+
+    CSV(CsvStatementParser::new),
+    QIF(QifStatementParser::new),
+    OFX(OfxStatementParser::new);
+
+    private final Supplier<StatementParser> parser;
+
+    StatementFormat(Supplier<StatementParser> parser) {
+        this.parser = parser;
+    }
+
+    StatementParser parser() {
+        return parser.get();
+    }
+
+    public static StatementFormat from(String format, String filename) {
+        var value = format;
+        if ((value == null || value.isBlank()) && filename != null && filename.lastIndexOf('.') >= 0) {
+            value = filename.substring(filename.lastIndexOf('.') + 1);
+        }
+
+        if (value == null || value.isBlank()) {
+            throw new InvalidStatementFileException("Statement format could not be determined");
+        }
+
+        return switch (value.trim().toUpperCase(Locale.ROOT)) {
+            case "CSV" -> CSV;
+            case "QIF" -> QIF;
+            case "OFX", "QFX" -> OFX;
+            default -> throw new InvalidStatementFileException("Unsupported statement format " + value);
+        };
+    }
+
+}
@@ -0,0 +1,15 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public interface StatementImportRepository {
+
+    void lockAccount(UUID accountId);
+
+    List<ImportedTransaction> insertIgnoringDuplicates(UUID accountId, List<ImportedTransaction> transactions);
+
+    void applyBalance(UUID accountId, BigDecimal delta);
+
+}
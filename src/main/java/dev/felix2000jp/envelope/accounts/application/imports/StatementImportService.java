@@ -0,0 +1,140 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationAutomaton;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationService;
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.StatementImportDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class StatementImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementImportService.class);
+
+    private final SecurityService securityService;
+    private final AccountRepository accountRepository;
+    private final StatementImportRepository statementImportRepository;
+    private final CategorizationService categorizationService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int batchSize;
+
+    StatementImportService(
+            SecurityService securityService,
+            AccountRepository accountRepository,
+            StatementImportRepository statementImportRepository,
+            CategorizationService categorizationService,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${statement-imports.batch-size:1000}") int batchSize
+    ) {
+        this.securityService = securityService;
+        this.accountRepository = accountRepository;
+        this.statementImportRepository = statementImportRepository;
+        this.categorizationService = categorizationService;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public StatementImportDto importStatement(UUID accountId, StatementFormat format, InputStream inputStream) {
+        var user = securityService.loadUserFromSecurityContext();
+        accountRepository
+                .findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))
+                .orElseThrow(AccountNotFoundException::new);
+
+        statementImportRepository.lockAccount(accountId);
+
+        var batch = new ImportBatch(user.id(), accountId, categorizationService.automatonFor(user.id()));
+        try (var reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            format.parser().parse(reader, batch::add);
+        } catch (IOException | UncheckedIOException ex) {
+            throw new InvalidStatementFileException("Statement file could not be read", ex);
+        }
+        batch.flush();
+
+        if (batch.imported > 0) {
+            statementImportRepository.applyBalance(accountId, batch.balanceDelta);
+        }
+
+        log.info("Imported {} of {} {} statement lines on account {} for user {}", batch.imported, batch.parsed, format, accountId, user.id());
+        return new StatementImportDto(batch.parsed, batch.imported, batch.parsed - batch.imported, batch.balanceDelta);
+    }
+
+    private final class ImportBatch {
+
+        private final UUID userId;
+        private final UUID accountId;
+        private final CategorizationAutomaton automaton;
+        private final StatementFingerprinter fingerprinter = new StatementFingerprinter();
+        private final List<ImportedTransaction> pending = new ArrayList<>();
+        private int parsed;
+        private int imported;
+        private BigDecimal balanceDelta = BigDecimal.ZERO;
+
+        private ImportBatch(UUID userId, UUID accountId, CategorizationAutomaton automaton) {
+            this.userId = userId;
+            this.accountId = accountId;
+            this.automaton = automaton;
+        }
+
+        private void add(AddTransactionDto transaction) {
+            pending.add(new ImportedTransaction(
+                    Identifiers.next(),
+                    transaction.amount(),
+                    transaction.date(),
+                    transaction.memo(),
+                    automaton.categorize(transaction.memo()),
+                    fingerprinter.fingerprint(transaction)
+            ));
+            parsed++;
+
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            var inserted = statementImportRepository.insertIgnoringDuplicates(accountId, List.copyOf(pending));
+            for (var transaction : inserted) {
+                balanceDelta = balanceDelta.add(transaction.amount());
+                applicationEventPublisher.publishEvent(new TransactionAddedEvent(
+                        userId,
+                        accountId,
+                        transaction.id(),
+                        transaction.amount(),
+                        transaction.date(),
+                        transaction.category()
+                ));
+            }
+            imported += inserted.size();
+            pending.clear();
+        }
+    }
+
+}
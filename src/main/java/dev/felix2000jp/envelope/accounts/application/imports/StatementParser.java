@@ -0,0 +1,13 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+interface StatementParser {
+
+    void parse(Reader reader, Consumer<AddTransactionDto> consumer) throws IOException;
+
+}
@@ -0,0 +1,113 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.regex.Pattern;
+
+final class StatementValues {
+
+    private static final int MAX_MEMO_LENGTH = 255;
+    private static final int MAX_INTEGER_DIGITS = 10;
+    private static final int MAX_FRACTION_DIGITS = 2;
+
+    private StatementValues() {
+    }
+
+    static AddTransactionDto transaction(String amount, LocalDate date, String memo, long lineNumber) {
+        return transaction(amount, '.', date, memo, lineNumber);
+    }
+
+    static AddTransactionDto transaction(String amount, char decimalSeparator, LocalDate date, String memo, long lineNumber) {
+        if (date == null) {
+            throw new InvalidStatementFileException("Missing date on line " + lineNumber);
+        }
+
+        return new AddTransactionDto(amount(amount, decimalSeparator, lineNumber), date, memo(memo), true);
+    }
+
+    static String firstNonBlank(String first, String second) {
+        return first != null && !first.isBlank() ? first : second;
+    }
+
+    private static BigDecimal amount(String value, char decimalSeparator, long lineNumber) {
+        if (value == null || value.isBlank()) {
+            throw new InvalidStatementFileException("Missing amount on line " + lineNumber);
+        }
+
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(normalize(value, decimalSeparator, lineNumber)).stripTrailingZeros();
+        } catch (NumberFormatException ex) {
+            throw new InvalidStatementFileException("Invalid amount on line " + lineNumber);
+        }
+
+        if (amount.scale() > MAX_FRACTION_DIGITS || amount.precision() - amount.scale() > MAX_INTEGER_DIGITS) {
+            throw new InvalidStatementFileException("Invalid amount on line " + lineNumber);
+        }
+
+        return amount.setScale(MAX_FRACTION_DIGITS);
+    }
+
+    private static String normalize(String value, char decimalSeparator, long lineNumber) {
+        var amount = value.strip().replace(" ", "").replace("\u00A0", "");
+        var lastComma = amount.lastIndexOf(',');
+        var lastDot = amount.lastIndexOf('.');
+        if (lastComma < 0 && lastDot < 0) {
+            return amount;
+        }
+
+        char decimal;
+        if (lastComma >= 0 && lastDot >= 0) {
+            decimal = lastComma > lastDot ? ',' : '.';
+        } else {
+            var separator = lastComma >= 0 ? ',' : '.';
+            var index = Math.max(lastComma, lastDot);
+            if (amount.indexOf(separator) != index) {
+                decimal = separator == ',' ? '.' : ',';
+            } else if (separator != decimalSeparator && amount.length() - index - 1 == 3) {
+                throw new InvalidStatementFileException("Ambiguous amount on line " + lineNumber);
+            } else {
+                decimal = separator;
+            }
+        }
+
+        var grouping = decimal == ',' ? '.' : ',';
+        var decimalIndex = amount.lastIndexOf(decimal);
+        var integer = decimalIndex >= 0 ? amount.substring(0, decimalIndex) : amount;
+        var fraction = decimalIndex >= 0 ? "." + amount.substring(decimalIndex + 1) : "";
+
+        if (integer.indexOf(decimal) >= 0 || (integer.indexOf(grouping) >= 0 && !isGrouped(integer, grouping))) {
+            throw new InvalidStatementFileException("Invalid amount on line " + lineNumber);
+        }
+
+        return integer.replace(String.valueOf(grouping), "") + fraction;
+    }
+
+    private static boolean isGrouped(String integer, char grouping) {
+        var digits = integer.startsWith("-") || integer.startsWith("+") ? integer.substring(1) : integer;
+        var groups = digits.split(Pattern.quote(String.valueOf(grouping)), -1);
+        if (groups[0].isEmpty() || groups[0].length() > 3) {
+            return false;
+        }
+
+        for (var i = 1; i < groups.length; i++) {
+            if (groups[i].length() != 3) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String memo(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        var memo = value.strip();
+        return memo.length() > MAX_MEMO_LENGTH ? memo.substring(0, MAX_MEMO_LENGTH) : memo;
+    }
+
+}
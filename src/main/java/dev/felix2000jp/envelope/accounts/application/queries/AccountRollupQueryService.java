@@ -0,0 +1,53 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountMonthlyRollupListDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+@Service
+public class AccountRollupQueryService {
+
+    private final SecurityService securityService;
+    private final AccountRepository accountRepository;
+    private final AccountRollupRepository accountRollupRepository;
+
+    AccountRollupQueryService(
+            SecurityService securityService,
+            AccountRepository accountRepository,
+            AccountRollupRepository accountRollupRepository
+    ) {
+        this.securityService = securityService;
+        this.accountRepository = accountRepository;
+        this.accountRollupRepository = accountRollupRepository;
+    }
+
+    public void validate(YearMonth fromMonth, YearMonth toMonth) {
+        if (fromMonth != null && toMonth != null && fromMonth.isAfter(toMonth)) {
+            throw new InvalidTransactionQueryException("fromMonth must be less than or equal to toMonth");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public AccountMonthlyRollupListDto getMonthlyRollups(UUID accountId, YearMonth fromMonth, YearMonth toMonth) {
+        validate(fromMonth, toMonth);
+
+        var user = securityService.loadUserFromSecurityContext();
+        var account = accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()));
+
+        if (account.isEmpty()) {
+            throw new AccountNotFoundException();
+        }
+
+        var rollups = accountRollupRepository.findMonthlyByAccountId(accountId, fromMonth, toMonth);
+        return new AccountMonthlyRollupListDto(rollups.size(), rollups);
+    }
+}
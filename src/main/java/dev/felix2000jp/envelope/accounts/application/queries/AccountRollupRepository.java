@@ -0,0 +1,12 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountMonthlyRollupDto;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+public interface AccountRollupRepository {
+
+    List<AccountMonthlyRollupDto> findMonthlyByAccountId(UUID accountId, YearMonth fromMonth, YearMonth toMonth);
+}
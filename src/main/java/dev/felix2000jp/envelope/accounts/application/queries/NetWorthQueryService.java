@@ -0,0 +1,164 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountMonthlyRollupDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.NetWorthDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.NetWorthPointDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class NetWorthQueryService {
+
+    private static final Logger log = LoggerFactory.getLogger(NetWorthQueryService.class);
+
+    private final SecurityService securityService;
+    private final AccountRepository accountRepository;
+    private final AccountRollupRepository accountRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxConcurrency;
+    private final Duration timeout;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("net-worth-", 0).factory()
+    );
+
+    NetWorthQueryService(
+            SecurityService securityService,
+            AccountRepository accountRepository,
+            AccountRollupRepository accountRollupRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${account-analytics.max-concurrency:4}") int maxConcurrency,
+            @Value("${account-analytics.timeout:2s}") Duration timeout
+    ) {
+        this.securityService = securityService;
+        this.accountRepository = accountRepository;
+        this.accountRollupRepository = accountRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout((int) Math.max(1, timeout.toSeconds()));
+        this.maxConcurrency = maxConcurrency;
+        this.timeout = timeout;
+    }
+
+    public void validate(YearMonth fromMonth, YearMonth toMonth) {
+        if (fromMonth != null && toMonth != null && fromMonth.isAfter(toMonth)) {
+            throw new InvalidTransactionQueryException("fromMonth must be less than or equal to toMonth");
+        }
+    }
+
+    public NetWorthDto getNetWorth(YearMonth fromMonth, YearMonth toMonth) {
+        validate(fromMonth, toMonth);
+
+        var user = securityService.loadUserFromSecurityContext();
+        var accounts = accountRepository.findAllVersionsByUserId(new UserId(user.id()));
+
+        var connectionBudget = new Semaphore(maxConcurrency);
+        var deadline = System.nanoTime() + timeout.toNanos();
+        var futures = new LinkedHashMap<UUID, Future<List<AccountMonthlyRollupDto>>>();
+        for (var account : accounts) {
+            var accountId = account.accountId().value();
+            futures.put(accountId, executor.submit(() -> findRollups(connectionBudget, accountId, toMonth)));
+        }
+
+        var balances = new ArrayList<NavigableMap<YearMonth, BigDecimal>>();
+        var incompleteAccountIds = new ArrayList<UUID>();
+        for (var entry : futures.entrySet()) {
+            try {
+                var rollups = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                balances.add(runningBalances(rollups));
+            } catch (TimeoutException ex) {
+                entry.getValue().cancel(true);
+                incompleteAccountIds.add(entry.getKey());
+            } catch (ExecutionException ex) {
+                log.warn("Net worth rollups could not be loaded for account {}", entry.getKey(), ex.getCause());
+                incompleteAccountIds.add(entry.getKey());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                entry.getValue().cancel(true);
+                incompleteAccountIds.add(entry.getKey());
+            }
+        }
+
+        if (!incompleteAccountIds.isEmpty()) {
+            log.warn("Net worth for user {} is partial, {} of {} accounts missing", user.id(), incompleteAccountIds.size(), accounts.size());
+        }
+
+        return new NetWorthDto(mergeBalances(balances, fromMonth), !incompleteAccountIds.isEmpty(), incompleteAccountIds);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<AccountMonthlyRollupDto> findRollups(Semaphore connectionBudget, UUID accountId, YearMonth toMonth) throws InterruptedException {
+        connectionBudget.acquire();
+        try {
+            return transactionTemplate.execute(_ -> accountRollupRepository.findMonthlyByAccountId(accountId, null, toMonth));
+        } finally {
+            connectionBudget.release();
+        }
+    }
+
+    private NavigableMap<YearMonth, BigDecimal> runningBalances(List<AccountMonthlyRollupDto> rollups) {
+        var balances = new TreeMap<YearMonth, BigDecimal>();
+        var balance = BigDecimal.ZERO;
+
+        for (var rollup : rollups) {
+            balance = balance.add(rollup.clearedIncome()).add(rollup.clearedExpense());
+            balances.put(rollup.month(), balance);
+        }
+
+        return balances;
+    }
+
+    private List<NetWorthPointDto> mergeBalances(List<NavigableMap<YearMonth, BigDecimal>> balances, YearMonth fromMonth) {
+        var months = new TreeSet<YearMonth>();
+        balances.forEach(accountBalances -> months.addAll(accountBalances.keySet()));
+
+        var points = new ArrayList<NetWorthPointDto>();
+        for (var month : months) {
+            if (fromMonth != null && month.isBefore(fromMonth)) {
+                continue;
+            }
+
+            var netWorth = BigDecimal.ZERO;
+            for (var accountBalances : balances) {
+                var balance = accountBalances.floorEntry(month);
+                if (balance != null) {
+                    netWorth = netWorth.add(balance.getValue());
+                }
+            }
+            points.add(new NetWorthPointDto(month, netWorth));
+        }
+
+        return points;
+    }
+
+}
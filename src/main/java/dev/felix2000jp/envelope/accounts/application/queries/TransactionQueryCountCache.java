@@ -0,0 +1,24 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+@Component
+class TransactionQueryCountCache {
+
+    private final Cache<Key, Long> counts = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    long get(String filters, long accountVersion, LongSupplier count) {
+        return counts.get(new Key(filters, accountVersion), _ -> count.getAsLong());
+    }
+
+    private record Key(String filters, long accountVersion) {
+    }
+}
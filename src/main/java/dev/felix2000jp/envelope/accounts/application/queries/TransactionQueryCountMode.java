@@ -0,0 +1,21 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+
+public enum TransactionQueryCountMode {
+    NONE,
+    ESTIMATE,
+    EXACT;
+
+    public static TransactionQueryCountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+
+        return switch (value.trim().toUpperCase()) {
+            case "ESTIMATE" -> ESTIMATE;
+            case "EXACT" -> EXACT;
+            default -> throw new InvalidTransactionQueryException("Invalid includeCount. Use 'estimate' or 'exact'");
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.GetTransactionsDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+@Component
+class TransactionQueryCursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_LENGTH = 16 + 4 + 1 + 4;
+    private static final int MAC_LENGTH = 12;
+    private static final int CURSOR_LENGTH = PAYLOAD_LENGTH + MAC_LENGTH;
+    private static final int ENCODED_LENGTH = (CURSOR_LENGTH * 4 + 2) / 3;
+    private static final int SORT_MASK = 0b01;
+    private static final int PREVIOUS_FLAG = 0b10;
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    private final ThreadLocal<Mac> mac;
+
+    TransactionQueryCursorCodec(@Value("${transaction-cursor.secret:}") String secret) {
+        var secretBytes = secret.strip().getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException(
+                    "transaction-cursor.secret must be set to at least " + MIN_SECRET_LENGTH + " bytes and be the same on every node"
+            );
+        }
+
+        var key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> createMac(key));
+    }
+
+    String encode(TransactionQueryCursor cursor, int filterFingerprint) {
+        var bytes = new byte[CURSOR_LENGTH];
+        writeLong(bytes, 0, cursor.transactionId().getMostSignificantBits());
+        writeLong(bytes, 8, cursor.transactionId().getLeastSignificantBits());
+        writeInt(bytes, 16, Math.toIntExact(cursor.dateOfTransaction().toEpochDay()));
+        bytes[20] = (byte) (cursor.sort().ordinal() | (cursor.previous() ? PREVIOUS_FLAG : 0));
+        writeInt(bytes, 21, filterFingerprint);
+
+        var signature = sign(bytes);
+        System.arraycopy(signature, 0, bytes, PAYLOAD_LENGTH, MAC_LENGTH);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    TransactionQueryCursor decode(String encodedCursor, TransactionQuerySortDirection expectedSort, int filterFingerprint) {
+        if (encodedCursor == null || encodedCursor.isBlank()) {
+            return null;
+        }
+
+        if (encodedCursor.length() != ENCODED_LENGTH) {
+            throw new InvalidTransactionQueryException("Invalid cursor format");
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(encodedCursor);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTransactionQueryException("Invalid cursor format");
+        }
+
+        if (bytes.length != CURSOR_LENGTH || !hasValidSignature(bytes) || (bytes[20] & ~(SORT_MASK | PREVIOUS_FLAG)) != 0) {
+            throw new InvalidTransactionQueryException("Invalid cursor format");
+        }
+
+        var sort = TransactionQuerySortDirection.values()[bytes[20] & SORT_MASK];
+        if (sort != expectedSort) {
+            throw new InvalidTransactionQueryException("Cursor sort does not match request sort");
+        }
+
+        if (readInt(bytes, 21) != filterFingerprint) {
+            throw new InvalidTransactionQueryException("Cursor does not match request filters");
+        }
+
+        var transactionId = new UUID(readLong(bytes, 0), readLong(bytes, 8));
+        var date = LocalDate.ofEpochDay(readInt(bytes, 16));
+
+        return new TransactionQueryCursor(transactionId, date, sort, (bytes[20] & PREVIOUS_FLAG) != 0);
+    }
+
+    static int fingerprint(UUID accountId, GetTransactionsDto request) {
+        return fingerprint(canonicalFilters(accountId, request));
+    }
+
+    static int fingerprint(String filters) {
+        var hash = 0x811C9DC5;
+        for (var i = 0; i < filters.length(); i++) {
+            hash = (hash ^ filters.charAt(i)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    static String canonicalFilters(UUID accountId, GetTransactionsDto request) {
+        var memo = request.memo() == null || request.memo().isBlank() ? null : request.memo().trim();
+        return "%s|%s|%s|%s|%s|%s|%s".formatted(
+                accountId,
+                memo,
+                request.cleared(),
+                normalizeAmount(request.minAmount()),
+                normalizeAmount(request.maxAmount()),
+                request.fromDate(),
+                request.toDate()
+        );
+    }
+
+    private static String normalizeAmount(BigDecimal amount) {
+        return amount == null ? null : amount.stripTrailingZeros().toPlainString();
+    }
+
+    private boolean hasValidSignature(byte[] bytes) {
+        var signature = sign(bytes);
+
+        var difference = 0;
+        for (var i = 0; i < MAC_LENGTH; i++) {
+            difference |= signature[i] ^ bytes[PAYLOAD_LENGTH + i];
+        }
+        return difference == 0;
+    }
+
+    private byte[] sign(byte[] bytes) {
+        var instance = mac.get();
+        instance.update(bytes, 0, PAYLOAD_LENGTH);
+        return instance.doFinal();
+    }
+
+    private static Mac createMac(SecretKeySpec key) {
+        try {
+            var instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        writeInt(bytes, offset, (int) (value >>> 32));
+        writeInt(bytes, offset + 4, (int) value);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        return ((long) readInt(bytes, offset) << 32) | (readInt(bytes, offset + 4) & 0xFFFFFFFFL);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 24
+                | (bytes[offset + 1] & 0xFF) << 16
+                | (bytes[offset + 2] & 0xFF) << 8
+                | (bytes[offset + 3] & 0xFF);
+    }
+
+}
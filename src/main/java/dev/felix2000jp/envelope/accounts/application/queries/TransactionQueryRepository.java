@@ -16,4 +16,8 @@ public interface TransactionQueryRepository {
             TransactionQueryCursor cursor,
             int limit
     );
+
+    long countByAccountIdAndUserId(UUID accountId, UUID userId, GetTransactionsDto query);
+
+    long estimateCountByAccountIdAndUserId(UUID accountId, UUID userId, GetTransactionsDto query);
 }
@@ -11,62 +11,116 @@ import dev.felix2000jp.envelope.system.security.SecurityService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 @Service
 public class TransactionQueryService {
 
     private static final int MAX_LIMIT = 100;
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
 
     private final SecurityService securityService;
     private final AccountRepository accountRepository;
     private final TransactionQueryRepository transactionQueryRepository;
+    private final TransactionQueryCursorCodec transactionQueryCursorCodec;
+    private final TransactionQueryCountCache transactionQueryCountCache;
 
     TransactionQueryService(
             SecurityService securityService,
             AccountRepository accountRepository,
-            TransactionQueryRepository transactionQueryRepository
+            TransactionQueryRepository transactionQueryRepository,
+            TransactionQueryCursorCodec transactionQueryCursorCodec,
+            TransactionQueryCountCache transactionQueryCountCache
     ) {
         this.securityService = securityService;
         this.accountRepository = accountRepository;
         this.transactionQueryRepository = transactionQueryRepository;
+        this.transactionQueryCursorCodec = transactionQueryCursorCodec;
+        this.transactionQueryCountCache = transactionQueryCountCache;
+    }
+
+    public void validate(UUID accountId, GetTransactionsDto request) {
+        validateAmountRange(request);
+        validateDateRange(request);
+        normalizeLimit(request.limit());
+        TransactionQueryCountMode.from(request.includeCount());
+
+        var sort = TransactionQuerySortDirection.from(request.sort());
+        transactionQueryCursorCodec.decode(request.cursor(), sort, TransactionQueryCursorCodec.fingerprint(accountId, request));
     }
 
     @Transactional(readOnly = true)
     public TransactionSliceDto getTransactions(UUID accountId, GetTransactionsDto request) {
         validateAmountRange(request);
+        validateDateRange(request);
 
-        var user = securityService.loadUserFromSecurityContext();
-        var userId = new UserId(user.id());
-        var account = accountRepository.findByIdAndUserId(new AccountId(accountId), userId);
+        var sort = TransactionQuerySortDirection.from(request.sort());
+        var countMode = TransactionQueryCountMode.from(request.includeCount());
+        var filters = TransactionQueryCursorCodec.canonicalFilters(accountId, request);
+        var filterFingerprint = TransactionQueryCursorCodec.fingerprint(filters);
+        var cursor = transactionQueryCursorCodec.decode(request.cursor(), sort, filterFingerprint);
 
-        if (account.isEmpty()) {
-            throw new AccountNotFoundException();
-        }
+        var user = securityService.loadUserFromSecurityContext();
+        var accountVersion = accountRepository
+                .findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))
+                .orElseThrow(AccountNotFoundException::new);
 
-        var sort = TransactionQuerySortDirection.from(request.sort());
-        var cursor = TransactionQueryCursor.decode(request.cursor(), sort);
         var limit = normalizeLimit(request.limit());
 
+        var previous = cursor != null && cursor.previous();
+
         var fetchedItems = transactionQueryRepository.findByAccountIdAndUserId(
                 accountId,
                 user.id(),
                 request,
-                sort,
+                previous ? sort.reverse() : sort,
                 cursor,
                 limit + 1
         );
 
-        var hasMore = fetchedItems.size() > limit;
-        var items = hasMore ? fetchedItems.subList(0, limit) : fetchedItems;
+        var hasOverflow = fetchedItems.size() > limit;
+        var items = hasOverflow ? fetchedItems.subList(0, limit) : fetchedItems;
+        if (previous) {
+            items = items.reversed();
+        }
+
+        var hasMore = previous ? !items.isEmpty() : hasOverflow;
+        var hasPrevious = previous ? hasOverflow : cursor != null;
 
         String nextCursor = null;
         if (hasMore && !items.isEmpty()) {
             var lastItem = items.getLast();
-            nextCursor = TransactionQueryCursor.encode(new TransactionQueryCursor(lastItem.id(), lastItem.dateOfTransaction(), sort));
+            nextCursor = transactionQueryCursorCodec.encode(
+                    new TransactionQueryCursor(lastItem.id(), lastItem.dateOfTransaction(), sort, false),
+                    filterFingerprint
+            );
+        }
+
+        String prevCursor = null;
+        if (hasPrevious && !items.isEmpty()) {
+            var firstItem = items.getFirst();
+            prevCursor = transactionQueryCursorCodec.encode(
+                    new TransactionQueryCursor(firstItem.id(), firstItem.dateOfTransaction(), sort, true),
+                    filterFingerprint
+            );
         }
 
-        return new TransactionSliceDto(items, nextCursor, hasMore);
+        Long totalCount = null;
+        if (countMode != TransactionQueryCountMode.NONE && cursor == null && !hasOverflow) {
+            totalCount = (long) items.size();
+        } else if (countMode == TransactionQueryCountMode.ESTIMATE) {
+            totalCount = transactionQueryRepository.estimateCountByAccountIdAndUserId(accountId, user.id(), request);
+        } else if (countMode == TransactionQueryCountMode.EXACT) {
+            totalCount = transactionQueryCountCache.get(
+                    filters,
+                    accountVersion.version(),
+                    () -> transactionQueryRepository.countByAccountIdAndUserId(accountId, user.id(), request)
+            );
+        }
+
+        return new TransactionSliceDto(items, nextCursor, hasMore, prevCursor, totalCount);
     }
 
     private int normalizeLimit(int limit) {
@@ -82,4 +136,18 @@ public class TransactionQueryService {
             throw new InvalidTransactionQueryException("minAmount must be less than or equal to maxAmount");
         }
     }
+
+    private void validateDateRange(GetTransactionsDto request) {
+        if (isOutOfRange(request.fromDate()) || isOutOfRange(request.toDate())) {
+            throw new InvalidTransactionQueryException("fromDate and toDate must be between %s and %s".formatted(MIN_DATE, MAX_DATE));
+        }
+
+        if (request.fromDate() != null && request.toDate() != null && request.fromDate().isAfter(request.toDate())) {
+            throw new InvalidTransactionQueryException("fromDate must be less than or equal to toDate");
+        }
+    }
+
+    private static boolean isOutOfRange(LocalDate date) {
+        return date != null && (date.isBefore(MIN_DATE) || date.isAfter(MAX_DATE));
+    }
 }
@@ -6,6 +6,10 @@ public enum TransactionQuerySortDirection {
     ASC,
     DESC;
 
+    public TransactionQuerySortDirection reverse() {
+        return this == ASC ? DESC : ASC;
+    }
+
     public static TransactionQuerySortDirection from(String value) {
         if (value == null || value.isBlank()) {
             return DESC;
@@ -0,0 +1,18 @@
+package dev.felix2000jp.envelope.accounts.application.reconciliation;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReconciliationRepository {
+
+    void lockAccount(UUID accountId);
+
+    List<TransactionDto> findUnclearedByAccountId(UUID accountId, LocalDate fromDate, LocalDate toDate);
+
+    BigDecimal clearTransactions(UUID accountId, Collection<UUID> transactionIds);
+}
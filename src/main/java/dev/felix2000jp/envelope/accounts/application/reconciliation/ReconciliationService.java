@@ -0,0 +1,90 @@
+package dev.felix2000jp.envelope.accounts.application.reconciliation;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.ReconcileStatementDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.ReconciliationDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.StatementLineDto;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionClearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.UUID;
+
+@Service
+public class ReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private final SecurityService securityService;
+    private final AccountRepository accountRepository;
+    private final ReconciliationRepository reconciliationRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int defaultDateToleranceDays;
+
+    ReconciliationService(
+            SecurityService securityService,
+            AccountRepository accountRepository,
+            ReconciliationRepository reconciliationRepository,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${reconciliation.date-tolerance-days:3}") int defaultDateToleranceDays
+    ) {
+        this.securityService = securityService;
+        this.accountRepository = accountRepository;
+        this.reconciliationRepository = reconciliationRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.defaultDateToleranceDays = defaultDateToleranceDays;
+    }
+
+    @Transactional
+    public ReconciliationDto reconcile(UUID accountId, ReconcileStatementDto reconcileStatementDto) {
+        var user = securityService.loadUserFromSecurityContext();
+        accountRepository
+                .findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))
+                .orElseThrow(AccountNotFoundException::new);
+
+        var dateToleranceDays = reconcileStatementDto.dateToleranceDays() != null
+                ? reconcileStatementDto.dateToleranceDays()
+                : defaultDateToleranceDays;
+        var lines = reconcileStatementDto.lines();
+        var firstDate = lines.stream().map(StatementLineDto::date).min(Comparator.naturalOrder()).orElseThrow();
+        var lastDate = lines.stream().map(StatementLineDto::date).max(Comparator.naturalOrder()).orElseThrow();
+
+        reconciliationRepository.lockAccount(accountId);
+        var uncleared = reconciliationRepository.findUnclearedByAccountId(
+                accountId,
+                firstDate.minusDays(dateToleranceDays),
+                lastDate.plusDays(dateToleranceDays)
+        );
+
+        var result = new StatementMatcher(uncleared, dateToleranceDays).match(lines);
+        var clearedAmount = result.matchedIds().isEmpty()
+                ? BigDecimal.ZERO
+                : reconciliationRepository.clearTransactions(accountId, result.matchedIds());
+
+        var matchedIds = new HashSet<>(result.matchedIds());
+        uncleared.stream()
+                .filter(transaction -> matchedIds.contains(transaction.id()))
+                .forEach(transaction -> applicationEventPublisher.publishEvent(new TransactionClearedEvent(
+                        user.id(),
+                        accountId,
+                        transaction.id(),
+                        transaction.amount(),
+                        transaction.dateOfTransaction()
+                )));
+
+        log.info("Reconciled {} of {} statement lines on account {} for user {}", result.matchedIds().size(), lines.size(), accountId, user.id());
+        return new ReconciliationDto(result.matchedIds().size(), clearedAmount, result.matchedIds(), result.unmatchedLines());
+    }
+
+}
@@ -0,0 +1,107 @@
+package dev.felix2000jp.envelope.accounts.application.reconciliation;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.StatementLineDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+class StatementMatcher {
+
+    private final Map<BigDecimal, NavigableMap<LocalDate, Deque<TransactionDto>>> index = new HashMap<>();
+    private final int dateToleranceDays;
+
+    StatementMatcher(List<TransactionDto> unclearedTransactions, int dateToleranceDays) {
+        this.dateToleranceDays = dateToleranceDays;
+
+        unclearedTransactions.stream()
+                .sorted(Comparator.comparing(TransactionDto::id))
+                .forEach(transaction -> index
+                        .computeIfAbsent(normalize(transaction.amount()), _ -> new TreeMap<>())
+                        .computeIfAbsent(transaction.dateOfTransaction(), _ -> new ArrayDeque<>())
+                        .add(transaction));
+    }
+
+    Result match(List<StatementLineDto> lines) {
+        var matchedIds = new ArrayList<UUID>();
+        var unmatchedLines = new ArrayList<StatementLineDto>();
+
+        for (var line : lines) {
+            var match = take(line);
+            if (match == null) {
+                unmatchedLines.add(line);
+            } else {
+                matchedIds.add(match.id());
+            }
+        }
+
+        return new Result(matchedIds, unmatchedLines);
+    }
+
+    private TransactionDto take(StatementLineDto line) {
+        var byDate = index.get(normalize(line.amount()));
+        if (byDate == null) {
+            return null;
+        }
+
+        var window = byDate.subMap(line.date().minusDays(dateToleranceDays), true, line.date().plusDays(dateToleranceDays), true);
+        TransactionDto best = null;
+        var bestDistance = Long.MAX_VALUE;
+        var bestMatchesMemo = false;
+
+        for (var entry : window.entrySet()) {
+            var distance = Math.abs(ChronoUnit.DAYS.between(line.date(), entry.getKey()));
+            var candidate = preferMemo(entry.getValue(), line.memo());
+            var matchesMemo = matchesMemo(candidate, line.memo());
+
+            if (distance < bestDistance || (distance == bestDistance && matchesMemo && !bestMatchesMemo)) {
+                best = candidate;
+                bestDistance = distance;
+                bestMatchesMemo = matchesMemo;
+            }
+        }
+
+        if (best == null) {
+            return null;
+        }
+
+        var sameDate = byDate.get(best.dateOfTransaction());
+        sameDate.remove(best);
+        if (sameDate.isEmpty()) {
+            byDate.remove(best.dateOfTransaction());
+        }
+        return best;
+    }
+
+    private TransactionDto preferMemo(Deque<TransactionDto> candidates, String memo) {
+        for (var candidate : candidates) {
+            if (matchesMemo(candidate, memo)) {
+                return candidate;
+            }
+        }
+
+        return candidates.peekFirst();
+    }
+
+    private static boolean matchesMemo(TransactionDto transaction, String memo) {
+        return memo != null && transaction.memo().equalsIgnoreCase(memo.trim());
+    }
+
+    private static BigDecimal normalize(BigDecimal amount) {
+        return amount.stripTrailingZeros();
+    }
+
+    record Result(List<UUID> matchedIds, List<StatementLineDto> unmatchedLines) {
+    }
+}
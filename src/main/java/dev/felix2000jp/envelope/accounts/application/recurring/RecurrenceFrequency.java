@@ -0,0 +1,21 @@
+package dev.felix2000jp.envelope.accounts.application.recurring;
+
+import java.time.LocalDate;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY,
+    MONTHLY,
+    YEARLY;
+
+    public LocalDate occurrence(LocalDate startDate, int interval, int index) {
+        var steps = (long) interval * index;
+
+        return switch (this) {
+            case DAILY -> startDate.plusDays(steps);
+            case WEEKLY -> startDate.plusWeeks(steps);
+            case MONTHLY -> startDate.plusMonths(steps);
+            case YEARLY -> startDate.plusYears(steps);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package dev.felix2000jp.envelope.accounts.application.recurring;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.RecurringTransactionDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface RecurringTransactionRepository {
+
+    List<RecurringTransactionDto> findAllByAccountId(UUID accountId);
+
+    void save(UUID accountId, RecurringTransactionDto recurringTransaction);
+
+    boolean deleteByIdAndAccountId(UUID id, UUID accountId);
+}
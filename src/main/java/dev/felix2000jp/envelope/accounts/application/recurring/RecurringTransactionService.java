@@ -0,0 +1,92 @@
+package dev.felix2000jp.envelope.accounts.application.recurring;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateRecurringTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.RecurringTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.RecurringTransactionListDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidRecurringTransactionException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.RecurringTransactionNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+public class RecurringTransactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringTransactionService.class);
+
+    private final SecurityService securityService;
+    private final AccountRepository accountRepository;
+    private final RecurringTransactionRepository recurringTransactionRepository;
+
+    RecurringTransactionService(
+            SecurityService securityService,
+            AccountRepository accountRepository,
+            RecurringTransactionRepository recurringTransactionRepository
+    ) {
+        this.securityService = securityService;
+        this.accountRepository = accountRepository;
+        this.recurringTransactionRepository = recurringTransactionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public RecurringTransactionListDto getRecurringTransactions(UUID accountId) {
+        verifyAccountOwnership(accountId);
+
+        var recurringTransactions = recurringTransactionRepository.findAllByAccountId(accountId);
+        return new RecurringTransactionListDto(recurringTransactions.size(), recurringTransactions);
+    }
+
+    @Transactional
+    public RecurringTransactionDto createRecurringTransaction(UUID accountId, CreateRecurringTransactionDto createRecurringTransactionDto) {
+        if (createRecurringTransactionDto.endDate() != null && createRecurringTransactionDto.endDate().isBefore(createRecurringTransactionDto.startDate())) {
+            throw new InvalidRecurringTransactionException("endDate must be on or after startDate");
+        }
+
+        var user = verifyAccountOwnership(accountId);
+
+        var recurringTransaction = new RecurringTransactionDto(
+                Identifiers.next(),
+                createRecurringTransactionDto.amount(),
+                createRecurringTransactionDto.memo() != null ? createRecurringTransactionDto.memo() : "",
+                createRecurringTransactionDto.cleared(),
+                createRecurringTransactionDto.frequency(),
+                createRecurringTransactionDto.interval() != null ? createRecurringTransactionDto.interval() : 1,
+                createRecurringTransactionDto.startDate(),
+                createRecurringTransactionDto.endDate(),
+                createRecurringTransactionDto.startDate()
+        );
+        recurringTransactionRepository.save(accountId, recurringTransaction);
+        log.info("Recurring transaction {} created for account {} for user {}", recurringTransaction.id(), accountId, user);
+
+        return recurringTransaction;
+    }
+
+    @Transactional
+    public void deleteRecurringTransaction(UUID accountId, UUID recurringTransactionId) {
+        var user = verifyAccountOwnership(accountId);
+
+        if (!recurringTransactionRepository.deleteByIdAndAccountId(recurringTransactionId, accountId)) {
+            throw new RecurringTransactionNotFoundException();
+        }
+        log.info("Recurring transaction {} deleted from account {} for user {}", recurringTransactionId, accountId, user);
+    }
+
+    private UUID verifyAccountOwnership(UUID accountId) {
+        var user = securityService.loadUserFromSecurityContext();
+        accountRepository
+                .findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))
+                .orElseThrow(AccountNotFoundException::new);
+
+        return user.id();
+    }
+
+}
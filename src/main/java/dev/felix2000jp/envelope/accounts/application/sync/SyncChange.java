@@ -0,0 +1,6 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+import java.util.UUID;
+
+public record SyncChange(SyncEntityType entityType, UUID entityId, SyncToken token) {
+}
@@ -0,0 +1,6 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+public enum SyncEntityType {
+    ACCOUNT,
+    TRANSACTION
+}
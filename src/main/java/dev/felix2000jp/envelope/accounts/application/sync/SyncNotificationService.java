@@ -0,0 +1,79 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncEventsTokenDto;
+import dev.felix2000jp.envelope.system.security.SecurityScope;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class SyncNotificationService {
+
+    private final SecurityService securityService;
+    private final Duration tokenTtl;
+    private final Map<UUID, Set<SyncSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sync-notification-", 0).factory()
+    );
+
+    SyncNotificationService(
+            SecurityService securityService,
+            @Value("${sync-events.token-ttl:1m}") Duration tokenTtl
+    ) {
+        this.securityService = securityService;
+        this.tokenTtl = tokenTtl;
+    }
+
+    public SyncEventsTokenDto generateToken() {
+        var user = securityService.loadUserFromSecurityContext();
+        var token = securityService.generateToken(user.id(), user.username(), List.of(SecurityScope.SYNC_EVENTS), tokenTtl);
+
+        return new SyncEventsTokenDto(token, tokenTtl.toSeconds());
+    }
+
+    public Runnable subscribe(SyncSubscriber subscriber) {
+        var user = securityService.loadUserFromSecurityContext();
+
+        subscribers.computeIfAbsent(user.id(), _ -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        executor.execute(subscriber::onChange);
+
+        return () -> subscribers.computeIfPresent(user.id(), (_, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    public void notifyChanged(UUID userId) {
+        var userSubscribers = subscribers.get(userId);
+
+        if (userSubscribers != null) {
+            userSubscribers.forEach(subscriber -> executor.execute(subscriber::onChange));
+        }
+    }
+
+    public void notifyAllChanged() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> executor.execute(subscriber::onChange)));
+    }
+
+    @Scheduled(fixedDelayString = "${sync-events.heartbeat-interval:25s}")
+    void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> executor.execute(subscriber::onHeartbeat)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,23 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncTransactionDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface SyncRepository {
+
+    SyncToken findHeadByUserId(UUID userId);
+
+    SyncToken findHorizonByUserId(UUID userId);
+
+    List<SyncChange> findChangesByUserId(UUID userId, SyncToken since, int limit);
+
+    List<AccountDto> findAccountsByUserIdAndIds(UUID userId, Collection<UUID> ids);
+
+    List<SyncTransactionDto> findTransactionsByUserIdAndIds(UUID userId, Collection<UUID> ids);
+
+    void deleteAllByUserId(UUID userId);
+}
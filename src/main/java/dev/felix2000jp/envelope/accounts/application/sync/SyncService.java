@@ -0,0 +1,82 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.SyncTokenExpiredException;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class SyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncService.class);
+
+    private final SecurityService securityService;
+    private final SyncRepository syncRepository;
+
+    SyncService(SecurityService securityService, SyncRepository syncRepository) {
+        this.securityService = securityService;
+        this.syncRepository = syncRepository;
+    }
+
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public SyncDto sync(String since, int limit) {
+        var user = securityService.loadUserFromSecurityContext();
+
+        if (since == null || since.isBlank()) {
+            var head = syncRepository.findHeadByUserId(user.id());
+            return new SyncDto(head.format(), false, List.of(), List.of(), List.of(), List.of());
+        }
+
+        var token = SyncToken.parse(since);
+        if (token.compareTo(syncRepository.findHorizonByUserId(user.id())) < 0) {
+            throw new SyncTokenExpiredException();
+        }
+
+        var fetchedChanges = syncRepository.findChangesByUserId(user.id(), token, limit + 1);
+        var hasMore = fetchedChanges.size() > limit;
+        var changes = hasMore ? fetchedChanges.subList(0, limit) : fetchedChanges;
+
+        if (changes.isEmpty()) {
+            return new SyncDto(token.format(), false, List.of(), List.of(), List.of(), List.of());
+        }
+
+        var accountIds = new LinkedHashSet<UUID>();
+        var transactionIds = new LinkedHashSet<UUID>();
+        for (var change : changes) {
+            switch (change.entityType()) {
+                case ACCOUNT -> accountIds.add(change.entityId());
+                case TRANSACTION -> transactionIds.add(change.entityId());
+            }
+        }
+
+        var accounts = accountIds.isEmpty()
+                ? List.<AccountDto>of()
+                : syncRepository.findAccountsByUserIdAndIds(user.id(), accountIds);
+        var transactions = transactionIds.isEmpty()
+                ? List.<SyncTransactionDto>of()
+                : syncRepository.findTransactionsByUserIdAndIds(user.id(), transactionIds);
+
+        accounts.forEach(account -> accountIds.remove(account.id()));
+        transactions.forEach(transaction -> transactionIds.remove(transaction.id()));
+
+        var next = changes.getLast().token();
+        return new SyncDto(next.format(), hasMore, accounts, transactions, List.copyOf(accountIds), List.copyOf(transactionIds));
+    }
+
+    @Transactional
+    public void deleteByUserId(UUID userId) {
+        syncRepository.deleteAllByUserId(userId);
+        log.info("Sync changes with userId {} deleted", userId);
+    }
+
+}
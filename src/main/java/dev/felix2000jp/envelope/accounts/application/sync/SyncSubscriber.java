@@ -0,0 +1,8 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+public interface SyncSubscriber {
+
+    void onChange();
+
+    void onHeartbeat();
+}
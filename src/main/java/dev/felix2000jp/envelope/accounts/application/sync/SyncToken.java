@@ -0,0 +1,46 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidSyncTokenException;
+
+import java.util.Comparator;
+
+public record SyncToken(long transactionId, long sequence) implements Comparable<SyncToken> {
+
+    public static final SyncToken ZERO = new SyncToken(0, 0);
+
+    private static final Comparator<SyncToken> ORDER = Comparator
+            .comparingLong(SyncToken::transactionId)
+            .thenComparingLong(SyncToken::sequence);
+
+    public SyncToken {
+        if (transactionId < 0 || sequence < 0) {
+            throw new InvalidSyncTokenException();
+        }
+    }
+
+    static SyncToken parse(String token) {
+        var separator = token.indexOf('-');
+        if (separator <= 0 || separator == token.length() - 1) {
+            throw new InvalidSyncTokenException();
+        }
+
+        try {
+            return new SyncToken(
+                    Long.parseLong(token, 0, separator, 10),
+                    Long.parseLong(token, separator + 1, token.length(), 10)
+            );
+        } catch (NumberFormatException ex) {
+            throw new InvalidSyncTokenException();
+        }
+    }
+
+    String format() {
+        return transactionId + "-" + sequence;
+    }
+
+    @Override
+    public int compareTo(SyncToken other) {
+        return ORDER.compare(this, other);
+    }
+
+}
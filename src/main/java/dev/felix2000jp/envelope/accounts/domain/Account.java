@@ -1,15 +1,25 @@
 package dev.felix2000jp.envelope.accounts.domain;
 
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionClearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionRemovedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUnclearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.InvalidTransferException;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.TransactionNotFoundException;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountBalance;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionAmount;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionCategory;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionDate;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionId;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionMemo;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransferId;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jmolecules.ddd.types.AggregateRoot;
 import org.jmolecules.event.types.DomainEvent;
 import org.springframework.data.domain.AfterDomainEventPublication;
@@ -21,10 +31,11 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.UUID;
 
 @jakarta.persistence.Table(name = "account")
 @jakarta.persistence.Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Account implements AggregateRoot<Account, AccountId> {
 
     @EmbeddedId
@@ -46,6 +57,10 @@ public class Account implements AggregateRoot<Account, AccountId> {
     @Column(name = "closed", nullable = false)
     private boolean closed;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
     @JoinColumn(name = "account_id", nullable = false)
     private List<Transaction> transactions;
@@ -75,11 +90,12 @@ public class Account implements AggregateRoot<Account, AccountId> {
 
         if (balance.value().compareTo(BigDecimal.ZERO) != 0) {
             var initialTransaction = Transaction.from(
-                    new TransactionId(UUID.randomUUID()),
+                    TransactionId.generate(),
                     new TransactionAmount(balance.value()),
                     true
             );
             account.transactions.add(initialTransaction);
+            account.registerTransactionAdded(initialTransaction);
         }
 
         return account;
@@ -110,6 +126,10 @@ public class Account implements AggregateRoot<Account, AccountId> {
         return closed;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<Transaction> getTransactions() {
         return transactions;
     }
@@ -127,13 +147,14 @@ public class Account implements AggregateRoot<Account, AccountId> {
 
         if (balanceDifference.compareTo(BigDecimal.ZERO) != 0) {
             var transaction = Transaction.from(
-                    new TransactionId(UUID.randomUUID()),
+                    TransactionId.generate(),
                     new TransactionAmount(balanceDifference),
                     new TransactionDate(LocalDate.now()),
                     new TransactionMemo(""),
                     true
             );
             this.transactions.add(transaction);
+            registerTransactionAdded(transaction);
         }
 
         this.balance = balance;
@@ -148,17 +169,23 @@ public class Account implements AggregateRoot<Account, AccountId> {
     }
 
     public void addTransaction(TransactionAmount amount, TransactionDate date, TransactionMemo memo, boolean cleared) {
+        addTransaction(amount, date, memo, cleared, null);
+    }
+
+    public void addTransaction(TransactionAmount amount, TransactionDate date, TransactionMemo memo, boolean cleared, TransactionCategory category) {
         Assert.notNull(amount, "amount must not be null");
         Assert.notNull(date, "date must not be null");
 
         var transaction = Transaction.from(
-                new TransactionId(UUID.randomUUID()),
+                TransactionId.generate(),
                 amount,
                 date,
                 memo,
                 cleared
         );
+        transaction.setCategory(category);
         this.transactions.add(transaction);
+        registerTransactionAdded(transaction);
 
         if (transaction.isCleared()) {
             this.balance = new AccountBalance(this.balance.value().add(transaction.getAmount().value()));
@@ -169,7 +196,64 @@ public class Account implements AggregateRoot<Account, AccountId> {
         addTransaction(amount, new TransactionDate(LocalDate.now()), memo, cleared);
     }
 
+    public TransferId transferTo(Account destination, TransactionAmount amount, TransactionDate date, TransactionMemo memo) {
+        Assert.notNull(destination, "destination must not be null");
+        Assert.notNull(amount, "amount must not be null");
+        Assert.notNull(date, "date must not be null");
+        Assert.notNull(memo, "memo must not be null");
+
+        if (destination.id.equals(this.id)) {
+            throw new InvalidTransferException("Cannot transfer to the same account");
+        }
+
+        if (!destination.userId.equals(this.userId)) {
+            throw new InvalidTransferException("Cannot transfer to an account of another user");
+        }
+
+        if (amount.value().signum() <= 0) {
+            throw new InvalidTransferException("Transfer amount must be positive");
+        }
+
+        var transferId = TransferId.generate();
+        var debit = Transaction.from(
+                TransactionId.generate(),
+                new TransactionAmount(amount.value().negate()),
+                date,
+                memo,
+                true,
+                transferId
+        );
+        var credit = Transaction.from(
+                TransactionId.generate(),
+                amount,
+                date,
+                memo,
+                true,
+                transferId
+        );
+
+        this.transactions.add(debit);
+        this.balance = new AccountBalance(this.balance.value().add(debit.getAmount().value()));
+        registerTransactionAdded(debit);
+
+        destination.transactions.add(credit);
+        destination.balance = new AccountBalance(destination.balance.value().add(credit.getAmount().value()));
+        destination.registerTransactionAdded(credit);
+
+        return transferId;
+    }
+
     public void updateTransaction(TransactionId transactionId, TransactionAmount amount, TransactionDate date, TransactionMemo memo) {
+        updateTransaction(transactionId, amount, date, memo, null);
+    }
+
+    public void updateTransaction(
+            TransactionId transactionId,
+            TransactionAmount amount,
+            TransactionDate date,
+            TransactionMemo memo,
+            TransactionCategory category
+    ) {
         Assert.notNull(transactionId, "transactionId must not be null");
 
         var transaction = this.transactions.stream()
@@ -178,6 +262,8 @@ public class Account implements AggregateRoot<Account, AccountId> {
                 .orElseThrow(TransactionNotFoundException::new);
 
         var previousAmount = transaction.getAmount().value();
+        var previousDate = transaction.getDateOfTransaction().value();
+        var previousCategory = categoryOf(transaction);
 
         if (amount != null) {
             transaction.setAmount(amount);
@@ -191,10 +277,26 @@ public class Account implements AggregateRoot<Account, AccountId> {
             transaction.setMemo(memo);
         }
 
+        if (category != null) {
+            transaction.setCategory(category);
+        }
+
         if (transaction.isCleared() && amount != null) {
             var balanceDelta = transaction.getAmount().value().subtract(previousAmount);
             this.balance = new AccountBalance(this.balance.value().add(balanceDelta));
         }
+
+        domainEvents.add(new TransactionUpdatedEvent(
+                userId.value(),
+                id.value(),
+                transaction.getId().value(),
+                previousAmount,
+                previousDate,
+                previousCategory,
+                transaction.getAmount().value(),
+                transaction.getDateOfTransaction().value(),
+                categoryOf(transaction)
+        ));
     }
 
     public void removeTransaction(TransactionId transactionId) {
@@ -210,6 +312,14 @@ public class Account implements AggregateRoot<Account, AccountId> {
         }
 
         this.transactions.remove(transaction);
+        domainEvents.add(new TransactionRemovedEvent(
+                userId.value(),
+                id.value(),
+                transaction.getId().value(),
+                transaction.getAmount().value(),
+                transaction.getDateOfTransaction().value(),
+                categoryOf(transaction)
+        ));
     }
 
     public void clearTransaction(TransactionId transactionId) {
@@ -223,6 +333,13 @@ public class Account implements AggregateRoot<Account, AccountId> {
         if (!transaction.isCleared()) {
             transaction.clear();
             this.balance = new AccountBalance(this.balance.value().add(transaction.getAmount().value()));
+            domainEvents.add(new TransactionClearedEvent(
+                    userId.value(),
+                    id.value(),
+                    transaction.getId().value(),
+                    transaction.getAmount().value(),
+                    transaction.getDateOfTransaction().value()
+            ));
         }
     }
 
@@ -237,9 +354,31 @@ public class Account implements AggregateRoot<Account, AccountId> {
         if (transaction.isCleared()) {
             transaction.unclear();
             this.balance = new AccountBalance(this.balance.value().subtract(transaction.getAmount().value()));
+            domainEvents.add(new TransactionUnclearedEvent(
+                    userId.value(),
+                    id.value(),
+                    transaction.getId().value(),
+                    transaction.getAmount().value(),
+                    transaction.getDateOfTransaction().value()
+            ));
         }
     }
 
+    private void registerTransactionAdded(Transaction transaction) {
+        domainEvents.add(new TransactionAddedEvent(
+                userId.value(),
+                id.value(),
+                transaction.getId().value(),
+                transaction.getAmount().value(),
+                transaction.getDateOfTransaction().value(),
+                categoryOf(transaction)
+        ));
+    }
+
+    private static String categoryOf(Transaction transaction) {
+        return transaction.getCategory() != null ? transaction.getCategory().value() : null;
+    }
+
     @DomainEvents
     Collection<DomainEvent> getDomainEvents() {
         return domainEvents;
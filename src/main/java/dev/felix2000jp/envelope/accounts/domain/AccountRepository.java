@@ -1,9 +1,11 @@
 package dev.felix2000jp.envelope.accounts.domain;
 
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
 import org.jmolecules.ddd.types.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,10 +13,16 @@ public interface AccountRepository extends Repository<Account, AccountId> {
 
     List<Account> findAllByUserId(UserId userId);
 
+    List<AccountVersion> findAllVersionsByUserId(UserId userId);
+
+    Optional<AccountVersion> findVersionByIdAndUserId(AccountId id, UserId userId);
+
     Optional<Account> findByIdAndUserId(AccountId id, UserId userId);
 
     Optional<Account> findWithTransactionsByIdAndUserId(AccountId id, UserId userId);
 
+    List<Account> findAllForUpdateByIdInAndUserId(Collection<AccountId> ids, UserId userId);
+
     void deleteAll();
 
     void deleteAllByUserId(UserId userId);
@@ -1,9 +1,11 @@
 package dev.felix2000jp.envelope.accounts.domain;
 
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionAmount;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionCategory;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionDate;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionId;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionMemo;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransferId;
 import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
@@ -36,6 +38,14 @@ public class Transaction implements Entity<Account, TransactionId> {
     @Column(name = "cleared", nullable = false)
     private boolean cleared;
 
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "transfer_id"))
+    private TransferId transferId;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "category"))
+    private TransactionCategory category;
+
     protected Transaction() {
     }
 
@@ -44,13 +54,15 @@ public class Transaction implements Entity<Account, TransactionId> {
             TransactionAmount amount,
             TransactionDate dateOfTransaction,
             TransactionMemo memo,
-            boolean cleared
+            boolean cleared,
+            TransferId transferId
     ) {
         this.id = id;
         this.amount = amount;
         this.dateOfTransaction = dateOfTransaction;
         this.memo = memo;
         this.cleared = cleared;
+        this.transferId = transferId;
     }
 
     public static Transaction from(
@@ -58,14 +70,25 @@ public class Transaction implements Entity<Account, TransactionId> {
             TransactionAmount amount,
             TransactionDate dateOfTransaction,
             TransactionMemo memo,
-            boolean cleared
+            boolean cleared,
+            TransferId transferId
     ) {
         Assert.notNull(id, "id must not be null");
         Assert.notNull(amount, "amount must not be null");
         Assert.notNull(dateOfTransaction, "dateOfTransaction must not be null");
         Assert.notNull(memo, "memo must not be null");
 
-        return new Transaction(id, amount, dateOfTransaction, memo, cleared);
+        return new Transaction(id, amount, dateOfTransaction, memo, cleared, transferId);
+    }
+
+    public static Transaction from(
+            TransactionId id,
+            TransactionAmount amount,
+            TransactionDate dateOfTransaction,
+            TransactionMemo memo,
+            boolean cleared
+    ) {
+        return from(id, amount, dateOfTransaction, memo, cleared, null);
     }
 
     public static Transaction from(
@@ -97,6 +120,14 @@ public class Transaction implements Entity<Account, TransactionId> {
         return cleared;
     }
 
+    public TransferId getTransferId() {
+        return transferId;
+    }
+
+    public TransactionCategory getCategory() {
+        return category;
+    }
+
     public void setAmount(TransactionAmount amount) {
         Assert.notNull(amount, "amount must not be null");
 
@@ -113,6 +144,10 @@ public class Transaction implements Entity<Account, TransactionId> {
         this.memo = memo;
     }
 
+    public void setCategory(TransactionCategory category) {
+        this.category = category;
+    }
+
     public void clear() {
         this.cleared = true;
     }
@@ -0,0 +1,19 @@
+package dev.felix2000jp.envelope.accounts.domain.events;
+
+import org.jmolecules.event.types.DomainEvent;
+import org.springframework.modulith.NamedInterface;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@NamedInterface
+public record TransactionRemovedEvent(
+        UUID userId,
+        UUID accountId,
+        UUID transactionId,
+        BigDecimal amount,
+        LocalDate dateOfTransaction,
+        String category
+) implements DomainEvent {
+}
@@ -0,0 +1,18 @@
+package dev.felix2000jp.envelope.accounts.domain.events;
+
+import org.jmolecules.event.types.DomainEvent;
+import org.springframework.modulith.NamedInterface;
+
+import java.util.List;
+import java.util.UUID;
+
+@NamedInterface
+public record TransactionsChangedEvent(
+        UUID id,
+        List<TransactionAddedEvent> added,
+        List<TransactionUpdatedEvent> updated,
+        List<TransactionRemovedEvent> removed,
+        List<TransactionClearedEvent> cleared,
+        List<TransactionUnclearedEvent> uncleared
+) implements DomainEvent {
+}
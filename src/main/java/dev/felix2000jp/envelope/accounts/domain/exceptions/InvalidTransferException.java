@@ -0,0 +1,9 @@
+package dev.felix2000jp.envelope.accounts.domain.exceptions;
+
+public class InvalidTransferException extends RuntimeException {
+
+    public InvalidTransferException(String message) {
+        super(message);
+    }
+
+}
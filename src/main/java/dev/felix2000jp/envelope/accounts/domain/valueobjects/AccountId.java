@@ -1,5 +1,6 @@
 package dev.felix2000jp.envelope.accounts.domain.valueobjects;
 
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
 import jakarta.persistence.Embeddable;
 import org.jmolecules.ddd.types.Identifier;
 import org.springframework.util.Assert;
@@ -13,4 +14,8 @@ public record AccountId(UUID value) implements Identifier {
         Assert.notNull(value, "value cannot be null");
     }
 
+    public static AccountId generate() {
+        return new AccountId(Identifiers.next());
+    }
+
 }
@@ -0,0 +1,12 @@
+package dev.felix2000jp.envelope.accounts.domain.valueobjects;
+
+import org.jmolecules.ddd.types.ValueObject;
+import org.springframework.util.Assert;
+
+public record AccountVersion(AccountId accountId, long version) implements ValueObject {
+
+    public AccountVersion {
+        Assert.notNull(accountId, "accountId cannot be null");
+    }
+
+}
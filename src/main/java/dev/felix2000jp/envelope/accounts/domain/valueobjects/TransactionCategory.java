@@ -0,0 +1,15 @@
+package dev.felix2000jp.envelope.accounts.domain.valueobjects;
+
+import jakarta.persistence.Embeddable;
+import org.jmolecules.ddd.types.ValueObject;
+import org.springframework.util.Assert;
+
+@Embeddable
+public record TransactionCategory(String value) implements ValueObject {
+
+    public TransactionCategory {
+        Assert.hasText(value, "value cannot be blank");
+        Assert.isTrue(value.length() <= 64, "value cannot be longer than 64 characters");
+    }
+
+}
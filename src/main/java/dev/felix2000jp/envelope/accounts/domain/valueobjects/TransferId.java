@@ -0,0 +1,21 @@
+package dev.felix2000jp.envelope.accounts.domain.valueobjects;
+
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
+import jakarta.persistence.Embeddable;
+import org.jmolecules.ddd.types.Identifier;
+import org.springframework.util.Assert;
+
+import java.util.UUID;
+
+@Embeddable
+public record TransferId(UUID value) implements Identifier {
+
+    public TransferId {
+        Assert.notNull(value, "value cannot be null");
+    }
+
+    public static TransferId generate() {
+        return new TransferId(Identifiers.next());
+    }
+
+}
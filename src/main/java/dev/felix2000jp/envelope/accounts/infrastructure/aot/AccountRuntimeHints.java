@@ -0,0 +1,90 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.aot;
+
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.Transaction;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionClearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionRemovedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUnclearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionsChangedEvent;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountBalance;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionAmount;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionCategory;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionDate;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionMemo;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransferId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Entity;
+import org.jmolecules.ddd.types.Identifier;
+import org.jmolecules.ddd.types.ValueObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+class AccountRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(Account.class, Transaction.class);
+
+    private static final List<Class<?>> VALUE_OBJECTS = List.of(
+            AccountId.class,
+            UserId.class,
+            AccountName.class,
+            AccountBalance.class,
+            AccountVersion.class,
+            TransactionId.class,
+            TransactionAmount.class,
+            TransactionDate.class,
+            TransactionMemo.class,
+            TransactionCategory.class,
+            TransferId.class
+    );
+
+    private static final List<Class<?>> JMOLECULES_TYPES = List.of(
+            AggregateRoot.class,
+            Entity.class,
+            Identifier.class,
+            ValueObject.class
+    );
+
+    private static final List<Class<?>> EVENTS = List.of(
+            TransactionAddedEvent.class,
+            TransactionUpdatedEvent.class,
+            TransactionRemovedEvent.class,
+            TransactionClearedEvent.class,
+            TransactionUnclearedEvent.class,
+            TransactionsChangedEvent.class
+    );
+
+    private final BindingReflectionHintsRegistrar bindingReflectionHintsRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ENTITIES.forEach(type -> hints.reflection().registerType(
+                type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.ACCESS_DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_METHODS
+        ));
+
+        VALUE_OBJECTS.forEach(type -> hints.reflection().registerType(
+                type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.ACCESS_DECLARED_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS
+        ));
+
+        JMOLECULES_TYPES.forEach(type -> hints.reflection().registerType(type, MemberCategory.INTROSPECT_PUBLIC_METHODS));
+
+        EVENTS.forEach(type -> bindingReflectionHintsRegistrar.registerReflectionHints(hints.reflection(), type));
+    }
+
+}
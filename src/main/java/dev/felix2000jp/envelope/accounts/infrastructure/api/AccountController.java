@@ -1,25 +1,56 @@
 package dev.felix2000jp.envelope.accounts.infrastructure.api;
 
 import dev.felix2000jp.envelope.accounts.application.AccountService;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationService;
 import dev.felix2000jp.envelope.accounts.application.dtos.AccountDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.AccountListDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountMonthlyRollupListDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationBackfillDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleListDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.CreateAccountDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateCategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateRecurringTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateTransferDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.GetTransactionsDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.NetWorthDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.ReconcileStatementDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.ReconciliationDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.RecurringTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.RecurringTransactionListDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.StatementImportDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.TransactionSliceDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransferDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.UpdateAccountDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.UpdateTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.idempotency.IdempotentTransactionService;
+import dev.felix2000jp.envelope.accounts.application.imports.StatementFormat;
+import dev.felix2000jp.envelope.accounts.application.imports.StatementImportService;
+import dev.felix2000jp.envelope.accounts.application.queries.AccountRollupQueryService;
+import dev.felix2000jp.envelope.accounts.application.queries.NetWorthQueryService;
 import dev.felix2000jp.envelope.accounts.application.queries.TransactionQueryService;
+import dev.felix2000jp.envelope.accounts.application.reconciliation.ReconciliationService;
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurringTransactionService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Objects;
 import java.util.UUID;
 
 @Validated
@@ -29,16 +60,66 @@ class AccountController {
 
     private final AccountService accountService;
     private final TransactionQueryService transactionQueryService;
+    private final AccountRollupQueryService accountRollupQueryService;
+    private final NetWorthQueryService netWorthQueryService;
+    private final IdempotentTransactionService idempotentTransactionService;
+    private final RecurringTransactionService recurringTransactionService;
+    private final ReconciliationService reconciliationService;
+    private final StatementImportService statementImportService;
+    private final CategorizationService categorizationService;
 
-    AccountController(AccountService accountService, TransactionQueryService transactionQueryService) {
+    AccountController(
+            AccountService accountService,
+            TransactionQueryService transactionQueryService,
+            AccountRollupQueryService accountRollupQueryService,
+            NetWorthQueryService netWorthQueryService,
+            IdempotentTransactionService idempotentTransactionService,
+            RecurringTransactionService recurringTransactionService,
+            ReconciliationService reconciliationService,
+            StatementImportService statementImportService,
+            CategorizationService categorizationService
+    ) {
         this.accountService = accountService;
         this.transactionQueryService = transactionQueryService;
+        this.accountRollupQueryService = accountRollupQueryService;
+        this.netWorthQueryService = netWorthQueryService;
+        this.idempotentTransactionService = idempotentTransactionService;
+        this.recurringTransactionService = recurringTransactionService;
+        this.reconciliationService = reconciliationService;
+        this.statementImportService = statementImportService;
+        this.categorizationService = categorizationService;
     }
 
     @GetMapping
-    ResponseEntity<AccountListDto> get() {
+    ResponseEntity<AccountListDto> get(WebRequest request) {
+        var eTag = accountService.getVersionTag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        var readETag = accountService.getReadVersionTag();
         var body = accountService.get();
-        return ResponseEntity.ok(body);
+        return withETag(eTag, readETag, body);
+    }
+
+    @GetMapping("/analytics/net-worth")
+    ResponseEntity<NetWorthDto> getNetWorth(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth fromMonth,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth toMonth,
+            WebRequest request
+    ) {
+        netWorthQueryService.validate(fromMonth, toMonth);
+        var eTag = accountService.getVersionTag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        var readETag = accountService.getReadVersionTag();
+        var body = netWorthQueryService.getNetWorth(fromMonth, toMonth);
+        if (body.partial()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+        }
+        return withETag(eTag, readETag, body);
     }
 
     @PostMapping
@@ -48,6 +129,38 @@ class AccountController {
         return ResponseEntity.created(location).body(body);
     }
 
+    @PostMapping("/transfers")
+    ResponseEntity<TransferDto> transfer(@Valid @RequestBody CreateTransferDto createTransferDto) {
+        var body = accountService.transfer(createTransferDto);
+        var location = URI.create("/api/accounts/" + createTransferDto.fromAccountId() + "/transactions");
+        return ResponseEntity.created(location).body(body);
+    }
+
+    @GetMapping("/categorization-rules")
+    ResponseEntity<CategorizationRuleListDto> getCategorizationRules() {
+        var body = categorizationService.getRules();
+        return ResponseEntity.ok(body);
+    }
+
+    @PostMapping("/categorization-rules")
+    ResponseEntity<CategorizationRuleDto> createCategorizationRule(@Valid @RequestBody CreateCategorizationRuleDto createCategorizationRuleDto) {
+        var body = categorizationService.createRule(createCategorizationRuleDto);
+        var location = URI.create("/api/accounts/categorization-rules");
+        return ResponseEntity.created(location).body(body);
+    }
+
+    @DeleteMapping("/categorization-rules/{id}")
+    ResponseEntity<Void> deleteCategorizationRule(@PathVariable UUID id) {
+        categorizationService.deleteRule(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/categorization-rules/backfill")
+    ResponseEntity<CategorizationBackfillDto> backfillCategories(@RequestParam(required = false) UUID after) {
+        var body = categorizationService.backfill(after);
+        return ResponseEntity.ok(body);
+    }
+
     @PutMapping("/{id}")
     ResponseEntity<AccountDto> update(@PathVariable UUID id, @Valid @RequestBody UpdateAccountDto updateAccountDto) {
         var body = accountService.update(id, updateAccountDto);
@@ -55,9 +168,14 @@ class AccountController {
     }
 
     @GetMapping("/{id}")
-    ResponseEntity<AccountDto> getAccountById(@PathVariable UUID id) {
+    ResponseEntity<AccountDto> getAccountById(@PathVariable UUID id, WebRequest request) {
+        var eTag = accountService.getVersionTag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         var body = accountService.getAccountById(id);
-        return ResponseEntity.ok(body);
+        return ResponseEntity.ok().eTag(eTag).body(body);
     }
 
     @PatchMapping("/{id}/close")
@@ -81,16 +199,51 @@ class AccountController {
             @RequestParam(required = false) BigDecimal minAmount,
             @RequestParam(required = false) BigDecimal maxAmount,
             @RequestParam(required = false) String memo,
-            @RequestParam(required = false) Boolean cleared
+            @RequestParam(required = false) Boolean cleared,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String includeCount,
+            WebRequest request
     ) {
-        var query = new GetTransactionsDto(limit, sort, cursor, minAmount, maxAmount, memo, cleared);
+        var query = new GetTransactionsDto(limit, sort, cursor, minAmount, maxAmount, memo, cleared, fromDate, toDate, includeCount);
+        transactionQueryService.validate(id, query);
+        var eTag = accountService.getVersionTag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        var readETag = accountService.getReadVersionTag(id);
         var body = transactionQueryService.getTransactions(id, query);
-        return ResponseEntity.ok(body);
+        return withETag(eTag, readETag, body);
+    }
+
+    @GetMapping("/{id}/rollups/monthly")
+    ResponseEntity<AccountMonthlyRollupListDto> getMonthlyRollups(
+            @PathVariable UUID id,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth fromMonth,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth toMonth,
+            WebRequest request
+    ) {
+        accountRollupQueryService.validate(fromMonth, toMonth);
+        var eTag = accountService.getVersionTag(id);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        var readETag = accountService.getReadVersionTag(id);
+        var body = accountRollupQueryService.getMonthlyRollups(id, fromMonth, toMonth);
+        return withETag(eTag, readETag, body);
     }
 
     @PostMapping("/{id}/transactions")
-    ResponseEntity<TransactionDto> addTransaction(@PathVariable UUID id, @Valid @RequestBody AddTransactionDto addTransactionDto) {
-        var transaction = accountService.addTransaction(id, addTransactionDto);
+    ResponseEntity<TransactionDto> addTransaction(
+            @PathVariable UUID id,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody AddTransactionDto addTransactionDto
+    ) {
+        var transaction = idempotencyKey == null
+                ? accountService.addTransaction(id, addTransactionDto)
+                : idempotentTransactionService.addTransaction(id, addTransactionDto, idempotencyKey);
         var location = URI.create("/api/accounts/" + id + "/transactions");
         return ResponseEntity.created(location).body(transaction);
     }
@@ -119,4 +272,52 @@ class AccountController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/reconciliations")
+    ResponseEntity<ReconciliationDto> reconcile(@PathVariable UUID id, @Valid @RequestBody ReconcileStatementDto reconcileStatementDto) {
+        var body = reconciliationService.reconcile(id, reconcileStatementDto);
+        return ResponseEntity.ok(body);
+    }
+
+    @PostMapping(value = "/{id}/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    ResponseEntity<StatementImportDto> importStatement(
+            @PathVariable UUID id,
+            @RequestParam MultipartFile file,
+            @RequestParam(required = false) String format
+    ) throws IOException {
+        var statementFormat = StatementFormat.from(format, file.getOriginalFilename());
+        try (var inputStream = file.getInputStream()) {
+            var body = statementImportService.importStatement(id, statementFormat, inputStream);
+            return ResponseEntity.ok(body);
+        }
+    }
+
+    @GetMapping("/{id}/recurring-transactions")
+    ResponseEntity<RecurringTransactionListDto> getRecurringTransactions(@PathVariable UUID id) {
+        var body = recurringTransactionService.getRecurringTransactions(id);
+        return ResponseEntity.ok(body);
+    }
+
+    @PostMapping("/{id}/recurring-transactions")
+    ResponseEntity<RecurringTransactionDto> createRecurringTransaction(
+            @PathVariable UUID id,
+            @Valid @RequestBody CreateRecurringTransactionDto createRecurringTransactionDto
+    ) {
+        var body = recurringTransactionService.createRecurringTransaction(id, createRecurringTransactionDto);
+        var location = URI.create("/api/accounts/" + id + "/recurring-transactions");
+        return ResponseEntity.created(location).body(body);
+    }
+
+    @DeleteMapping("/{accountId}/recurring-transactions/{recurringTransactionId}")
+    ResponseEntity<Void> deleteRecurringTransaction(@PathVariable UUID accountId, @PathVariable UUID recurringTransactionId) {
+        recurringTransactionService.deleteRecurringTransaction(accountId, recurringTransactionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static <T> ResponseEntity<T> withETag(String eTag, String readETag, T body) {
+        if (!Objects.equals(eTag, readETag)) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body);
+    }
+
 }
@@ -1,7 +1,18 @@
 package dev.felix2000jp.envelope.accounts.infrastructure.api;
 
+import dev.felix2000jp.envelope.accounts.application.exceptions.CategorizationRuleNotFoundException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.IdempotencyKeyInProgressException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.IdempotencyKeyReuseException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidCategorizationRuleException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidIdempotencyKeyException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidRecurringTransactionException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidSyncTokenException;
 import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.RecurringTransactionNotFoundException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.SyncTokenExpiredException;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.InvalidTransferException;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.TransactionNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +44,14 @@ class AccountExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.of(problemDetails).build();
     }
 
+    @ExceptionHandler(InvalidTransferException.class)
+    ResponseEntity<ProblemDetail> handleInvalidTransferException(InvalidTransferException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
     @ExceptionHandler(InvalidTransactionQueryException.class)
     ResponseEntity<ProblemDetail> handleInvalidTransactionQueryException(InvalidTransactionQueryException ex) {
         var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
@@ -41,4 +60,84 @@ class AccountExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.of(problemDetails).build();
     }
 
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    ResponseEntity<ProblemDetail> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    ResponseEntity<ProblemDetail> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_CONTENT, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    ResponseEntity<ProblemDetail> handleIdempotencyKeyInProgressException(IdempotencyKeyInProgressException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(RecurringTransactionNotFoundException.class)
+    ResponseEntity<ProblemDetail> handleRecurringTransactionNotFoundException(RecurringTransactionNotFoundException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(InvalidRecurringTransactionException.class)
+    ResponseEntity<ProblemDetail> handleInvalidRecurringTransactionException(InvalidRecurringTransactionException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(InvalidStatementFileException.class)
+    ResponseEntity<ProblemDetail> handleInvalidStatementFileException(InvalidStatementFileException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(CategorizationRuleNotFoundException.class)
+    ResponseEntity<ProblemDetail> handleCategorizationRuleNotFoundException(CategorizationRuleNotFoundException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(InvalidCategorizationRuleException.class)
+    ResponseEntity<ProblemDetail> handleInvalidCategorizationRuleException(InvalidCategorizationRuleException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(InvalidSyncTokenException.class)
+    ResponseEntity<ProblemDetail> handleInvalidSyncTokenException(InvalidSyncTokenException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    ResponseEntity<ProblemDetail> handleSyncTokenExpiredException(SyncTokenExpiredException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.GONE, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
 }
@@ -0,0 +1,39 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.api;
+
+import dev.felix2000jp.envelope.accounts.application.sync.SyncSubscriber;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class SseSyncSubscriber implements SyncSubscriber {
+
+    private final SseEmitter emitter;
+    private final Duration reconnectDelay;
+    private final AtomicLong eventId = new AtomicLong();
+
+    SseSyncSubscriber(SseEmitter emitter, Duration reconnectDelay) {
+        this.emitter = emitter;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void onChange() {
+        send(SseEmitter.event().id(Long.toString(eventId.incrementAndGet())).name("sync").data("changed").reconnectTime(reconnectDelay.toMillis()));
+    }
+
+    @Override
+    public void onHeartbeat() {
+        send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+
+}
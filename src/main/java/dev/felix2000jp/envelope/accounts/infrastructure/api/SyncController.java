@@ -0,0 +1,33 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.api;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncDto;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+class SyncController {
+
+    private final SyncService syncService;
+
+    SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    ResponseEntity<SyncDto> sync(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false, defaultValue = "500") @Min(1) @Max(1000) int limit
+    ) {
+        var body = syncService.sync(since, limit);
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+    }
+
+}
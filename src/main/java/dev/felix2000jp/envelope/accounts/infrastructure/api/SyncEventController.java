@@ -0,0 +1,56 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.api;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncEventsTokenDto;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncNotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/sync/events")
+class SyncEventController {
+
+    private final SyncNotificationService syncNotificationService;
+    private final Duration timeout;
+    private final Duration reconnectDelay;
+
+    SyncEventController(
+            SyncNotificationService syncNotificationService,
+            @Value("${sync-events.timeout:30m}") Duration timeout,
+            @Value("${sync-events.reconnect-delay:5s}") Duration reconnectDelay
+    ) {
+        this.syncNotificationService = syncNotificationService;
+        this.timeout = timeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    ResponseEntity<SseEmitter> events() {
+        var emitter = new SseEmitter(timeout.toMillis());
+        var unsubscribe = syncNotificationService.subscribe(new SseSyncSubscriber(emitter, reconnectDelay));
+
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(_ -> unsubscribe.run());
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    @PostMapping("/token")
+    ResponseEntity<SyncEventsTokenDto> token() {
+        var body = syncNotificationService.generateToken();
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+    }
+
+}
@@ -2,11 +2,16 @@ package dev.felix2000jp.envelope.accounts.infrastructure.database;
 
 import dev.felix2000jp.envelope.accounts.domain.Account;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,10 +20,34 @@ interface AccountJpaRepository extends JpaRepository<Account, AccountId> {
 
     List<Account> findAllByUserId(UserId userId);
 
+    @Query("""
+            select new dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion(a.id, a.version)
+            from Account a
+            where a.userId = :userId
+            order by a.id
+            """)
+    List<AccountVersion> findAllVersionsByUserId(UserId userId);
+
+    @Query("""
+            select new dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion(a.id, a.version)
+            from Account a
+            where a.id = :id and a.userId = :userId
+            """)
+    Optional<AccountVersion> findVersionByIdAndUserId(AccountId id, UserId userId);
+
     Optional<Account> findByIdAndUserId(AccountId id, UserId userId);
 
     @EntityGraph(attributePaths = "transactions")
     Optional<Account> findWithTransactionsByIdAndUserId(AccountId id, UserId userId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select a
+            from Account a
+            where a.id in :ids and a.userId = :userId
+            order by a.id
+            """)
+    List<Account> findAllForUpdateByIdInAndUserId(Collection<AccountId> ids, UserId userId);
+
     void deleteAllByUserId(UserId userId);
 }
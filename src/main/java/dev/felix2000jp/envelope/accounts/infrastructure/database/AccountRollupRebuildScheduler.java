@@ -0,0 +1,59 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+class AccountRollupRebuildScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountRollupRebuildScheduler.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    AccountRollupRebuildScheduler(JdbcTemplate jdbcTemplate, @Value("${account-rollups.rebuild-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${account-rollups.rebuild-cron:-}")
+    void rebuildAll() {
+        var rebuiltAccounts = 0;
+        var failedAccounts = 0;
+        var lastId = new UUID(0L, 0L);
+
+        while (true) {
+            var accountIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM account WHERE id > ? ORDER BY id LIMIT ?",
+                    UUID.class,
+                    lastId,
+                    batchSize
+            );
+
+            for (var accountId : accountIds) {
+                try {
+                    jdbcTemplate.queryForObject("SELECT rebuild_account_monthly_rollup(?)", Integer.class, accountId);
+                    rebuiltAccounts++;
+                } catch (DataAccessException ex) {
+                    failedAccounts++;
+                    log.warn("Monthly rollup rebuild failed for account {}", accountId, ex);
+                }
+            }
+
+            if (accountIds.size() < batchSize) {
+                break;
+            }
+            lastId = accountIds.getLast();
+        }
+
+        log.info("Monthly rollups rebuilt for {} accounts, {} failed", rebuiltAccounts, failedAccounts);
+    }
+
+}
@@ -3,18 +3,25 @@ package dev.felix2000jp.envelope.accounts.infrastructure.database;
 import dev.felix2000jp.envelope.accounts.domain.Account;
 import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 class DefaultAccountRepository implements AccountRepository {
 
+    private final EntityManager entityManager;
     private final AccountJpaRepository accountJpaRepository;
 
-    DefaultAccountRepository(AccountJpaRepository accountJpaRepository) {
+    DefaultAccountRepository(EntityManager entityManager, AccountJpaRepository accountJpaRepository) {
+        this.entityManager = entityManager;
         this.accountJpaRepository = accountJpaRepository;
     }
 
@@ -23,9 +30,24 @@ class DefaultAccountRepository implements AccountRepository {
         return accountJpaRepository.findAllByUserId(userId);
     }
 
+    @Override
+    public List<AccountVersion> findAllVersionsByUserId(UserId userId) {
+        return accountJpaRepository.findAllVersionsByUserId(userId);
+    }
+
+    @Override
+    public Optional<AccountVersion> findVersionByIdAndUserId(AccountId id, UserId userId) {
+        return accountJpaRepository.findVersionByIdAndUserId(id, userId);
+    }
+
     @Override
     public Optional<Account> findByIdAndUserId(AccountId id, UserId userId) {
-        return accountJpaRepository.findByIdAndUserId(id, userId);
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return accountJpaRepository.findByIdAndUserId(id, userId);
+        }
+
+        return Optional.ofNullable(entityManager.find(Account.class, id))
+                .filter(account -> account.getUserId().equals(userId));
     }
 
     @Override
@@ -33,6 +55,11 @@ class DefaultAccountRepository implements AccountRepository {
         return accountJpaRepository.findWithTransactionsByIdAndUserId(id, userId);
     }
 
+    @Override
+    public List<Account> findAllForUpdateByIdInAndUserId(Collection<AccountId> ids, UserId userId) {
+        return accountJpaRepository.findAllForUpdateByIdInAndUserId(ids, userId);
+    }
+
     @Override
     public void deleteAll() {
         accountJpaRepository.deleteAll();
@@ -50,6 +77,10 @@ class DefaultAccountRepository implements AccountRepository {
 
     @Override
     public void save(Account account) {
+        if (entityManager.contains(account)) {
+            entityManager.lock(account, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        }
+
         accountJpaRepository.save(account);
     }
 }
@@ -0,0 +1,48 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountMonthlyRollupDto;
+import dev.felix2000jp.envelope.accounts.application.queries.AccountRollupRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+class DefaultAccountRollupRepository implements AccountRollupRepository {
+
+    private static final String QUERY = """
+            SELECT r.month, r.income, r.expense, r.cleared_income, r.cleared_expense, r.transaction_count
+            FROM account_monthly_rollup r
+            WHERE r.account_id = :accountId
+              AND r.month >= :fromMonth
+              AND r.month <= :toMonth
+            ORDER BY r.month
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    DefaultAccountRollupRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public List<AccountMonthlyRollupDto> findMonthlyByAccountId(UUID accountId, YearMonth fromMonth, YearMonth toMonth) {
+        var params = new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("fromMonth", fromMonth != null ? fromMonth.atDay(1) : LocalDate.MIN)
+                .addValue("toMonth", toMonth != null ? toMonth.atDay(1) : LocalDate.MAX);
+
+        return namedParameterJdbcTemplate.query(QUERY, params, (rs, _) -> new AccountMonthlyRollupDto(
+                YearMonth.from(rs.getObject("month", LocalDate.class)),
+                rs.getBigDecimal("income"),
+                rs.getBigDecimal("expense"),
+                rs.getBigDecimal("cleared_income"),
+                rs.getBigDecimal("cleared_expense"),
+                rs.getInt("transaction_count")
+        ));
+    }
+}
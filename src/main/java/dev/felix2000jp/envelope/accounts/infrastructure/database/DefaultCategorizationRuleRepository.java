@@ -0,0 +1,207 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationRuleRepository;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizedTransaction;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategoryAssignment;
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+class DefaultCategorizationRuleRepository implements CategorizationRuleRepository {
+
+    private static final String FIND_ALL = """
+            SELECT id, pattern, category
+            FROM categorization_rule
+            WHERE user_id = :userId
+            ORDER BY id
+            """;
+
+    private static final String LOCK = """
+            SELECT pg_advisory_xact_lock(hashtextextended('categorization_rule/' || CAST(:userId AS text), 0))
+            """;
+
+    private static final String COUNT = """
+            SELECT count(*)
+            FROM categorization_rule
+            WHERE user_id = :userId
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO categorization_rule (id, user_id, pattern, category)
+            VALUES (:id, :userId, :pattern, :category)
+            """;
+
+    private static final String DELETE = """
+            DELETE FROM categorization_rule
+            WHERE id = :id
+              AND user_id = :userId
+            """;
+
+    private static final String DELETE_ALL = """
+            DELETE FROM categorization_rule
+            WHERE user_id = :userId
+            """;
+
+    private static final String FIND_UNCATEGORIZED = """
+            SELECT t.id, t.amount, t.date_of_transaction, t.memo, t.cleared, t.category
+            FROM account a
+                     CROSS JOIN LATERAL (
+                SELECT u.id, u.amount, u.date_of_transaction, u.memo, u.cleared, u.category
+                FROM transaction u
+                WHERE u.account_id = a.id
+                  AND u.category IS NULL
+                  AND u.id > :afterId
+                ORDER BY u.id
+                LIMIT :limit
+                ) t
+            WHERE a.user_id = :userId
+            ORDER BY t.id
+            LIMIT :limit
+            """;
+
+    private static final String ASSIGN_CATEGORIES = """
+            UPDATE transaction t
+            SET category = v.category
+            FROM unnest(CAST(? AS uuid[]), CAST(? AS date[]), CAST(? AS text[])) AS v (id, date_of_transaction, category)
+            WHERE t.id = v.id
+              AND t.date_of_transaction = v.date_of_transaction
+              AND t.category IS NULL
+            RETURNING t.account_id, t.id, t.amount, t.date_of_transaction, t.category
+            """;
+
+    private static final String BUMP_VERSIONS = """
+            UPDATE account
+            SET version = version + 1
+            WHERE id = ANY (?)
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    DefaultCategorizationRuleRepository(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public List<CategorizationRuleDto> findAllByUserId(UUID userId) {
+        var params = new MapSqlParameterSource("userId", userId);
+
+        return namedParameterJdbcTemplate.query(FIND_ALL, params, (rs, _) -> new CategorizationRuleDto(
+                rs.getObject("id", UUID.class),
+                rs.getString("pattern"),
+                rs.getString("category")
+        ));
+    }
+
+    @Override
+    public void lockByUserId(UUID userId) {
+        namedParameterJdbcTemplate.query(LOCK, new MapSqlParameterSource("userId", userId), _ -> {
+        });
+    }
+
+    @Override
+    public int countByUserId(UUID userId) {
+        var count = namedParameterJdbcTemplate.queryForObject(COUNT, new MapSqlParameterSource("userId", userId), Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void save(UUID userId, CategorizationRuleDto categorizationRule) {
+        var params = new MapSqlParameterSource()
+                .addValue("id", categorizationRule.id())
+                .addValue("userId", userId)
+                .addValue("pattern", categorizationRule.pattern())
+                .addValue("category", categorizationRule.category());
+
+        namedParameterJdbcTemplate.update(INSERT, params);
+    }
+
+    @Override
+    public boolean deleteByIdAndUserId(UUID id, UUID userId) {
+        var params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("userId", userId);
+
+        return namedParameterJdbcTemplate.update(DELETE, params) > 0;
+    }
+
+    @Override
+    public void deleteAllByUserId(UUID userId) {
+        namedParameterJdbcTemplate.update(DELETE_ALL, new MapSqlParameterSource("userId", userId));
+    }
+
+    @Override
+    public List<TransactionDto> findUncategorizedByUserId(UUID userId, UUID afterId, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(FIND_UNCATEGORIZED, params, (rs, _) -> new TransactionDto(
+                rs.getObject("id", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getObject("date_of_transaction", LocalDate.class),
+                rs.getString("memo"),
+                rs.getBoolean("cleared"),
+                rs.getString("category")
+        ));
+    }
+
+    @Override
+    public List<CategorizedTransaction> assignCategories(List<CategoryAssignment> assignments) {
+        var categorized = jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(ASSIGN_CATEGORIES);
+            statement.setArray(1, connection.createArrayOf("text", assignments.stream().map(a -> a.transactionId().toString()).toArray()));
+            statement.setArray(2, connection.createArrayOf("text", assignments.stream().map(a -> a.date().toString()).toArray()));
+            statement.setArray(3, connection.createArrayOf("text", assignments.stream().map(CategoryAssignment::category).toArray()));
+            return statement;
+        }, (rs, _) -> new CategorizedTransaction(
+                rs.getObject("account_id", UUID.class),
+                rs.getObject("id", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getObject("date_of_transaction", LocalDate.class),
+                rs.getString("category")
+        ));
+
+        var touchedAccountIds = categorized.stream().map(CategorizedTransaction::accountId).distinct().toList();
+        if (!touchedAccountIds.isEmpty()) {
+            jdbcTemplate.update(connection -> {
+                var statement = connection.prepareStatement(BUMP_VERSIONS);
+                statement.setArray(1, connection.createArrayOf("uuid", touchedAccountIds.toArray()));
+                return statement;
+            });
+            evictAfterCommit(touchedAccountIds);
+        }
+
+        return categorized;
+    }
+
+    private void evictAfterCommit(List<UUID> accountIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accountIds.forEach(accountId -> entityManagerFactory.getCache().evict(Account.class, new AccountId(accountId)));
+            }
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.idempotency.IdempotencyKeyRepository;
+import dev.felix2000jp.envelope.accounts.application.idempotency.IdempotencyRecord;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+class DefaultIdempotencyKeyRepository implements IdempotencyKeyRepository {
+
+    private static final String RESERVE = """
+            INSERT INTO idempotency_key AS k (user_id, idempotency_key, request_hash, expires_at)
+            VALUES (:userId, :idempotencyKey, :requestHash, now() + make_interval(secs => :ttlSeconds))
+            ON CONFLICT (user_id, idempotency_key) DO UPDATE
+                SET request_hash = EXCLUDED.request_hash,
+                    response     = NULL,
+                    created_at   = now(),
+                    expires_at   = EXCLUDED.expires_at
+                WHERE k.expires_at <= now()
+            """;
+
+    private static final String COMPLETE = """
+            UPDATE idempotency_key
+            SET response = :response
+            WHERE user_id = :userId
+              AND idempotency_key = :idempotencyKey
+            """;
+
+    private static final String FIND = """
+            SELECT request_hash, response
+            FROM idempotency_key
+            WHERE user_id = :userId
+              AND idempotency_key = :idempotencyKey
+              AND response IS NOT NULL
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    DefaultIdempotencyKeyRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public boolean reserve(UUID userId, String idempotencyKey, String requestHash, Duration ttl) {
+        var params = keyParameters(userId, idempotencyKey)
+                .addValue("requestHash", requestHash)
+                .addValue("ttlSeconds", ttl.toSeconds());
+
+        return namedParameterJdbcTemplate.update(RESERVE, params) == 1;
+    }
+
+    @Override
+    public void complete(UUID userId, String idempotencyKey, String response) {
+        namedParameterJdbcTemplate.update(COMPLETE, keyParameters(userId, idempotencyKey).addValue("response", response));
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByUserIdAndKey(UUID userId, String idempotencyKey) {
+        return namedParameterJdbcTemplate.query(FIND, keyParameters(userId, idempotencyKey), (rs, _) -> new IdempotencyRecord(
+                rs.getString("request_hash"),
+                rs.getString("response")
+        )).stream().findFirst();
+    }
+
+    private MapSqlParameterSource keyParameters(UUID userId, String idempotencyKey) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("idempotencyKey", idempotencyKey);
+    }
+}
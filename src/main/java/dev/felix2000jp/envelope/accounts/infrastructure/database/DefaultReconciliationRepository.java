@@ -0,0 +1,108 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+import dev.felix2000jp.envelope.accounts.application.reconciliation.ReconciliationRepository;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+class DefaultReconciliationRepository implements ReconciliationRepository {
+
+    private static final String LOCK_ACCOUNT = """
+            SELECT id
+            FROM account
+            WHERE id = :accountId
+            FOR UPDATE
+            """;
+
+    private static final String FIND_UNCLEARED = """
+            SELECT t.id, t.amount, t.date_of_transaction, t.memo, t.cleared, t.category
+            FROM transaction t
+            WHERE t.account_id = :accountId
+              AND t.date_of_transaction >= :fromDate
+              AND t.date_of_transaction <= :toDate
+              AND NOT t.cleared
+            """;
+
+    private static final String CLEAR = """
+            UPDATE transaction
+            SET cleared = true
+            WHERE account_id = :accountId
+              AND id IN (:transactionIds)
+              AND NOT cleared
+            RETURNING amount
+            """;
+
+    private static final String APPLY_BALANCE = """
+            UPDATE account
+            SET balance = balance + :delta,
+                version = version + 1
+            WHERE id = :accountId
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    DefaultReconciliationRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void lockAccount(UUID accountId) {
+        namedParameterJdbcTemplate.queryForList(LOCK_ACCOUNT, new MapSqlParameterSource("accountId", accountId), UUID.class);
+    }
+
+    @Override
+    public List<TransactionDto> findUnclearedByAccountId(UUID accountId, LocalDate fromDate, LocalDate toDate) {
+        var params = new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("fromDate", fromDate)
+                .addValue("toDate", toDate);
+
+        return namedParameterJdbcTemplate.query(FIND_UNCLEARED, params, (rs, _) -> new TransactionDto(
+                rs.getObject("id", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getObject("date_of_transaction", LocalDate.class),
+                rs.getString("memo"),
+                rs.getBoolean("cleared"),
+                rs.getString("category")
+        ));
+    }
+
+    @Override
+    public BigDecimal clearTransactions(UUID accountId, Collection<UUID> transactionIds) {
+        var params = new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("transactionIds", transactionIds);
+
+        var delta = namedParameterJdbcTemplate.queryForList(CLEAR, params, BigDecimal.class).stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        namedParameterJdbcTemplate.update(APPLY_BALANCE, params.addValue("delta", delta));
+        evictAfterCommit(accountId);
+
+        return delta;
+    }
+
+    private void evictAfterCommit(UUID accountId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Account.class, new AccountId(accountId));
+            }
+        });
+    }
+}
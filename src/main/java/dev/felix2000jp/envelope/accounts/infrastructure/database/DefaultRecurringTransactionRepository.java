@@ -0,0 +1,83 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.RecurringTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurrenceFrequency;
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurringTransactionRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+class DefaultRecurringTransactionRepository implements RecurringTransactionRepository {
+
+    private static final String FIND_ALL = """
+            SELECT id, amount, memo, cleared, frequency, interval_count, start_date, end_date, next_occurrence
+            FROM recurring_transaction
+            WHERE account_id = :accountId
+            ORDER BY start_date, id
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO recurring_transaction (id, account_id, amount, memo, cleared, frequency, interval_count, start_date, end_date, next_occurrence)
+            VALUES (:id, :accountId, :amount, :memo, :cleared, :frequency, :interval, :startDate, :endDate, :nextOccurrence)
+            """;
+
+    private static final String DELETE = """
+            DELETE FROM recurring_transaction
+            WHERE id = :id
+              AND account_id = :accountId
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    DefaultRecurringTransactionRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public List<RecurringTransactionDto> findAllByAccountId(UUID accountId) {
+        var params = new MapSqlParameterSource("accountId", accountId);
+
+        return namedParameterJdbcTemplate.query(FIND_ALL, params, (rs, _) -> new RecurringTransactionDto(
+                rs.getObject("id", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getString("memo"),
+                rs.getBoolean("cleared"),
+                RecurrenceFrequency.valueOf(rs.getString("frequency")),
+                rs.getInt("interval_count"),
+                rs.getObject("start_date", LocalDate.class),
+                rs.getObject("end_date", LocalDate.class),
+                rs.getObject("next_occurrence", LocalDate.class)
+        ));
+    }
+
+    @Override
+    public void save(UUID accountId, RecurringTransactionDto recurringTransaction) {
+        var params = new MapSqlParameterSource()
+                .addValue("id", recurringTransaction.id())
+                .addValue("accountId", accountId)
+                .addValue("amount", recurringTransaction.amount())
+                .addValue("memo", recurringTransaction.memo())
+                .addValue("cleared", recurringTransaction.cleared())
+                .addValue("frequency", recurringTransaction.frequency().name())
+                .addValue("interval", recurringTransaction.interval())
+                .addValue("startDate", recurringTransaction.startDate())
+                .addValue("endDate", recurringTransaction.endDate())
+                .addValue("nextOccurrence", recurringTransaction.nextOccurrence());
+
+        namedParameterJdbcTemplate.update(INSERT, params);
+    }
+
+    @Override
+    public boolean deleteByIdAndAccountId(UUID id, UUID accountId) {
+        var params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("accountId", accountId);
+
+        return namedParameterJdbcTemplate.update(DELETE, params) == 1;
+    }
+}
@@ -0,0 +1,90 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.imports.ImportedTransaction;
+import dev.felix2000jp.envelope.accounts.application.imports.StatementImportRepository;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+class DefaultStatementImportRepository implements StatementImportRepository {
+
+    private static final String LOCK_ACCOUNT = """
+            SELECT id
+            FROM account
+            WHERE id = ?
+            FOR UPDATE
+            """;
+
+    private static final String INSERT_IGNORING_DUPLICATES = """
+            INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared, category, import_fingerprint)
+            SELECT t.id, ?, t.amount, t.date_of_transaction, t.memo, true, t.category, t.import_fingerprint
+            FROM unnest(CAST(? AS uuid[]), CAST(? AS numeric[]), CAST(? AS date[]), CAST(? AS text[]), CAST(? AS text[]), CAST(? AS uuid[]))
+                     AS t (id, amount, date_of_transaction, memo, category, import_fingerprint)
+            ON CONFLICT (account_id, import_fingerprint, date_of_transaction) DO NOTHING
+            RETURNING id, amount, date_of_transaction, memo, category, import_fingerprint
+            """;
+
+    private static final String APPLY_BALANCE = """
+            UPDATE account
+            SET balance = balance + ?,
+                version = version + 1
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    DefaultStatementImportRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void lockAccount(UUID accountId) {
+        jdbcTemplate.queryForList(LOCK_ACCOUNT, UUID.class, accountId);
+    }
+
+    @Override
+    public List<ImportedTransaction> insertIgnoringDuplicates(UUID accountId, List<ImportedTransaction> transactions) {
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(INSERT_IGNORING_DUPLICATES);
+            statement.setObject(1, accountId);
+            statement.setArray(2, connection.createArrayOf("text", transactions.stream().map(t -> t.id().toString()).toArray()));
+            statement.setArray(3, connection.createArrayOf("text", transactions.stream().map(t -> t.amount().toPlainString()).toArray()));
+            statement.setArray(4, connection.createArrayOf("text", transactions.stream().map(t -> t.date().toString()).toArray()));
+            statement.setArray(5, connection.createArrayOf("text", transactions.stream().map(ImportedTransaction::memo).toArray()));
+            statement.setArray(6, connection.createArrayOf("text", transactions.stream().map(ImportedTransaction::category).toArray()));
+            statement.setArray(7, connection.createArrayOf("text", transactions.stream().map(t -> t.fingerprint().toString()).toArray()));
+            return statement;
+        }, (rs, _) -> new ImportedTransaction(
+                rs.getObject("id", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getObject("date_of_transaction", LocalDate.class),
+                rs.getString("memo"),
+                rs.getString("category"),
+                rs.getObject("import_fingerprint", UUID.class)
+        ));
+    }
+
+    @Override
+    public void applyBalance(UUID accountId, BigDecimal delta) {
+        jdbcTemplate.update(APPLY_BALANCE, delta, accountId);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Account.class, new AccountId(accountId));
+            }
+        });
+    }
+}
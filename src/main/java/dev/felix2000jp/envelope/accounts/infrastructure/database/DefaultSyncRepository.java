@@ -0,0 +1,153 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncChange;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncEntityType;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncRepository;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncToken;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+class DefaultSyncRepository implements SyncRepository {
+
+    private static final String FIND_HEAD = """
+            SELECT CAST(xid AS text) AS xid, seq
+            FROM sync_change
+            WHERE user_id = :userId
+              AND xid < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY xid DESC, seq DESC
+            LIMIT 1
+            """;
+
+    private static final String FIND_HORIZON = """
+            SELECT CAST(xid AS text) AS xid, seq
+            FROM sync_horizon
+            WHERE user_id = :userId
+            """;
+
+    private static final String FIND_CHANGES = """
+            SELECT entity_type, entity_id, CAST(xid AS text) AS xid, seq
+            FROM sync_change
+            WHERE user_id = :userId
+              AND (xid, seq) > (CAST(:xid AS xid8), :seq)
+              AND xid < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY xid, seq
+            LIMIT :limit
+            """;
+
+    private static final String FIND_ACCOUNTS = """
+            SELECT id, name, balance, closed
+            FROM account
+            WHERE user_id = :userId
+              AND id IN (:ids)
+            """;
+
+    private static final String FIND_TRANSACTIONS = """
+            SELECT t.id, t.account_id, t.amount, t.date_of_transaction, t.memo, t.cleared, t.category
+            FROM transaction t
+                     JOIN account a ON a.id = t.account_id
+            WHERE a.user_id = :userId
+              AND t.id IN (:ids)
+            """;
+
+    private static final String DELETE_CHANGES = """
+            DELETE FROM sync_change
+            WHERE user_id = :userId
+            """;
+
+    private static final String DELETE_HORIZON = """
+            DELETE FROM sync_horizon
+            WHERE user_id = :userId
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    DefaultSyncRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public SyncToken findHeadByUserId(UUID userId) {
+        var head = findToken(FIND_HEAD, userId);
+        var horizon = findHorizonByUserId(userId);
+        return head.compareTo(horizon) >= 0 ? head : horizon;
+    }
+
+    @Override
+    public SyncToken findHorizonByUserId(UUID userId) {
+        return findToken(FIND_HORIZON, userId);
+    }
+
+    @Override
+    public List<SyncChange> findChangesByUserId(UUID userId, SyncToken since, int limit) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("xid", Long.toString(since.transactionId()))
+                .addValue("seq", since.sequence())
+                .addValue("limit", limit);
+
+        return namedParameterJdbcTemplate.query(FIND_CHANGES, params, (rs, _) -> new SyncChange(
+                SyncEntityType.valueOf(rs.getString("entity_type")),
+                rs.getObject("entity_id", UUID.class),
+                toToken(rs)
+        ));
+    }
+
+    @Override
+    public List<AccountDto> findAccountsByUserIdAndIds(UUID userId, Collection<UUID> ids) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("ids", ids);
+
+        return namedParameterJdbcTemplate.query(FIND_ACCOUNTS, params, (rs, _) -> new AccountDto(
+                rs.getObject("id", UUID.class),
+                rs.getString("name"),
+                rs.getBigDecimal("balance"),
+                rs.getBoolean("closed")
+        ));
+    }
+
+    @Override
+    public List<SyncTransactionDto> findTransactionsByUserIdAndIds(UUID userId, Collection<UUID> ids) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("ids", ids);
+
+        return namedParameterJdbcTemplate.query(FIND_TRANSACTIONS, params, (rs, _) -> new SyncTransactionDto(
+                rs.getObject("id", UUID.class),
+                rs.getObject("account_id", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getObject("date_of_transaction", LocalDate.class),
+                rs.getString("memo"),
+                rs.getBoolean("cleared"),
+                rs.getString("category")
+        ));
+    }
+
+    @Override
+    public void deleteAllByUserId(UUID userId) {
+        var params = new MapSqlParameterSource("userId", userId);
+        namedParameterJdbcTemplate.update(DELETE_CHANGES, params);
+        namedParameterJdbcTemplate.update(DELETE_HORIZON, params);
+    }
+
+    private SyncToken findToken(String sql, UUID userId) {
+        var tokens = namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("userId", userId), (rs, _) -> toToken(rs));
+        return tokens.isEmpty() ? SyncToken.ZERO : tokens.getFirst();
+    }
+
+    private static SyncToken toToken(ResultSet rs) throws SQLException {
+        return new SyncToken(Long.parseLong(rs.getString("xid")), rs.getLong("seq"));
+    }
+
+}
@@ -9,13 +9,44 @@ import org.springframework.stereotype.Repository;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
-import java.util.ArrayList;
+import java.sql.Types;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Repository
 class DefaultTransactionQueryRepository implements TransactionQueryRepository {
 
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    private static final String FILTERS = """
+            t.account_id = :accountId
+              AND EXISTS (SELECT 1 FROM account a WHERE a.id = :accountId AND a.user_id = :userId)
+              AND t.date_of_transaction >= :rangeStart
+              AND t.date_of_transaction <= :rangeEnd
+              AND (CAST(:memo AS text) IS NULL OR t.memo ILIKE :memo ESCAPE E'\\\\')
+              AND (CAST(:cleared AS boolean) IS NULL OR t.cleared = :cleared)
+              AND (CAST(:minAmount AS numeric) IS NULL OR t.amount >= :minAmount)
+              AND (CAST(:maxAmount AS numeric) IS NULL OR t.amount <= :maxAmount)
+            """;
+
+    private static final String QUERY = """
+            SELECT t.id, t.amount, t.date_of_transaction, t.memo, t.cleared, t.category
+            FROM transaction t
+            WHERE %s
+              AND (t.date_of_transaction, t.id) %s (:keyDate, :keyId)
+            ORDER BY t.date_of_transaction %s, t.id %s
+            LIMIT :limit
+            """;
+
+    private static final String DESC_QUERY = QUERY.formatted(FILTERS, "<", "DESC", "DESC");
+    private static final String ASC_QUERY = QUERY.formatted(FILTERS, ">", "ASC", "ASC");
+    private static final String COUNT_QUERY = "SELECT count(*) FROM transaction t WHERE " + FILTERS;
+    private static final String ESTIMATE_QUERY = "EXPLAIN SELECT 1 FROM transaction t WHERE " + FILTERS;
+    private static final Pattern ESTIMATED_ROWS = Pattern.compile("rows=(\\d+)");
+
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     DefaultTransactionQueryRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
@@ -31,66 +62,94 @@ class DefaultTransactionQueryRepository implements TransactionQueryRepository {
             TransactionQueryCursor cursor,
             int limit
     ) {
-        var memoFilter = normalizeMemo(query.memo());
-        var params = new MapSqlParameterSource()
-                .addValue("accountId", accountId)
-                .addValue("userId", userId)
-                .addValue("limit", limit);
-
-        var whereClauses = new ArrayList<String>();
-        whereClauses.add("a.id = :accountId");
-        whereClauses.add("a.user_id = :userId");
+        var params = filterParameters(accountId, userId, query).addValue("limit", limit);
 
-        if (memoFilter != null) {
-            whereClauses.add("t.memo ILIKE :memo ESCAPE E'\\\\'");
-            params.addValue("memo", "%" + escapeLikePattern(memoFilter) + "%");
+        if (sort == TransactionQuerySortDirection.DESC) {
+            addDescendingBounds(params, query, cursor);
+        } else {
+            addAscendingBounds(params, query, cursor);
         }
 
-        if (query.cleared() != null) {
-            whereClauses.add("t.cleared = :cleared");
-            params.addValue("cleared", query.cleared());
-        }
-
-        if (query.minAmount() != null) {
-            whereClauses.add("t.amount >= :minAmount");
-            params.addValue("minAmount", query.minAmount());
-        }
-
-        if (query.maxAmount() != null) {
-            whereClauses.add("t.amount <= :maxAmount");
-            params.addValue("maxAmount", query.maxAmount());
-        }
-
-        if (cursor != null) {
-            if (sort == TransactionQuerySortDirection.DESC) {
-                whereClauses.add("(t.date_of_transaction, t.id) < (:cursorDate, :cursorId)");
-            } else {
-                whereClauses.add("(t.date_of_transaction, t.id) > (:cursorDate, :cursorId)");
-            }
-
-            params.addValue("cursorDate", cursor.dateOfTransaction());
-            params.addValue("cursorId", cursor.transactionId());
-        }
-
-        var direction = sort == TransactionQuerySortDirection.DESC ? "DESC" : "ASC";
-        var sql = """
-                SELECT t.id, t.amount, t.date_of_transaction, t.memo, t.cleared
-                FROM transaction t
-                JOIN account a ON a.id = t.account_id
-                WHERE %s
-                ORDER BY t.date_of_transaction %s, t.id %s
-                LIMIT :limit
-                """.formatted(String.join(" AND ", whereClauses), direction, direction);
+        var sql = sort == TransactionQuerySortDirection.DESC ? DESC_QUERY : ASC_QUERY;
 
         return namedParameterJdbcTemplate.query(sql, params, (rs, _) -> new TransactionDto(
                 rs.getObject("id", UUID.class),
                 rs.getBigDecimal("amount"),
-                rs.getObject("date_of_transaction", java.time.LocalDate.class),
+                rs.getObject("date_of_transaction", LocalDate.class),
                 rs.getString("memo"),
-                rs.getBoolean("cleared")
+                rs.getBoolean("cleared"),
+                rs.getString("category")
         ));
     }
 
+    @Override
+    public long countByAccountIdAndUserId(UUID accountId, UUID userId, GetTransactionsDto query) {
+        var params = addRangeBounds(filterParameters(accountId, userId, query), query);
+        var count = namedParameterJdbcTemplate.queryForObject(COUNT_QUERY, params, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public long estimateCountByAccountIdAndUserId(UUID accountId, UUID userId, GetTransactionsDto query) {
+        var params = addRangeBounds(filterParameters(accountId, userId, query), query);
+        var plan = namedParameterJdbcTemplate.queryForList(ESTIMATE_QUERY, params, String.class);
+        var matcher = ESTIMATED_ROWS.matcher(plan.getFirst());
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private MapSqlParameterSource filterParameters(UUID accountId, UUID userId, GetTransactionsDto query) {
+        var memoFilter = normalizeMemo(query.memo());
+        return new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("userId", userId)
+                .addValue("memo", memoFilter == null ? null : "%" + escapeLikePattern(memoFilter) + "%", Types.VARCHAR)
+                .addValue("cleared", query.cleared(), Types.BOOLEAN)
+                .addValue("minAmount", query.minAmount(), Types.NUMERIC)
+                .addValue("maxAmount", query.maxAmount(), Types.NUMERIC);
+    }
+
+    private MapSqlParameterSource addRangeBounds(MapSqlParameterSource params, GetTransactionsDto query) {
+        return params
+                .addValue("rangeStart", query.fromDate() != null ? query.fromDate() : LocalDate.MIN)
+                .addValue("rangeEnd", query.toDate() != null ? query.toDate() : LocalDate.MAX);
+    }
+
+    private void addDescendingBounds(MapSqlParameterSource params, GetTransactionsDto query, TransactionQueryCursor cursor) {
+        params.addValue("rangeStart", query.fromDate() != null ? query.fromDate() : LocalDate.MIN);
+
+        if (cursor != null && (query.toDate() == null || !cursor.dateOfTransaction().isAfter(query.toDate()))) {
+            params.addValue("rangeEnd", cursor.dateOfTransaction());
+            params.addValue("keyDate", cursor.dateOfTransaction());
+            params.addValue("keyId", cursor.transactionId());
+        } else if (query.toDate() != null) {
+            params.addValue("rangeEnd", query.toDate());
+            params.addValue("keyDate", query.toDate().plusDays(1));
+            params.addValue("keyId", MIN_ID);
+        } else {
+            params.addValue("rangeEnd", LocalDate.MAX);
+            params.addValue("keyDate", LocalDate.MAX);
+            params.addValue("keyId", MIN_ID);
+        }
+    }
+
+    private void addAscendingBounds(MapSqlParameterSource params, GetTransactionsDto query, TransactionQueryCursor cursor) {
+        params.addValue("rangeEnd", query.toDate() != null ? query.toDate() : LocalDate.MAX);
+
+        if (cursor != null && (query.fromDate() == null || !cursor.dateOfTransaction().isBefore(query.fromDate()))) {
+            params.addValue("rangeStart", cursor.dateOfTransaction());
+            params.addValue("keyDate", cursor.dateOfTransaction());
+            params.addValue("keyId", cursor.transactionId());
+        } else if (query.fromDate() != null) {
+            params.addValue("rangeStart", query.fromDate());
+            params.addValue("keyDate", query.fromDate().minusDays(1));
+            params.addValue("keyId", MAX_ID);
+        } else {
+            params.addValue("rangeStart", LocalDate.MIN);
+            params.addValue("keyDate", LocalDate.MIN);
+            params.addValue("keyId", MAX_ID);
+        }
+    }
+
     private String normalizeMemo(String memo) {
         if (memo == null || memo.isBlank()) {
             return null;
@@ -0,0 +1,52 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+class IdempotencyKeyPurgeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyPurgeScheduler.class);
+
+    private static final String PURGE = """
+            DELETE FROM idempotency_key
+            WHERE (user_id, idempotency_key) IN (
+                SELECT user_id, idempotency_key
+                FROM idempotency_key
+                WHERE expires_at <= now()
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    IdempotencyKeyPurgeScheduler(JdbcTemplate jdbcTemplate, @Value("${idempotency-keys.purge-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${idempotency-keys.purge-cron:0 */15 * * * *}")
+    void purgeExpired() {
+        var purgedKeys = 0;
+
+        while (true) {
+            var deleted = jdbcTemplate.update(PURGE, batchSize);
+            purgedKeys += deleted;
+
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (purgedKeys > 0) {
+            log.info("Purged {} expired idempotency keys", purgedKeys);
+        }
+    }
+
+}
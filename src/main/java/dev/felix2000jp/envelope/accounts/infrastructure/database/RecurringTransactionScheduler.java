@@ -0,0 +1,210 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurrenceFrequency;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+class RecurringTransactionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurringTransactionScheduler.class);
+
+    private static final String FIND_DUE = """
+            SELECT id, account_id, amount, memo, cleared, frequency, interval_count, start_date, end_date, occurrence_index
+            FROM recurring_transaction
+            WHERE next_occurrence <= ?
+              AND id <> ALL (?)
+            ORDER BY next_occurrence, id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String INSERT_TRANSACTION = """
+            INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String LOCK_ACCOUNTS = """
+            SELECT id
+            FROM account
+            WHERE id = ANY (?)
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    private static final String UPDATE_ACCOUNT = """
+            UPDATE account
+            SET balance = balance + ?,
+                version = version + 1
+            WHERE id = ?
+            """;
+
+    private static final String ADVANCE = """
+            UPDATE recurring_transaction
+            SET occurrence_index = ?,
+                next_occurrence  = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int batchSize;
+    private final int maxOccurrences;
+
+    RecurringTransactionScheduler(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${recurring-transactions.batch-size:500}") int batchSize,
+            @Value("${recurring-transactions.max-occurrences-per-run:100}") int maxOccurrences
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.batchSize = batchSize;
+        this.maxOccurrences = maxOccurrences;
+    }
+
+    @Scheduled(cron = "${recurring-transactions.cron:0 */5 * * * *}")
+    void materializeDue() {
+        var today = LocalDate.now();
+        var capped = new HashSet<UUID>();
+        var definitions = 0;
+        var occurrences = 0;
+
+        while (true) {
+            var batch = transactionTemplate.execute(_ -> materializeBatch(today, capped));
+
+            definitions += batch.definitions();
+            occurrences += batch.occurrences();
+
+            if (batch.definitions() < batchSize) {
+                break;
+            }
+        }
+
+        if (definitions > 0) {
+            log.info("Materialized {} occurrences from {} recurring transactions", occurrences, definitions);
+        }
+    }
+
+    private Batch materializeBatch(LocalDate today, Set<UUID> capped) {
+        var due = jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(FIND_DUE);
+            statement.setObject(1, today);
+            statement.setArray(2, connection.createArrayOf("uuid", capped.toArray()));
+            statement.setInt(3, batchSize);
+            return statement;
+        }, (rs, _) -> new DueRecurringTransaction(
+                rs.getObject("id", UUID.class),
+                rs.getObject("account_id", UUID.class),
+                rs.getBigDecimal("amount"),
+                rs.getString("memo"),
+                rs.getBoolean("cleared"),
+                RecurrenceFrequency.valueOf(rs.getString("frequency")),
+                rs.getInt("interval_count"),
+                rs.getObject("start_date", LocalDate.class),
+                rs.getObject("end_date", LocalDate.class),
+                rs.getInt("occurrence_index")
+        ));
+
+        var transactions = new ArrayList<Object[]>();
+        var advances = new ArrayList<Object[]>();
+        var balanceDeltas = new HashMap<UUID, BigDecimal>();
+
+        for (var recurring : due) {
+            var index = recurring.occurrenceIndex();
+            var date = recurring.occurrence(index);
+
+            while (!date.isAfter(today) && recurring.includes(date) && index - recurring.occurrenceIndex() < maxOccurrences) {
+                transactions.add(new Object[]{Identifiers.next(), recurring.accountId(), recurring.amount(), date, recurring.memo(), recurring.cleared()});
+                balanceDeltas.merge(recurring.accountId(), recurring.cleared() ? recurring.amount() : BigDecimal.ZERO, BigDecimal::add);
+                date = recurring.occurrence(++index);
+            }
+
+            advances.add(new Object[]{index, recurring.includes(date) ? date : null, recurring.id()});
+            if (!date.isAfter(today) && recurring.includes(date)) {
+                capped.add(recurring.id());
+            }
+        }
+
+        if (!balanceDeltas.isEmpty()) {
+            lockAccounts(balanceDeltas);
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactions);
+            jdbcTemplate.batchUpdate(UPDATE_ACCOUNT, balanceDeltas.entrySet().stream()
+                    .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                    .toList());
+            evictAfterCommit(List.copyOf(balanceDeltas.keySet()));
+        }
+        jdbcTemplate.batchUpdate(ADVANCE, advances);
+
+        return new Batch(due.size(), transactions.size());
+    }
+
+    private void lockAccounts(Map<UUID, BigDecimal> balanceDeltas) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(LOCK_ACCOUNTS);
+            statement.setArray(1, connection.createArrayOf("uuid", balanceDeltas.keySet().toArray()));
+            return statement;
+        }, _ -> {
+        });
+    }
+
+    private void evictAfterCommit(List<UUID> accountIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accountIds.forEach(accountId -> entityManagerFactory.getCache().evict(Account.class, new AccountId(accountId)));
+            }
+        });
+    }
+
+    private record DueRecurringTransaction(
+            UUID id,
+            UUID accountId,
+            BigDecimal amount,
+            String memo,
+            boolean cleared,
+            RecurrenceFrequency frequency,
+            int interval,
+            LocalDate startDate,
+            LocalDate endDate,
+            int occurrenceIndex
+    ) {
+
+        LocalDate occurrence(int index) {
+            return frequency.occurrence(startDate, interval, index);
+        }
+
+        boolean includes(LocalDate date) {
+            return endDate == null || !date.isAfter(endDate);
+        }
+    }
+
+    private record Batch(int definitions, int occurrences) {
+    }
+
+}
@@ -0,0 +1,155 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.accounts.application.sync.SyncNotificationService;
+import org.postgresql.Driver;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+@Component
+class SyncChangeNotificationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncChangeNotificationListener.class);
+
+    private static final String CHANNEL = "sync_change";
+    private static final String APPLICATION_NAME = "sync-change-listener";
+    private static final String FIND_XMIN = "SELECT CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text)";
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final int PENDING_POLL_TIMEOUT_MILLIS = 100;
+
+    private final SimpleDriverDataSource dataSource;
+    private final SyncNotificationService syncNotificationService;
+    private final Duration reconnectDelay;
+
+    private volatile Thread listenerThread;
+
+    SyncChangeNotificationListener(
+            DataSourceProperties properties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails,
+            SyncNotificationService syncNotificationService,
+            @Value("${sync-events.listener-reconnect-delay:5s}") Duration reconnectDelay
+    ) {
+        this.dataSource = createDataSource(properties, connectionDetails.getIfAvailable());
+        this.syncNotificationService = syncNotificationService;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        listenerThread = Thread.ofVirtual().name("sync-change-listener").start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        var thread = listenerThread;
+        listenerThread = null;
+
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listenerThread != null;
+    }
+
+    private void listen() {
+        while (isRunning()) {
+            try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                syncNotificationService.notifyAllChanged();
+                log.info("Listening for sync changes on channel {}", CHANNEL);
+
+                var pgConnection = connection.unwrap(PGConnection.class);
+                var pending = new HashMap<UUID, Long>();
+                while (isRunning()) {
+                    var notifications = pgConnection.getNotifications(pending.isEmpty() ? POLL_TIMEOUT_MILLIS : PENDING_POLL_TIMEOUT_MILLIS);
+
+                    if (notifications != null) {
+                        for (var notification : notifications) {
+                            addPending(pending, notification.getParameter());
+                        }
+                    }
+
+                    if (!pending.isEmpty()) {
+                        notifyVisible(statement, pending);
+                    }
+                }
+
+                statement.execute("UNLISTEN " + CHANNEL);
+            } catch (SQLException ex) {
+                if (isRunning()) {
+                    log.warn("Sync change listener connection lost, reconnecting in {}", reconnectDelay, ex);
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void addPending(Map<UUID, Long> pending, String payload) {
+        var separator = payload.indexOf(':');
+        if (separator < 0) {
+            pending.put(UUID.fromString(payload), 0L);
+            return;
+        }
+
+        var userId = UUID.fromString(payload.substring(0, separator));
+        var transactionId = Long.parseLong(payload.substring(separator + 1));
+        pending.merge(userId, transactionId, Math::max);
+    }
+
+    private void notifyVisible(Statement statement, Map<UUID, Long> pending) throws SQLException {
+        long xmin;
+        try (var resultSet = statement.executeQuery(FIND_XMIN)) {
+            resultSet.next();
+            xmin = Long.parseLong(resultSet.getString(1));
+        }
+
+        var iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getValue() < xmin) {
+                syncNotificationService.notifyChanged(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private SimpleDriverDataSource createDataSource(DataSourceProperties properties, JdbcConnectionDetails connectionDetails) {
+        var dataSource = connectionDetails != null
+                ? new SimpleDriverDataSource(new Driver(), connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword())
+                : new SimpleDriverDataSource(new Driver(), properties.determineUrl(), properties.determineUsername(), properties.determinePassword());
+
+        var connectionProperties = new Properties();
+        connectionProperties.setProperty("ApplicationName", APPLICATION_NAME);
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        dataSource.setConnectionProperties(connectionProperties);
+
+        return dataSource;
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
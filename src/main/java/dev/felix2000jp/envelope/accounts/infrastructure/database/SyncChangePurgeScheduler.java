@@ -0,0 +1,75 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+class SyncChangePurgeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncChangePurgeScheduler.class);
+
+    private static final String PURGE = """
+            WITH purged AS (
+                DELETE FROM sync_change
+                WHERE (user_id, xid, seq) IN (
+                    SELECT user_id, xid, seq
+                    FROM sync_change
+                    WHERE changed_at < now() - make_interval(secs => ?)
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING user_id, xid, seq
+            ),
+                 horizons AS (
+                     INSERT INTO sync_horizon (user_id, xid, seq)
+                         SELECT DISTINCT ON (user_id) user_id, xid, seq
+                         FROM purged
+                         ORDER BY user_id, xid DESC, seq DESC
+                     ON CONFLICT (user_id) DO UPDATE
+                         SET xid = EXCLUDED.xid,
+                             seq = EXCLUDED.seq
+                         WHERE (sync_horizon.xid, sync_horizon.seq) < (EXCLUDED.xid, EXCLUDED.seq)
+                 )
+            SELECT count(*)
+            FROM purged
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    SyncChangePurgeScheduler(
+            JdbcTemplate jdbcTemplate,
+            @Value("${sync-changes.retention:30d}") Duration retention,
+            @Value("${sync-changes.purge-batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${sync-changes.purge-cron:0 30 * * * *}")
+    void purgeExpired() {
+        var purgedChanges = 0;
+
+        while (true) {
+            var deleted = jdbcTemplate.queryForObject(PURGE, Integer.class, retention.toSeconds(), batchSize);
+            purgedChanges += deleted;
+
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (purgedChanges > 0) {
+            log.info("Purged {} expired sync changes", purgedChanges);
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+class TransactionPartitionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionScheduler.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    TransactionPartitionScheduler(JdbcTemplate jdbcTemplate, @Value("${transaction-partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${transaction-partitions.cron:0 0 3 * * *}")
+    void createUpcomingPartitions() {
+        var currentMonth = LocalDate.now().withDayOfMonth(1);
+
+        for (var i = 0; i <= monthsAhead; i++) {
+            createPartition(currentMonth.plusMonths(i));
+        }
+    }
+
+    private void createPartition(LocalDate month) {
+        var created = jdbcTemplate.queryForObject("SELECT create_transaction_partition(?)", Boolean.class, month);
+
+        if (Boolean.TRUE.equals(created)) {
+            log.info("Transaction partition created for {}", month.withDayOfMonth(1));
+        }
+    }
+
+}
@@ -16,8 +16,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
-
 @Service
 public class AppuserService {
 
@@ -48,7 +46,7 @@ public class AppuserService {
     @Transactional
     public void create(CreateAppuserDto createAppuserDto) {
         var appuserToCreate = Appuser.from(
-                new AppuserId(UUID.randomUUID()),
+                AppuserId.generate(),
                 new Username(createAppuserDto.username()),
                 new Password(securityService.generateEncodedPassword(createAppuserDto.password()))
         );
@@ -1,5 +1,6 @@
 package dev.felix2000jp.envelope.appusers.domain.valueobjects;
 
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import org.jmolecules.ddd.types.Identifier;
@@ -17,5 +18,9 @@ public record AppuserId(
         Assert.notNull(value, "value cannot be null");
     }
 
+    public static AppuserId generate() {
+        return new AppuserId(Identifiers.next());
+    }
+
 }
 
@@ -0,0 +1,59 @@
+package dev.felix2000jp.envelope.appusers.infrastructure.aot;
+
+import dev.felix2000jp.envelope.appusers.domain.Appuser;
+import dev.felix2000jp.envelope.appusers.domain.events.AppuserDeletedEvent;
+import dev.felix2000jp.envelope.appusers.domain.valueobjects.AppuserId;
+import dev.felix2000jp.envelope.appusers.domain.valueobjects.Password;
+import dev.felix2000jp.envelope.appusers.domain.valueobjects.Scope;
+import dev.felix2000jp.envelope.appusers.domain.valueobjects.Username;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Identifier;
+import org.jmolecules.ddd.types.ValueObject;
+import org.jmolecules.event.types.DomainEvent;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+class AppuserRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> VALUE_OBJECTS = List.of(
+            AppuserId.class,
+            Username.class,
+            Password.class,
+            Scope.class
+    );
+
+    private static final List<Class<?>> JMOLECULES_TYPES = List.of(
+            AggregateRoot.class,
+            Identifier.class,
+            ValueObject.class,
+            DomainEvent.class
+    );
+
+    private final BindingReflectionHintsRegistrar bindingReflectionHintsRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(
+                Appuser.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.ACCESS_DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_METHODS
+        );
+
+        VALUE_OBJECTS.forEach(type -> hints.reflection().registerType(
+                type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.ACCESS_DECLARED_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS
+        ));
+
+        JMOLECULES_TYPES.forEach(type -> hints.reflection().registerType(type, MemberCategory.INTROSPECT_PUBLIC_METHODS));
+
+        bindingReflectionHintsRegistrar.registerReflectionHints(hints.reflection(), AppuserDeletedEvent.class);
+    }
+
+}
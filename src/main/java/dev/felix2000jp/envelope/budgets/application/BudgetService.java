@@ -0,0 +1,128 @@
+package dev.felix2000jp.envelope.budgets.application;
+
+import dev.felix2000jp.envelope.budgets.application.dtos.AllocateEnvelopeDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.BudgetDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.CreateEnvelopeDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeDto;
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import dev.felix2000jp.envelope.budgets.domain.EnvelopeRepository;
+import dev.felix2000jp.envelope.budgets.domain.exceptions.EnvelopeAlreadyExistsException;
+import dev.felix2000jp.envelope.budgets.domain.exceptions.EnvelopeNotFoundException;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class BudgetService {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetService.class);
+
+    private final SecurityService securityService;
+    private final EnvelopeRepository envelopeRepository;
+    private final EnvelopeMonthRepository envelopeMonthRepository;
+    private final EnvelopeMapper envelopeMapper;
+
+    BudgetService(
+            SecurityService securityService,
+            EnvelopeRepository envelopeRepository,
+            EnvelopeMonthRepository envelopeMonthRepository,
+            EnvelopeMapper envelopeMapper
+    ) {
+        this.securityService = securityService;
+        this.envelopeRepository = envelopeRepository;
+        this.envelopeMonthRepository = envelopeMonthRepository;
+        this.envelopeMapper = envelopeMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public BudgetDto getBudget(YearMonth month) {
+        var user = securityService.loadUserFromSecurityContext();
+
+        var envelopes = envelopeMonthRepository.findBudgetByUserIdAndMonth(user.id(), month);
+        return envelopeMapper.toBudgetDto(month, envelopes);
+    }
+
+    @Transactional
+    public EnvelopeDto createEnvelope(CreateEnvelopeDto createEnvelopeDto) {
+        var user = securityService.loadUserFromSecurityContext();
+        var name = new EnvelopeName(createEnvelopeDto.name().strip());
+
+        if (envelopeRepository.existsByUserIdAndName(new UserId(user.id()), name)) {
+            throw new EnvelopeAlreadyExistsException();
+        }
+
+        var envelope = Envelope.from(EnvelopeId.generate(), new UserId(user.id()), name);
+        envelopeRepository.save(envelope);
+        log.info("Envelope created with id {} for user {}", envelope.getId().value(), user.id());
+
+        return envelopeMapper.toEnvelopeDto(envelope);
+    }
+
+    @Transactional
+    public void deleteEnvelope(UUID id) {
+        var user = securityService.loadUserFromSecurityContext();
+        var envelope = envelopeRepository
+                .findByIdAndUserId(new EnvelopeId(id), new UserId(user.id()))
+                .orElseThrow(EnvelopeNotFoundException::new);
+
+        envelopeRepository.delete(envelope);
+        log.info("Envelope deleted with id {} for user {}", id, user.id());
+    }
+
+    @Transactional
+    public void allocate(UUID id, YearMonth month, AllocateEnvelopeDto allocateEnvelopeDto) {
+        var user = securityService.loadUserFromSecurityContext();
+        var envelope = envelopeRepository
+                .findByIdAndUserId(new EnvelopeId(id), new UserId(user.id()))
+                .orElseThrow(EnvelopeNotFoundException::new);
+
+        envelopeMonthRepository.allocate(user.id(), envelope.getName().value(), month, allocateEnvelopeDto.amount());
+        log.info("Allocated {} to envelope {} in {} for user {}", allocateEnvelopeDto.amount(), id, month, user.id());
+    }
+
+    @Transactional
+    public void recordActivity(UUID eventId, Map<UUID, List<EnvelopeActivity>> activities) {
+        if (!envelopeMonthRepository.markEventProcessed(eventId)) {
+            log.info("Skipped already processed transaction event {}", eventId);
+            return;
+        }
+
+        activities.forEach(this::recordUserActivity);
+    }
+
+    private void recordUserActivity(UUID userId, List<EnvelopeActivity> activities) {
+        var merged = new LinkedHashMap<EnvelopeActivity, BigDecimal>();
+        for (var activity : activities) {
+            if (activity.category() != null) {
+                merged.merge(new EnvelopeActivity(activity.category(), activity.month(), null), activity.amount(), BigDecimal::add);
+            }
+        }
+
+        merged.entrySet().stream()
+                .filter(entry -> entry.getValue().signum() != 0)
+                .map(entry -> new EnvelopeActivity(entry.getKey().category(), entry.getKey().month(), entry.getValue()))
+                .sorted(Comparator.comparing(EnvelopeActivity::category).thenComparing(EnvelopeActivity::month))
+                .forEach(activity -> envelopeMonthRepository.addActivity(userId, activity));
+    }
+
+    @Transactional
+    public void deleteByUserId(UUID userId) {
+        envelopeRepository.deleteAllByUserId(new UserId(userId));
+        envelopeMonthRepository.deleteAllByUserId(userId);
+        log.info("Envelopes with userId {} deleted", userId);
+    }
+
+}
@@ -0,0 +1,7 @@
+package dev.felix2000jp.envelope.budgets.application;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record EnvelopeActivity(String category, YearMonth month, BigDecimal amount) {
+}
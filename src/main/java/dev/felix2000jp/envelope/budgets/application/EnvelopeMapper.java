@@ -0,0 +1,30 @@
+package dev.felix2000jp.envelope.budgets.application;
+
+import dev.felix2000jp.envelope.budgets.application.dtos.BudgetDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeBudgetDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeDto;
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+@Component
+class EnvelopeMapper {
+
+    EnvelopeDto toEnvelopeDto(Envelope envelope) {
+        return new EnvelopeDto(envelope.getId().value(), envelope.getName().value());
+    }
+
+    BudgetDto toBudgetDto(YearMonth month, List<EnvelopeBudgetDto> envelopes) {
+        return new BudgetDto(
+                month,
+                envelopes.stream().map(EnvelopeBudgetDto::allocated).reduce(BigDecimal.ZERO, BigDecimal::add),
+                envelopes.stream().map(EnvelopeBudgetDto::activity).reduce(BigDecimal.ZERO, BigDecimal::add),
+                envelopes.stream().map(EnvelopeBudgetDto::available).reduce(BigDecimal.ZERO, BigDecimal::add),
+                envelopes
+        );
+    }
+
+}
@@ -0,0 +1,22 @@
+package dev.felix2000jp.envelope.budgets.application;
+
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeBudgetDto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+public interface EnvelopeMonthRepository {
+
+    List<EnvelopeBudgetDto> findBudgetByUserIdAndMonth(UUID userId, YearMonth month);
+
+    boolean markEventProcessed(UUID eventId);
+
+    void addActivity(UUID userId, EnvelopeActivity activity);
+
+    void allocate(UUID userId, String category, YearMonth month, BigDecimal amount);
+
+    void deleteAllByUserId(UUID userId);
+
+}
@@ -0,0 +1,13 @@
+package dev.felix2000jp.envelope.budgets.application.dtos;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+public record AllocateEnvelopeDto(
+        @NotNull
+        @Digits(integer = 10, fraction = 2)
+        BigDecimal amount
+) {
+}
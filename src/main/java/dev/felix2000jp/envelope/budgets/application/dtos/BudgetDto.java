@@ -0,0 +1,14 @@
+package dev.felix2000jp.envelope.budgets.application.dtos;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+public record BudgetDto(
+        YearMonth month,
+        BigDecimal allocated,
+        BigDecimal activity,
+        BigDecimal available,
+        List<EnvelopeBudgetDto> envelopes
+) {
+}
@@ -0,0 +1,11 @@
+package dev.felix2000jp.envelope.budgets.application.dtos;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CreateEnvelopeDto(
+        @NotBlank
+        @Size(max = 64)
+        String name
+) {
+}
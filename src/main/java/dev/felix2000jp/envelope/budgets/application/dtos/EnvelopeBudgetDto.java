@@ -0,0 +1,13 @@
+package dev.felix2000jp.envelope.budgets.application.dtos;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record EnvelopeBudgetDto(
+        UUID id,
+        String name,
+        BigDecimal allocated,
+        BigDecimal activity,
+        BigDecimal available
+) {
+}
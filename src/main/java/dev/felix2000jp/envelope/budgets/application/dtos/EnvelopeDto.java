@@ -0,0 +1,6 @@
+package dev.felix2000jp.envelope.budgets.application.dtos;
+
+import java.util.UUID;
+
+public record EnvelopeDto(UUID id, String name) {
+}
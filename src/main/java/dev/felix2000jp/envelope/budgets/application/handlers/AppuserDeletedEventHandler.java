@@ -0,0 +1,22 @@
+package dev.felix2000jp.envelope.budgets.application.handlers;
+
+import dev.felix2000jp.envelope.appusers.domain.events.AppuserDeletedEvent;
+import dev.felix2000jp.envelope.budgets.application.BudgetService;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+@Component
+class AppuserDeletedEventHandler {
+
+    private final BudgetService budgetService;
+
+    AppuserDeletedEventHandler(BudgetService budgetService) {
+        this.budgetService = budgetService;
+    }
+
+    @ApplicationModuleListener
+    void on(AppuserDeletedEvent event) {
+        budgetService.deleteByUserId(event.appuserId());
+    }
+
+}
@@ -0,0 +1,57 @@
+package dev.felix2000jp.envelope.budgets.application.handlers;
+
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionsChangedEvent;
+import dev.felix2000jp.envelope.budgets.application.BudgetService;
+import dev.felix2000jp.envelope.budgets.application.EnvelopeActivity;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+class TransactionEventHandler {
+
+    private final BudgetService budgetService;
+
+    TransactionEventHandler(BudgetService budgetService) {
+        this.budgetService = budgetService;
+    }
+
+    @ApplicationModuleListener
+    void on(TransactionsChangedEvent event) {
+        var activities = new LinkedHashMap<UUID, List<EnvelopeActivity>>();
+
+        for (var added : event.added()) {
+            activitiesOf(activities, added.userId()).add(
+                    new EnvelopeActivity(added.category(), YearMonth.from(added.dateOfTransaction()), added.amount())
+            );
+        }
+
+        for (var updated : event.updated()) {
+            var userActivities = activitiesOf(activities, updated.userId());
+            userActivities.add(new EnvelopeActivity(
+                    updated.previousCategory(),
+                    YearMonth.from(updated.previousDateOfTransaction()),
+                    updated.previousAmount().negate()
+            ));
+            userActivities.add(new EnvelopeActivity(updated.category(), YearMonth.from(updated.dateOfTransaction()), updated.amount()));
+        }
+
+        for (var removed : event.removed()) {
+            activitiesOf(activities, removed.userId()).add(
+                    new EnvelopeActivity(removed.category(), YearMonth.from(removed.dateOfTransaction()), removed.amount().negate())
+            );
+        }
+
+        budgetService.recordActivity(event.id(), activities);
+    }
+
+    private List<EnvelopeActivity> activitiesOf(LinkedHashMap<UUID, List<EnvelopeActivity>> activities, UUID userId) {
+        return activities.computeIfAbsent(userId, _ -> new ArrayList<>());
+    }
+
+}
@@ -1,4 +1,4 @@
 @ApplicationRing
-package dev.felix2000jp.envelope.sample.application;
+package dev.felix2000jp.envelope.budgets.application;
 
 import org.jmolecules.architecture.onion.simplified.ApplicationRing;
\ No newline at end of file
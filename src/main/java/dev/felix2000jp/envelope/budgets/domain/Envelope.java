@@ -0,0 +1,59 @@
+package dev.felix2000jp.envelope.budgets.domain;
+
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.EmbeddedId;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.springframework.util.Assert;
+
+@jakarta.persistence.Table(name = "envelope")
+@jakarta.persistence.Entity
+public class Envelope implements AggregateRoot<Envelope, EnvelopeId> {
+
+    @EmbeddedId
+    @AttributeOverride(name = "value", column = @Column(name = "id"))
+    private EnvelopeId id;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "user_id", nullable = false))
+    private UserId userId;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "name", nullable = false))
+    private EnvelopeName name;
+
+    protected Envelope() {
+    }
+
+    protected Envelope(EnvelopeId id, UserId userId, EnvelopeName name) {
+        this.id = id;
+        this.userId = userId;
+        this.name = name;
+    }
+
+    public static Envelope from(EnvelopeId id, UserId userId, EnvelopeName name) {
+        Assert.notNull(id, "id must not be null");
+        Assert.notNull(userId, "userId must not be null");
+        Assert.notNull(name, "name must not be null");
+
+        return new Envelope(id, userId, name);
+    }
+
+    @Override
+    public EnvelopeId getId() {
+        return id;
+    }
+
+    public UserId getUserId() {
+        return userId;
+    }
+
+    public EnvelopeName getName() {
+        return name;
+    }
+
+}
@@ -0,0 +1,22 @@
+package dev.felix2000jp.envelope.budgets.domain;
+
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import org.jmolecules.ddd.types.Repository;
+
+import java.util.Optional;
+
+public interface EnvelopeRepository extends Repository<Envelope, EnvelopeId> {
+
+    Optional<Envelope> findByIdAndUserId(EnvelopeId id, UserId userId);
+
+    boolean existsByUserIdAndName(UserId userId, EnvelopeName name);
+
+    void deleteAllByUserId(UserId userId);
+
+    void delete(Envelope envelope);
+
+    void save(Envelope envelope);
+
+}
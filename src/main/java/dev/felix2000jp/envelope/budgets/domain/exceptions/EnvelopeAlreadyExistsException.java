@@ -0,0 +1,9 @@
+package dev.felix2000jp.envelope.budgets.domain.exceptions;
+
+public class EnvelopeAlreadyExistsException extends RuntimeException {
+
+    public EnvelopeAlreadyExistsException() {
+        super("Envelope already exists");
+    }
+
+}
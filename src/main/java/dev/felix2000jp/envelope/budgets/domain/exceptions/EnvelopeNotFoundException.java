@@ -0,0 +1,9 @@
+package dev.felix2000jp.envelope.budgets.domain.exceptions;
+
+public class EnvelopeNotFoundException extends RuntimeException {
+
+    public EnvelopeNotFoundException() {
+        super("Envelope could not be found");
+    }
+
+}
@@ -0,0 +1,4 @@
+@DomainRing
+package dev.felix2000jp.envelope.budgets.domain;
+
+import org.jmolecules.architecture.onion.simplified.DomainRing;
\ No newline at end of file
@@ -0,0 +1,21 @@
+package dev.felix2000jp.envelope.budgets.domain.valueobjects;
+
+import dev.felix2000jp.envelope.system.identifiers.Identifiers;
+import jakarta.persistence.Embeddable;
+import org.jmolecules.ddd.types.Identifier;
+import org.springframework.util.Assert;
+
+import java.util.UUID;
+
+@Embeddable
+public record EnvelopeId(UUID value) implements Identifier {
+
+    public EnvelopeId {
+        Assert.notNull(value, "value cannot be null");
+    }
+
+    public static EnvelopeId generate() {
+        return new EnvelopeId(Identifiers.next());
+    }
+
+}
@@ -0,0 +1,15 @@
+package dev.felix2000jp.envelope.budgets.domain.valueobjects;
+
+import jakarta.persistence.Embeddable;
+import org.jmolecules.ddd.types.ValueObject;
+import org.springframework.util.Assert;
+
+@Embeddable
+public record EnvelopeName(String value) implements ValueObject {
+
+    public EnvelopeName {
+        Assert.hasText(value, "value cannot be null or empty or blank");
+        Assert.isTrue(value.length() <= 64, "value cannot be longer than 64 characters");
+    }
+
+}
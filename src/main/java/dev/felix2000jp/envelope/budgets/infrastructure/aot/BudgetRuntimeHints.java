@@ -0,0 +1,49 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.aot;
+
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.jmolecules.ddd.types.Identifier;
+import org.jmolecules.ddd.types.ValueObject;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+class BudgetRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> VALUE_OBJECTS = List.of(
+            EnvelopeId.class,
+            EnvelopeName.class,
+            UserId.class
+    );
+
+    private static final List<Class<?>> JMOLECULES_TYPES = List.of(
+            AggregateRoot.class,
+            Identifier.class,
+            ValueObject.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(
+                Envelope.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.ACCESS_DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_METHODS
+        );
+
+        VALUE_OBJECTS.forEach(type -> hints.reflection().registerType(
+                type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.ACCESS_DECLARED_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS
+        ));
+
+        JMOLECULES_TYPES.forEach(type -> hints.reflection().registerType(type, MemberCategory.INTROSPECT_PUBLIC_METHODS));
+    }
+
+}
@@ -0,0 +1,56 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.api;
+
+import dev.felix2000jp.envelope.budgets.application.BudgetService;
+import dev.felix2000jp.envelope.budgets.application.dtos.AllocateEnvelopeDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.BudgetDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.CreateEnvelopeDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeDto;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.YearMonth;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/budgets")
+class BudgetController {
+
+    private final BudgetService budgetService;
+
+    BudgetController(BudgetService budgetService) {
+        this.budgetService = budgetService;
+    }
+
+    @GetMapping("/{month}")
+    ResponseEntity<BudgetDto> getBudget(@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        var body = budgetService.getBudget(month);
+        return ResponseEntity.ok(body);
+    }
+
+    @PostMapping("/envelopes")
+    ResponseEntity<EnvelopeDto> createEnvelope(@Valid @RequestBody CreateEnvelopeDto createEnvelopeDto) {
+        var body = budgetService.createEnvelope(createEnvelopeDto);
+        var location = URI.create("/api/budgets/envelopes/" + body.id());
+        return ResponseEntity.created(location).body(body);
+    }
+
+    @DeleteMapping("/envelopes/{id}")
+    ResponseEntity<Void> deleteEnvelope(@PathVariable UUID id) {
+        budgetService.deleteEnvelope(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{month}/envelopes/{id}")
+    ResponseEntity<Void> allocate(
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @PathVariable UUID id,
+            @Valid @RequestBody AllocateEnvelopeDto allocateEnvelopeDto
+    ) {
+        budgetService.allocate(id, month, allocateEnvelopeDto);
+        return ResponseEntity.noContent().build();
+    }
+
+}
@@ -0,0 +1,35 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.api;
+
+import dev.felix2000jp.envelope.budgets.domain.exceptions.EnvelopeAlreadyExistsException;
+import dev.felix2000jp.envelope.budgets.domain.exceptions.EnvelopeNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+@RestControllerAdvice
+class BudgetExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(BudgetExceptionHandler.class);
+
+    @ExceptionHandler(EnvelopeNotFoundException.class)
+    ResponseEntity<ProblemDetail> handleEnvelopeNotFoundException(EnvelopeNotFoundException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+    @ExceptionHandler(EnvelopeAlreadyExistsException.class)
+    ResponseEntity<ProblemDetail> handleEnvelopeAlreadyExistsException(EnvelopeAlreadyExistsException ex) {
+        var problemDetails = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+
+        log.warn(ex.getMessage(), ex);
+        return ResponseEntity.of(problemDetails).build();
+    }
+
+}
@@ -0,0 +1,151 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.database;
+
+import dev.felix2000jp.envelope.budgets.application.EnvelopeActivity;
+import dev.felix2000jp.envelope.budgets.application.EnvelopeMonthRepository;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeBudgetDto;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+class DefaultEnvelopeMonthRepository implements EnvelopeMonthRepository {
+
+    private static final String FIND_BUDGET = """
+            SELECT e.id, e.name, m.month, m.allocated, m.activity, m.available
+            FROM envelope e
+                     LEFT JOIN LATERAL (
+                SELECT month, allocated, activity, available
+                FROM envelope_month
+                WHERE user_id = e.user_id
+                  AND category = e.name
+                  AND month <= :month
+                ORDER BY month DESC
+                LIMIT 1
+                ) m ON TRUE
+            WHERE e.user_id = :userId
+            ORDER BY e.name
+            """;
+
+    private static final String MARK_EVENT_PROCESSED = """
+            INSERT INTO processed_budget_event (event_id)
+            VALUES (:eventId)
+            ON CONFLICT (event_id) DO NOTHING
+            """;
+
+    private static final String LOCK = """
+            SELECT pg_advisory_xact_lock(hashtextextended(CAST(:userId AS text) || '/' || :category, 0))
+            """;
+
+    private static final String INSERT_MONTH = """
+            INSERT INTO envelope_month (user_id, category, month, available)
+            VALUES (:userId, :category, :month, COALESCE((SELECT available
+                                                          FROM envelope_month
+                                                          WHERE user_id = :userId
+                                                            AND category = :category
+                                                            AND month < :month
+                                                          ORDER BY month DESC
+                                                          LIMIT 1), 0))
+            ON CONFLICT (user_id, category, month) DO NOTHING
+            """;
+
+    private static final String FIND_ALLOCATED = """
+            SELECT allocated
+            FROM envelope_month
+            WHERE user_id = :userId
+              AND category = :category
+              AND month = :month
+            """;
+
+    private static final String APPLY = """
+            UPDATE envelope_month
+            SET allocated = allocated + CASE WHEN month = :month THEN :allocated ELSE 0 END,
+                activity  = activity + CASE WHEN month = :month THEN :activity ELSE 0 END,
+                available = available + :allocated + :activity
+            WHERE user_id = :userId
+              AND category = :category
+              AND month >= :month
+            """;
+
+    private static final String DELETE_ALL = """
+            DELETE FROM envelope_month
+            WHERE user_id = :userId
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    DefaultEnvelopeMonthRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    @Override
+    public List<EnvelopeBudgetDto> findBudgetByUserIdAndMonth(UUID userId, YearMonth month) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("month", month.atDay(1));
+
+        return namedParameterJdbcTemplate.query(FIND_BUDGET, params, (rs, _) -> {
+            var latestMonth = rs.getObject("month", LocalDate.class);
+            var current = month.atDay(1).equals(latestMonth);
+
+            return new EnvelopeBudgetDto(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("name"),
+                    current ? rs.getBigDecimal("allocated") : BigDecimal.ZERO,
+                    current ? rs.getBigDecimal("activity") : BigDecimal.ZERO,
+                    latestMonth != null ? rs.getBigDecimal("available") : BigDecimal.ZERO
+            );
+        });
+    }
+
+    @Override
+    public boolean markEventProcessed(UUID eventId) {
+        return namedParameterJdbcTemplate.update(MARK_EVENT_PROCESSED, new MapSqlParameterSource("eventId", eventId)) > 0;
+    }
+
+    @Override
+    public void addActivity(UUID userId, EnvelopeActivity activity) {
+        var params = lockMonth(userId, activity.category(), activity.month());
+        apply(params, BigDecimal.ZERO, activity.amount());
+    }
+
+    @Override
+    public void allocate(UUID userId, String category, YearMonth month, BigDecimal amount) {
+        var params = lockMonth(userId, category, month);
+        var allocated = namedParameterJdbcTemplate.queryForObject(FIND_ALLOCATED, params, BigDecimal.class);
+        apply(params, amount.subtract(allocated), BigDecimal.ZERO);
+    }
+
+    @Override
+    public void deleteAllByUserId(UUID userId) {
+        namedParameterJdbcTemplate.update(DELETE_ALL, new MapSqlParameterSource("userId", userId));
+    }
+
+    private MapSqlParameterSource lockMonth(UUID userId, String category, YearMonth month) {
+        var params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("category", category)
+                .addValue("month", month.atDay(1));
+
+        namedParameterJdbcTemplate.query(LOCK, params, _ -> {
+        });
+        namedParameterJdbcTemplate.update(INSERT_MONTH, params);
+        return params;
+    }
+
+    private void apply(MapSqlParameterSource params, BigDecimal allocated, BigDecimal activity) {
+        if (allocated.signum() == 0 && activity.signum() == 0) {
+            return;
+        }
+
+        namedParameterJdbcTemplate.update(APPLY, new MapSqlParameterSource(params.getValues())
+                .addValue("allocated", allocated)
+                .addValue("activity", activity));
+    }
+
+}
@@ -0,0 +1,46 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.database;
+
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import dev.felix2000jp.envelope.budgets.domain.EnvelopeRepository;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+class DefaultEnvelopeRepository implements EnvelopeRepository {
+
+    private final EnvelopeJpaRepository envelopeJpaRepository;
+
+    DefaultEnvelopeRepository(EnvelopeJpaRepository envelopeJpaRepository) {
+        this.envelopeJpaRepository = envelopeJpaRepository;
+    }
+
+    @Override
+    public Optional<Envelope> findByIdAndUserId(EnvelopeId id, UserId userId) {
+        return envelopeJpaRepository.findByIdAndUserId(id, userId);
+    }
+
+    @Override
+    public boolean existsByUserIdAndName(UserId userId, EnvelopeName name) {
+        return envelopeJpaRepository.existsByUserIdAndName(userId, name);
+    }
+
+    @Override
+    public void deleteAllByUserId(UserId userId) {
+        envelopeJpaRepository.deleteAllByUserId(userId);
+    }
+
+    @Override
+    public void delete(Envelope envelope) {
+        envelopeJpaRepository.delete(envelope);
+    }
+
+    @Override
+    public void save(Envelope envelope) {
+        envelopeJpaRepository.save(envelope);
+    }
+
+}
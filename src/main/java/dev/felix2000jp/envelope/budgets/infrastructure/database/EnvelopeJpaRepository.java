@@ -0,0 +1,20 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.database;
+
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+interface EnvelopeJpaRepository extends JpaRepository<Envelope, EnvelopeId> {
+
+    Optional<Envelope> findByIdAndUserId(EnvelopeId id, UserId userId);
+
+    boolean existsByUserIdAndName(UserId userId, EnvelopeName name);
+
+    void deleteAllByUserId(UserId userId);
+}
@@ -0,0 +1,60 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+class ProcessedBudgetEventPurgeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessedBudgetEventPurgeScheduler.class);
+
+    private static final String PURGE = """
+            DELETE FROM processed_budget_event
+            WHERE event_id IN (
+                SELECT event_id
+                FROM processed_budget_event
+                WHERE processed_at < now() - make_interval(secs => ?)
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    ProcessedBudgetEventPurgeScheduler(
+            JdbcTemplate jdbcTemplate,
+            @Value("${processed-budget-events.retention:30d}") Duration retention,
+            @Value("${processed-budget-events.purge-batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${processed-budget-events.purge-cron:0 45 * * * *}")
+    void purgeExpired() {
+        var purgedEvents = 0;
+
+        while (true) {
+            var deleted = jdbcTemplate.update(PURGE, retention.toSeconds(), batchSize);
+            purgedEvents += deleted;
+
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (purgedEvents > 0) {
+            log.info("Purged {} processed budget events", purgedEvents);
+        }
+    }
+
+}
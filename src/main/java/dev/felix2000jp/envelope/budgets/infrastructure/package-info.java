@@ -1,4 +1,4 @@
 @InfrastructureRing
-package dev.felix2000jp.envelope.sample.infrastructure;
+package dev.felix2000jp.envelope.budgets.infrastructure;
 
 import org.jmolecules.architecture.onion.simplified.InfrastructureRing;
\ No newline at end of file
@@ -1,4 +0,0 @@
-@DomainRing
-package dev.felix2000jp.envelope.sample.domain;
-
-import org.jmolecules.architecture.onion.simplified.DomainRing;
\ No newline at end of file
@@ -0,0 +1,9 @@
+package dev.felix2000jp.envelope.system.configurations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+@EnableAsync
+class AsyncConfiguration {
+}
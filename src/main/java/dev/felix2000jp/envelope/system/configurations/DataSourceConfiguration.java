@@ -0,0 +1,75 @@
+package dev.felix2000jp.envelope.system.configurations;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.flyway.autoconfigure.FlywayDataSource;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+@Configuration
+class DataSourceConfiguration {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource writeDataSource(DataSourceProperties properties, ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        return createDataSource(properties, connectionDetails.getIfAvailable(), null);
+    }
+
+    @Bean
+    @ConfigurationProperties("read-only-datasource.hikari")
+    HikariDataSource readOnlyDataSource(
+            DataSourceProperties properties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails,
+            @Value("${read-only-datasource.url:}") String url
+    ) {
+        var dataSource = createDataSource(properties, connectionDetails.getIfAvailable(), url);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(
+            @Qualifier("writeDataSource") DataSource writeDataSource,
+            @Qualifier("readOnlyDataSource") DataSource readOnlyDataSource
+    ) {
+        var dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyDataSource);
+        return dataSource;
+    }
+
+    private HikariDataSource createDataSource(DataSourceProperties properties, JdbcConnectionDetails connectionDetails, String url) {
+        var builder = DataSourceBuilder.create(properties.getClassLoader()).type(HikariDataSource.class);
+
+        if (connectionDetails != null) {
+            builder.url(connectionDetails.getJdbcUrl())
+                    .username(connectionDetails.getUsername())
+                    .password(connectionDetails.getPassword())
+                    .driverClassName(connectionDetails.getDriverClassName());
+        } else {
+            builder.url(properties.determineUrl())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .driverClassName(properties.determineDriverClassName());
+        }
+
+        if (StringUtils.hasText(url)) {
+            builder.url(url);
+        }
+
+        return builder.build();
+    }
+
+}
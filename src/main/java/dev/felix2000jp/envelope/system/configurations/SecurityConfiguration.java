@@ -4,10 +4,14 @@ import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import dev.felix2000jp.envelope.system.security.SecurityScope;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationManagerResolver;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -15,25 +19,43 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
 
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
 class SecurityConfiguration {
 
+    private static final String SYNC_EVENTS_PATH = "/api/sync/events";
+    private static final String ACCESS_TOKEN_PARAMETER = "access_token";
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+
     @Value("${jwt.rsa.public-key}")
     private RSAPublicKey publicKey;
 
     @Value("${jwt.rsa.private-key}")
     private RSAPrivateKey privateKey;
 
+    @Value("${sync-events.reconnect-grace:4h}")
+    private Duration syncEventsReconnectGrace;
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
@@ -42,13 +64,48 @@ class SecurityConfiguration {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(HttpMethod.POST, "/api/appusers").permitAll()
+                        .requestMatchers(HttpMethod.GET, SYNC_EVENTS_PATH).hasAnyAuthority(
+                                SecurityScope.APPLICATION.getAuthority(),
+                                SecurityScope.SYNC_EVENTS.getAuthority()
+                        )
                         .anyRequest().hasAuthority(SecurityScope.APPLICATION.getAuthority())
                 )
                 .httpBasic(Customizer.withDefaults())
-                .oauth2ResourceServer(c -> c.jwt(Customizer.withDefaults()))
+                .oauth2ResourceServer(c -> c
+                        .bearerTokenResolver(bearerTokenResolver())
+                        .authenticationManagerResolver(authenticationManagerResolver())
+                )
                 .build();
     }
 
+    @Bean
+    BearerTokenResolver bearerTokenResolver() {
+        var headerTokenResolver = new DefaultBearerTokenResolver();
+        var queryTokenResolver = new DefaultBearerTokenResolver();
+        queryTokenResolver.setAllowUriQueryParameter(true);
+
+        var syncEventsMatcher = PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, SYNC_EVENTS_PATH);
+        return request -> syncEventsMatcher.matches(request)
+                ? queryTokenResolver.resolve(request)
+                : headerTokenResolver.resolve(request);
+    }
+
+    AuthenticationManagerResolver<HttpServletRequest> authenticationManagerResolver() {
+        var jwtAuthenticationManager = authenticationManager(jwtDecoder());
+        var syncEventsAuthenticationManager = authenticationManager(syncEventsJwtDecoder(CLOCK_SKEW));
+        var syncEventsReconnectAuthenticationManager = authenticationManager(syncEventsJwtDecoder(syncEventsReconnectGrace));
+
+        var syncEventsMatcher = PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, SYNC_EVENTS_PATH);
+        return request -> {
+            if (!syncEventsMatcher.matches(request) || request.getParameter(ACCESS_TOKEN_PARAMETER) == null) {
+                return jwtAuthenticationManager;
+            }
+            return request.getHeader(LAST_EVENT_ID_HEADER) == null
+                    ? syncEventsAuthenticationManager
+                    : syncEventsReconnectAuthenticationManager;
+        };
+    }
+
     @Bean
     PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -66,4 +123,20 @@ class SecurityConfiguration {
         return new NimbusJwtEncoder(jwkImmutableSet);
     }
 
+    private JwtDecoder syncEventsJwtDecoder(Duration clockSkew) {
+        var decoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<Jwt>(
+                new JwtTimestampValidator(clockSkew),
+                new JwtClaimValidator<String>(
+                        "scope",
+                        scope -> scope != null && Arrays.asList(scope.split(" ")).contains(SecurityScope.SYNC_EVENTS.name())
+                )
+        ));
+        return decoder;
+    }
+
+    private static AuthenticationManager authenticationManager(JwtDecoder jwtDecoder) {
+        return new ProviderManager(new JwtAuthenticationProvider(jwtDecoder));
+    }
+
 }
@@ -0,0 +1,27 @@
+package dev.felix2000jp.envelope.system.identifiers;
+
+import org.springframework.modulith.NamedInterface;
+import org.springframework.util.Assert;
+import org.springframework.util.IdGenerator;
+
+import java.util.UUID;
+
+@NamedInterface
+public final class Identifiers {
+
+    private static volatile IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+    private Identifiers() {
+    }
+
+    public static UUID next() {
+        return idGenerator.generateId();
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        Assert.notNull(idGenerator, "idGenerator must not be null");
+
+        Identifiers.idGenerator = idGenerator;
+    }
+
+}
@@ -0,0 +1,42 @@
+package dev.felix2000jp.envelope.system.identifiers;
+
+import org.springframework.util.IdGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier currentTimeMillis;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public UUID generateId() {
+        var now = currentTimeMillis.getAsLong() << COUNTER_BITS;
+        var timestampAndCounter = lastTimestampAndCounter.accumulateAndGet(now, (last, current) -> Math.max(last + 1, current));
+
+        var timestamp = timestampAndCounter >>> COUNTER_BITS;
+        var counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+
+        var mostSignificantBits = (timestamp << 16) | VERSION | counter;
+        var leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+}
@@ -7,7 +7,8 @@ import org.springframework.security.core.GrantedAuthority;
 public enum SecurityScope implements GrantedAuthority {
 
     ADMIN,
-    APPLICATION;
+    APPLICATION,
+    SYNC_EVENTS;
 
     @Override
     public String getAuthority() {
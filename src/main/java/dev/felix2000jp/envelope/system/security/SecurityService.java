@@ -10,6 +10,7 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
@@ -33,8 +34,12 @@ public class SecurityService {
     }
 
     public String generateToken(UUID id, String username, Collection<SecurityScope> securityScopes) {
+        return generateToken(id, username, securityScopes, Duration.of(4, ChronoUnit.HOURS));
+    }
+
+    public String generateToken(UUID id, String username, Collection<SecurityScope> securityScopes, Duration ttl) {
         var now = Instant.now();
-        var expiration = now.plus(4, ChronoUnit.HOURS);
+        var expiration = now.plus(ttl);
 
         var claims = JwtClaimsSet.builder()
                 .issuer("self")
@@ -0,0 +1,5 @@
+ALTER TABLE transaction
+    ADD COLUMN import_fingerprint uuid;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_transaction_account_import_fingerprint
+    ON transaction (account_id, import_fingerprint, date_of_transaction);
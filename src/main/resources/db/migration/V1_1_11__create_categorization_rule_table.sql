@@ -0,0 +1,17 @@
+ALTER TABLE transaction
+    ADD COLUMN category varchar(64);
+
+DROP INDEX IF EXISTS idx_transaction_account_date_id_covering;
+
+CREATE INDEX idx_transaction_account_date_id_covering
+    ON transaction (account_id, date_of_transaction, id) INCLUDE (amount, memo, cleared, category);
+
+CREATE TABLE categorization_rule
+(
+    id       uuid PRIMARY KEY,
+    user_id  uuid         NOT NULL,
+    pattern  varchar(100) NOT NULL CHECK (char_length(pattern) > 0),
+    category varchar(64)  NOT NULL
+);
+
+CREATE INDEX idx_categorization_rule_user_id ON categorization_rule (user_id, id);
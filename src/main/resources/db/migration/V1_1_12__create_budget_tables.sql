@@ -0,0 +1,18 @@
+CREATE TABLE envelope
+(
+    id      uuid PRIMARY KEY,
+    user_id uuid        NOT NULL,
+    name    varchar(64) NOT NULL,
+    CONSTRAINT ux_envelope_user_id_name UNIQUE (user_id, name)
+);
+
+CREATE TABLE envelope_month
+(
+    user_id   uuid           NOT NULL,
+    category  varchar(64)    NOT NULL,
+    month     date           NOT NULL,
+    allocated numeric(19, 2) NOT NULL DEFAULT 0,
+    activity  numeric(19, 2) NOT NULL DEFAULT 0,
+    available numeric(19, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, category, month)
+);
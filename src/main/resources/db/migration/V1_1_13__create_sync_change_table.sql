@@ -0,0 +1,88 @@
+CREATE TABLE sync_change
+(
+    user_id     uuid        NOT NULL,
+    xid         xid8        NOT NULL DEFAULT pg_current_xact_id(),
+    seq         bigint      NOT NULL GENERATED ALWAYS AS IDENTITY,
+    entity_type varchar(16) NOT NULL,
+    entity_id   uuid        NOT NULL,
+    changed_at  timestamptz NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_id, xid, seq)
+);
+
+CREATE INDEX idx_sync_change_changed_at ON sync_change (changed_at);
+
+CREATE TABLE sync_horizon
+(
+    user_id uuid PRIMARY KEY,
+    xid     xid8   NOT NULL,
+    seq     bigint NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION record_account_sync_change() RETURNS trigger
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF TG_OP = 'UPDATE'
+        AND OLD.name = NEW.name
+        AND OLD.balance = NEW.balance
+        AND OLD.closed = NEW.closed THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO sync_change (user_id, entity_type, entity_id) VALUES (OLD.user_id, 'ACCOUNT', OLD.id);
+    ELSE
+        INSERT INTO sync_change (user_id, entity_type, entity_id) VALUES (NEW.user_id, 'ACCOUNT', NEW.id);
+    END IF;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER account_sync_change
+    AFTER INSERT OR UPDATE OR DELETE
+    ON account
+    FOR EACH ROW
+EXECUTE FUNCTION record_account_sync_change();
+
+CREATE OR REPLACE FUNCTION record_transaction_sync_change() RETURNS trigger
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    changed_id         uuid;
+    changed_account_id uuid;
+    owner_id           uuid;
+BEGIN
+    IF current_setting('envelope.moving_transaction_partitions', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE' AND OLD IS NOT DISTINCT FROM NEW THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        changed_id := OLD.id;
+        changed_account_id := OLD.account_id;
+    ELSE
+        changed_id := NEW.id;
+        changed_account_id := NEW.account_id;
+    END IF;
+
+    SELECT user_id INTO owner_id FROM account WHERE id = changed_account_id;
+
+    IF owner_id IS NOT NULL THEN
+        INSERT INTO sync_change (user_id, entity_type, entity_id) VALUES (owner_id, 'TRANSACTION', changed_id);
+    END IF;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER transaction_sync_change
+    AFTER INSERT OR UPDATE OR DELETE
+    ON transaction
+    FOR EACH ROW
+EXECUTE FUNCTION record_transaction_sync_change();
@@ -0,0 +1,18 @@
+CREATE OR REPLACE FUNCTION notify_sync_change() RETURNS trigger
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    PERFORM pg_notify('sync_change', user_id::text)
+    FROM (SELECT DISTINCT user_id FROM inserted_changes) changed_users;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER sync_change_notify
+    AFTER INSERT
+    ON sync_change
+    REFERENCING NEW TABLE AS inserted_changes
+    FOR EACH STATEMENT
+EXECUTE FUNCTION notify_sync_change();
@@ -0,0 +1,7 @@
+CREATE TABLE processed_budget_event
+(
+    event_id     uuid PRIMARY KEY,
+    processed_at timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_processed_budget_event_processed_at ON processed_budget_event (processed_at);
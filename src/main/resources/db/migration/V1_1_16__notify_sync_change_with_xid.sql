@@ -0,0 +1,11 @@
+CREATE OR REPLACE FUNCTION notify_sync_change() RETURNS trigger
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    PERFORM pg_notify('sync_change', user_id::text || ':' || pg_current_xact_id()::text)
+    FROM (SELECT DISTINCT user_id FROM inserted_changes) changed_users;
+
+    RETURN NULL;
+END;
+$$;
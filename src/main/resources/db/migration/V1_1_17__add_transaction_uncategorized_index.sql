@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_transaction_account_uncategorized
+    ON transaction (account_id, id) WHERE category IS NULL;
@@ -0,0 +1,9 @@
+ALTER TABLE transaction
+    ADD CONSTRAINT transaction_memo_length CHECK (char_length(memo) <= 255) NOT VALID;
+
+CREATE INDEX IF NOT EXISTS idx_transaction_account_date_id_covering
+    ON transaction (account_id, date_of_transaction, id) INCLUDE (amount, memo, cleared);
+
+DROP INDEX IF EXISTS idx_transaction_account_id;
+DROP INDEX IF EXISTS idx_transaction_account_date_id_asc;
+DROP INDEX IF EXISTS idx_transaction_account_date_id_desc;
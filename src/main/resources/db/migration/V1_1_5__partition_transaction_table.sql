@@ -0,0 +1,63 @@
+DROP INDEX IF EXISTS idx_transaction_account_date_id_covering;
+ALTER TABLE transaction RENAME TO transaction_unpartitioned;
+ALTER TABLE transaction_unpartitioned RENAME CONSTRAINT transaction_pkey TO transaction_unpartitioned_pkey;
+
+CREATE TABLE transaction
+(
+    id                  uuid           NOT NULL,
+    account_id          uuid           NOT NULL REFERENCES account (id) ON DELETE CASCADE,
+    amount              numeric(12, 2) NOT NULL,
+    date_of_transaction date           NOT NULL,
+    memo                text           NOT NULL CONSTRAINT transaction_memo_length CHECK (char_length(memo) <= 255),
+    cleared             boolean        NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (id, date_of_transaction)
+) PARTITION BY RANGE (date_of_transaction);
+
+CREATE TABLE transaction_default PARTITION OF transaction DEFAULT;
+
+CREATE INDEX idx_transaction_account_date_id_covering
+    ON transaction (account_id, date_of_transaction, id) INCLUDE (amount, memo, cleared);
+
+CREATE OR REPLACE FUNCTION create_transaction_partition(partition_month date) RETURNS boolean
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    partition_start date := date_trunc('month', partition_month)::date;
+    partition_end   date := (date_trunc('month', partition_month) + interval '1 month')::date;
+    partition_name  text := format('transaction_p%s', to_char(partition_start, 'YYYY_MM'));
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_transaction_partition'));
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE transaction INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format(
+            'WITH moved AS (DELETE FROM transaction_default WHERE date_of_transaction >= %L AND date_of_transaction < %L RETURNING *) '
+                || 'INSERT INTO %I SELECT * FROM moved',
+            partition_start, partition_end, partition_name
+            );
+    EXECUTE format(
+            'ALTER TABLE transaction ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name, partition_start, partition_end
+            );
+
+    RETURN TRUE;
+END;
+$$;
+
+SELECT create_transaction_partition(partition_month::date)
+FROM generate_series(
+             (SELECT date_trunc('month', GREATEST(LEAST(MIN(date_of_transaction), current_date), current_date - interval '5 years'))
+              FROM transaction_unpartitioned),
+             date_trunc('month', current_date) + interval '3 months',
+             interval '1 month'
+     ) AS partition_month;
+
+INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared)
+SELECT id, account_id, amount, date_of_transaction, memo, cleared
+FROM transaction_unpartitioned;
+
+DROP TABLE transaction_unpartitioned;
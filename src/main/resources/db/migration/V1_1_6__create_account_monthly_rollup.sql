@@ -0,0 +1,159 @@
+CREATE TABLE account_monthly_rollup
+(
+    account_id        uuid           NOT NULL REFERENCES account (id) ON DELETE CASCADE,
+    month             date           NOT NULL,
+    income            numeric(19, 2) NOT NULL DEFAULT 0,
+    expense           numeric(19, 2) NOT NULL DEFAULT 0,
+    cleared_income    numeric(19, 2) NOT NULL DEFAULT 0,
+    cleared_expense   numeric(19, 2) NOT NULL DEFAULT 0,
+    transaction_count integer        NOT NULL DEFAULT 0,
+    PRIMARY KEY (account_id, month)
+);
+
+CREATE OR REPLACE FUNCTION add_to_account_monthly_rollup(
+    rollup_account_id uuid,
+    transaction_date date,
+    transaction_amount numeric,
+    transaction_cleared boolean
+) RETURNS void
+    LANGUAGE sql
+AS
+$$
+INSERT INTO account_monthly_rollup AS r (account_id, month, income, expense, cleared_income, cleared_expense, transaction_count)
+VALUES (rollup_account_id,
+        date_trunc('month', transaction_date)::date,
+        GREATEST(transaction_amount, 0),
+        LEAST(transaction_amount, 0),
+        CASE WHEN transaction_cleared THEN GREATEST(transaction_amount, 0) ELSE 0 END,
+        CASE WHEN transaction_cleared THEN LEAST(transaction_amount, 0) ELSE 0 END,
+        1)
+ON CONFLICT (account_id, month) DO UPDATE
+    SET income            = r.income + EXCLUDED.income,
+        expense           = r.expense + EXCLUDED.expense,
+        cleared_income    = r.cleared_income + EXCLUDED.cleared_income,
+        cleared_expense   = r.cleared_expense + EXCLUDED.cleared_expense,
+        transaction_count = r.transaction_count + 1;
+$$;
+
+CREATE OR REPLACE FUNCTION remove_from_account_monthly_rollup(
+    rollup_account_id uuid,
+    transaction_date date,
+    transaction_amount numeric,
+    transaction_cleared boolean
+) RETURNS void
+    LANGUAGE sql
+AS
+$$
+UPDATE account_monthly_rollup
+SET income            = income - GREATEST(transaction_amount, 0),
+    expense           = expense - LEAST(transaction_amount, 0),
+    cleared_income    = cleared_income - CASE WHEN transaction_cleared THEN GREATEST(transaction_amount, 0) ELSE 0 END,
+    cleared_expense   = cleared_expense - CASE WHEN transaction_cleared THEN LEAST(transaction_amount, 0) ELSE 0 END,
+    transaction_count = transaction_count - 1
+WHERE account_id = rollup_account_id
+  AND month = date_trunc('month', transaction_date)::date;
+
+DELETE
+FROM account_monthly_rollup
+WHERE account_id = rollup_account_id
+  AND month = date_trunc('month', transaction_date)::date
+  AND transaction_count <= 0;
+$$;
+
+CREATE OR REPLACE FUNCTION maintain_account_monthly_rollup() RETURNS trigger
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF current_setting('envelope.moving_transaction_partitions', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE'
+        AND OLD.account_id = NEW.account_id
+        AND OLD.date_of_transaction = NEW.date_of_transaction
+        AND OLD.amount = NEW.amount
+        AND OLD.cleared = NEW.cleared THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM remove_from_account_monthly_rollup(OLD.account_id, OLD.date_of_transaction, OLD.amount, OLD.cleared);
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM add_to_account_monthly_rollup(NEW.account_id, NEW.date_of_transaction, NEW.amount, NEW.cleared);
+    END IF;
+
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER transaction_account_monthly_rollup
+    AFTER INSERT OR UPDATE OR DELETE
+    ON transaction
+    FOR EACH ROW
+EXECUTE FUNCTION maintain_account_monthly_rollup();
+
+CREATE OR REPLACE FUNCTION rebuild_account_monthly_rollup(rollup_account_id uuid) RETURNS integer
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    rebuilt_months integer;
+BEGIN
+    PERFORM 1 FROM account WHERE id = rollup_account_id FOR UPDATE;
+
+    DELETE FROM account_monthly_rollup WHERE account_id = rollup_account_id;
+
+    INSERT INTO account_monthly_rollup (account_id, month, income, expense, cleared_income, cleared_expense, transaction_count)
+    SELECT account_id,
+           date_trunc('month', date_of_transaction)::date,
+           sum(GREATEST(amount, 0)),
+           sum(LEAST(amount, 0)),
+           sum(CASE WHEN cleared THEN GREATEST(amount, 0) ELSE 0 END),
+           sum(CASE WHEN cleared THEN LEAST(amount, 0) ELSE 0 END),
+           count(*)
+    FROM transaction
+    WHERE account_id = rollup_account_id
+    GROUP BY account_id, date_trunc('month', date_of_transaction);
+
+    GET DIAGNOSTICS rebuilt_months = ROW_COUNT;
+    RETURN rebuilt_months;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION create_transaction_partition(partition_month date) RETURNS boolean
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    partition_start date := date_trunc('month', partition_month)::date;
+    partition_end   date := (date_trunc('month', partition_month) + interval '1 month')::date;
+    partition_name  text := format('transaction_p%s', to_char(partition_start, 'YYYY_MM'));
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_transaction_partition'));
+
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE transaction INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    PERFORM set_config('envelope.moving_transaction_partitions', 'on', true);
+    EXECUTE format(
+            'WITH moved AS (DELETE FROM transaction_default WHERE date_of_transaction >= %L AND date_of_transaction < %L RETURNING *) '
+                || 'INSERT INTO %I SELECT * FROM moved',
+            partition_start, partition_end, partition_name
+            );
+    PERFORM set_config('envelope.moving_transaction_partitions', 'off', true);
+    EXECUTE format(
+            'ALTER TABLE transaction ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name, partition_start, partition_end
+            );
+
+    RETURN TRUE;
+END;
+$$;
+
+SELECT rebuild_account_monthly_rollup(id)
+FROM account;
@@ -0,0 +1,12 @@
+CREATE TABLE idempotency_key
+(
+    user_id         uuid         NOT NULL,
+    idempotency_key varchar(255) NOT NULL,
+    request_hash    varchar(64)  NOT NULL,
+    response        text,
+    created_at      timestamptz  NOT NULL DEFAULT now(),
+    expires_at      timestamptz  NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
@@ -0,0 +1,5 @@
+ALTER TABLE transaction
+    ADD COLUMN transfer_id uuid;
+
+CREATE INDEX IF NOT EXISTS idx_transaction_transfer_id
+    ON transaction (transfer_id) WHERE transfer_id IS NOT NULL;
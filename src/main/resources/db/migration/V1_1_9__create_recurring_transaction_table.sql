@@ -0,0 +1,19 @@
+CREATE TABLE recurring_transaction
+(
+    id               uuid PRIMARY KEY,
+    account_id       uuid           NOT NULL REFERENCES account (id) ON DELETE CASCADE,
+    amount           numeric(12, 2) NOT NULL,
+    memo             varchar(255)   NOT NULL DEFAULT '',
+    cleared          boolean        NOT NULL DEFAULT true,
+    frequency        varchar(16)    NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY')),
+    interval_count   integer        NOT NULL DEFAULT 1 CHECK (interval_count > 0),
+    start_date       date           NOT NULL,
+    end_date         date CHECK (end_date IS NULL OR end_date >= start_date),
+    occurrence_index integer        NOT NULL DEFAULT 0,
+    next_occurrence  date
+);
+
+CREATE INDEX idx_recurring_transaction_account_id ON recurring_transaction (account_id);
+
+CREATE INDEX idx_recurring_transaction_due
+    ON recurring_transaction (next_occurrence, id) WHERE next_occurrence IS NOT NULL;
@@ -1,16 +1,20 @@
 package dev.felix2000jp.envelope.accounts.application;
 
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationService;
 import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.CreateAccountDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateTransferDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.UpdateAccountDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.UpdateTransactionDto;
 import dev.felix2000jp.envelope.accounts.domain.Account;
 import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.InvalidTransferException;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.TransactionNotFoundException;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountBalance;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionAmount;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionDate;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionMemo;
@@ -31,7 +35,9 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +49,8 @@ class AccountServiceTest {
     private AccountMapper accountMapper;
     @Mock
     private SecurityService securityService;
+    @Mock
+    private CategorizationService categorizationService;
     @InjectMocks
     private AccountService accountService;
 
@@ -94,6 +102,80 @@ class AccountServiceTest {
         assertThat(actual.accounts()).isEmpty();
     }
 
+    @Test
+    void getVersionTag_given_same_account_versions_then_return_same_tag() {
+        var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var userId = new UserId(securityUser.id());
+        var versions = List.of(new AccountVersion(new AccountId(UUID.randomUUID()), 1), new AccountVersion(new AccountId(UUID.randomUUID()), 4));
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
+        when(accountRepository.findAllVersionsByUserId(userId)).thenReturn(versions);
+
+        var first = accountService.getVersionTag();
+        var second = accountService.getVersionTag();
+
+        assertThat(first).isNotBlank().isEqualTo(second);
+    }
+
+    @Test
+    void getVersionTag_given_changed_account_version_then_return_different_tag() {
+        var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var userId = new UserId(securityUser.id());
+        var accountId = new AccountId(UUID.randomUUID());
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
+        when(accountRepository.findAllVersionsByUserId(userId))
+                .thenReturn(List.of(new AccountVersion(accountId, 1)))
+                .thenReturn(List.of(new AccountVersion(accountId, 2)));
+
+        var first = accountService.getVersionTag();
+        var second = accountService.getVersionTag();
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void getVersionTag_given_id_then_return_tag_of_account_version() {
+        var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var userId = new UserId(securityUser.id());
+        var accountId = UUID.randomUUID();
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), userId))
+                .thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 3)));
+
+        var actual = accountService.getVersionTag(accountId);
+
+        assertThat(actual).isEqualTo(accountId + ":3");
+    }
+
+    @Test
+    void getReadVersionTag_given_id_then_return_same_tag_as_getVersionTag() {
+        var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var userId = new UserId(securityUser.id());
+        var accountId = UUID.randomUUID();
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), userId))
+                .thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 3)));
+
+        var actual = accountService.getReadVersionTag(accountId);
+
+        assertThat(actual).isEqualTo(accountService.getVersionTag(accountId));
+    }
+
+    @Test
+    void getVersionTag_given_not_found_account_then_throw_exception() {
+        var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var userId = new UserId(securityUser.id());
+        var accountId = UUID.randomUUID();
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), userId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accountService.getVersionTag(accountId)).isInstanceOf(AccountNotFoundException.class);
+    }
+
     @Test
     void create_then_return_created() {
         var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
@@ -356,6 +438,83 @@ class AccountServiceTest {
         assertThat(actual.cleared()).isTrue();
     }
 
+    @Test
+    void addTransaction_given_matching_categorization_rule_then_assign_category() {
+        var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var accountId = UUID.randomUUID();
+        var account = Account.from(new AccountId(accountId), new UserId(securityUser.id()), new AccountName("Test Account"));
+        var addTransactionDto = new AddTransactionDto(new BigDecimal("-15.99"), LocalDate.of(2024, 2, 15), "NETFLIX.COM", true);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
+        when(
+                accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(securityUser.id()))
+        ).thenReturn(Optional.of(account));
+        when(categorizationService.categorize(securityUser.id(), "NETFLIX.COM")).thenReturn("Subscriptions");
+
+        var actual = accountService.addTransaction(accountId, addTransactionDto);
+
+        assertThat(account.getTransactions().getLast().getCategory().value()).isEqualTo("Subscriptions");
+        assertThat(actual.category()).isEqualTo("Subscriptions");
+    }
+
+    @Test
+    void transfer_then_lock_both_accounts_and_return_linked_transactions() {
+        var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var userId = new UserId(securityUser.id());
+        var source = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Checking"), new AccountBalance(new BigDecimal("100.00")));
+        var destination = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Savings"));
+        var createTransferDto = new CreateTransferDto(
+                source.getId().value(),
+                destination.getId().value(),
+                new BigDecimal("25.00"),
+                LocalDate.of(2024, 3, 1),
+                "Savings"
+        );
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
+        when(accountRepository.findAllForUpdateByIdInAndUserId(List.of(source.getId(), destination.getId()), userId))
+                .thenReturn(List.of(destination, source));
+
+        var actual = accountService.transfer(createTransferDto);
+        verify(accountRepository, times(2)).save(accountCaptor.capture());
+
+        assertThat(accountCaptor.getAllValues()).containsExactly(source, destination);
+        assertThat(source.getBalance().value()).isEqualTo(new BigDecimal("75.00"));
+        assertThat(destination.getBalance().value()).isEqualTo(new BigDecimal("25.00"));
+        assertThat(actual.debit().amount()).isEqualTo(new BigDecimal("-25.00"));
+        assertThat(actual.credit().amount()).isEqualTo(new BigDecimal("25.00"));
+        assertThat(actual.debit().memo()).isEqualTo("Savings");
+        assertThat(actual.transferId()).isEqualTo(source.getTransactions().getLast().getTransferId().value());
+    }
+
+    @Test
+    void transfer_given_same_account_then_throw_invalid_transfer_exception() {
+        var accountId = UUID.randomUUID();
+        var createTransferDto = new CreateTransferDto(accountId, accountId, new BigDecimal("25.00"), null, null);
+
+        assertThatThrownBy(() -> accountService.transfer(createTransferDto))
+                .isInstanceOf(InvalidTransferException.class)
+                .hasMessage("Cannot transfer to the same account");
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void transfer_given_missing_account_then_throw_account_not_found_exception() {
+        var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var userId = new UserId(securityUser.id());
+        var source = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Checking"));
+        var destinationId = new AccountId(UUID.randomUUID());
+        var createTransferDto = new CreateTransferDto(source.getId().value(), destinationId.value(), new BigDecimal("25.00"), null, null);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
+        when(accountRepository.findAllForUpdateByIdInAndUserId(List.of(source.getId(), destinationId), userId))
+                .thenReturn(List.of(source));
+
+        assertThatThrownBy(() -> accountService.transfer(createTransferDto))
+                .isInstanceOf(AccountNotFoundException.class);
+        assertThat(source.getTransactions()).isEmpty();
+    }
+
     @Test
     void addTransaction_with_defaults_then_return_updated_account() {
         var securityUser = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
@@ -439,7 +598,8 @@ class AccountServiceTest {
         var updateTransactionDto = new UpdateTransactionDto(
                 BigDecimal.valueOf(75.00),
                 LocalDate.of(2024, 2, 20),
-                "Updated memo"
+                "Updated memo",
+                null
         );
 
         when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
@@ -488,6 +648,7 @@ class AccountServiceTest {
         var updateTransactionDto = new UpdateTransactionDto(
                 BigDecimal.valueOf(80.00),
                 null,
+                null,
                 null
         );
 
@@ -524,7 +685,8 @@ class AccountServiceTest {
         var updateTransactionDto = new UpdateTransactionDto(
                 BigDecimal.valueOf(75.00),
                 LocalDate.of(2024, 2, 20),
-                "Updated memo"
+                "Updated memo",
+                null
         );
 
         when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
@@ -552,7 +714,8 @@ class AccountServiceTest {
         var updateTransactionDto = new UpdateTransactionDto(
                 BigDecimal.valueOf(75.00),
                 LocalDate.of(2024, 2, 20),
-                "Updated memo"
+                "Updated memo",
+                null
         );
 
         when(securityService.loadUserFromSecurityContext()).thenReturn(securityUser);
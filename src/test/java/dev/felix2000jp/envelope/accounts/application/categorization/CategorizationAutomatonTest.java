@@ -0,0 +1,119 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategorizationAutomatonTest {
+
+    @Test
+    void categorize_given_memo_containing_pattern_then_return_category() {
+        var automaton = CategorizationAutomaton.compile(List.of(
+                rule("NETFLIX", "Subscriptions"),
+                rule("shell", "Fuel")
+        ));
+
+        assertThat(automaton.categorize("Card payment NETFLIX.COM 866-579")).isEqualTo("Subscriptions");
+        assertThat(automaton.categorize("SHELL OIL 12345")).isEqualTo("Fuel");
+        assertThat(automaton.categorize("Groceries")).isNull();
+        assertThat(automaton.categorize(null)).isNull();
+    }
+
+    @Test
+    void categorize_given_several_matching_rules_then_return_first_rule() {
+        var automaton = CategorizationAutomaton.compile(List.of(
+                rule("amazon prime", "Subscriptions"),
+                rule("amazon", "Shopping")
+        ));
+
+        assertThat(automaton.categorize("AMAZON PRIME *MEMBERSHIP")).isEqualTo("Subscriptions");
+        assertThat(automaton.categorize("AMAZON MKTPLACE")).isEqualTo("Shopping");
+    }
+
+    @Test
+    void categorize_given_pattern_found_through_failure_link_then_return_category() {
+        var automaton = CategorizationAutomaton.compile(List.of(
+                rule("abcd", "First"),
+                rule("bce", "Second")
+        ));
+
+        assertThat(automaton.categorize("xxabcexx")).isEqualTo("Second");
+    }
+
+    @Test
+    void categorize_given_non_ascii_pattern_then_match_case_insensitively() {
+        var automaton = CategorizationAutomaton.compile(List.of(rule("Café Ñandú", "Eating out")));
+
+        assertThat(automaton.categorize("CAFÉ ÑANDÚ LISBOA")).isEqualTo("Eating out");
+        assertThat(automaton.categorize("CAFE NANDU")).isNull();
+    }
+
+    @Test
+    void categorize_given_no_rules_then_return_null() {
+        var automaton = CategorizationAutomaton.compile(List.of());
+
+        assertThat(automaton.categorize("anything")).isNull();
+    }
+
+    @Test
+    void categorize_given_random_rules_then_agree_with_naive_contains() {
+        var random = new Random(42);
+        var rules = new ArrayList<CategorizationRuleDto>();
+        for (var i = 0; i < 200; i++) {
+            rules.add(rule(randomText(random, 2 + random.nextInt(4)), "Category " + i));
+        }
+        var automaton = CategorizationAutomaton.compile(rules);
+
+        for (var i = 0; i < 2_000; i++) {
+            var memo = randomText(random, 5 + random.nextInt(30));
+            var expected = rules.stream()
+                    .filter(rule -> memo.toLowerCase(Locale.ROOT).contains(rule.pattern().toLowerCase(Locale.ROOT)))
+                    .map(CategorizationRuleDto::category)
+                    .findFirst()
+                    .orElse(null);
+
+            assertThat(automaton.categorize(memo)).as(memo).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void compile_given_maximum_rules_over_mixed_alphabet_then_stay_linear_in_pattern_length() {
+        var alphabet = "abcdefghijklmnopqrstuvwxyz0123456789 .*-/áéíóúàèìòùâêîôûãõçñäëïöüøåæœ€£¥§°ªº¿¡«»–—‘’“”•…™©®";
+        var random = new Random(42);
+        var rules = new ArrayList<CategorizationRuleDto>();
+        for (var i = 0; i < 1_000; i++) {
+            var pattern = new StringBuilder();
+            for (var j = 0; j < 100; j++) {
+                pattern.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            rules.add(rule(pattern.toString(), "Category " + i));
+        }
+
+        var automaton = CategorizationAutomaton.compile(rules);
+
+        assertThat(automaton.size()).isLessThan(8_388_608 / 16);
+        assertThat(automaton.categorize("card " + rules.get(500).pattern() + " lisboa")).isEqualTo("Category 500");
+        assertThat(automaton.categorize(rules.get(999).pattern().substring(1))).isNull();
+    }
+
+    private static String randomText(Random random, int length) {
+        var text = new StringBuilder();
+        for (var i = 0; i < length; i++) {
+            var character = (char) ('a' + random.nextInt(6));
+            text.append(random.nextBoolean() ? Character.toUpperCase(character) : character);
+        }
+        return text.toString();
+    }
+
+    private static CategorizationRuleDto rule(String pattern, String category) {
+        return new CategorizationRuleDto(UUID.randomUUID(), pattern, category);
+    }
+
+}
@@ -0,0 +1,200 @@
+package dev.felix2000jp.envelope.accounts.application.categorization;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateCategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.CategorizationRuleNotFoundException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidCategorizationRuleException;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategorizationServiceTest {
+
+    private final SecurityUser user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private CategorizationRuleRepository categorizationRuleRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private CategorizationService categorizationService;
+
+    @BeforeEach
+    void setUp() {
+        categorizationService = new CategorizationService(
+                securityService,
+                categorizationRuleRepository,
+                new CategorizationAutomatonCache(1_000_000, Duration.ofMinutes(5)),
+                transactionManager,
+                applicationEventPublisher,
+                2,
+                2,
+                5
+        );
+    }
+
+    @Test
+    void categorize_givenRules_compilesOnceAndReusesAutomaton() {
+        when(categorizationRuleRepository.findAllByUserId(user.id())).thenReturn(List.of(rule("netflix", "Subscriptions")));
+
+        assertThat(categorizationService.categorize(user.id(), "NETFLIX.COM")).isEqualTo("Subscriptions");
+        assertThat(categorizationService.categorize(user.id(), "Groceries")).isNull();
+        verify(categorizationRuleRepository, times(1)).findAllByUserId(user.id());
+    }
+
+    @Test
+    void createRule_givenCachedAutomaton_evictsIt() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(categorizationRuleRepository.findAllByUserId(user.id()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(rule("netflix", "Subscriptions")));
+
+        assertThat(categorizationService.categorize(user.id(), "NETFLIX.COM")).isNull();
+        var actual = categorizationService.createRule(new CreateCategorizationRuleDto(" netflix ", "Subscriptions"));
+
+        assertThat(actual.pattern()).isEqualTo("netflix");
+        verify(categorizationRuleRepository).save(user.id(), actual);
+        assertThat(categorizationService.categorize(user.id(), "NETFLIX.COM")).isEqualTo("Subscriptions");
+    }
+
+    @Test
+    void createRule_givenRuleLimitReached_throwsInvalidCategorizationRuleException() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(categorizationRuleRepository.countByUserId(user.id())).thenReturn(2);
+
+        assertThatThrownBy(() -> categorizationService.createRule(new CreateCategorizationRuleDto("netflix", "Subscriptions")))
+                .isInstanceOf(InvalidCategorizationRuleException.class);
+        verify(categorizationRuleRepository, never()).save(any(), any());
+    }
+
+    @Test
+    void createRule_givenUser_locksRulesBeforeCountingThem() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+
+        var actual = categorizationService.createRule(new CreateCategorizationRuleDto("netflix", "Subscriptions"));
+
+        var inOrder = inOrder(categorizationRuleRepository);
+        inOrder.verify(categorizationRuleRepository).lockByUserId(user.id());
+        inOrder.verify(categorizationRuleRepository).countByUserId(user.id());
+        inOrder.verify(categorizationRuleRepository).save(user.id(), actual);
+    }
+
+    @Test
+    void deleteRule_givenMissingRule_throwsCategorizationRuleNotFoundException() {
+        var ruleId = UUID.randomUUID();
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(categorizationRuleRepository.deleteByIdAndUserId(ruleId, user.id())).thenReturn(false);
+
+        assertThatThrownBy(() -> categorizationService.deleteRule(ruleId))
+                .isInstanceOf(CategorizationRuleNotFoundException.class);
+    }
+
+    @Test
+    void backfill_givenUncategorizedTransactions_assignsMatchesInBatches() {
+        var accountId = UUID.randomUUID();
+        var netflix = transaction("NETFLIX.COM");
+        var groceries = transaction("Groceries");
+        var spotify = transaction("Spotify AB");
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(categorizationRuleRepository.findAllByUserId(user.id()))
+                .thenReturn(List.of(rule("netflix", "Subscriptions"), rule("spotify", "Subscriptions")));
+        when(categorizationRuleRepository.findUncategorizedByUserId(user.id(), new UUID(0L, 0L), 2))
+                .thenReturn(List.of(netflix, groceries));
+        when(categorizationRuleRepository.findUncategorizedByUserId(user.id(), groceries.id(), 2))
+                .thenReturn(List.of(spotify));
+        when(categorizationRuleRepository.assignCategories(any())).thenAnswer(invocation -> invocation.<List<CategoryAssignment>>getArgument(0).stream()
+                .map(assignment -> new CategorizedTransaction(accountId, assignment.transactionId(), new BigDecimal("-9.99"), assignment.date(), assignment.category()))
+                .toList());
+
+        var actual = categorizationService.backfill(null);
+
+        verify(categorizationRuleRepository).assignCategories(List.of(
+                new CategoryAssignment(netflix.id(), netflix.dateOfTransaction(), "Subscriptions")
+        ));
+        verify(categorizationRuleRepository).assignCategories(List.of(
+                new CategoryAssignment(spotify.id(), spotify.dateOfTransaction(), "Subscriptions")
+        ));
+        var events = ArgumentCaptor.forClass(TransactionUpdatedEvent.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(TransactionUpdatedEvent::transactionId).containsExactly(netflix.id(), spotify.id());
+        assertThat(events.getAllValues()).allMatch(event -> event.previousCategory() == null && "Subscriptions".equals(event.category()));
+        assertThat(actual.scanned()).isEqualTo(3);
+        assertThat(actual.categorized()).isEqualTo(2);
+        assertThat(actual.next()).isNull();
+    }
+
+    @Test
+    void backfill_givenMoreBatchesThanAllowed_stopsAndReturnsNextCursor() {
+        categorizationService = new CategorizationService(
+                securityService,
+                categorizationRuleRepository,
+                new CategorizationAutomatonCache(1_000_000, Duration.ofMinutes(5)),
+                transactionManager,
+                applicationEventPublisher,
+                2,
+                2,
+                1
+        );
+        var groceries = transaction("Groceries");
+        var bakery = transaction("Bakery");
+        var pharmacy = transaction("Pharmacy");
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(categorizationRuleRepository.findAllByUserId(user.id())).thenReturn(List.of(rule("netflix", "Subscriptions")));
+        when(categorizationRuleRepository.findUncategorizedByUserId(user.id(), new UUID(0L, 0L), 2))
+                .thenReturn(List.of(groceries, bakery));
+        when(categorizationRuleRepository.findUncategorizedByUserId(user.id(), bakery.id(), 2))
+                .thenReturn(List.of(pharmacy));
+
+        var first = categorizationService.backfill(null);
+        var second = categorizationService.backfill(first.next());
+
+        assertThat(first.scanned()).isEqualTo(2);
+        assertThat(first.next()).isEqualTo(bakery.id());
+        assertThat(second.scanned()).isEqualTo(1);
+        assertThat(second.next()).isNull();
+        verify(categorizationRuleRepository, times(2)).findUncategorizedByUserId(any(), any(), anyInt());
+    }
+
+    private static CategorizationRuleDto rule(String pattern, String category) {
+        return new CategorizationRuleDto(UUID.randomUUID(), pattern, category);
+    }
+
+    private static TransactionDto transaction(String memo) {
+        return new TransactionDto(UUID.randomUUID(), new BigDecimal("-9.99"), LocalDate.of(2024, 3, 1), memo, true, null);
+    }
+
+}
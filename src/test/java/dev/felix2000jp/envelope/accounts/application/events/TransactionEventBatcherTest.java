@@ -0,0 +1,181 @@
+package dev.felix2000jp.envelope.accounts.application.events;
+
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionClearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionRemovedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUnclearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionsChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionEventBatcherTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private TransactionEventBatcher transactionEventBatcher;
+
+    @BeforeEach
+    void setUp() {
+        transactionEventBatcher = new TransactionEventBatcher(applicationEventPublisher, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(transactionEventBatcher);
+    }
+
+    @Test
+    void on_given_active_transaction_then_publish_one_batch_before_commit() {
+        var added = addedEvent();
+        var updated = new TransactionUpdatedEvent(
+                userId, accountId, added.transactionId(),
+                added.amount(), added.dateOfTransaction(), null,
+                added.amount(), added.dateOfTransaction(), "Groceries"
+        );
+        var removed = new TransactionRemovedEvent(userId, accountId, UUID.randomUUID(), BigDecimal.ONE, LocalDate.of(2024, 3, 2), null);
+        var cleared = new TransactionClearedEvent(userId, accountId, added.transactionId(), added.amount(), added.dateOfTransaction());
+        var uncleared = new TransactionUnclearedEvent(userId, accountId, removed.transactionId(), removed.amount(), removed.dateOfTransaction());
+
+        TransactionSynchronizationManager.initSynchronization();
+        transactionEventBatcher.on(added);
+        transactionEventBatcher.on(updated);
+        transactionEventBatcher.on(removed);
+        transactionEventBatcher.on(cleared);
+        transactionEventBatcher.on(uncleared);
+
+        verifyNoInteractions(applicationEventPublisher);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+
+        var event = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().id()).isNotNull();
+        assertThat(event.getValue())
+                .usingRecursiveComparison()
+                .ignoringFields("id")
+                .isEqualTo(new TransactionsChangedEvent(null, List.of(added), List.of(updated), List.of(removed), List.of(cleared), List.of(uncleared)));
+        assertThat(TransactionSynchronizationManager.hasResource(transactionEventBatcher)).isFalse();
+    }
+
+    @Test
+    void on_given_batch_reaches_max_size_then_publish_chunk_before_commit() {
+        var first = addedEvent();
+        var second = addedEvent();
+        var third = addedEvent();
+        var fourth = addedEvent();
+        transactionEventBatcher = new TransactionEventBatcher(applicationEventPublisher, 3);
+
+        TransactionSynchronizationManager.initSynchronization();
+        transactionEventBatcher.on(first);
+        transactionEventBatcher.on(second);
+        transactionEventBatcher.on(third);
+        transactionEventBatcher.on(fourth);
+
+        var events = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(events.capture());
+        assertThat(events.getValue().added()).containsExactly(first, second, third);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+
+        verify(applicationEventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues().getLast().added()).containsExactly(fourth);
+        assertThat(events.getAllValues().getFirst().id()).isNotEqualTo(events.getAllValues().getLast().id());
+    }
+
+    @Test
+    void on_given_batch_flushed_at_max_size_then_skip_empty_event_before_commit() {
+        transactionEventBatcher = new TransactionEventBatcher(applicationEventPublisher, 3);
+
+        TransactionSynchronizationManager.initSynchronization();
+        transactionEventBatcher.on(addedEvent());
+        transactionEventBatcher.on(addedEvent());
+        transactionEventBatcher.on(addedEvent());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+
+        verify(applicationEventPublisher, times(1)).publishEvent(any(TransactionsChangedEvent.class));
+    }
+
+    @Test
+    void on_given_rolled_back_transaction_then_discard_batch() {
+        TransactionSynchronizationManager.initSynchronization();
+        transactionEventBatcher.on(addedEvent());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(applicationEventPublisher);
+        assertThat(TransactionSynchronizationManager.hasResource(transactionEventBatcher)).isFalse();
+    }
+
+    @Test
+    void on_given_suspended_transaction_then_start_new_batch_for_inner_transaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        var outer = addedEvent();
+        transactionEventBatcher.on(outer);
+
+        var suspended = TransactionSynchronizationManager.getSynchronizations();
+        suspended.forEach(TransactionSynchronization::suspend);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        var inner = addedEvent();
+        transactionEventBatcher.on(inner);
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        suspended.forEach(TransactionSynchronization::resume);
+        suspended.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        var events = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(TransactionsChangedEvent::added).containsExactly(List.of(inner), List.of(outer));
+        assertThat(events.getAllValues().getFirst().id()).isNotEqualTo(events.getAllValues().getLast().id());
+    }
+
+    @Test
+    void on_given_no_transaction_then_publish_single_event_batch_immediately() {
+        var added = addedEvent();
+
+        transactionEventBatcher.on(added);
+
+        var event = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().added()).containsExactly(added);
+    }
+
+    private TransactionAddedEvent addedEvent() {
+        return new TransactionAddedEvent(userId, accountId, UUID.randomUUID(), new BigDecimal("-25.00"), LocalDate.of(2024, 3, 1), null);
+    }
+
+}
@@ -0,0 +1,171 @@
+package dev.felix2000jp.envelope.accounts.application.idempotency;
+
+import dev.felix2000jp.envelope.accounts.application.AccountService;
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.IdempotencyKeyInProgressException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.IdempotencyKeyReuseException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidIdempotencyKeyException;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentTransactionServiceTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private final SecurityUser user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+    private final UUID accountId = UUID.randomUUID();
+    private final AddTransactionDto addTransactionDto = new AddTransactionDto(new BigDecimal("50.00"), LocalDate.of(2024, 2, 15), "Coffee", true);
+    private final TransactionDto transactionDto = new TransactionDto(UUID.randomUUID(), new BigDecimal("50.00"), LocalDate.of(2024, 2, 15), "Coffee", true, null);
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotentTransactionService idempotentTransactionService;
+
+    @BeforeEach
+    void setUp() {
+        idempotentTransactionService = new IdempotentTransactionService(
+                securityService,
+                accountService,
+                idempotencyKeyRepository,
+                new IdempotencyKeyCache(TTL),
+                jsonMapper,
+                transactionManager,
+                TTL
+        );
+    }
+
+    @Test
+    void addTransaction_givenBlankKey_throwsInvalidIdempotencyKeyException() {
+        assertThatThrownBy(() -> idempotentTransactionService.addTransaction(accountId, addTransactionDto, " "))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        verifyNoInteractions(securityService, accountService, idempotencyKeyRepository);
+    }
+
+    @Test
+    void addTransaction_givenTooLongKey_throwsInvalidIdempotencyKeyException() {
+        assertThatThrownBy(() -> idempotentTransactionService.addTransaction(accountId, addTransactionDto, "k".repeat(256)))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        verifyNoInteractions(securityService, accountService, idempotencyKeyRepository);
+    }
+
+    @Test
+    void addTransaction_givenNewKey_addsTransactionAndStoresResponse() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(idempotencyKeyRepository.reserve(eq(user.id()), eq("key-1"), anyString(), eq(TTL))).thenReturn(true);
+        when(accountService.addTransaction(accountId, addTransactionDto)).thenReturn(transactionDto);
+
+        var actual = idempotentTransactionService.addTransaction(accountId, addTransactionDto, "key-1");
+
+        assertThat(actual).isEqualTo(transactionDto);
+        verify(idempotencyKeyRepository).complete(user.id(), "key-1", jsonMapper.writeValueAsString(transactionDto));
+    }
+
+    @Test
+    void addTransaction_givenRetryWithSameKey_replaysFromCacheWithoutAddingAgain() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(idempotencyKeyRepository.reserve(eq(user.id()), eq("key-1"), anyString(), eq(TTL))).thenReturn(true);
+        when(accountService.addTransaction(accountId, addTransactionDto)).thenReturn(transactionDto);
+
+        var first = idempotentTransactionService.addTransaction(accountId, addTransactionDto, "key-1");
+        var second = idempotentTransactionService.addTransaction(accountId, addTransactionDto, "key-1");
+
+        assertThat(second).isEqualTo(first);
+        verify(accountService, times(1)).addTransaction(accountId, addTransactionDto);
+        verify(idempotencyKeyRepository, times(1)).reserve(any(), any(), any(), any());
+    }
+
+    @Test
+    void addTransaction_givenKeyStoredByAnotherInstance_replaysStoredResponse() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        var requestHash = new AtomicReference<String>();
+        when(idempotencyKeyRepository.reserve(eq(user.id()), eq("key-1"), anyString(), eq(TTL))).thenAnswer(invocation -> {
+            requestHash.set(invocation.getArgument(2));
+            return false;
+        });
+        when(idempotencyKeyRepository.findByUserIdAndKey(user.id(), "key-1"))
+                .thenAnswer(_ -> Optional.of(new IdempotencyRecord(requestHash.get(), jsonMapper.writeValueAsString(transactionDto))));
+
+        var actual = idempotentTransactionService.addTransaction(accountId, addTransactionDto, "key-1");
+
+        assertThat(actual).isEqualTo(transactionDto);
+        verify(accountService, never()).addTransaction(any(), any());
+    }
+
+    @Test
+    void addTransaction_givenKeyReservedWithoutStoredResponse_throwsIdempotencyKeyInProgressException() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(idempotencyKeyRepository.reserve(eq(user.id()), eq("key-1"), anyString(), eq(TTL))).thenReturn(false);
+        when(idempotencyKeyRepository.findByUserIdAndKey(user.id(), "key-1")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> idempotentTransactionService.addTransaction(accountId, addTransactionDto, "key-1"))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+        verify(accountService, never()).addTransaction(any(), any());
+    }
+
+    @Test
+    void addTransaction_givenSameKeyWithDifferentRequest_throwsIdempotencyKeyReuseException() {
+        var otherRequest = new AddTransactionDto(new BigDecimal("75.00"), LocalDate.of(2024, 2, 15), "Coffee", true);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(idempotencyKeyRepository.reserve(eq(user.id()), eq("key-1"), anyString(), eq(TTL))).thenReturn(true);
+        when(accountService.addTransaction(accountId, addTransactionDto)).thenReturn(transactionDto);
+
+        idempotentTransactionService.addTransaction(accountId, addTransactionDto, "key-1");
+
+        assertThatThrownBy(() -> idempotentTransactionService.addTransaction(accountId, otherRequest, "key-1"))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+        verify(accountService, never()).addTransaction(accountId, otherRequest);
+    }
+
+    @Test
+    void addTransaction_givenEquivalentAmountScale_replaysStoredResponse() {
+        var sameRequest = new AddTransactionDto(new BigDecimal("50"), LocalDate.of(2024, 2, 15), "Coffee", true);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(idempotencyKeyRepository.reserve(eq(user.id()), eq("key-1"), anyString(), eq(TTL))).thenReturn(true);
+        when(accountService.addTransaction(accountId, addTransactionDto)).thenReturn(transactionDto);
+
+        idempotentTransactionService.addTransaction(accountId, addTransactionDto, "key-1");
+        var actual = idempotentTransactionService.addTransaction(accountId, sameRequest, "key-1");
+
+        assertThat(actual).isEqualTo(transactionDto);
+        verify(accountService, times(1)).addTransaction(any(), any());
+    }
+
+}
@@ -0,0 +1,118 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvStatementParserTest {
+
+    @Test
+    void parse_given_amount_column_then_yield_cleared_transactions() throws IOException {
+        var csv = """
+                Date,Description,Amount
+                2024-03-01,"Rent, March",-950.00
+                2024-03-02,Salary,2500
+                """;
+
+        var actual = parse(csv);
+
+        assertThat(actual).containsExactly(
+                new AddTransactionDto(new BigDecimal("-950.00"), LocalDate.of(2024, 3, 1), "Rent, March", true),
+                new AddTransactionDto(new BigDecimal("2500.00"), LocalDate.of(2024, 3, 2), "Salary", true)
+        );
+    }
+
+    @Test
+    void parse_given_debit_and_credit_columns_then_sign_amounts() throws IOException {
+        var csv = """
+                Booking Date;Payee;Debit;Credit
+                2024-03-01;Grocer;12.50;
+                2024-03-02;Refund;;3.00
+                """;
+
+        var actual = parse(csv);
+
+        assertThat(actual).extracting(AddTransactionDto::amount)
+                .containsExactly(new BigDecimal("-12.50"), new BigDecimal("3.00"));
+    }
+
+    @Test
+    void parse_given_semicolon_delimiter_then_read_decimal_comma_amounts() throws IOException {
+        var csv = """
+                Date;Description;Amount
+                2024-03-01;Grocer;-12,50
+                2024-03-02;Salary;1.234,56
+                2024-03-03;Refund;3
+                """;
+
+        var actual = parse(csv);
+
+        assertThat(actual).extracting(AddTransactionDto::amount)
+                .containsExactly(new BigDecimal("-12.50"), new BigDecimal("1234.56"), new BigDecimal("3.00"));
+    }
+
+    @Test
+    void parse_given_semicolon_delimiter_and_ambiguous_amount_then_throw_InvalidStatementFileException() {
+        assertThatThrownBy(() -> parse("date;amount\n2024-03-01;1.250\n"))
+                .isInstanceOf(InvalidStatementFileException.class)
+                .hasMessage("Ambiguous amount on line 2");
+    }
+
+    @Test
+    void parse_given_quoted_field_spanning_lines_then_keep_newline_and_escaped_quotes() throws IOException {
+        var csv = "date,memo,amount\r\n2024-03-01,\"Say \"\"hi\"\"\nthere\",1.00\r\n";
+
+        var actual = parse(csv);
+
+        assertThat(actual).extracting(AddTransactionDto::memo).containsExactly("Say \"hi\"\nthere");
+    }
+
+    @Test
+    void parse_given_missing_amount_column_then_throw_InvalidStatementFileException() {
+        assertThatThrownBy(() -> parse("date,memo\n2024-03-01,Rent\n"))
+                .isInstanceOf(InvalidStatementFileException.class);
+    }
+
+    @Test
+    void parse_given_invalid_date_then_throw_InvalidStatementFileException_with_line() {
+        assertThatThrownBy(() -> parse("date,amount\n2024-03-01,1\n03/02/2024,2\n"))
+                .isInstanceOf(InvalidStatementFileException.class)
+                .hasMessage("Invalid date on line 3");
+    }
+
+    @Test
+    void parse_given_amount_with_too_many_decimals_then_throw_InvalidStatementFileException() {
+        assertThatThrownBy(() -> parse("date,amount\n2024-03-01,1.005\n"))
+                .isInstanceOf(InvalidStatementFileException.class)
+                .hasMessage("Invalid amount on line 2");
+    }
+
+    @Test
+    void parse_given_header_longer_than_sniffed_prefix_then_detect_delimiter_and_parse() throws IOException {
+        var columns = "extra;".repeat(1000);
+        var csv = "date;memo;" + columns + "amount\n2024-03-01;Rent, March;" + ";".repeat(1000) + "-950.00\n";
+
+        var actual = parse(csv);
+
+        assertThat(actual).containsExactly(
+                new AddTransactionDto(new BigDecimal("-950.00"), LocalDate.of(2024, 3, 1), "Rent, March", true)
+        );
+    }
+
+    private List<AddTransactionDto> parse(String csv) throws IOException {
+        var transactions = new ArrayList<AddTransactionDto>();
+        new CsvStatementParser().parse(new StringReader(csv), transactions::add);
+        return transactions;
+    }
+
+}
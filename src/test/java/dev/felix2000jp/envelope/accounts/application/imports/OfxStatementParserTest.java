@@ -0,0 +1,94 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OfxStatementParserTest {
+
+    @Test
+    void parse_given_sgml_statement_then_yield_cleared_transactions() throws IOException {
+        var ofx = """
+                OFXHEADER:100
+                DATA:OFXSGML
+                VERSION:102
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+                <BANKTRANLIST>
+                <DTSTART>20240301
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20240301120000.000[-5:EST]
+                <TRNAMT>-40.00
+                <FITID>1
+                <NAME>COFFEE &amp; CO
+                <MEMO>Card 1234
+                </STMTTRN>
+                <STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240302<TRNAMT>100,5<FITID>2<MEMO>Transfer</STMTTRN>
+                </BANKTRANLIST>
+                </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """;
+
+        var actual = parse(ofx);
+
+        assertThat(actual).containsExactly(
+                new AddTransactionDto(new BigDecimal("-40.00"), LocalDate.of(2024, 3, 1), "COFFEE & CO", true),
+                new AddTransactionDto(new BigDecimal("100.50"), LocalDate.of(2024, 3, 2), "Transfer", true)
+        );
+    }
+
+    @Test
+    void parse_given_xml_statement_then_yield_cleared_transactions() throws IOException {
+        var ofx = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <?OFX OFXHEADER="200" VERSION="220"?>
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                  <STMTTRN>
+                    <TRNTYPE>DEBIT</TRNTYPE>
+                    <DTPOSTED>20240305</DTPOSTED>
+                    <TRNAMT>-12.34</TRNAMT>
+                    <NAME>Grocer</NAME>
+                  </STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """;
+
+        var actual = parse(ofx);
+
+        assertThat(actual).containsExactly(
+                new AddTransactionDto(new BigDecimal("-12.34"), LocalDate.of(2024, 3, 5), "Grocer", true)
+        );
+    }
+
+    @Test
+    void parse_given_transaction_without_date_then_throw_InvalidStatementFileException() {
+        assertThatThrownBy(() -> parse("<OFX><STMTTRN><TRNAMT>1.00</STMTTRN></OFX>"))
+                .isInstanceOf(InvalidStatementFileException.class)
+                .hasMessageStartingWith("Missing date");
+    }
+
+    @Test
+    void parse_given_unterminated_tag_then_throw_InvalidStatementFileException() {
+        assertThatThrownBy(() -> parse("<OFX><STMTTRN"))
+                .isInstanceOf(InvalidStatementFileException.class)
+                .hasMessageStartingWith("Unterminated tag");
+    }
+
+    private List<AddTransactionDto> parse(String ofx) throws IOException {
+        var transactions = new ArrayList<AddTransactionDto>();
+        new OfxStatementParser().parse(new StringReader(ofx), transactions::add);
+        return transactions;
+    }
+
+}
@@ -0,0 +1,76 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QifStatementParserTest {
+
+    @Test
+    void parse_given_bank_records_then_yield_cleared_transactions() throws IOException {
+        var qif = """
+                !Type:Bank
+                D03/01/2024
+                T-1,250.00
+                PLandlord
+                MMarch rent
+                ^
+                D3/2'24
+                T42.10
+                MInterest
+                ^
+                """;
+
+        var actual = parse(qif);
+
+        assertThat(actual).containsExactly(
+                new AddTransactionDto(new BigDecimal("-1250.00"), LocalDate.of(2024, 3, 1), "Landlord", true),
+                new AddTransactionDto(new BigDecimal("42.10"), LocalDate.of(2024, 3, 2), "Interest", true)
+        );
+    }
+
+    @Test
+    void parse_given_last_record_without_terminator_then_yield_it() throws IOException {
+        var actual = parse("!Type:Bank\nD2024-03-05\nT-3.00\nPCoffee\n");
+
+        assertThat(actual).extracting(AddTransactionDto::date).containsExactly(LocalDate.of(2024, 3, 5));
+    }
+
+    @Test
+    void parse_given_two_digit_year_with_slash_then_use_twentieth_century() throws IOException {
+        var actual = parse("D12/31/99\nT1\n^\n");
+
+        assertThat(actual).extracting(AddTransactionDto::date).containsExactly(LocalDate.of(1999, 12, 31));
+    }
+
+    @Test
+    void parse_given_record_without_amount_then_throw_InvalidStatementFileException() {
+        assertThatThrownBy(() -> parse("D03/01/2024\nPNothing\n^\n"))
+                .isInstanceOf(InvalidStatementFileException.class)
+                .hasMessage("Missing amount on line 3");
+    }
+
+    @Test
+    void parse_given_invalid_date_then_throw_InvalidStatementFileException() {
+        assertThatThrownBy(() -> parse("D13/45/2024\nT1\n^\n"))
+                .isInstanceOf(InvalidStatementFileException.class)
+                .hasMessage("Invalid date on line 1");
+    }
+
+    private List<AddTransactionDto> parse(String qif) throws IOException {
+        var transactions = new ArrayList<AddTransactionDto>();
+        new QifStatementParser().parse(new StringReader(qif), transactions::add);
+        return transactions;
+    }
+
+}
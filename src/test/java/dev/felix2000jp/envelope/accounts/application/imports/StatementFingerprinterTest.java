@@ -0,0 +1,51 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AddTransactionDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementFingerprinterTest {
+
+    @Test
+    void fingerprint_given_same_line_in_separate_statements_then_return_same_fingerprint() {
+        var line = new AddTransactionDto(new BigDecimal("-40.00"), LocalDate.of(2024, 3, 1), "Coffee", true);
+
+        var first = new StatementFingerprinter().fingerprint(line);
+        var second = new StatementFingerprinter().fingerprint(line);
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void fingerprint_given_equivalent_memo_and_amount_scale_then_return_same_fingerprint() {
+        var first = new AddTransactionDto(new BigDecimal("-40"), LocalDate.of(2024, 3, 1), "  COFFEE-shop  ", true);
+        var second = new AddTransactionDto(new BigDecimal("-40.00"), LocalDate.of(2024, 3, 1), "coffee shop", true);
+
+        assertThat(new StatementFingerprinter().fingerprint(first)).isEqualTo(new StatementFingerprinter().fingerprint(second));
+    }
+
+    @Test
+    void fingerprint_given_repeated_line_in_one_statement_then_return_distinct_fingerprints() {
+        var fingerprinter = new StatementFingerprinter();
+        var line = new AddTransactionDto(new BigDecimal("-3.00"), LocalDate.of(2024, 3, 1), "Coffee", true);
+
+        var first = fingerprinter.fingerprint(line);
+        var second = fingerprinter.fingerprint(line);
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(new StatementFingerprinter().fingerprint(line)).isEqualTo(first);
+    }
+
+    @Test
+    void fingerprint_given_different_date_then_return_different_fingerprint() {
+        var first = new AddTransactionDto(new BigDecimal("-3.00"), LocalDate.of(2024, 3, 1), "Coffee", true);
+        var second = new AddTransactionDto(new BigDecimal("-3.00"), LocalDate.of(2024, 3, 2), "Coffee", true);
+
+        assertThat(new StatementFingerprinter().fingerprint(first)).isNotEqualTo(new StatementFingerprinter().fingerprint(second));
+    }
+
+}
@@ -0,0 +1,166 @@
+package dev.felix2000jp.envelope.accounts.application.imports;
+
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationAutomaton;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationService;
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidStatementFileException;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatementImportServiceTest {
+
+    private static final String CSV = """
+            date,memo,amount
+            2024-03-01,Rent,-950.00
+            2024-03-02,Coffee,-3.00
+            2024-03-02,Coffee,-3.00
+            """;
+
+    private final SecurityUser user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+    private final UUID accountId = UUID.randomUUID();
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private StatementImportRepository statementImportRepository;
+    @Mock
+    private CategorizationService categorizationService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private StatementImportService statementImportService;
+
+    @BeforeEach
+    void setUp() {
+        statementImportService = new StatementImportService(
+                securityService,
+                accountRepository,
+                statementImportRepository,
+                categorizationService,
+                applicationEventPublisher,
+                2
+        );
+    }
+
+    @Test
+    void importStatement_givenAccountNotFound_throwsAccountNotFoundException() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> statementImportService.importStatement(accountId, StatementFormat.CSV, stream(CSV)))
+                .isInstanceOf(AccountNotFoundException.class);
+        verifyNoInteractions(statementImportRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importStatement_givenStatement_insertsInBatchesAndAppliesSingleBalanceDelta() {
+        givenOwnedAccount();
+        when(statementImportRepository.insertIgnoringDuplicates(eq(accountId), any()))
+                .thenAnswer(invocation -> List.of(invocation.<List<ImportedTransaction>>getArgument(1).getFirst()));
+
+        var actual = statementImportService.importStatement(accountId, StatementFormat.CSV, stream(CSV));
+
+        ArgumentCaptor<List<ImportedTransaction>> batches = ArgumentCaptor.forClass(List.class);
+        verify(statementImportRepository).lockAccount(accountId);
+        verify(statementImportRepository, times(2)).insertIgnoringDuplicates(eq(accountId), batches.capture());
+        verify(statementImportRepository).applyBalance(accountId, new BigDecimal("-953.00"));
+        var events = ArgumentCaptor.forClass(TransactionAddedEvent.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(events.capture());
+
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(batches.getAllValues().stream().flatMap(List::stream).map(ImportedTransaction::fingerprint).distinct()).hasSize(3);
+        assertThat(batches.getAllValues().stream().flatMap(List::stream).map(ImportedTransaction::category))
+                .containsExactly("Housing", null, null);
+        assertThat(events.getAllValues()).extracting(TransactionAddedEvent::amount)
+                .containsExactly(new BigDecimal("-950.00"), new BigDecimal("-3.00"));
+        assertThat(events.getAllValues()).extracting(TransactionAddedEvent::category).containsExactly("Housing", null);
+        assertThat(events.getAllValues()).allMatch(event -> event.userId().equals(user.id()) && event.accountId().equals(accountId));
+        assertThat(actual.parsed()).isEqualTo(3);
+        assertThat(actual.imported()).isEqualTo(2);
+        assertThat(actual.duplicates()).isEqualTo(1);
+        assertThat(actual.balanceDelta()).isEqualTo(new BigDecimal("-953.00"));
+    }
+
+    @Test
+    void importStatement_givenOnlyDuplicates_skipsBalanceUpdate() {
+        givenOwnedAccount();
+        when(statementImportRepository.insertIgnoringDuplicates(eq(accountId), any())).thenReturn(List.of());
+
+        var actual = statementImportService.importStatement(accountId, StatementFormat.CSV, stream(CSV));
+
+        verify(statementImportRepository, never()).applyBalance(any(), any());
+        verifyNoInteractions(applicationEventPublisher);
+        assertThat(actual.imported()).isZero();
+        assertThat(actual.duplicates()).isEqualTo(3);
+        assertThat(actual.balanceDelta()).isEqualTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void importStatement_givenUnreadableStream_throwsInvalidStatementFileException() {
+        givenOwnedAccount();
+        var inputStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> statementImportService.importStatement(accountId, StatementFormat.CSV, inputStream))
+                .isInstanceOf(InvalidStatementFileException.class)
+                .hasMessage("Statement file could not be read");
+        verify(statementImportRepository, never()).insertIgnoringDuplicates(any(), any());
+    }
+
+    private void givenOwnedAccount() {
+        var account = Account.from(new AccountId(accountId), new UserId(user.id()), new AccountName("Checking"));
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(account));
+        when(categorizationService.automatonFor(user.id())).thenReturn(CategorizationAutomaton.compile(List.of(
+                new CategorizationRuleDto(UUID.randomUUID(), "rent", "Housing")
+        )));
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
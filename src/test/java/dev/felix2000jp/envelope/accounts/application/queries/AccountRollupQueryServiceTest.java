@@ -0,0 +1,82 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountMonthlyRollupDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountRollupQueryServiceTest {
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private AccountRollupRepository accountRollupRepository;
+    @InjectMocks
+    private AccountRollupQueryService accountRollupQueryService;
+
+    @Test
+    void getMonthlyRollups_givenFromMonthAfterToMonth_throwsInvalidTransactionQueryException() {
+        var accountId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> accountRollupQueryService.getMonthlyRollups(accountId, YearMonth.of(2024, 5), YearMonth.of(2024, 4)))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("fromMonth must be less than or equal to toMonth");
+        verifyNoInteractions(securityService, accountRepository, accountRollupRepository);
+    }
+
+    @Test
+    void getMonthlyRollups_givenAccountNotFound_throwsAccountNotFoundException() {
+        var accountId = UUID.randomUUID();
+        var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accountRollupQueryService.getMonthlyRollups(accountId, null, null))
+                .isInstanceOf(AccountNotFoundException.class);
+        verifyNoInteractions(accountRollupRepository);
+    }
+
+    @Test
+    void getMonthlyRollups_givenAccount_returnsRollups() {
+        var accountId = UUID.randomUUID();
+        var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var account = Account.from(new AccountId(accountId), new UserId(user.id()), new AccountName("Test"));
+        var rollup = new AccountMonthlyRollupDto(YearMonth.of(2024, 1), new BigDecimal("10.00"), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 1);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(account));
+        when(accountRollupRepository.findMonthlyByAccountId(accountId, YearMonth.of(2024, 1), null)).thenReturn(List.of(rollup));
+
+        var actual = accountRollupQueryService.getMonthlyRollups(accountId, YearMonth.of(2024, 1), null);
+
+        assertThat(actual.total()).isEqualTo(1);
+        assertThat(actual.rollups()).containsExactly(rollup);
+    }
+}
@@ -0,0 +1,210 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountMonthlyRollupDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.NetWorthPointDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NetWorthQueryServiceTest {
+
+    private final SecurityUser user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private AccountRollupRepository accountRollupRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NetWorthQueryService netWorthQueryService;
+
+    @AfterEach
+    void tearDown() {
+        if (netWorthQueryService != null) {
+            netWorthQueryService.shutdown();
+        }
+    }
+
+    @Test
+    void getNetWorth_givenFromMonthAfterToMonth_throwsInvalidTransactionQueryException() {
+        netWorthQueryService = createService(4, Duration.ofSeconds(2));
+
+        assertThatThrownBy(() -> netWorthQueryService.getNetWorth(YearMonth.of(2024, 5), YearMonth.of(2024, 4)))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("fromMonth must be less than or equal to toMonth");
+        verifyNoInteractions(securityService, accountRepository, accountRollupRepository);
+    }
+
+    @Test
+    void getNetWorth_givenAccounts_returnsMergedRunningBalances() {
+        netWorthQueryService = createService(4, Duration.ofSeconds(2));
+        var checking = UUID.randomUUID();
+        var savings = UUID.randomUUID();
+
+        givenAccounts(checking, savings);
+        when(accountRollupRepository.findMonthlyByAccountId(checking, null, null)).thenReturn(List.of(
+                rollup(YearMonth.of(2024, 1), "100.00", "0.00"),
+                rollup(YearMonth.of(2024, 3), "0.00", "-30.00")
+        ));
+        when(accountRollupRepository.findMonthlyByAccountId(savings, null, null)).thenReturn(List.of(
+                rollup(YearMonth.of(2024, 2), "50.00", "0.00")
+        ));
+
+        var actual = netWorthQueryService.getNetWorth(null, null);
+
+        assertThat(actual.partial()).isFalse();
+        assertThat(actual.incompleteAccountIds()).isEmpty();
+        assertThat(actual.points()).containsExactly(
+                new NetWorthPointDto(YearMonth.of(2024, 1), new BigDecimal("100.00")),
+                new NetWorthPointDto(YearMonth.of(2024, 2), new BigDecimal("150.00")),
+                new NetWorthPointDto(YearMonth.of(2024, 3), new BigDecimal("120.00"))
+        );
+    }
+
+    @Test
+    void getNetWorth_givenFromMonth_carriesEarlierBalancesForward() {
+        netWorthQueryService = createService(4, Duration.ofSeconds(2));
+        var checking = UUID.randomUUID();
+        var toMonth = YearMonth.of(2024, 3);
+
+        givenAccounts(checking);
+        when(accountRollupRepository.findMonthlyByAccountId(checking, null, toMonth)).thenReturn(List.of(
+                rollup(YearMonth.of(2023, 12), "80.00", "0.00"),
+                rollup(YearMonth.of(2024, 2), "20.00", "-10.00")
+        ));
+
+        var actual = netWorthQueryService.getNetWorth(YearMonth.of(2024, 1), toMonth);
+
+        assertThat(actual.points()).containsExactly(
+                new NetWorthPointDto(YearMonth.of(2024, 2), new BigDecimal("90.00"))
+        );
+    }
+
+    @Test
+    void getNetWorth_givenSlowAccount_returnsPartialResult() {
+        netWorthQueryService = createService(4, Duration.ofMillis(200));
+        var checking = UUID.randomUUID();
+        var savings = UUID.randomUUID();
+
+        givenAccounts(checking, savings);
+        when(accountRollupRepository.findMonthlyByAccountId(checking, null, null)).thenReturn(List.of(
+                rollup(YearMonth.of(2024, 1), "100.00", "0.00")
+        ));
+        when(accountRollupRepository.findMonthlyByAccountId(savings, null, null)).thenAnswer(_ -> {
+            Thread.sleep(Duration.ofSeconds(10));
+            return List.of();
+        });
+
+        var actual = netWorthQueryService.getNetWorth(null, null);
+
+        assertThat(actual.partial()).isTrue();
+        assertThat(actual.incompleteAccountIds()).containsExactly(savings);
+        assertThat(actual.points()).containsExactly(
+                new NetWorthPointDto(YearMonth.of(2024, 1), new BigDecimal("100.00"))
+        );
+    }
+
+    @Test
+    void getNetWorth_givenFailingAccount_returnsPartialResult() {
+        netWorthQueryService = createService(4, Duration.ofSeconds(2));
+        var checking = UUID.randomUUID();
+        var savings = UUID.randomUUID();
+
+        givenAccounts(checking, savings);
+        when(accountRollupRepository.findMonthlyByAccountId(checking, null, null)).thenThrow(new IllegalStateException("boom"));
+        when(accountRollupRepository.findMonthlyByAccountId(savings, null, null)).thenReturn(List.of(
+                rollup(YearMonth.of(2024, 1), "50.00", "0.00")
+        ));
+
+        var actual = netWorthQueryService.getNetWorth(null, null);
+
+        assertThat(actual.partial()).isTrue();
+        assertThat(actual.incompleteAccountIds()).containsExactly(checking);
+        assertThat(actual.points()).containsExactly(
+                new NetWorthPointDto(YearMonth.of(2024, 1), new BigDecimal("50.00"))
+        );
+    }
+
+    @Test
+    void getNetWorth_givenManyAccounts_neverExceedsConnectionBudget() {
+        netWorthQueryService = createService(2, Duration.ofSeconds(5));
+        var accountIds = new ArrayList<UUID>();
+        for (var i = 0; i < 8; i++) {
+            accountIds.add(UUID.randomUUID());
+        }
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        givenAccounts(accountIds.toArray(UUID[]::new));
+        when(accountRollupRepository.findMonthlyByAccountId(any(), eq(null), eq(null))).thenAnswer(_ -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(Duration.ofMillis(50));
+            running.decrementAndGet();
+            return List.of(rollup(YearMonth.of(2024, 1), "10.00", "0.00"));
+        });
+
+        var actual = netWorthQueryService.getNetWorth(null, null);
+
+        assertThat(actual.partial()).isFalse();
+        assertThat(maxRunning.get()).isBetween(1, 2);
+        assertThat(actual.points()).containsExactly(
+                new NetWorthPointDto(YearMonth.of(2024, 1), new BigDecimal("80.00"))
+        );
+    }
+
+    private NetWorthQueryService createService(int maxConcurrency, Duration timeout) {
+        return new NetWorthQueryService(securityService, accountRepository, accountRollupRepository, transactionManager, maxConcurrency, timeout);
+    }
+
+    private void givenAccounts(UUID... accountIds) {
+        var versions = new ArrayList<AccountVersion>();
+        for (var accountId : accountIds) {
+            versions.add(new AccountVersion(new AccountId(accountId), 1L));
+        }
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findAllVersionsByUserId(new UserId(user.id()))).thenReturn(versions);
+    }
+
+    private AccountMonthlyRollupDto rollup(YearMonth month, String clearedIncome, String clearedExpense) {
+        return new AccountMonthlyRollupDto(
+                month,
+                new BigDecimal(clearedIncome),
+                new BigDecimal(clearedExpense),
+                new BigDecimal(clearedIncome),
+                new BigDecimal(clearedExpense),
+                1
+        );
+    }
+
+}
@@ -0,0 +1,29 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionQueryCountModeTest {
+
+    @Test
+    void from_givenNullOrBlank_returnsNone() {
+        assertThat(TransactionQueryCountMode.from(null)).isEqualTo(TransactionQueryCountMode.NONE);
+        assertThat(TransactionQueryCountMode.from(" ")).isEqualTo(TransactionQueryCountMode.NONE);
+    }
+
+    @Test
+    void from_givenEstimateExact_caseInsensitive_parsesCorrectly() {
+        assertThat(TransactionQueryCountMode.from("estimate")).isEqualTo(TransactionQueryCountMode.ESTIMATE);
+        assertThat(TransactionQueryCountMode.from("EXACT")).isEqualTo(TransactionQueryCountMode.EXACT);
+    }
+
+    @Test
+    void from_givenInvalidValue_throwsInvalidTransactionQueryException() {
+        assertThatThrownBy(() -> TransactionQueryCountMode.from("all"))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("Invalid includeCount. Use 'estimate' or 'exact'");
+    }
+}
@@ -0,0 +1,150 @@
+package dev.felix2000jp.envelope.accounts.application.queries;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.GetTransactionsDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionQueryCursorCodecTest {
+
+    private static final int FINGERPRINT = 42;
+
+    private final TransactionQueryCursorCodec codec = new TransactionQueryCursorCodec("test-transaction-cursor-secret-0123456789");
+
+    @Test
+    void encodeDecode_roundTrip_returnsSameCursor() {
+        var cursor = new TransactionQueryCursor(
+                UUID.randomUUID(),
+                LocalDate.of(2026, 3, 8),
+                TransactionQuerySortDirection.DESC
+        );
+
+        var encoded = codec.encode(cursor, FINGERPRINT);
+        var decoded = codec.decode(encoded, TransactionQuerySortDirection.DESC, FINGERPRINT);
+
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void encode_producesFixedLengthCursor() {
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2026, 3, 8), TransactionQuerySortDirection.ASC);
+
+        assertThat(codec.encode(cursor, FINGERPRINT)).hasSize(50);
+    }
+
+    @Test
+    void decode_givenNullOrBlank_returnsNull() {
+        assertThat(codec.decode(null, TransactionQuerySortDirection.DESC, FINGERPRINT)).isNull();
+        assertThat(codec.decode("  ", TransactionQuerySortDirection.DESC, FINGERPRINT)).isNull();
+    }
+
+    @Test
+    void decode_givenMalformedCursor_throwsInvalidTransactionQueryException() {
+        var invalidBase64 = "not-a-valid-cursor";
+
+        assertThatThrownBy(() -> codec.decode(invalidBase64, TransactionQuerySortDirection.DESC, FINGERPRINT))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("Invalid cursor format");
+    }
+
+    @Test
+    void decode_givenSortMismatch_throwsInvalidTransactionQueryException() {
+        var cursor = new TransactionQueryCursor(
+                UUID.randomUUID(),
+                LocalDate.of(2026, 3, 8),
+                TransactionQuerySortDirection.DESC
+        );
+        var encoded = codec.encode(cursor, FINGERPRINT);
+
+        assertThatThrownBy(() -> codec.decode(encoded, TransactionQuerySortDirection.ASC, FINGERPRINT))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("Cursor sort does not match request sort");
+    }
+
+    @Test
+    void decode_givenTamperedCursor_throwsInvalidTransactionQueryException() {
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2026, 3, 8), TransactionQuerySortDirection.DESC);
+        var bytes = Base64.getUrlDecoder().decode(codec.encode(cursor, FINGERPRINT));
+        bytes[19] ^= 1;
+        var tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertThatThrownBy(() -> codec.decode(tampered, TransactionQuerySortDirection.DESC, FINGERPRINT))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("Invalid cursor format");
+    }
+
+    @Test
+    void decode_givenCursorSignedWithOtherSecret_throwsInvalidTransactionQueryException() {
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2026, 3, 8), TransactionQuerySortDirection.DESC);
+        var encoded = new TransactionQueryCursorCodec("other-transaction-cursor-secret-0123456789").encode(cursor, FINGERPRINT);
+
+        assertThatThrownBy(() -> codec.decode(encoded, TransactionQuerySortDirection.DESC, FINGERPRINT))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("Invalid cursor format");
+    }
+
+    @Test
+    void decode_givenFilterMismatch_throwsInvalidTransactionQueryException() {
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2026, 3, 8), TransactionQuerySortDirection.DESC);
+        var encoded = codec.encode(cursor, FINGERPRINT);
+
+        assertThatThrownBy(() -> codec.decode(encoded, TransactionQuerySortDirection.DESC, FINGERPRINT + 1))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("Cursor does not match request filters");
+    }
+
+    @Test
+    void fingerprint_givenEquivalentFilters_returnsSameValue() {
+        var accountId = UUID.randomUUID();
+        var request = new GetTransactionsDto(10, "desc", null, new BigDecimal("10"), null, "coffee", true, null, null, null);
+        var equivalent = new GetTransactionsDto(50, "desc", "cursor", new BigDecimal("10.00"), null, " coffee ", true, null, null, null);
+
+        assertThat(TransactionQueryCursorCodec.fingerprint(accountId, equivalent))
+                .isEqualTo(TransactionQueryCursorCodec.fingerprint(accountId, request));
+    }
+
+    @Test
+    void fingerprint_givenDifferentFiltersOrAccount_returnsDifferentValue() {
+        var accountId = UUID.randomUUID();
+        var request = new GetTransactionsDto(10, "desc", null, null, null, "coffee", null, null, null, null);
+        var otherMemo = new GetTransactionsDto(10, "desc", null, null, null, "tea", null, null, null, null);
+        var otherRange = new GetTransactionsDto(10, "desc", null, null, null, "coffee", null, LocalDate.of(2026, 1, 1), null, null);
+
+        var fingerprint = TransactionQueryCursorCodec.fingerprint(accountId, request);
+
+        assertThat(TransactionQueryCursorCodec.fingerprint(accountId, otherMemo)).isNotEqualTo(fingerprint);
+        assertThat(TransactionQueryCursorCodec.fingerprint(accountId, otherRange)).isNotEqualTo(fingerprint);
+        assertThat(TransactionQueryCursorCodec.fingerprint(UUID.randomUUID(), request)).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void encodeDecode_givenPreviousCursor_keepsPreviousFlag() {
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2026, 3, 8), TransactionQuerySortDirection.ASC, true);
+
+        var decoded = codec.decode(codec.encode(cursor, FINGERPRINT), TransactionQuerySortDirection.ASC, FINGERPRINT);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.previous()).isTrue();
+    }
+    @Test
+    void constructor_givenBlankSecret_throws() {
+        assertThatThrownBy(() -> new TransactionQueryCursorCodec(" "))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("transaction-cursor.secret");
+    }
+
+    @Test
+    void constructor_givenShortSecret_throws() {
+        assertThatThrownBy(() -> new TransactionQueryCursorCodec("too-short"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("transaction-cursor.secret");
+    }
+
+}
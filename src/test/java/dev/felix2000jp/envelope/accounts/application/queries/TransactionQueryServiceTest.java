@@ -3,12 +3,10 @@ package dev.felix2000jp.envelope.accounts.application.queries;
 import dev.felix2000jp.envelope.accounts.application.dtos.GetTransactionsDto;
 import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
 import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
-import dev.felix2000jp.envelope.accounts.domain.Account;
 import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
-import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountBalance;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
-import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
 import dev.felix2000jp.envelope.system.security.SecurityService;
 import dev.felix2000jp.envelope.system.security.SecurityUser;
@@ -18,6 +16,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -29,7 +28,10 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +43,10 @@ class TransactionQueryServiceTest {
     private AccountRepository accountRepository;
     @Mock
     private TransactionQueryRepository transactionQueryRepository;
+    @Spy
+    private TransactionQueryCursorCodec transactionQueryCursorCodec = new TransactionQueryCursorCodec("test-transaction-cursor-secret-0123456789");
+    @Spy
+    private TransactionQueryCountCache transactionQueryCountCache = new TransactionQueryCountCache();
     @InjectMocks
     private TransactionQueryService transactionQueryService;
 
@@ -53,9 +59,9 @@ class TransactionQueryServiceTest {
         var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
 
         when(securityService.loadUserFromSecurityContext()).thenReturn(user);
-        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.empty());
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.empty());
 
-        var request = new GetTransactionsDto(30, "desc", null, null, null, null, null);
+        var request = new GetTransactionsDto(30, "desc", null, null, null, null, null, null, null, null);
 
         assertThatThrownBy(() -> transactionQueryService.getTransactions(accountId, request))
                 .isInstanceOf(AccountNotFoundException.class);
@@ -64,29 +70,59 @@ class TransactionQueryServiceTest {
     @Test
     void getTransactions_givenMinGreaterThanMax_throwsInvalidTransactionQueryException() {
         var accountId = UUID.randomUUID();
-        var request = new GetTransactionsDto(30, "desc", null, new BigDecimal("50"), new BigDecimal("10"), null, null);
+        var request = new GetTransactionsDto(30, "desc", null, new BigDecimal("50"), new BigDecimal("10"), null, null, null, null, null);
 
         assertThatThrownBy(() -> transactionQueryService.getTransactions(accountId, request))
                 .isInstanceOf(InvalidTransactionQueryException.class)
                 .hasMessage("minAmount must be less than or equal to maxAmount");
     }
 
+    @Test
+    void validate_givenMinGreaterThanMax_throwsWithoutTouchingRepositories() {
+        var accountId = UUID.randomUUID();
+        var request = new GetTransactionsDto(30, "desc", null, new BigDecimal("50"), new BigDecimal("10"), null, null, null, null, null);
+
+        assertThatThrownBy(() -> transactionQueryService.validate(accountId, request))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("minAmount must be less than or equal to maxAmount");
+        verifyNoInteractions(securityService, accountRepository, transactionQueryRepository);
+    }
+
+    @Test
+    void getTransactions_givenFromDateAfterToDate_throwsInvalidTransactionQueryException() {
+        var accountId = UUID.randomUUID();
+        var request = new GetTransactionsDto(30, "desc", null, null, null, null, null, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 3, 1), null);
+
+        assertThatThrownBy(() -> transactionQueryService.getTransactions(accountId, request))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("fromDate must be less than or equal to toDate");
+    }
+
+    @Test
+    void getTransactions_givenDatesOutsideSupportedRange_throwsInvalidTransactionQueryException() {
+        var accountId = UUID.randomUUID();
+        var fromMin = new GetTransactionsDto(30, "asc", null, null, null, null, null, LocalDate.MIN, null, null);
+        var toMax = new GetTransactionsDto(30, "desc", null, null, null, null, null, null, LocalDate.MAX, null);
+
+        assertThatThrownBy(() -> transactionQueryService.getTransactions(accountId, fromMin))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("fromDate and toDate must be between 0001-01-01 and 9999-12-31");
+        assertThatThrownBy(() -> transactionQueryService.getTransactions(accountId, toMax))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("fromDate and toDate must be between 0001-01-01 and 9999-12-31");
+        verifyNoInteractions(transactionQueryRepository);
+    }
+
     @Test
     void getTransactions_givenLimitOutOfRange_throwsInvalidTransactionQueryException() {
         var accountId = UUID.randomUUID();
         var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
-        var account = Account.from(
-                new AccountId(accountId),
-                new UserId(user.id()),
-                new AccountName("Test"),
-                new AccountBalance(BigDecimal.ZERO)
-        );
 
         when(securityService.loadUserFromSecurityContext()).thenReturn(user);
-        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(account));
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
 
-        var tooSmall = new GetTransactionsDto(0, "desc", null, null, null, null, null);
-        var tooBig = new GetTransactionsDto(101, "desc", null, null, null, null, null);
+        var tooSmall = new GetTransactionsDto(0, "desc", null, null, null, null, null, null, null, null);
+        var tooBig = new GetTransactionsDto(101, "desc", null, null, null, null, null, null, null, null);
 
         assertThatThrownBy(() -> transactionQueryService.getTransactions(accountId, tooSmall))
                 .isInstanceOf(InvalidTransactionQueryException.class)
@@ -101,20 +137,14 @@ class TransactionQueryServiceTest {
     void getTransactions_givenMoreThanLimit_setsHasMoreTrue_andNextCursor() {
         var accountId = UUID.randomUUID();
         var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
-        var account = Account.from(
-                new AccountId(accountId),
-                new UserId(user.id()),
-                new AccountName("Test"),
-                new AccountBalance(BigDecimal.ZERO)
-        );
-        var request = new GetTransactionsDto(2, "desc", null, null, null, null, null);
+        var request = new GetTransactionsDto(2, "desc", null, null, null, null, null, null, null, null);
 
-        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "first", true);
-        var transaction2 = new TransactionDto(UUID.randomUUID(), new BigDecimal("20.00"), LocalDate.of(2026, 3, 7), "second", true);
-        var transaction3 = new TransactionDto(UUID.randomUUID(), new BigDecimal("30.00"), LocalDate.of(2026, 3, 6), "third", false);
+        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "first", true, null);
+        var transaction2 = new TransactionDto(UUID.randomUUID(), new BigDecimal("20.00"), LocalDate.of(2026, 3, 7), "second", true, null);
+        var transaction3 = new TransactionDto(UUID.randomUUID(), new BigDecimal("30.00"), LocalDate.of(2026, 3, 6), "third", false, null);
 
         when(securityService.loadUserFromSecurityContext()).thenReturn(user);
-        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(account));
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
         when(transactionQueryRepository.findByAccountIdAndUserId(accountId, user.id(), request, TransactionQuerySortDirection.DESC, null, 3))
                 .thenReturn(List.of(transaction1, transaction2, transaction3));
 
@@ -129,19 +159,13 @@ class TransactionQueryServiceTest {
     void getTransactions_givenAtMostLimit_setsHasMoreFalse_andNextCursorNull() {
         var accountId = UUID.randomUUID();
         var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
-        var account = Account.from(
-                new AccountId(accountId),
-                new UserId(user.id()),
-                new AccountName("Test"),
-                new AccountBalance(BigDecimal.ZERO)
-        );
-        var request = new GetTransactionsDto(2, "asc", null, null, null, null, null);
+        var request = new GetTransactionsDto(2, "asc", null, null, null, null, null, null, null, null);
 
-        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "first", true);
-        var transaction2 = new TransactionDto(UUID.randomUUID(), new BigDecimal("20.00"), LocalDate.of(2026, 3, 9), "second", true);
+        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "first", true, null);
+        var transaction2 = new TransactionDto(UUID.randomUUID(), new BigDecimal("20.00"), LocalDate.of(2026, 3, 9), "second", true, null);
 
         when(securityService.loadUserFromSecurityContext()).thenReturn(user);
-        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(account));
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
         when(transactionQueryRepository.findByAccountIdAndUserId(accountId, user.id(), request, TransactionQuerySortDirection.ASC, null, 3))
                 .thenReturn(List.of(transaction1, transaction2));
 
@@ -156,16 +180,10 @@ class TransactionQueryServiceTest {
     void getTransactions_passesLimitPlusOneToRepository() {
         var accountId = UUID.randomUUID();
         var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
-        var account = Account.from(
-                new AccountId(accountId),
-                new UserId(user.id()),
-                new AccountName("Test"),
-                new AccountBalance(BigDecimal.ZERO)
-        );
-        var request = new GetTransactionsDto(25, "desc", null, null, null, null, null);
+        var request = new GetTransactionsDto(25, "desc", null, null, null, null, null, null, null, null);
 
         when(securityService.loadUserFromSecurityContext()).thenReturn(user);
-        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(account));
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
         when(transactionQueryRepository.findByAccountIdAndUserId(
                 accountId,
                 user.id(),
@@ -187,4 +205,167 @@ class TransactionQueryServiceTest {
         );
         assertThat(limitCaptor.getValue()).isEqualTo(26);
     }
+
+    @Test
+    void getTransactions_givenCursorFromOtherFilters_throwsInvalidTransactionQueryExceptionWithoutQuerying() {
+        var accountId = UUID.randomUUID();
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2026, 3, 8), TransactionQuerySortDirection.DESC);
+        var firstRequest = new GetTransactionsDto(2, "desc", null, null, null, "coffee", null, null, null, null);
+        var encodedCursor = transactionQueryCursorCodec.encode(cursor, TransactionQueryCursorCodec.fingerprint(accountId, firstRequest));
+        var request = new GetTransactionsDto(2, "desc", encodedCursor, null, null, "tea", null, null, null, null);
+
+        assertThatThrownBy(() -> transactionQueryService.getTransactions(accountId, request))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("Cursor does not match request filters");
+        verifyNoInteractions(securityService, accountRepository, transactionQueryRepository);
+    }
+
+    @Test
+    void getTransactions_givenFirstPage_setsPrevCursorNull() {
+        var accountId = UUID.randomUUID();
+        var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var request = new GetTransactionsDto(1, "desc", null, null, null, null, null, null, null, null);
+
+        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "first", true, null);
+        var transaction2 = new TransactionDto(UUID.randomUUID(), new BigDecimal("20.00"), LocalDate.of(2026, 3, 7), "second", true, null);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
+        when(transactionQueryRepository.findByAccountIdAndUserId(accountId, user.id(), request, TransactionQuerySortDirection.DESC, null, 2))
+                .thenReturn(List.of(transaction1, transaction2));
+
+        var actual = transactionQueryService.getTransactions(accountId, request);
+
+        assertThat(actual.nextCursor()).isNotBlank();
+        assertThat(actual.prevCursor()).isNull();
+    }
+
+    @Test
+    void getTransactions_givenNextCursor_setsPrevCursorFromFirstItem() {
+        var accountId = UUID.randomUUID();
+        var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var fingerprint = TransactionQueryCursorCodec.fingerprint(accountId, new GetTransactionsDto(2, "desc", null, null, null, null, null, null, null, null));
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2026, 3, 9), TransactionQuerySortDirection.DESC);
+        var request = new GetTransactionsDto(2, "desc", transactionQueryCursorCodec.encode(cursor, fingerprint), null, null, null, null, null, null, null);
+
+        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "first", true, null);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
+        when(transactionQueryRepository.findByAccountIdAndUserId(accountId, user.id(), request, TransactionQuerySortDirection.DESC, cursor, 3))
+                .thenReturn(List.of(transaction1));
+
+        var actual = transactionQueryService.getTransactions(accountId, request);
+
+        assertThat(actual.hasMore()).isFalse();
+        assertThat(actual.nextCursor()).isNull();
+        assertThat(transactionQueryCursorCodec.decode(actual.prevCursor(), TransactionQuerySortDirection.DESC, fingerprint))
+                .isEqualTo(new TransactionQueryCursor(transaction1.id(), transaction1.dateOfTransaction(), TransactionQuerySortDirection.DESC, true));
+    }
+
+    @Test
+    void getTransactions_givenPrevCursor_queriesReverseDirectionAndFlipsItems() {
+        var accountId = UUID.randomUUID();
+        var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var fingerprint = TransactionQueryCursorCodec.fingerprint(accountId, new GetTransactionsDto(2, "desc", null, null, null, null, null, null, null, null));
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2026, 3, 5), TransactionQuerySortDirection.DESC, true);
+        var request = new GetTransactionsDto(2, "desc", transactionQueryCursorCodec.encode(cursor, fingerprint), null, null, null, null, null, null, null);
+
+        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 6), "first", true, null);
+        var transaction2 = new TransactionDto(UUID.randomUUID(), new BigDecimal("20.00"), LocalDate.of(2026, 3, 7), "second", true, null);
+        var transaction3 = new TransactionDto(UUID.randomUUID(), new BigDecimal("30.00"), LocalDate.of(2026, 3, 8), "third", false, null);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
+        when(transactionQueryRepository.findByAccountIdAndUserId(accountId, user.id(), request, TransactionQuerySortDirection.ASC, cursor, 3))
+                .thenReturn(List.of(transaction1, transaction2, transaction3));
+
+        var actual = transactionQueryService.getTransactions(accountId, request);
+
+        assertThat(actual.items()).containsExactly(transaction2, transaction1);
+        assertThat(actual.hasMore()).isTrue();
+        assertThat(transactionQueryCursorCodec.decode(actual.nextCursor(), TransactionQuerySortDirection.DESC, fingerprint))
+                .isEqualTo(new TransactionQueryCursor(transaction1.id(), transaction1.dateOfTransaction(), TransactionQuerySortDirection.DESC, false));
+        assertThat(transactionQueryCursorCodec.decode(actual.prevCursor(), TransactionQuerySortDirection.DESC, fingerprint))
+                .isEqualTo(new TransactionQueryCursor(transaction2.id(), transaction2.dateOfTransaction(), TransactionQuerySortDirection.DESC, true));
+    }
+
+    @Test
+    void getTransactions_givenInvalidIncludeCount_throwsInvalidTransactionQueryException() {
+        var accountId = UUID.randomUUID();
+        var request = new GetTransactionsDto(30, "desc", null, null, null, null, null, null, null, "all");
+
+        assertThatThrownBy(() -> transactionQueryService.getTransactions(accountId, request))
+                .isInstanceOf(InvalidTransactionQueryException.class)
+                .hasMessage("Invalid includeCount. Use 'estimate' or 'exact'");
+        verifyNoInteractions(securityService, accountRepository, transactionQueryRepository);
+    }
+
+    @Test
+    void getTransactions_givenIncludeCountOnSinglePage_returnsItemCountWithoutCounting() {
+        var accountId = UUID.randomUUID();
+        var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var request = new GetTransactionsDto(2, "desc", null, null, null, null, null, null, null, "exact");
+
+        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "first", true, null);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
+        when(transactionQueryRepository.findByAccountIdAndUserId(accountId, user.id(), request, TransactionQuerySortDirection.DESC, null, 3))
+                .thenReturn(List.of(transaction1));
+
+        var actual = transactionQueryService.getTransactions(accountId, request);
+
+        assertThat(actual.totalCount()).isEqualTo(1);
+        verify(transactionQueryRepository, never()).countByAccountIdAndUserId(accountId, user.id(), request);
+    }
+
+    @Test
+    void getTransactions_givenEstimateCount_returnsEstimatedCount() {
+        var accountId = UUID.randomUUID();
+        var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var request = new GetTransactionsDto(1, "desc", null, null, null, null, null, null, null, "estimate");
+
+        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "first", true, null);
+        var transaction2 = new TransactionDto(UUID.randomUUID(), new BigDecimal("20.00"), LocalDate.of(2026, 3, 7), "second", true, null);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(new AccountVersion(new AccountId(accountId), 0)));
+        when(transactionQueryRepository.findByAccountIdAndUserId(accountId, user.id(), request, TransactionQuerySortDirection.DESC, null, 2))
+                .thenReturn(List.of(transaction1, transaction2));
+        when(transactionQueryRepository.estimateCountByAccountIdAndUserId(accountId, user.id(), request)).thenReturn(12400L);
+
+        var actual = transactionQueryService.getTransactions(accountId, request);
+
+        assertThat(actual.totalCount()).isEqualTo(12400);
+    }
+
+    @Test
+    void getTransactions_givenExactCount_countsOncePerAccountVersion() {
+        var accountId = UUID.randomUUID();
+        var user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+        var request = new GetTransactionsDto(1, "desc", null, null, null, "coffee", null, null, null, "exact");
+
+        var transaction1 = new TransactionDto(UUID.randomUUID(), new BigDecimal("10.00"), LocalDate.of(2026, 3, 8), "coffee", true, null);
+        var transaction2 = new TransactionDto(UUID.randomUUID(), new BigDecimal("20.00"), LocalDate.of(2026, 3, 7), "coffee", true, null);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findVersionByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(
+                Optional.of(new AccountVersion(new AccountId(accountId), 1)),
+                Optional.of(new AccountVersion(new AccountId(accountId), 1)),
+                Optional.of(new AccountVersion(new AccountId(accountId), 2))
+        );
+        when(transactionQueryRepository.findByAccountIdAndUserId(accountId, user.id(), request, TransactionQuerySortDirection.DESC, null, 2))
+                .thenReturn(List.of(transaction1, transaction2));
+        when(transactionQueryRepository.countByAccountIdAndUserId(accountId, user.id(), request)).thenReturn(7L, 8L);
+
+        var first = transactionQueryService.getTransactions(accountId, request);
+        var second = transactionQueryService.getTransactions(accountId, request);
+        var afterWrite = transactionQueryService.getTransactions(accountId, request);
+
+        assertThat(first.totalCount()).isEqualTo(7);
+        assertThat(second.totalCount()).isEqualTo(7);
+        assertThat(afterWrite.totalCount()).isEqualTo(8);
+        verify(transactionQueryRepository, times(2)).countByAccountIdAndUserId(accountId, user.id(), request);
+    }
 }
@@ -26,4 +26,10 @@ class TransactionQuerySortDirectionTest {
                 .isInstanceOf(InvalidTransactionQueryException.class)
                 .hasMessage("Invalid sort direction. Use 'asc' or 'desc'");
     }
+
+    @Test
+    void reverse_returnsOppositeDirection() {
+        assertThat(TransactionQuerySortDirection.ASC.reverse()).isEqualTo(TransactionQuerySortDirection.DESC);
+        assertThat(TransactionQuerySortDirection.DESC.reverse()).isEqualTo(TransactionQuerySortDirection.ASC);
+    }
 }
@@ -0,0 +1,136 @@
+package dev.felix2000jp.envelope.accounts.application.reconciliation;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.ReconcileStatementDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.StatementLineDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionClearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationServiceTest {
+
+    private final SecurityUser user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+    private final UUID accountId = UUID.randomUUID();
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private ReconciliationRepository reconciliationRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private ReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        reconciliationService = new ReconciliationService(securityService, accountRepository, reconciliationRepository, applicationEventPublisher, 3);
+    }
+
+    @Test
+    void reconcile_givenAccountNotFound_throwsAccountNotFoundException() {
+        var reconcileStatementDto = new ReconcileStatementDto(List.of(new StatementLineDto(BigDecimal.TEN, LocalDate.of(2024, 3, 1), null)), null);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> reconciliationService.reconcile(accountId, reconcileStatementDto))
+                .isInstanceOf(AccountNotFoundException.class);
+        verifyNoInteractions(reconciliationRepository);
+    }
+
+    @Test
+    void reconcile_givenMatches_clearsThemInOneUpdateAndReturnsUnmatchedLines() {
+        var rent = new TransactionDto(UUID.randomUUID(), new BigDecimal("-950.00"), LocalDate.of(2024, 3, 1), "Rent", false, null);
+        var coffee = new TransactionDto(UUID.randomUUID(), new BigDecimal("-4.50"), LocalDate.of(2024, 3, 10), "Coffee", false, null);
+        var unknownLine = new StatementLineDto(new BigDecimal("-12.00"), LocalDate.of(2024, 3, 15), "Unknown");
+        var reconcileStatementDto = new ReconcileStatementDto(List.of(
+                new StatementLineDto(new BigDecimal("-950.00"), LocalDate.of(2024, 3, 2), "RENT"),
+                new StatementLineDto(new BigDecimal("-4.50"), LocalDate.of(2024, 3, 11), "COFFEE"),
+                unknownLine
+        ), null);
+
+        givenOwnedAccount();
+        when(reconciliationRepository.findUnclearedByAccountId(accountId, LocalDate.of(2024, 2, 28), LocalDate.of(2024, 3, 18)))
+                .thenReturn(List.of(rent, coffee));
+        when(reconciliationRepository.clearTransactions(accountId, List.of(rent.id(), coffee.id()))).thenReturn(new BigDecimal("-954.50"));
+
+        var actual = reconciliationService.reconcile(accountId, reconcileStatementDto);
+
+        InOrder inOrder = Mockito.inOrder(reconciliationRepository);
+        inOrder.verify(reconciliationRepository).lockAccount(accountId);
+        inOrder.verify(reconciliationRepository).findUnclearedByAccountId(any(), any(), any());
+        inOrder.verify(reconciliationRepository).clearTransactions(accountId, List.of(rent.id(), coffee.id()));
+
+        assertThat(actual.matched()).isEqualTo(2);
+        assertThat(actual.clearedAmount()).isEqualTo(new BigDecimal("-954.50"));
+        assertThat(actual.clearedTransactionIds()).containsExactly(rent.id(), coffee.id());
+        assertThat(actual.unmatchedLines()).containsExactly(unknownLine);
+
+        var events = ArgumentCaptor.forClass(TransactionClearedEvent.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).containsExactly(
+                new TransactionClearedEvent(user.id(), accountId, rent.id(), rent.amount(), rent.dateOfTransaction()),
+                new TransactionClearedEvent(user.id(), accountId, coffee.id(), coffee.amount(), coffee.dateOfTransaction())
+        );
+    }
+
+    @Test
+    void reconcile_givenNoMatches_skipsUpdate() {
+        var line = new StatementLineDto(new BigDecimal("-12.00"), LocalDate.of(2024, 3, 15), null);
+        var reconcileStatementDto = new ReconcileStatementDto(List.of(line), 0);
+
+        givenOwnedAccount();
+        when(reconciliationRepository.findUnclearedByAccountId(accountId, LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 15)))
+                .thenReturn(List.of());
+
+        var actual = reconciliationService.reconcile(accountId, reconcileStatementDto);
+
+        verify(reconciliationRepository, never()).clearTransactions(any(), any());
+        verifyNoInteractions(applicationEventPublisher);
+        assertThat(actual.matched()).isZero();
+        assertThat(actual.clearedAmount()).isEqualTo(BigDecimal.ZERO);
+        assertThat(actual.unmatchedLines()).containsExactly(line);
+    }
+
+    private void givenOwnedAccount() {
+        var account = Account.from(new AccountId(accountId), new UserId(user.id()), new AccountName("Checking"));
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(account));
+    }
+
+}
@@ -0,0 +1,86 @@
+package dev.felix2000jp.envelope.accounts.application.reconciliation;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.StatementLineDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.TransactionDto;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementMatcherTest {
+
+    @Test
+    void match_given_line_within_window_then_match_transaction() {
+        var transaction = transaction("-40.00", LocalDate.of(2024, 3, 5), "Coffee");
+        var line = new StatementLineDto(new BigDecimal("-40"), LocalDate.of(2024, 3, 7), "COFFEE SHOP");
+
+        var actual = new StatementMatcher(List.of(transaction), 3).match(List.of(line));
+
+        assertThat(actual.matchedIds()).containsExactly(transaction.id());
+        assertThat(actual.unmatchedLines()).isEmpty();
+    }
+
+    @Test
+    void match_given_line_outside_window_then_leave_unmatched() {
+        var transaction = transaction("-40.00", LocalDate.of(2024, 3, 1), "Coffee");
+        var line = new StatementLineDto(new BigDecimal("-40.00"), LocalDate.of(2024, 3, 7), null);
+
+        var actual = new StatementMatcher(List.of(transaction), 3).match(List.of(line));
+
+        assertThat(actual.matchedIds()).isEmpty();
+        assertThat(actual.unmatchedLines()).containsExactly(line);
+    }
+
+    @Test
+    void match_given_different_amount_then_leave_unmatched() {
+        var transaction = transaction("-40.00", LocalDate.of(2024, 3, 5), "Coffee");
+        var line = new StatementLineDto(new BigDecimal("-40.01"), LocalDate.of(2024, 3, 5), null);
+
+        var actual = new StatementMatcher(List.of(transaction), 3).match(List.of(line));
+
+        assertThat(actual.unmatchedLines()).containsExactly(line);
+    }
+
+    @Test
+    void match_given_several_candidates_then_prefer_closest_date() {
+        var far = transaction("-10.00", LocalDate.of(2024, 3, 2), "Lunch");
+        var close = transaction("-10.00", LocalDate.of(2024, 3, 4), "Lunch");
+        var line = new StatementLineDto(new BigDecimal("-10.00"), LocalDate.of(2024, 3, 5), null);
+
+        var actual = new StatementMatcher(List.of(far, close), 3).match(List.of(line));
+
+        assertThat(actual.matchedIds()).containsExactly(close.id());
+    }
+
+    @Test
+    void match_given_candidates_at_same_distance_then_prefer_matching_memo() {
+        var before = transaction("-10.00", LocalDate.of(2024, 3, 4), "Lunch");
+        var after = transaction("-10.00", LocalDate.of(2024, 3, 6), "Parking");
+        var line = new StatementLineDto(new BigDecimal("-10.00"), LocalDate.of(2024, 3, 5), "parking");
+
+        var actual = new StatementMatcher(List.of(before, after), 3).match(List.of(line));
+
+        assertThat(actual.matchedIds()).containsExactly(after.id());
+    }
+
+    @Test
+    void match_given_duplicate_lines_then_match_each_transaction_once() {
+        var first = transaction("-10.00", LocalDate.of(2024, 3, 5), "Lunch");
+        var second = transaction("-10.00", LocalDate.of(2024, 3, 5), "Lunch");
+        var line = new StatementLineDto(new BigDecimal("-10.00"), LocalDate.of(2024, 3, 5), null);
+
+        var actual = new StatementMatcher(List.of(first, second), 0).match(List.of(line, line, line));
+
+        assertThat(actual.matchedIds()).containsExactlyInAnyOrder(first.id(), second.id());
+        assertThat(actual.unmatchedLines()).containsExactly(line);
+    }
+
+    private TransactionDto transaction(String amount, LocalDate date, String memo) {
+        return new TransactionDto(UUID.randomUUID(), new BigDecimal(amount), date, memo, false, null);
+    }
+
+}
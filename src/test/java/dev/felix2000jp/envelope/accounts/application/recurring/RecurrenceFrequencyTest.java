@@ -0,0 +1,39 @@
+package dev.felix2000jp.envelope.accounts.application.recurring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurrenceFrequencyTest {
+
+    @Test
+    void occurrence_given_daily_then_add_interval_days() {
+        assertThat(RecurrenceFrequency.DAILY.occurrence(LocalDate.of(2024, 1, 30), 3, 2)).isEqualTo(LocalDate.of(2024, 2, 5));
+    }
+
+    @Test
+    void occurrence_given_weekly_then_add_interval_weeks() {
+        assertThat(RecurrenceFrequency.WEEKLY.occurrence(LocalDate.of(2024, 1, 1), 2, 3)).isEqualTo(LocalDate.of(2024, 2, 12));
+    }
+
+    @Test
+    void occurrence_given_monthly_from_end_of_month_then_keep_start_day_without_drift() {
+        var startDate = LocalDate.of(2024, 1, 31);
+
+        assertThat(RecurrenceFrequency.MONTHLY.occurrence(startDate, 1, 1)).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(RecurrenceFrequency.MONTHLY.occurrence(startDate, 1, 2)).isEqualTo(LocalDate.of(2024, 3, 31));
+    }
+
+    @Test
+    void occurrence_given_yearly_from_leap_day_then_clamp_to_end_of_february() {
+        assertThat(RecurrenceFrequency.YEARLY.occurrence(LocalDate.of(2024, 2, 29), 1, 1)).isEqualTo(LocalDate.of(2025, 2, 28));
+    }
+
+    @Test
+    void occurrence_given_index_zero_then_return_start_date() {
+        assertThat(RecurrenceFrequency.MONTHLY.occurrence(LocalDate.of(2024, 5, 15), 6, 0)).isEqualTo(LocalDate.of(2024, 5, 15));
+    }
+
+}
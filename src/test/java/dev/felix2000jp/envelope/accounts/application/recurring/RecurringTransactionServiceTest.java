@@ -0,0 +1,147 @@
+package dev.felix2000jp.envelope.accounts.application.recurring;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateRecurringTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.RecurringTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidRecurringTransactionException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.RecurringTransactionNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringTransactionServiceTest {
+
+    private final SecurityUser user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+    private final UUID accountId = UUID.randomUUID();
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private RecurringTransactionRepository recurringTransactionRepository;
+    @InjectMocks
+    private RecurringTransactionService recurringTransactionService;
+
+    @Captor
+    private ArgumentCaptor<RecurringTransactionDto> recurringTransactionCaptor;
+
+    @Test
+    void createRecurringTransaction_givenDefaults_savesFromStartDate() {
+        var createRecurringTransactionDto = new CreateRecurringTransactionDto(
+                new BigDecimal("-950.00"), null, true, RecurrenceFrequency.MONTHLY, null, LocalDate.of(2024, 1, 1), null
+        );
+
+        givenOwnedAccount();
+
+        var actual = recurringTransactionService.createRecurringTransaction(accountId, createRecurringTransactionDto);
+        verify(recurringTransactionRepository).save(eq(accountId), recurringTransactionCaptor.capture());
+
+        assertThat(recurringTransactionCaptor.getValue()).isEqualTo(actual);
+        assertThat(actual.id()).isNotNull();
+        assertThat(actual.memo()).isEmpty();
+        assertThat(actual.interval()).isEqualTo(1);
+        assertThat(actual.nextOccurrence()).isEqualTo(LocalDate.of(2024, 1, 1));
+    }
+
+    @Test
+    void createRecurringTransaction_givenEndDateBeforeStartDate_throwsInvalidRecurringTransactionException() {
+        var createRecurringTransactionDto = new CreateRecurringTransactionDto(
+                new BigDecimal("-950.00"), "Rent", true, RecurrenceFrequency.MONTHLY, 1, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)
+        );
+
+        assertThatThrownBy(() -> recurringTransactionService.createRecurringTransaction(accountId, createRecurringTransactionDto))
+                .isInstanceOf(InvalidRecurringTransactionException.class)
+                .hasMessage("endDate must be on or after startDate");
+        verifyNoInteractions(securityService, accountRepository, recurringTransactionRepository);
+    }
+
+    @Test
+    void createRecurringTransaction_givenAccountNotFound_throwsAccountNotFoundException() {
+        var createRecurringTransactionDto = new CreateRecurringTransactionDto(
+                new BigDecimal("-950.00"), "Rent", true, RecurrenceFrequency.MONTHLY, 1, LocalDate.of(2024, 1, 1), null
+        );
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> recurringTransactionService.createRecurringTransaction(accountId, createRecurringTransactionDto))
+                .isInstanceOf(AccountNotFoundException.class);
+        verify(recurringTransactionRepository, never()).save(any(), any());
+    }
+
+    @Test
+    void getRecurringTransactions_givenAccount_returnsDefinitions() {
+        var recurringTransaction = new RecurringTransactionDto(
+                UUID.randomUUID(), new BigDecimal("3000.00"), "Salary", true, RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2024, 1, 25), null, LocalDate.of(2024, 2, 25)
+        );
+
+        givenOwnedAccount();
+        when(recurringTransactionRepository.findAllByAccountId(accountId)).thenReturn(List.of(recurringTransaction));
+
+        var actual = recurringTransactionService.getRecurringTransactions(accountId);
+
+        assertThat(actual.total()).isEqualTo(1);
+        assertThat(actual.recurringTransactions()).containsExactly(recurringTransaction);
+    }
+
+    @Test
+    void deleteRecurringTransaction_givenUnknownDefinition_throwsRecurringTransactionNotFoundException() {
+        var recurringTransactionId = UUID.randomUUID();
+
+        givenOwnedAccount();
+        when(recurringTransactionRepository.deleteByIdAndAccountId(recurringTransactionId, accountId)).thenReturn(false);
+
+        assertThatThrownBy(() -> recurringTransactionService.deleteRecurringTransaction(accountId, recurringTransactionId))
+                .isInstanceOf(RecurringTransactionNotFoundException.class);
+    }
+
+    @Test
+    void deleteRecurringTransaction_givenDefinition_deletesIt() {
+        var recurringTransactionId = UUID.randomUUID();
+
+        givenOwnedAccount();
+        when(recurringTransactionRepository.deleteByIdAndAccountId(recurringTransactionId, accountId)).thenReturn(true);
+
+        recurringTransactionService.deleteRecurringTransaction(accountId, recurringTransactionId);
+
+        verify(recurringTransactionRepository).deleteByIdAndAccountId(recurringTransactionId, accountId);
+    }
+
+    private void givenOwnedAccount() {
+        var account = Account.from(new AccountId(accountId), new UserId(user.id()), new AccountName("Checking"));
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(accountRepository.findByIdAndUserId(new AccountId(accountId), new UserId(user.id()))).thenReturn(Optional.of(account));
+    }
+
+}
@@ -0,0 +1,126 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+import dev.felix2000jp.envelope.system.security.SecurityScope;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncNotificationServiceTest {
+
+    private final SecurityUser user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+
+    @Mock
+    private SecurityService securityService;
+
+    private SyncNotificationService syncNotificationService;
+
+    @BeforeEach
+    void setUp() {
+        syncNotificationService = new SyncNotificationService(securityService, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncNotificationService.shutdown();
+    }
+
+    @Test
+    void subscribe_given_subscriber_then_notify_it_immediately() {
+        var subscriber = mock(SyncSubscriber.class);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+
+        syncNotificationService.subscribe(subscriber);
+
+        verify(subscriber, timeout(1000)).onChange();
+    }
+
+    @Test
+    void notifyChanged_given_user_then_notify_only_its_subscribers() {
+        var otherUser = new SecurityUser(UUID.randomUUID(), "other", "password", Set.of());
+        var subscriber = mock(SyncSubscriber.class);
+        var otherSubscriber = mock(SyncSubscriber.class);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user, otherUser);
+
+        syncNotificationService.subscribe(subscriber);
+        syncNotificationService.subscribe(otherSubscriber);
+        syncNotificationService.notifyChanged(user.id());
+
+        verify(subscriber, timeout(1000).times(2)).onChange();
+        verify(otherSubscriber, after(200).times(1)).onChange();
+    }
+
+    @Test
+    void notifyChanged_given_unsubscribed_subscriber_then_do_not_notify_it() {
+        var subscriber = mock(SyncSubscriber.class);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+
+        var unsubscribe = syncNotificationService.subscribe(subscriber);
+        unsubscribe.run();
+        syncNotificationService.notifyChanged(user.id());
+
+        verify(subscriber, after(200).times(1)).onChange();
+    }
+
+    @Test
+    void notifyAllChanged_given_subscribers_then_notify_all_of_them() {
+        var otherUser = new SecurityUser(UUID.randomUUID(), "other", "password", Set.of());
+        var subscriber = mock(SyncSubscriber.class);
+        var otherSubscriber = mock(SyncSubscriber.class);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user, otherUser);
+
+        syncNotificationService.subscribe(subscriber);
+        syncNotificationService.subscribe(otherSubscriber);
+        syncNotificationService.notifyAllChanged();
+
+        verify(subscriber, timeout(1000).times(2)).onChange();
+        verify(otherSubscriber, timeout(1000).times(2)).onChange();
+    }
+
+    @Test
+    void sendHeartbeats_given_subscribers_then_send_heartbeat_to_each() {
+        var subscriber = mock(SyncSubscriber.class);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+
+        syncNotificationService.subscribe(subscriber);
+        syncNotificationService.sendHeartbeats();
+
+        verify(subscriber, timeout(1000).times(1)).onHeartbeat();
+    }
+
+    @Test
+    void generateToken_then_return_sync_events_scoped_token() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(securityService.generateToken(user.id(), user.username(), List.of(SecurityScope.SYNC_EVENTS), Duration.ofMinutes(1)))
+                .thenReturn("token");
+
+        var actual = syncNotificationService.generateToken();
+
+        assertThat(actual.token()).isEqualTo("token");
+        assertThat(actual.expiresIn()).isEqualTo(60);
+    }
+
+}
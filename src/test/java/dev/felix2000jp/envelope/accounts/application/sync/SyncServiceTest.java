@@ -0,0 +1,153 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidSyncTokenException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.SyncTokenExpiredException;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private final SecurityUser user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private SyncRepository syncRepository;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(securityService, syncRepository);
+    }
+
+    @Test
+    void sync_given_no_token_then_return_head_token_without_changes() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(syncRepository.findHeadByUserId(user.id())).thenReturn(new SyncToken(1000, 7));
+
+        var actual = syncService.sync(null, 100);
+
+        assertThat(actual.token()).isEqualTo("1000-7");
+        assertThat(actual.hasMore()).isFalse();
+        assertThat(actual.accounts()).isEmpty();
+        assertThat(actual.transactions()).isEmpty();
+        verify(syncRepository, never()).findChangesByUserId(any(), any(), anyInt());
+    }
+
+    @Test
+    void sync_given_malformed_token_then_throw_exception() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+
+        assertThatThrownBy(() -> syncService.sync("not-a-token", 100)).isInstanceOf(InvalidSyncTokenException.class);
+    }
+
+    @Test
+    void sync_given_token_older_than_horizon_then_throw_exception() {
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(syncRepository.findHorizonByUserId(user.id())).thenReturn(new SyncToken(2000, 1));
+
+        assertThatThrownBy(() -> syncService.sync("1999-50", 100)).isInstanceOf(SyncTokenExpiredException.class);
+        verify(syncRepository, never()).findChangesByUserId(any(), any(), anyInt());
+    }
+
+    @Test
+    void sync_given_no_changes_then_return_same_token() {
+        var since = new SyncToken(1000, 7);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(syncRepository.findHorizonByUserId(user.id())).thenReturn(SyncToken.ZERO);
+        when(syncRepository.findChangesByUserId(user.id(), since, 101)).thenReturn(List.of());
+
+        var actual = syncService.sync("1000-7", 100);
+
+        assertThat(actual.token()).isEqualTo("1000-7");
+        assertThat(actual.hasMore()).isFalse();
+    }
+
+    @Test
+    void sync_given_changes_then_return_current_rows_and_deleted_ids() {
+        var since = new SyncToken(1000, 7);
+        var account = new AccountDto(UUID.randomUUID(), "Checking", new BigDecimal("75.00"), false);
+        var deletedAccountId = UUID.randomUUID();
+        var transaction = new SyncTransactionDto(UUID.randomUUID(), account.id(), new BigDecimal("-25.00"), LocalDate.of(2024, 3, 1), "Coffee", false, null);
+        var deletedTransactionId = UUID.randomUUID();
+        var changes = List.of(
+                new SyncChange(SyncEntityType.ACCOUNT, account.id(), new SyncToken(1001, 8)),
+                new SyncChange(SyncEntityType.TRANSACTION, transaction.id(), new SyncToken(1001, 9)),
+                new SyncChange(SyncEntityType.ACCOUNT, account.id(), new SyncToken(1002, 10)),
+                new SyncChange(SyncEntityType.TRANSACTION, deletedTransactionId, new SyncToken(1003, 11)),
+                new SyncChange(SyncEntityType.ACCOUNT, deletedAccountId, new SyncToken(1004, 12))
+        );
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(syncRepository.findHorizonByUserId(user.id())).thenReturn(SyncToken.ZERO);
+        when(syncRepository.findChangesByUserId(user.id(), since, 101)).thenReturn(changes);
+        when(syncRepository.findAccountsByUserIdAndIds(user.id(), Set.of(account.id(), deletedAccountId))).thenReturn(List.of(account));
+        when(syncRepository.findTransactionsByUserIdAndIds(user.id(), Set.of(transaction.id(), deletedTransactionId))).thenReturn(List.of(transaction));
+
+        var actual = syncService.sync("1000-7", 100);
+
+        assertThat(actual.token()).isEqualTo("1004-12");
+        assertThat(actual.hasMore()).isFalse();
+        assertThat(actual.accounts()).containsExactly(account);
+        assertThat(actual.transactions()).containsExactly(transaction);
+        assertThat(actual.deletedAccountIds()).containsExactly(deletedAccountId);
+        assertThat(actual.deletedTransactionIds()).containsExactly(deletedTransactionId);
+    }
+
+    @Test
+    void sync_given_more_changes_than_limit_then_stop_at_limit() {
+        var since = new SyncToken(1000, 7);
+        var account = new AccountDto(UUID.randomUUID(), "Checking", new BigDecimal("75.00"), false);
+        var changes = List.of(
+                new SyncChange(SyncEntityType.ACCOUNT, account.id(), new SyncToken(1001, 8)),
+                new SyncChange(SyncEntityType.ACCOUNT, UUID.randomUUID(), new SyncToken(1001, 9))
+        );
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(syncRepository.findHorizonByUserId(user.id())).thenReturn(SyncToken.ZERO);
+        when(syncRepository.findChangesByUserId(user.id(), since, 2)).thenReturn(changes);
+        when(syncRepository.findAccountsByUserIdAndIds(user.id(), Set.of(account.id()))).thenReturn(List.of(account));
+
+        var actual = syncService.sync("1000-7", 1);
+
+        assertThat(actual.token()).isEqualTo("1001-8");
+        assertThat(actual.hasMore()).isTrue();
+        assertThat(actual.accounts()).containsExactly(account);
+        assertThat(actual.deletedAccountIds()).isEmpty();
+        verify(syncRepository, never()).findTransactionsByUserIdAndIds(any(), any());
+    }
+
+    @Test
+    void deleteByUserId_given_user_then_delete_changes() {
+        var userId = UUID.randomUUID();
+
+        syncService.deleteByUserId(userId);
+
+        verify(syncRepository).deleteAllByUserId(userId);
+    }
+
+}
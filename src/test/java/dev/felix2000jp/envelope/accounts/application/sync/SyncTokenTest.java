@@ -0,0 +1,39 @@
+package dev.felix2000jp.envelope.accounts.application.sync;
+
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidSyncTokenException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncTokenTest {
+
+    @Test
+    void parse_given_formatted_token_then_return_same_token() {
+        var token = new SyncToken(4294967301L, 42);
+
+        assertThat(SyncToken.parse(token.format())).isEqualTo(token);
+        assertThat(token.format()).isEqualTo("4294967301-42");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "42", "42-", "-42", "a-1", "1-b", "1--2", "1-2-3", "99999999999999999999-1"})
+    void parse_given_malformed_token_then_throw_exception(String token) {
+        assertThatThrownBy(() -> SyncToken.parse(token)).isInstanceOf(InvalidSyncTokenException.class);
+    }
+
+    @Test
+    void compareTo_given_tokens_then_order_by_transaction_then_sequence() {
+        var first = new SyncToken(100, 900);
+        var second = new SyncToken(101, 5);
+        var third = new SyncToken(101, 6);
+
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+        assertThat(SyncToken.ZERO).isLessThan(first);
+        assertThat(third.compareTo(new SyncToken(101, 6))).isZero();
+    }
+
+}
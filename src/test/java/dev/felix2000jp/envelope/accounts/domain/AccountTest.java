@@ -1,5 +1,11 @@
 package dev.felix2000jp.envelope.accounts.domain;
 
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionClearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionRemovedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUnclearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.InvalidTransferException;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.TransactionNotFoundException;
 import dev.felix2000jp.envelope.accounts.domain.valueobjects.*;
 import org.junit.jupiter.api.Test;
@@ -506,4 +512,227 @@ class AccountTest {
                 .isInstanceOf(TransactionNotFoundException.class);
     }
 
+    @Test
+    void transferTo_given_valid_parameters_then_create_linked_transactions_and_move_balance() {
+        var userId = new UserId(UUID.randomUUID());
+        var source = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Checking"), new AccountBalance(new BigDecimal("100.00")));
+        var destination = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Savings"));
+
+        var transferId = source.transferTo(
+                destination,
+                new TransactionAmount(new BigDecimal("40.00")),
+                new TransactionDate(LocalDate.of(2024, 3, 1)),
+                new TransactionMemo("Savings")
+        );
+
+        assertThat(source.getBalance().value()).isEqualTo(new BigDecimal("60.00"));
+        assertThat(destination.getBalance().value()).isEqualTo(new BigDecimal("40.00"));
+
+        var debit = source.getTransactions().getLast();
+        var credit = destination.getTransactions().getLast();
+        assertThat(debit.getAmount().value()).isEqualTo(new BigDecimal("-40.00"));
+        assertThat(credit.getAmount().value()).isEqualTo(new BigDecimal("40.00"));
+        assertThat(debit.getTransferId()).isEqualTo(transferId);
+        assertThat(credit.getTransferId()).isEqualTo(transferId);
+        assertThat(debit.isCleared()).isTrue();
+        assertThat(credit.isCleared()).isTrue();
+        assertThat(credit.getDateOfTransaction().value()).isEqualTo(LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    void transferTo_given_same_account_then_throw_exception() {
+        var account = Account.from(new AccountId(UUID.randomUUID()), new UserId(UUID.randomUUID()), new AccountName("Checking"));
+
+        assertThatThrownBy(() -> account.transferTo(
+                account,
+                new TransactionAmount(new BigDecimal("40.00")),
+                new TransactionDate(LocalDate.now()),
+                new TransactionMemo("")
+        ))
+                .isInstanceOf(InvalidTransferException.class)
+                .hasMessage("Cannot transfer to the same account");
+    }
+
+    @Test
+    void transferTo_given_account_of_other_user_then_throw_exception() {
+        var source = Account.from(new AccountId(UUID.randomUUID()), new UserId(UUID.randomUUID()), new AccountName("Checking"));
+        var destination = Account.from(new AccountId(UUID.randomUUID()), new UserId(UUID.randomUUID()), new AccountName("Savings"));
+
+        assertThatThrownBy(() -> source.transferTo(
+                destination,
+                new TransactionAmount(new BigDecimal("40.00")),
+                new TransactionDate(LocalDate.now()),
+                new TransactionMemo("")
+        ))
+                .isInstanceOf(InvalidTransferException.class)
+                .hasMessage("Cannot transfer to an account of another user");
+    }
+
+    @Test
+    void transferTo_given_non_positive_amount_then_throw_exception() {
+        var userId = new UserId(UUID.randomUUID());
+        var source = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Checking"));
+        var destination = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Savings"));
+
+        assertThatThrownBy(() -> source.transferTo(
+                destination,
+                new TransactionAmount(new BigDecimal("-1.00")),
+                new TransactionDate(LocalDate.now()),
+                new TransactionMemo("")
+        ))
+                .isInstanceOf(InvalidTransferException.class)
+                .hasMessage("Transfer amount must be positive");
+        assertThat(source.getTransactions()).isEmpty();
+        assertThat(destination.getTransactions()).isEmpty();
+    }
+
+    @Test
+    void addTransaction_given_category_then_register_transaction_added_event() {
+        var account = Account.from(new AccountId(UUID.randomUUID()), new UserId(UUID.randomUUID()), new AccountName("Checking"));
+
+        account.addTransaction(
+                new TransactionAmount(new BigDecimal("-25.00")),
+                new TransactionDate(LocalDate.of(2024, 3, 10)),
+                new TransactionMemo("Supermarket"),
+                false,
+                new TransactionCategory("Groceries")
+        );
+
+        var transaction = account.getTransactions().getLast();
+        assertThat(account.getDomainEvents()).containsExactly(new TransactionAddedEvent(
+                account.getUserId().value(),
+                account.getId().value(),
+                transaction.getId().value(),
+                new BigDecimal("-25.00"),
+                LocalDate.of(2024, 3, 10),
+                "Groceries"
+        ));
+    }
+
+    @Test
+    void updateTransaction_given_new_category_then_register_transaction_updated_event_with_previous_values() {
+        var account = Account.from(new AccountId(UUID.randomUUID()), new UserId(UUID.randomUUID()), new AccountName("Checking"));
+        account.addTransaction(
+                new TransactionAmount(new BigDecimal("-25.00")),
+                new TransactionDate(LocalDate.of(2024, 3, 10)),
+                new TransactionMemo("Supermarket"),
+                false,
+                new TransactionCategory("Groceries")
+        );
+        var transactionId = account.getTransactions().getLast().getId();
+        account.clearDomainEvents();
+
+        account.updateTransaction(
+                transactionId,
+                new TransactionAmount(new BigDecimal("-30.00")),
+                new TransactionDate(LocalDate.of(2024, 4, 2)),
+                null,
+                new TransactionCategory("Dining")
+        );
+
+        assertThat(account.getDomainEvents()).containsExactly(new TransactionUpdatedEvent(
+                account.getUserId().value(),
+                account.getId().value(),
+                transactionId.value(),
+                new BigDecimal("-25.00"),
+                LocalDate.of(2024, 3, 10),
+                "Groceries",
+                new BigDecimal("-30.00"),
+                LocalDate.of(2024, 4, 2),
+                "Dining"
+        ));
+    }
+
+    @Test
+    void removeTransaction_given_transaction_then_register_transaction_removed_event() {
+        var account = Account.from(new AccountId(UUID.randomUUID()), new UserId(UUID.randomUUID()), new AccountName("Checking"));
+        account.addTransaction(
+                new TransactionAmount(new BigDecimal("-25.00")),
+                new TransactionDate(LocalDate.of(2024, 3, 10)),
+                new TransactionMemo("Supermarket"),
+                false
+        );
+        var transactionId = account.getTransactions().getLast().getId();
+        account.clearDomainEvents();
+
+        account.removeTransaction(transactionId);
+
+        assertThat(account.getDomainEvents()).containsExactly(new TransactionRemovedEvent(
+                account.getUserId().value(),
+                account.getId().value(),
+                transactionId.value(),
+                new BigDecimal("-25.00"),
+                LocalDate.of(2024, 3, 10),
+                null
+        ));
+    }
+
+    @Test
+    void transferTo_given_valid_parameters_then_register_transaction_added_event_on_both_accounts() {
+        var userId = new UserId(UUID.randomUUID());
+        var source = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Checking"), new AccountBalance(new BigDecimal("100.00")));
+        var destination = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName("Savings"));
+        source.clearDomainEvents();
+
+        source.transferTo(
+                destination,
+                new TransactionAmount(new BigDecimal("40.00")),
+                new TransactionDate(LocalDate.of(2024, 3, 1)),
+                new TransactionMemo("Savings")
+        );
+
+        assertThat(source.getDomainEvents()).singleElement()
+                .isInstanceOfSatisfying(TransactionAddedEvent.class, event -> assertThat(event.amount()).isEqualTo(new BigDecimal("-40.00")));
+        assertThat(destination.getDomainEvents()).singleElement()
+                .isInstanceOfSatisfying(TransactionAddedEvent.class, event -> assertThat(event.accountId()).isEqualTo(destination.getId().value()));
+    }
+
+    @Test
+    void clearTransaction_given_uncleared_transaction_then_register_transaction_cleared_event() {
+        var account = Account.from(new AccountId(UUID.randomUUID()), new UserId(UUID.randomUUID()), new AccountName("Checking"));
+        account.addTransaction(
+                new TransactionAmount(new BigDecimal("-25.00")),
+                new TransactionDate(LocalDate.of(2024, 3, 10)),
+                new TransactionMemo("Supermarket"),
+                false
+        );
+        var transactionId = account.getTransactions().getLast().getId();
+        account.clearDomainEvents();
+
+        account.clearTransaction(transactionId);
+        account.clearTransaction(transactionId);
+
+        assertThat(account.getDomainEvents()).containsExactly(new TransactionClearedEvent(
+                account.getUserId().value(),
+                account.getId().value(),
+                transactionId.value(),
+                new BigDecimal("-25.00"),
+                LocalDate.of(2024, 3, 10)
+        ));
+    }
+
+    @Test
+    void unclearTransaction_given_cleared_transaction_then_register_transaction_uncleared_event() {
+        var account = Account.from(new AccountId(UUID.randomUUID()), new UserId(UUID.randomUUID()), new AccountName("Checking"));
+        account.addTransaction(
+                new TransactionAmount(new BigDecimal("-25.00")),
+                new TransactionDate(LocalDate.of(2024, 3, 10)),
+                new TransactionMemo("Supermarket"),
+                true
+        );
+        var transactionId = account.getTransactions().getLast().getId();
+        account.clearDomainEvents();
+
+        account.unclearTransaction(transactionId);
+        account.unclearTransaction(transactionId);
+
+        assertThat(account.getDomainEvents()).containsExactly(new TransactionUnclearedEvent(
+                account.getUserId().value(),
+                account.getId().value(),
+                transactionId.value(),
+                new BigDecimal("-25.00"),
+                LocalDate.of(2024, 3, 10)
+        ));
+    }
+
 }
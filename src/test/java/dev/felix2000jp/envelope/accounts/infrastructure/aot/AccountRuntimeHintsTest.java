@@ -0,0 +1,65 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.aot;
+
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.Transaction;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionsChangedEvent;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountVersion;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionAmount;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new AccountRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_then_register_entities_for_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Account.class).withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Transaction.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void registerHints_then_register_value_objects_for_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(AccountId.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TransactionAmount.class).withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(AccountVersion.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void registerHints_then_register_events_for_binding() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TransactionAddedEvent.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(TransactionUpdatedEvent.class, "previousAmount")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(TransactionsChangedEvent.class, "cleared")).accepts(hints);
+    }
+
+    @Test
+    void registerHints_then_register_jmolecules_types_for_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(AggregateRoot.class)).accepts(hints);
+    }
+
+    @Test
+    void registrar_is_declared_in_aot_factories() {
+        var registrars = SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+                .load(RuntimeHintsRegistrar.class);
+
+        assertThat(registrars).hasAtLeastOneElementOfType(AccountRuntimeHints.class);
+    }
+
+}
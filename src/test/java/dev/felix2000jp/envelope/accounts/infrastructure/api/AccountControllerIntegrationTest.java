@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.client.RestTestClient;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -225,6 +226,47 @@ class AccountControllerIntegrationTest {
         assertThat(firstIds).doesNotContainAnyElementsOf(secondIds);
     }
 
+    @Test
+    void getTransactions_given_prev_cursor_then_return_previous_slice() {
+        var firstSliceEntity = restTestClient
+                .get()
+                .uri("/api/accounts/" + account.getId().value() + "/transactions?limit=2")
+                .headers(h -> h.setBearerAuth(token))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(TransactionSliceDto.class)
+                .returnResult();
+
+        var secondSliceEntity = restTestClient
+                .get()
+                .uri("/api/accounts/" + account.getId().value() + "/transactions?limit=2&cursor=" + firstSliceEntity.getResponseBody().nextCursor())
+                .headers(h -> h.setBearerAuth(token))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(TransactionSliceDto.class)
+                .returnResult();
+
+        assertThat(firstSliceEntity.getResponseBody().prevCursor()).isNull();
+        assertThat(secondSliceEntity.getResponseBody().prevCursor()).isNotBlank();
+
+        var previousSliceEntity = restTestClient
+                .get()
+                .uri("/api/accounts/" + account.getId().value() + "/transactions?limit=2&cursor=" + secondSliceEntity.getResponseBody().prevCursor())
+                .headers(h -> h.setBearerAuth(token))
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(TransactionSliceDto.class)
+                .returnResult();
+
+        assertThat(previousSliceEntity.getResponseBody()).isNotNull();
+        assertThat(previousSliceEntity.getResponseBody().items()).isEqualTo(firstSliceEntity.getResponseBody().items());
+        assertThat(previousSliceEntity.getResponseBody().prevCursor()).isNull();
+        assertThat(previousSliceEntity.getResponseBody().hasMore()).isTrue();
+    }
+
     @Test
     void getTransactions_given_filters_then_return_filtered_transactions() {
         var filteredSliceEntity = restTestClient
@@ -274,6 +316,38 @@ class AccountControllerIntegrationTest {
         assertThat(updatedAccount.get().getBalance().value()).isEqualTo(new BigDecimal("1550.00"));
     }
 
+    @Test
+    void addTransaction_given_retried_idempotency_key_then_add_transaction_once() {
+        var addTransactionDto = new AddTransactionDto(
+                new BigDecimal("200.00"),
+                LocalDate.now(),
+                "Retried transaction via API",
+                true
+        );
+
+        var responses = new ArrayList<TransactionDto>();
+        for (var i = 0; i < 2; i++) {
+            var addTransactionEntity = restTestClient
+                    .post()
+                    .uri("/api/accounts/" + account.getId().value() + "/transactions")
+                    .headers(h -> h.setBearerAuth(token))
+                    .header("Idempotency-Key", "retry-key")
+                    .body(addTransactionDto)
+                    .exchange()
+                    .expectStatus()
+                    .isCreated()
+                    .expectBody(TransactionDto.class)
+                    .returnResult();
+            responses.add(addTransactionEntity.getResponseBody());
+        }
+
+        assertThat(responses.getFirst()).isNotNull().isEqualTo(responses.getLast());
+
+        var updatedAccount = accountRepository.findByIdAndUserId(account.getId(), account.getUserId());
+        assertThat(updatedAccount).isPresent();
+        assertThat(updatedAccount.get().getBalance().value()).isEqualTo(new BigDecimal("1550.00"));
+    }
+
     @Test
     void updateTransaction_then_update_transaction_in_account() {
         var transactionToUpdate = account.getTransactions().get(1);
@@ -282,7 +356,8 @@ class AccountControllerIntegrationTest {
         var updateTransactionDto = new UpdateTransactionDto(
                 new BigDecimal("250.00"),
                 LocalDate.of(2024, 3, 15),
-                "Updated transaction memo"
+                "Updated transaction memo",
+                null
         );
 
         var updateTransactionEntity = restTestClient
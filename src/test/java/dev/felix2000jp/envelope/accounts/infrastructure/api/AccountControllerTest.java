@@ -3,9 +3,23 @@ package dev.felix2000jp.envelope.accounts.infrastructure.api;
 import tools.jackson.databind.json.JsonMapper;
 import dev.felix2000jp.envelope.accounts.application.AccountService;
 import dev.felix2000jp.envelope.accounts.application.dtos.*;
+import dev.felix2000jp.envelope.accounts.application.exceptions.IdempotencyKeyInProgressException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.IdempotencyKeyReuseException;
 import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidTransactionQueryException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.RecurringTransactionNotFoundException;
+import dev.felix2000jp.envelope.accounts.application.idempotency.IdempotentTransactionService;
+import dev.felix2000jp.envelope.accounts.application.queries.AccountRollupQueryService;
+import dev.felix2000jp.envelope.accounts.application.queries.NetWorthQueryService;
 import dev.felix2000jp.envelope.accounts.application.queries.TransactionQueryService;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizationService;
+import dev.felix2000jp.envelope.accounts.application.imports.StatementFormat;
+import dev.felix2000jp.envelope.accounts.application.imports.StatementImportService;
+import dev.felix2000jp.envelope.accounts.application.reconciliation.ReconciliationService;
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurrenceFrequency;
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurringTransactionService;
+import dev.felix2000jp.envelope.accounts.application.exceptions.CategorizationRuleNotFoundException;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.AccountNotFoundException;
+import dev.felix2000jp.envelope.accounts.domain.exceptions.InvalidTransferException;
 import dev.felix2000jp.envelope.accounts.domain.exceptions.TransactionNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,18 +29,24 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -41,6 +61,20 @@ class AccountControllerTest {
     private AccountService accountService;
     @MockitoBean
     private TransactionQueryService transactionQueryService;
+    @MockitoBean
+    private AccountRollupQueryService accountRollupQueryService;
+    @MockitoBean
+    private NetWorthQueryService netWorthQueryService;
+    @MockitoBean
+    private IdempotentTransactionService idempotentTransactionService;
+    @MockitoBean
+    private RecurringTransactionService recurringTransactionService;
+    @MockitoBean
+    private ReconciliationService reconciliationService;
+    @MockitoBean
+    private StatementImportService statementImportService;
+    @MockitoBean
+    private CategorizationService categorizationService;
     @Autowired
     private MockMvc mockMvc;
     @Autowired
@@ -205,6 +239,32 @@ class AccountControllerTest {
                 .andExpect(content().json(expectedResponse));
     }
 
+    @Test
+    void getAccountById_given_matching_if_none_match_then_return_304() throws Exception {
+        when(accountService.getVersionTag(accountDto.id())).thenReturn("version-tag");
+
+        var request = get("/api/accounts/{id}", accountDto.id()).header("If-None-Match", "\"version-tag\"");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(accountService, never()).getAccountById(accountDto.id());
+    }
+
+    @Test
+    void getAccountById_given_stale_if_none_match_then_return_200_and_etag() throws Exception {
+        when(accountService.getVersionTag(accountDto.id())).thenReturn("version-tag");
+        when(accountService.getAccountById(accountDto.id())).thenReturn(accountDto);
+
+        var request = get("/api/accounts/{id}", accountDto.id()).header("If-None-Match", "\"old-version-tag\"");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"version-tag\""))
+                .andExpect(content().json(jsonMapper.writeValueAsString(accountDto)));
+    }
+
     @Test
     void getAccountById_given_not_found_then_return_404() throws Exception {
         var accountId = UUID.randomUUID();
@@ -276,27 +336,30 @@ class AccountControllerTest {
                 new BigDecimal("100.00"),
                 LocalDate.of(2024, 1, 1),
                 "Initial balance",
-                true
+                true,
+                null
         );
         var transactionDto2 = new TransactionDto(
                 UUID.randomUUID(),
                 new BigDecimal("50.00"),
                 LocalDate.of(2024, 1, 15),
                 "Deposit",
-                true
+                true,
+                null
         );
         var transactionDto3 = new TransactionDto(
                 UUID.randomUUID(),
                 new BigDecimal("-25.00"),
                 LocalDate.of(2024, 2, 10),
                 "Withdrawal",
-                false
+                false,
+                null
         );
-        var transactionSliceDto = new TransactionSliceDto(List.of(transactionDto1, transactionDto2, transactionDto3), "next-cursor", true);
+        var transactionSliceDto = new TransactionSliceDto(List.of(transactionDto1, transactionDto2, transactionDto3), "next-cursor", true, null, null);
 
         var expectedResponse = jsonMapper.writeValueAsString(transactionSliceDto);
 
-        when(transactionQueryService.getTransactions(accountDto.id(), new GetTransactionsDto(30, "desc", null, null, null, null, null))).thenReturn(transactionSliceDto);
+        when(transactionQueryService.getTransactions(accountDto.id(), new GetTransactionsDto(30, "desc", null, null, null, null, null, null, null, null))).thenReturn(transactionSliceDto);
 
         var request = get("/api/accounts/{id}/transactions", accountDto.id());
         mockMvc
@@ -306,7 +369,7 @@ class AccountControllerTest {
 
         verify(transactionQueryService).getTransactions(
                 accountDto.id(),
-                new GetTransactionsDto(30, "desc", null, null, null, null, null)
+                new GetTransactionsDto(30, "desc", null, null, null, null, null, null, null, null)
         );
     }
 
@@ -317,17 +380,18 @@ class AccountControllerTest {
                 new BigDecimal("40.00"),
                 LocalDate.of(2026, 3, 8),
                 "Coffee shop",
-                false
+                false,
+                null
         );
-        var response = new TransactionSliceDto(List.of(transactionDto), "next-cursor", true);
+        var response = new TransactionSliceDto(List.of(transactionDto), "next-cursor", true, null, 12400L);
 
         when(transactionQueryService.getTransactions(
                 accountDto.id(),
-                new GetTransactionsDto(10, "asc", "encoded-cursor", new BigDecimal("10"), new BigDecimal("100"), "coffee", false)
+                new GetTransactionsDto(10, "asc", "encoded-cursor", new BigDecimal("10"), new BigDecimal("100"), "coffee", false, null, null, "estimate")
         )).thenReturn(response);
 
         var request = get(
-                "/api/accounts/{id}/transactions?limit=10&sort=asc&cursor=encoded-cursor&minAmount=10&maxAmount=100&memo=coffee&cleared=false",
+                "/api/accounts/{id}/transactions?limit=10&sort=asc&cursor=encoded-cursor&minAmount=10&maxAmount=100&memo=coffee&cleared=false&includeCount=estimate",
                 accountDto.id()
         );
 
@@ -342,7 +406,72 @@ class AccountControllerTest {
                 .andExpect(jsonPath("$.items[0].memo").value("Coffee shop"))
                 .andExpect(jsonPath("$.items[0].cleared").value(false))
                 .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
-                .andExpect(jsonPath("$.hasMore").value(true));
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.totalCount").value(12400));
+    }
+
+    @Test
+    void getTransactions_given_matching_if_none_match_then_return_304_without_querying_transactions() throws Exception {
+        when(accountService.getVersionTag(accountDto.id())).thenReturn("version-tag");
+
+        var request = get("/api/accounts/{id}/transactions", accountDto.id()).header("If-None-Match", "\"version-tag\"");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"version-tag\""))
+                .andExpect(content().string(""));
+
+        verify(transactionQueryService, never()).getTransactions(any(), any());
+    }
+
+    @Test
+    void getTransactions_given_invalid_query_and_matching_if_none_match_then_return_400() throws Exception {
+        var exception = new InvalidTransactionQueryException("minAmount must be less than or equal to maxAmount");
+        var query = new GetTransactionsDto(30, "desc", null, new BigDecimal("20"), new BigDecimal("10"), null, null, null, null, null);
+
+        doThrow(exception).when(transactionQueryService).validate(accountDto.id(), query);
+
+        var request = get("/api/accounts/{id}/transactions?minAmount=20&maxAmount=10", accountDto.id())
+                .header("If-None-Match", "\"version-tag\"");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()));
+
+        verify(accountService, never()).getVersionTag(accountDto.id());
+    }
+
+    @Test
+    void getTransactions_given_replica_behind_primary_then_return_200_and_no_store() throws Exception {
+        var response = new TransactionSliceDto(List.of(), null, false, null, null);
+
+        when(accountService.getVersionTag(accountDto.id())).thenReturn("version-tag");
+        when(accountService.getReadVersionTag(accountDto.id())).thenReturn("old-version-tag");
+        when(transactionQueryService.getTransactions(accountDto.id(), new GetTransactionsDto(30, "desc", null, null, null, null, null, null, null, null)))
+                .thenReturn(response);
+
+        var request = get("/api/accounts/{id}/transactions", accountDto.id());
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getTransactions_given_account_version_not_found_then_return_404() throws Exception {
+        var accountId = UUID.randomUUID();
+        var exception = new AccountNotFoundException();
+
+        when(accountService.getVersionTag(accountId)).thenThrow(exception);
+
+        var request = get("/api/accounts/{id}/transactions", accountId).header("If-None-Match", "\"version-tag\"");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+
+        verify(transactionQueryService, never()).getTransactions(any(), any());
     }
 
     @Test
@@ -350,7 +479,7 @@ class AccountControllerTest {
         var accountId = UUID.randomUUID();
         var exception = new AccountNotFoundException();
 
-        when(transactionQueryService.getTransactions(accountId, new GetTransactionsDto(30, "desc", null, null, null, null, null))).thenThrow(exception);
+        when(transactionQueryService.getTransactions(accountId, new GetTransactionsDto(30, "desc", null, null, null, null, null, null, null, null))).thenThrow(exception);
 
         var request = get("/api/accounts/{id}/transactions", accountId);
         mockMvc
@@ -366,7 +495,7 @@ class AccountControllerTest {
         var accountId = UUID.randomUUID();
         var exception = new InvalidTransactionQueryException("minAmount must be less than or equal to maxAmount");
 
-        when(transactionQueryService.getTransactions(accountId, new GetTransactionsDto(30, "desc", null, new BigDecimal("20"), new BigDecimal("10"), null, null))).thenThrow(exception);
+        when(transactionQueryService.getTransactions(accountId, new GetTransactionsDto(30, "desc", null, new BigDecimal("20"), new BigDecimal("10"), null, null, null, null, null))).thenThrow(exception);
 
         var request = get("/api/accounts/{id}/transactions?minAmount=20&maxAmount=10", accountId);
         mockMvc
@@ -377,6 +506,45 @@ class AccountControllerTest {
                 .andExpect(jsonPath("$.status").value(400));
     }
 
+    @Test
+    void getTransactions_given_date_range_then_pass_dates_to_query() throws Exception {
+        var query = new GetTransactionsDto(30, "desc", null, null, null, null, null, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), null);
+
+        when(transactionQueryService.getTransactions(accountDto.id(), query)).thenReturn(new TransactionSliceDto(List.of(), null, false, null, null));
+
+        var request = get("/api/accounts/{id}/transactions?fromDate=2024-03-01&toDate=2024-03-31", accountDto.id());
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        verify(transactionQueryService).getTransactions(accountDto.id(), query);
+    }
+
+    @Test
+    void getTransactions_given_invalid_date_then_return_400() throws Exception {
+        var request = get("/api/accounts/{id}/transactions?fromDate=not-a-date", accountDto.id());
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(transactionQueryService);
+    }
+
+    @Test
+    void getTransactions_given_date_outside_supported_range_then_return_400() throws Exception {
+        var exception = new InvalidTransactionQueryException("fromDate and toDate must be between 0001-01-01 and 9999-12-31");
+
+        when(transactionQueryService.getTransactions(accountDto.id(), new GetTransactionsDto(30, "desc", null, null, null, null, null, null, LocalDate.of(999999, 12, 31), null))).thenThrow(exception);
+
+        var request = get("/api/accounts/{id}/transactions", accountDto.id()).param("toDate", "+999999-12-31");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
     @Test
     void addTransaction_then_return_201_and_updated_account() throws Exception {
         var addTransactionDto = new AddTransactionDto(
@@ -390,7 +558,8 @@ class AccountControllerTest {
                 new BigDecimal("50.00"),
                 LocalDate.of(2024, 2, 15),
                 "Test transaction",
-                true
+                true,
+                null
         );
 
         var requestBody = jsonMapper.writeValueAsString(addTransactionDto);
@@ -408,6 +577,143 @@ class AccountControllerTest {
                 .andExpect(content().json(expectedResponse));
     }
 
+    @Test
+    void addTransaction_given_idempotency_key_then_delegate_to_idempotent_service() throws Exception {
+        var addTransactionDto = new AddTransactionDto(
+                new BigDecimal("50.00"),
+                LocalDate.of(2024, 2, 15),
+                "Test transaction",
+                true
+        );
+        var newTransactionDto = new TransactionDto(
+                UUID.randomUUID(),
+                new BigDecimal("50.00"),
+                LocalDate.of(2024, 2, 15),
+                "Test transaction",
+                true,
+                null
+        );
+
+        var requestBody = jsonMapper.writeValueAsString(addTransactionDto);
+        var expectedResponse = jsonMapper.writeValueAsString(newTransactionDto);
+
+        when(idempotentTransactionService.addTransaction(accountDto.id(), addTransactionDto, "key-1")).thenReturn(newTransactionDto);
+
+        var request = post("/api/accounts/{id}/transactions", accountDto.id())
+                .header("Idempotency-Key", "key-1")
+                .contentType(APPLICATION_JSON)
+                .content(requestBody);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(content().json(expectedResponse));
+        verify(accountService, never()).addTransaction(accountDto.id(), addTransactionDto);
+    }
+
+    @Test
+    void addTransaction_given_reused_idempotency_key_then_return_422() throws Exception {
+        var addTransactionDto = new AddTransactionDto(
+                new BigDecimal("50.00"),
+                null,
+                null,
+                true
+        );
+        var exception = new IdempotencyKeyReuseException();
+
+        var requestBody = jsonMapper.writeValueAsString(addTransactionDto);
+
+        when(idempotentTransactionService.addTransaction(accountDto.id(), addTransactionDto, "key-1")).thenThrow(exception);
+
+        var request = post("/api/accounts/{id}/transactions", accountDto.id())
+                .header("Idempotency-Key", "key-1")
+                .contentType(APPLICATION_JSON)
+                .content(requestBody);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isUnprocessableContent())
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()))
+                .andExpect(jsonPath("$.status").value(422));
+    }
+
+    @Test
+    void addTransaction_given_idempotency_key_in_progress_then_return_409() throws Exception {
+        var addTransactionDto = new AddTransactionDto(
+                new BigDecimal("50.00"),
+                null,
+                null,
+                true
+        );
+        var exception = new IdempotencyKeyInProgressException();
+
+        var requestBody = jsonMapper.writeValueAsString(addTransactionDto);
+
+        when(idempotentTransactionService.addTransaction(accountDto.id(), addTransactionDto, "key-1")).thenThrow(exception);
+
+        var request = post("/api/accounts/{id}/transactions", accountDto.id())
+                .header("Idempotency-Key", "key-1")
+                .contentType(APPLICATION_JSON)
+                .content(requestBody);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()))
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @Test
+    void transfer_then_return_201_and_linked_transactions() throws Exception {
+        var toAccountId = UUID.randomUUID();
+        var createTransferDto = new CreateTransferDto(accountDto.id(), toAccountId, new BigDecimal("25.00"), LocalDate.of(2024, 3, 1), "Savings");
+        var transferDto = new TransferDto(
+                UUID.randomUUID(),
+                new TransactionDto(UUID.randomUUID(), new BigDecimal("-25.00"), LocalDate.of(2024, 3, 1), "Savings", true, null),
+                new TransactionDto(UUID.randomUUID(), new BigDecimal("25.00"), LocalDate.of(2024, 3, 1), "Savings", true, null)
+        );
+
+        var requestBody = jsonMapper.writeValueAsString(createTransferDto);
+        var expectedResponse = jsonMapper.writeValueAsString(transferDto);
+
+        when(accountService.transfer(createTransferDto)).thenReturn(transferDto);
+
+        var request = post("/api/accounts/transfers")
+                .contentType(APPLICATION_JSON)
+                .content(requestBody);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/api/accounts/" + accountDto.id() + "/transactions"))
+                .andExpect(content().json(expectedResponse));
+    }
+
+    @Test
+    void transfer_given_non_positive_amount_then_return_400() throws Exception {
+        var createTransferDto = new CreateTransferDto(accountDto.id(), UUID.randomUUID(), new BigDecimal("0.00"), null, null);
+
+        var request = post("/api/accounts/transfers")
+                .contentType(APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(createTransferDto));
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest());
+        verify(accountService, never()).transfer(createTransferDto);
+    }
+
+    @Test
+    void transfer_given_same_account_then_return_400() throws Exception {
+        var createTransferDto = new CreateTransferDto(accountDto.id(), accountDto.id(), new BigDecimal("25.00"), null, null);
+        var exception = new InvalidTransferException("Cannot transfer to the same account");
+
+        when(accountService.transfer(createTransferDto)).thenThrow(exception);
+
+        var request = post("/api/accounts/transfers")
+                .contentType(APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(createTransferDto));
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()));
+    }
+
     @Test
     void addTransaction_given_account_not_found_then_return_404() throws Exception {
         var accountId = UUID.randomUUID();
@@ -460,14 +766,16 @@ class AccountControllerTest {
         var updateTransactionDto = new UpdateTransactionDto(
                 new BigDecimal("75.00"),
                 LocalDate.of(2024, 3, 20),
-                "Updated memo"
+                "Updated memo",
+                null
         );
         var updatedTransactionDto = new TransactionDto(
                 UUID.randomUUID(),
                 new BigDecimal("75.00"),
                 LocalDate.of(2024, 3, 20),
                 "Updated memo",
-                false
+                false,
+                null
         );
 
         var requestBody = jsonMapper.writeValueAsString(updateTransactionDto);
@@ -491,7 +799,8 @@ class AccountControllerTest {
         var updateTransactionDto = new UpdateTransactionDto(
                 new BigDecimal("75.00"),
                 LocalDate.of(2024, 3, 20),
-                "Updated memo"
+                "Updated memo",
+                null
         );
         var exception = new AccountNotFoundException();
 
@@ -516,7 +825,8 @@ class AccountControllerTest {
         var updateTransactionDto = new UpdateTransactionDto(
                 new BigDecimal("75.00"),
                 LocalDate.of(2024, 3, 20),
-                "Updated memo"
+                "Updated memo",
+                null
         );
         var exception = new TransactionNotFoundException();
 
@@ -551,7 +861,9 @@ class AccountControllerTest {
 
     static Stream<Arguments> updateTransaction_given_invalid_request_then_return_400() {
         return Stream.of(
-                Arguments.of(new UpdateTransactionDto(null, null, "A".repeat(300)))
+                Arguments.of(new UpdateTransactionDto(null, null, "A".repeat(300), null)),
+                Arguments.of(new UpdateTransactionDto(null, null, null, "A".repeat(65))),
+                Arguments.of(new UpdateTransactionDto(null, null, null, "   "))
         );
     }
 
@@ -696,4 +1008,294 @@ class AccountControllerTest {
                 .andExpect(jsonPath("$.status").value(404));
     }
 
+    @Test
+    void getMonthlyRollups_then_return_200_and_rollups() throws Exception {
+        var rollupDto = new AccountMonthlyRollupDto(
+                YearMonth.of(2024, 1),
+                new BigDecimal("100.00"),
+                new BigDecimal("-40.00"),
+                new BigDecimal("100.00"),
+                new BigDecimal("0.00"),
+                2
+        );
+        var rollupListDto = new AccountMonthlyRollupListDto(1, List.of(rollupDto));
+
+        when(accountService.getVersionTag(accountDto.id())).thenReturn("version-tag");
+        when(accountService.getReadVersionTag(accountDto.id())).thenReturn("version-tag");
+        when(accountRollupQueryService.getMonthlyRollups(accountDto.id(), YearMonth.of(2023, 1), YearMonth.of(2024, 12))).thenReturn(rollupListDto);
+
+        var request = get("/api/accounts/{id}/rollups/monthly?fromMonth=2023-01&toMonth=2024-12", accountDto.id());
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.rollups[0].month").value("2024-01"))
+                .andExpect(jsonPath("$.rollups[0].income").value(100.00))
+                .andExpect(jsonPath("$.rollups[0].expense").value(-40.00))
+                .andExpect(jsonPath("$.rollups[0].transactionCount").value(2));
+    }
+
+    @Test
+    void getNetWorth_then_return_200_and_points() throws Exception {
+        var netWorthDto = new NetWorthDto(List.of(new NetWorthPointDto(YearMonth.of(2024, 1), new BigDecimal("150.00"))), false, List.of());
+
+        when(accountService.getVersionTag()).thenReturn("version-tag");
+        when(accountService.getReadVersionTag()).thenReturn("version-tag");
+        when(netWorthQueryService.getNetWorth(YearMonth.of(2024, 1), YearMonth.of(2024, 12))).thenReturn(netWorthDto);
+
+        var request = get("/api/accounts/analytics/net-worth?fromMonth=2024-01&toMonth=2024-12");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"version-tag\""))
+                .andExpect(jsonPath("$.points[0].month").value("2024-01"))
+                .andExpect(jsonPath("$.points[0].netWorth").value(150.00))
+                .andExpect(jsonPath("$.partial").value(false));
+    }
+
+    @Test
+    void getNetWorth_given_partial_result_then_return_200_and_no_store() throws Exception {
+        var incompleteAccountId = UUID.randomUUID();
+        var netWorthDto = new NetWorthDto(List.of(), true, List.of(incompleteAccountId));
+
+        when(accountService.getVersionTag()).thenReturn("version-tag");
+        when(netWorthQueryService.getNetWorth(null, null)).thenReturn(netWorthDto);
+
+        var request = get("/api/accounts/analytics/net-worth");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.partial").value(true))
+                .andExpect(jsonPath("$.incompleteAccountIds[0]").value(incompleteAccountId.toString()));
+    }
+
+    @Test
+    void getRecurringTransactions_then_return_200_and_definitions() throws Exception {
+        var recurringTransactionDto = new RecurringTransactionDto(
+                UUID.randomUUID(), new BigDecimal("-950.00"), "Rent", true, RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2024, 1, 1), null, LocalDate.of(2024, 2, 1)
+        );
+
+        when(recurringTransactionService.getRecurringTransactions(accountDto.id()))
+                .thenReturn(new RecurringTransactionListDto(1, List.of(recurringTransactionDto)));
+
+        var request = get("/api/accounts/{id}/recurring-transactions", accountDto.id());
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.recurringTransactions[0].frequency").value("MONTHLY"))
+                .andExpect(jsonPath("$.recurringTransactions[0].nextOccurrence").value("2024-02-01"));
+    }
+
+    @Test
+    void createRecurringTransaction_then_return_201_and_definition() throws Exception {
+        var createRecurringTransactionDto = new CreateRecurringTransactionDto(
+                new BigDecimal("-950.00"), "Rent", true, RecurrenceFrequency.MONTHLY, 1, LocalDate.of(2024, 1, 1), null
+        );
+        var recurringTransactionDto = new RecurringTransactionDto(
+                UUID.randomUUID(), new BigDecimal("-950.00"), "Rent", true, RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2024, 1, 1), null, LocalDate.of(2024, 1, 1)
+        );
+
+        when(recurringTransactionService.createRecurringTransaction(accountDto.id(), createRecurringTransactionDto)).thenReturn(recurringTransactionDto);
+
+        var request = post("/api/accounts/{id}/recurring-transactions", accountDto.id())
+                .contentType(APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(createRecurringTransactionDto));
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/api/accounts/" + accountDto.id() + "/recurring-transactions"))
+                .andExpect(content().json(jsonMapper.writeValueAsString(recurringTransactionDto)));
+    }
+
+    @Test
+    void createRecurringTransaction_given_zero_interval_then_return_400() throws Exception {
+        var createRecurringTransactionDto = new CreateRecurringTransactionDto(
+                new BigDecimal("-950.00"), "Rent", true, RecurrenceFrequency.MONTHLY, 0, LocalDate.of(2024, 1, 1), null
+        );
+
+        var request = post("/api/accounts/{id}/recurring-transactions", accountDto.id())
+                .contentType(APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(createRecurringTransactionDto));
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(recurringTransactionService);
+    }
+
+    @Test
+    void deleteRecurringTransaction_given_unknown_definition_then_return_404() throws Exception {
+        var recurringTransactionId = UUID.randomUUID();
+        var exception = new RecurringTransactionNotFoundException();
+
+        doThrow(exception).when(recurringTransactionService).deleteRecurringTransaction(accountDto.id(), recurringTransactionId);
+
+        var request = delete("/api/accounts/{accountId}/recurring-transactions/{recurringTransactionId}", accountDto.id(), recurringTransactionId);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()));
+    }
+
+    @Test
+    void deleteRecurringTransaction_then_return_204() throws Exception {
+        var recurringTransactionId = UUID.randomUUID();
+
+        var request = delete("/api/accounts/{accountId}/recurring-transactions/{recurringTransactionId}", accountDto.id(), recurringTransactionId);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNoContent());
+        verify(recurringTransactionService).deleteRecurringTransaction(accountDto.id(), recurringTransactionId);
+    }
+
+    @Test
+    void reconcile_then_return_200_and_unmatched_lines() throws Exception {
+        var matchedLine = new StatementLineDto(new BigDecimal("-950.00"), LocalDate.of(2024, 3, 1), "Rent");
+        var unmatchedLine = new StatementLineDto(new BigDecimal("-12.00"), LocalDate.of(2024, 3, 15), "Unknown");
+        var reconcileStatementDto = new ReconcileStatementDto(List.of(matchedLine, unmatchedLine), null);
+        var transactionId = UUID.randomUUID();
+
+        when(reconciliationService.reconcile(accountDto.id(), reconcileStatementDto))
+                .thenReturn(new ReconciliationDto(1, new BigDecimal("-950.00"), List.of(transactionId), List.of(unmatchedLine)));
+
+        var request = post("/api/accounts/{id}/reconciliations", accountDto.id())
+                .contentType(APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(reconcileStatementDto));
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matched").value(1))
+                .andExpect(jsonPath("$.clearedTransactionIds[0]").value(transactionId.toString()))
+                .andExpect(jsonPath("$.unmatchedLines[0].memo").value("Unknown"));
+    }
+
+    @Test
+    void reconcile_given_empty_statement_then_return_400() throws Exception {
+        var reconcileStatementDto = new ReconcileStatementDto(List.of(), null);
+
+        var request = post("/api/accounts/{id}/reconciliations", accountDto.id())
+                .contentType(APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(reconcileStatementDto));
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(reconciliationService);
+    }
+
+    @Test
+    void reconcile_given_null_line_then_return_400() throws Exception {
+        var request = post("/api/accounts/{id}/reconciliations", accountDto.id())
+                .contentType(APPLICATION_JSON)
+                .content("{\"lines\":[null]}");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(reconciliationService);
+    }
+
+    @Test
+    void importStatement_then_return_200_and_import_summary() throws Exception {
+        var file = new MockMultipartFile("file", "march.qfx", "application/octet-stream", "<OFX></OFX>".getBytes());
+
+        when(statementImportService.importStatement(eq(accountDto.id()), eq(StatementFormat.OFX), any()))
+                .thenReturn(new StatementImportDto(10, 7, 3, new BigDecimal("-120.00")));
+
+        mockMvc
+                .perform(multipart("/api/accounts/{id}/imports", accountDto.id()).file(file).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parsed").value(10))
+                .andExpect(jsonPath("$.imported").value(7))
+                .andExpect(jsonPath("$.duplicates").value(3));
+    }
+
+    @Test
+    void importStatement_given_unknown_format_then_return_400() throws Exception {
+        var file = new MockMultipartFile("file", "march.xlsx", "application/octet-stream", new byte[]{1});
+
+        mockMvc
+                .perform(multipart("/api/accounts/{id}/imports", accountDto.id()).file(file).with(csrf()))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(statementImportService);
+    }
+
+    @Test
+    void getCategorizationRules_then_return_200_and_rules() throws Exception {
+        var rule = new CategorizationRuleDto(UUID.randomUUID(), "NETFLIX", "Subscriptions");
+
+        when(categorizationService.getRules()).thenReturn(new CategorizationRuleListDto(1, List.of(rule)));
+
+        mockMvc
+                .perform(get("/api/accounts/categorization-rules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.rules[0].pattern").value("NETFLIX"))
+                .andExpect(jsonPath("$.rules[0].category").value("Subscriptions"));
+    }
+
+    @Test
+    void createCategorizationRule_then_return_201_and_rule() throws Exception {
+        var createCategorizationRuleDto = new CreateCategorizationRuleDto("NETFLIX", "Subscriptions");
+        var rule = new CategorizationRuleDto(UUID.randomUUID(), "NETFLIX", "Subscriptions");
+
+        when(categorizationService.createRule(createCategorizationRuleDto)).thenReturn(rule);
+
+        var request = post("/api/accounts/categorization-rules")
+                .contentType(APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(createCategorizationRuleDto));
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(rule.id().toString()));
+    }
+
+    @Test
+    void createCategorizationRule_given_blank_pattern_then_return_400() throws Exception {
+        var createCategorizationRuleDto = new CreateCategorizationRuleDto(" ", "Subscriptions");
+
+        var request = post("/api/accounts/categorization-rules")
+                .contentType(APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(createCategorizationRuleDto));
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(categorizationService);
+    }
+
+    @Test
+    void deleteCategorizationRule_given_missing_rule_then_return_404() throws Exception {
+        var ruleId = UUID.randomUUID();
+
+        doThrow(new CategorizationRuleNotFoundException()).when(categorizationService).deleteRule(ruleId);
+
+        mockMvc
+                .perform(delete("/api/accounts/categorization-rules/{id}", ruleId).with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void backfillCategories_then_return_200_and_summary() throws Exception {
+        when(categorizationService.backfill(null)).thenReturn(new CategorizationBackfillDto(120, 45, null));
+
+        mockMvc
+                .perform(post("/api/accounts/categorization-rules/backfill").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scanned").value(120))
+                .andExpect(jsonPath("$.categorized").value(45))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void backfillCategories_given_after_then_continue_from_it() throws Exception {
+        var after = UUID.randomUUID();
+        var next = UUID.randomUUID();
+        when(categorizationService.backfill(after)).thenReturn(new CategorizationBackfillDto(1000, 10, next));
+
+        mockMvc
+                .perform(post("/api/accounts/categorization-rules/backfill").param("after", after.toString()).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next").value(next.toString()));
+    }
 }
@@ -0,0 +1,116 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.api;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.dtos.CreateTransferDto;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.AccountRepository;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountBalance;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityScope;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureRestTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.web.servlet.client.RestTestClient;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ApplicationModuleTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureRestTestClient
+@Import({TestcontainersConfiguration.class})
+class AccountTransferConcurrencyIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountTransferConcurrencyIntegrationTest.class);
+    private static final int TRANSFERS = 300;
+    private static final int CLIENTS = 16;
+
+    @Autowired
+    private RestTestClient restTestClient;
+    @Autowired
+    private SecurityService securityService;
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private final List<Account> accounts = new ArrayList<>();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.deleteAll();
+        accounts.clear();
+
+        var userId = new UserId(UUID.randomUUID());
+        for (var name : List.of("Checking", "Savings", "Cash")) {
+            var account = Account.from(new AccountId(UUID.randomUUID()), userId, new AccountName(name), new AccountBalance(new BigDecimal("1000.00")));
+            accountRepository.save(account);
+            accounts.add(account);
+        }
+
+        token = securityService.generateToken(userId.value(), "username", List.of(SecurityScope.APPLICATION));
+    }
+
+    @Test
+    void transfer_given_concurrent_opposing_transfers_then_complete_all_without_deadlock() throws Exception {
+        var expectedBalances = new HashMap<AccountId, BigDecimal>();
+        accounts.forEach(account -> expectedBalances.put(account.getId(), account.getBalance().value()));
+
+        var transfers = new ArrayList<Callable<Integer>>();
+        for (var i = 0; i < TRANSFERS; i++) {
+            var first = accounts.get(i % accounts.size());
+            var second = accounts.get((i + 1) % accounts.size());
+            var from = i % 2 == 0 ? first : second;
+            var to = i % 2 == 0 ? second : first;
+            var amount = new BigDecimal(i % 7 + 1).setScale(2);
+
+            expectedBalances.merge(from.getId(), amount.negate(), BigDecimal::add);
+            expectedBalances.merge(to.getId(), amount, BigDecimal::add);
+
+            var createTransferDto = new CreateTransferDto(from.getId().value(), to.getId().value(), amount, null, "Stress");
+            transfers.add(() -> restTestClient
+                    .post()
+                    .uri("/api/accounts/transfers")
+                    .headers(h -> h.setBearerAuth(token))
+                    .body(createTransferDto)
+                    .exchange()
+                    .returnResult()
+                    .getStatus()
+                    .value());
+        }
+
+        var startedAt = System.nanoTime();
+        var statuses = new ArrayList<Integer>();
+        try (var executor = Executors.newFixedThreadPool(CLIENTS)) {
+            for (var future : executor.invokeAll(transfers)) {
+                statuses.add(future.get());
+            }
+        }
+        var elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        log.info("{} contended transfers over {} accounts with {} clients took {}s ({} transfers/s)",
+                TRANSFERS, accounts.size(), CLIENTS, elapsedSeconds, Math.round(TRANSFERS / elapsedSeconds));
+
+        assertThat(statuses).hasSize(TRANSFERS).containsOnly(201);
+        for (var account : accounts) {
+            var updated = accountRepository.findByIdAndUserId(account.getId(), account.getUserId());
+            assertThat(updated).isPresent();
+            assertThat(updated.get().getBalance().value()).isEqualByComparingTo(expectedBalances.get(account.getId()));
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.api;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncDto;
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.exceptions.InvalidSyncTokenException;
+import dev.felix2000jp.envelope.accounts.application.exceptions.SyncTokenExpiredException;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SyncController.class)
+class SyncControllerTest {
+
+    @MockitoBean
+    private SyncService syncService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    @WithMockUser
+    void sync_given_token_then_return_200_and_changes() throws Exception {
+        var accountId = UUID.randomUUID();
+        var syncDto = new SyncDto(
+                "1001-42",
+                true,
+                List.of(new AccountDto(accountId, "Checking", new BigDecimal("75.00"), false)),
+                List.of(new SyncTransactionDto(UUID.randomUUID(), accountId, new BigDecimal("-25.00"), LocalDate.of(2024, 3, 1), "Coffee", false, null)),
+                List.of(UUID.randomUUID()),
+                List.of(UUID.randomUUID())
+        );
+        var expectedResponse = jsonMapper.writeValueAsString(syncDto);
+
+        when(syncService.sync("1000-7", 100)).thenReturn(syncDto);
+
+        var request = get("/api/sync").param("since", "1000-7").param("limit", "100");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(content().json(expectedResponse));
+    }
+
+    @Test
+    @WithMockUser
+    void sync_given_no_token_then_use_default_limit() throws Exception {
+        var syncDto = new SyncDto("1001-42", false, List.of(), List.of(), List.of(), List.of());
+
+        when(syncService.sync(null, 500)).thenReturn(syncDto);
+
+        var request = get("/api/sync");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("1001-42"));
+    }
+
+    @Test
+    @WithMockUser
+    void sync_given_invalid_token_then_return_400() throws Exception {
+        var exception = new InvalidSyncTokenException();
+        when(syncService.sync("abc", 500)).thenThrow(exception);
+
+        var request = get("/api/sync").param("since", "abc");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @WithMockUser
+    void sync_given_expired_token_then_return_410() throws Exception {
+        var exception = new SyncTokenExpiredException();
+        when(syncService.sync("1-1", 500)).thenThrow(exception);
+
+        var request = get("/api/sync").param("since", "1-1");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.title").value("Gone"))
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()))
+                .andExpect(jsonPath("$.status").value(410));
+    }
+
+    @Test
+    @WithMockUser
+    void sync_given_limit_out_of_range_then_return_400() throws Exception {
+        var request = get("/api/sync").param("since", "1-1").param("limit", "1001");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(syncService);
+    }
+
+}
@@ -0,0 +1,129 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.api;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.system.security.SecurityScope;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ApplicationModuleTest
+@AutoConfigureMockMvc
+@Import({TestcontainersConfiguration.class})
+class SyncEventControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private SecurityService securityService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        token = securityService.generateToken(UUID.randomUUID(), "username", List.of(SecurityScope.APPLICATION));
+    }
+
+    @Test
+    void token_then_return_short_lived_sync_events_token() throws Exception {
+        mockMvc
+                .perform(post("/api/sync/events/token").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.expiresIn").value(60));
+    }
+
+    @Test
+    void events_given_sync_events_token_in_query_then_start_event_stream() throws Exception {
+        var eventsToken = generateSyncEventsToken(Duration.ofMinutes(1));
+
+        mockMvc
+                .perform(get("/api/sync/events").param("access_token", eventsToken).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void events_given_application_token_in_header_then_start_event_stream() throws Exception {
+        mockMvc
+                .perform(get("/api/sync/events").header("Authorization", "Bearer " + token).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void events_given_expired_sync_events_token_then_unauthorized() throws Exception {
+        var eventsToken = generateSyncEventsToken(Duration.ofMinutes(-5));
+
+        mockMvc
+                .perform(get("/api/sync/events").param("access_token", eventsToken).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void events_given_expired_sync_events_token_on_reconnect_then_start_event_stream() throws Exception {
+        var eventsToken = generateSyncEventsToken(Duration.ofMinutes(-30));
+
+        mockMvc
+                .perform(get("/api/sync/events")
+                        .param("access_token", eventsToken)
+                        .header("Last-Event-ID", "1")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void events_given_sync_events_token_expired_beyond_reconnect_grace_then_unauthorized() throws Exception {
+        var eventsToken = generateSyncEventsToken(Duration.ofHours(-5));
+
+        mockMvc
+                .perform(get("/api/sync/events")
+                        .param("access_token", eventsToken)
+                        .header("Last-Event-ID", "1")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void events_given_application_token_in_query_then_unauthorized() throws Exception {
+        mockMvc
+                .perform(get("/api/sync/events").param("access_token", token).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void get_given_token_in_query_outside_sync_events_then_unauthorized() throws Exception {
+        mockMvc
+                .perform(get("/api/accounts").param("access_token", token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void get_given_sync_events_token_outside_sync_events_then_forbidden() throws Exception {
+        var eventsToken = generateSyncEventsToken(Duration.ofMinutes(1));
+
+        mockMvc
+                .perform(get("/api/accounts").header("Authorization", "Bearer " + eventsToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private String generateSyncEventsToken(Duration ttl) {
+        return securityService.generateToken(UUID.randomUUID(), "username", List.of(SecurityScope.SYNC_EVENTS), ttl);
+    }
+
+}
@@ -0,0 +1,71 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.api;
+
+import dev.felix2000jp.envelope.accounts.application.dtos.SyncEventsTokenDto;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncNotificationService;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncSubscriber;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SyncEventController.class)
+class SyncEventControllerTest {
+
+    @MockitoBean
+    private SyncNotificationService syncNotificationService;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser
+    void events_then_start_event_stream_and_push_changes() throws Exception {
+        var subscriberCaptor = ArgumentCaptor.forClass(SyncSubscriber.class);
+
+        when(syncNotificationService.subscribe(any())).thenReturn(() -> {
+        });
+
+        var request = get("/api/sync/events").accept(MediaType.TEXT_EVENT_STREAM);
+        var result = mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(header().string("X-Accel-Buffering", "no"))
+                .andReturn();
+
+        verify(syncNotificationService).subscribe(subscriberCaptor.capture());
+        subscriberCaptor.getValue().onChange();
+        subscriberCaptor.getValue().onHeartbeat();
+
+        var body = result.getResponse().getContentAsString();
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(body).contains("id:1\n", "event:sync\n", "data:changed\n", "retry:5000\n", ":heartbeat\n");
+    }
+
+    @Test
+    @WithMockUser
+    void token_then_return_sync_events_token() throws Exception {
+        when(syncNotificationService.generateToken()).thenReturn(new SyncEventsTokenDto("token", 60));
+
+        mockMvc
+                .perform(post("/api/sync/events/token").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(jsonPath("$.token").value("token"))
+                .andExpect(jsonPath("$.expiresIn").value(60));
+    }
+
+}
@@ -0,0 +1,52 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, AccountRollupRebuildScheduler.class})
+class AccountRollupRebuildSchedulerIntegrationTest {
+
+    @Autowired
+    private AccountRollupRebuildScheduler accountRollupRebuildScheduler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rebuildAll_given_drifted_rollups_then_recompute_them_from_transactions() {
+        var accountId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Account', 0)", accountId, UUID.randomUUID());
+        jdbcTemplate.update("""
+                INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared)
+                SELECT gen_random_uuid(), ?, CASE WHEN n % 2 = 0 THEN 10 ELSE -5 END, DATE '2024-01-01' + n, 'Memo', true
+                FROM generate_series(0, 59) n
+                """, accountId);
+        jdbcTemplate.update("DELETE FROM account_monthly_rollup WHERE account_id = ? AND month = DATE '2024-01-01'", accountId);
+        jdbcTemplate.update("UPDATE account_monthly_rollup SET income = 0 WHERE account_id = ?", accountId);
+
+        accountRollupRebuildScheduler.rebuildAll();
+
+        var rollups = jdbcTemplate.queryForList(
+                "SELECT month, income, expense, transaction_count FROM account_monthly_rollup WHERE account_id = ? ORDER BY month",
+                accountId
+        );
+        assertThat(rollups).hasSize(2);
+        assertThat(rollups.getFirst())
+                .containsEntry("month", Date.valueOf(LocalDate.of(2024, 1, 1)))
+                .containsEntry("income", new BigDecimal("160.00"))
+                .containsEntry("expense", new BigDecimal("-75.00"))
+                .containsEntry("transaction_count", 31);
+    }
+
+}
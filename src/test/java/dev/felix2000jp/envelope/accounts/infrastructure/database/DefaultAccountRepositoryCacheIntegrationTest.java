@@ -0,0 +1,133 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountBalance;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, DefaultAccountRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DefaultAccountRepositoryCacheIntegrationTest {
+
+    @Autowired
+    private DefaultAccountRepository accountRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private Statistics statistics;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        account = Account.from(
+                new AccountId(UUID.randomUUID()),
+                new UserId(UUID.randomUUID()),
+                new AccountName("Test Account"),
+                new AccountBalance(BigDecimal.valueOf(0))
+        );
+
+        readWriteTransaction.executeWithoutResult(_ -> {
+            accountRepository.deleteAll();
+            accountRepository.save(account);
+        });
+
+        var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByIdAndUserId_given_read_only_transaction_then_load_from_database_once_and_serve_from_cache() {
+        for (var i = 0; i < 5; i++) {
+            var actual = findInReadOnlyTransaction(account.getId(), account.getUserId());
+
+            assertThat(actual).isPresent();
+        }
+
+        assertThat(statistics.getEntityStatistics(Account.class.getName()).getLoadCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(4);
+    }
+
+    @Test
+    void findByIdAndUserId_given_read_only_transaction_and_not_found_userId_then_return_empty_optional() {
+        findInReadOnlyTransaction(account.getId(), account.getUserId());
+
+        var actual = findInReadOnlyTransaction(account.getId(), new UserId(UUID.randomUUID()));
+
+        assertThat(actual).isNotPresent();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByIdAndUserId_given_read_write_transaction_then_bypass_cache() {
+        findInReadOnlyTransaction(account.getId(), account.getUserId());
+        statistics.clear();
+
+        var actual = readWriteTransaction.execute(_ -> accountRepository.findByIdAndUserId(account.getId(), account.getUserId()));
+
+        assertThat(actual).isPresent();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Account.class.getName()).getLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByIdAndUserId_given_account_updated_then_return_updated_account() {
+        findInReadOnlyTransaction(account.getId(), account.getUserId());
+
+        readWriteTransaction.executeWithoutResult(_ -> {
+            var toUpdate = accountRepository.findByIdAndUserId(account.getId(), account.getUserId()).orElseThrow();
+            toUpdate.setName(new AccountName("Updated Account"));
+            accountRepository.save(toUpdate);
+        });
+        var actual = findInReadOnlyTransaction(account.getId(), account.getUserId());
+
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getName()).isEqualTo(new AccountName("Updated Account"));
+    }
+
+    @Test
+    void findByIdAndUserId_given_account_deleted_then_return_empty_optional() {
+        findInReadOnlyTransaction(account.getId(), account.getUserId());
+
+        readWriteTransaction.executeWithoutResult(_ -> accountRepository.deleteAllByUserId(account.getUserId()));
+        var actual = findInReadOnlyTransaction(account.getId(), account.getUserId());
+
+        assertThat(actual).isNotPresent();
+    }
+
+    private Optional<Account> findInReadOnlyTransaction(AccountId id, UserId userId) {
+        return readOnlyTransaction.execute(_ -> accountRepository.findByIdAndUserId(id, userId));
+    }
+
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -55,6 +56,36 @@ class DefaultAccountRepositoryIntegrationTest {
         assertThat(actual).isEmpty();
     }
 
+    @Test
+    void findAllVersionsByUserId_given_userId_of_account_then_return_versions() {
+        var actual = accountRepository.findAllVersionsByUserId(account.getUserId());
+
+        assertThat(actual).containsExactly(new AccountVersion(account.getId(), account.getVersion()));
+    }
+
+    @Test
+    void findAllVersionsByUserId_given_not_found_userId_then_return_empty_list() {
+        var actual = accountRepository.findAllVersionsByUserId(new UserId(UUID.randomUUID()));
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void save_given_transaction_memo_changed_then_increment_account_version() {
+        var previousVersion = account.getVersion();
+        var transactionId = account.getTransactions().getFirst().getId();
+
+        account.updateTransaction(transactionId, null, null, new TransactionMemo("Updated memo"));
+        accountRepository.save(account);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        TestTransaction.start();
+        var actual = accountRepository.findAllVersionsByUserId(account.getUserId());
+
+        assertThat(actual.getFirst().version()).isGreaterThan(previousVersion);
+    }
+
     @Test
     void findByIdAndUserId_given_id_and_userId_of_account_then_return_account() {
         var idValueObject = account.getId();
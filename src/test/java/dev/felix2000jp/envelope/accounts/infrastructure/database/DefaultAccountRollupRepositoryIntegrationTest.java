@@ -0,0 +1,162 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.dtos.AccountMonthlyRollupDto;
+import dev.felix2000jp.envelope.accounts.domain.Account;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.AccountName;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionAmount;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionDate;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionId;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.TransactionMemo;
+import dev.felix2000jp.envelope.accounts.domain.valueobjects.UserId;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, DefaultAccountRepository.class, DefaultAccountRollupRepository.class})
+class DefaultAccountRollupRepositoryIntegrationTest {
+
+    private static final UUID ACCOUNT_ID = UUID.fromString("00000000-0000-0000-0000-000000000011");
+
+    @Autowired
+    private DefaultAccountRepository accountRepository;
+    @Autowired
+    private DefaultAccountRollupRepository accountRollupRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository.deleteAll();
+
+        account = Account.from(new AccountId(ACCOUNT_ID), new UserId(UUID.randomUUID()), new AccountName("Main"));
+        account.addTransaction(amount("100.00"), date(2024, 1, 10), new TransactionMemo("Salary"), true);
+        account.addTransaction(amount("-40.00"), date(2024, 1, 20), new TransactionMemo("Groceries"), false);
+        account.addTransaction(amount("-10.00"), date(2024, 2, 5), new TransactionMemo("Coffee"), true);
+        accountRepository.save(account);
+        entityManager.flush();
+    }
+
+    @Test
+    void findMonthlyByAccountId_given_added_transactions_then_return_monthly_buckets() {
+        var actual = accountRollupRepository.findMonthlyByAccountId(ACCOUNT_ID, null, null);
+
+        assertThat(actual).containsExactly(
+                rollup(YearMonth.of(2024, 1), "100.00", "-40.00", "100.00", "0.00", 2),
+                rollup(YearMonth.of(2024, 2), "0.00", "-10.00", "0.00", "-10.00", 1)
+        );
+    }
+
+    @Test
+    void findMonthlyByAccountId_given_cleared_and_uncleared_transactions_then_adjust_cleared_buckets() {
+        account.clearTransaction(transactionId("Groceries"));
+        account.unclearTransaction(transactionId("Coffee"));
+        accountRepository.save(account);
+        entityManager.flush();
+
+        var actual = accountRollupRepository.findMonthlyByAccountId(ACCOUNT_ID, null, null);
+
+        assertThat(actual).containsExactly(
+                rollup(YearMonth.of(2024, 1), "100.00", "-40.00", "100.00", "-40.00", 2),
+                rollup(YearMonth.of(2024, 2), "0.00", "-10.00", "0.00", "0.00", 1)
+        );
+    }
+
+    @Test
+    void findMonthlyByAccountId_given_transaction_moved_to_other_month_then_move_bucket() {
+        account.updateTransaction(transactionId("Coffee"), amount("-15.00"), date(2024, 3, 1), null);
+        accountRepository.save(account);
+        entityManager.flush();
+
+        var actual = accountRollupRepository.findMonthlyByAccountId(ACCOUNT_ID, null, null);
+
+        assertThat(actual).containsExactly(
+                rollup(YearMonth.of(2024, 1), "100.00", "-40.00", "100.00", "0.00", 2),
+                rollup(YearMonth.of(2024, 3), "0.00", "-15.00", "0.00", "-15.00", 1)
+        );
+    }
+
+    @Test
+    void findMonthlyByAccountId_given_removed_transaction_then_subtract_from_bucket() {
+        account.removeTransaction(transactionId("Salary"));
+        accountRepository.save(account);
+        entityManager.flush();
+
+        var actual = accountRollupRepository.findMonthlyByAccountId(ACCOUNT_ID, null, null);
+
+        assertThat(actual).containsExactly(
+                rollup(YearMonth.of(2024, 1), "0.00", "-40.00", "0.00", "0.00", 1),
+                rollup(YearMonth.of(2024, 2), "0.00", "-10.00", "0.00", "-10.00", 1)
+        );
+    }
+
+    @Test
+    void findMonthlyByAccountId_given_month_range_then_return_only_months_in_range() {
+        var actual = accountRollupRepository.findMonthlyByAccountId(ACCOUNT_ID, YearMonth.of(2024, 2), YearMonth.of(2024, 12));
+
+        assertThat(actual).extracting(AccountMonthlyRollupDto::month).containsExactly(YearMonth.of(2024, 2));
+    }
+
+    @Test
+    void rebuild_account_monthly_rollup_then_match_incremental_rollup() {
+        var incremental = accountRollupRepository.findMonthlyByAccountId(ACCOUNT_ID, null, null);
+        jdbcTemplate.update("UPDATE account_monthly_rollup SET income = 0, transaction_count = 99 WHERE account_id = ?", ACCOUNT_ID);
+
+        var rebuiltMonths = jdbcTemplate.queryForObject("SELECT rebuild_account_monthly_rollup(?)", Integer.class, ACCOUNT_ID);
+
+        assertThat(rebuiltMonths).isEqualTo(2);
+        assertThat(accountRollupRepository.findMonthlyByAccountId(ACCOUNT_ID, null, null)).isEqualTo(incremental);
+    }
+
+    private TransactionId transactionId(String memo) {
+        return account.getTransactions().stream()
+                .filter(transaction -> transaction.getMemo().value().equals(memo))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private static TransactionAmount amount(String value) {
+        return new TransactionAmount(new BigDecimal(value));
+    }
+
+    private static TransactionDate date(int year, int month, int day) {
+        return new TransactionDate(LocalDate.of(year, month, day));
+    }
+
+    private static AccountMonthlyRollupDto rollup(
+            YearMonth month,
+            String income,
+            String expense,
+            String clearedIncome,
+            String clearedExpense,
+            int transactionCount
+    ) {
+        return new AccountMonthlyRollupDto(
+                month,
+                new BigDecimal(income),
+                new BigDecimal(expense),
+                new BigDecimal(clearedIncome),
+                new BigDecimal(clearedExpense),
+                transactionCount
+        );
+    }
+
+}
@@ -0,0 +1,125 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategorizedTransaction;
+import dev.felix2000jp.envelope.accounts.application.categorization.CategoryAssignment;
+import dev.felix2000jp.envelope.accounts.application.dtos.CategorizationRuleDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, DefaultCategorizationRuleRepository.class})
+class DefaultCategorizationRuleRepositoryIntegrationTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID netflixId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID groceriesId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private final UUID spotifyId = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @Autowired
+    private DefaultCategorizationRuleRepository categorizationRuleRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Checking', 0)", accountId, userId);
+        insertTransaction(netflixId, LocalDate.of(2024, 3, 1), "NETFLIX.COM", null);
+        insertTransaction(groceriesId, LocalDate.of(2024, 3, 2), "Groceries", null);
+        insertTransaction(spotifyId, LocalDate.of(2024, 3, 3), "Spotify AB", "Music");
+    }
+
+    @Test
+    void findAllByUserId_given_saved_rules_then_return_them_in_creation_order() {
+        var first = new CategorizationRuleDto(UUID.fromString("00000000-0000-0000-0000-000000000010"), "netflix", "Subscriptions");
+        var second = new CategorizationRuleDto(UUID.fromString("00000000-0000-0000-0000-000000000020"), "shell", "Fuel");
+
+        categorizationRuleRepository.save(userId, second);
+        categorizationRuleRepository.save(userId, first);
+        categorizationRuleRepository.save(UUID.randomUUID(), new CategorizationRuleDto(UUID.randomUUID(), "rent", "Housing"));
+
+        assertThat(categorizationRuleRepository.findAllByUserId(userId)).containsExactly(first, second);
+        assertThat(categorizationRuleRepository.countByUserId(userId)).isEqualTo(2);
+        assertThat(categorizationRuleRepository.deleteByIdAndUserId(first.id(), UUID.randomUUID())).isFalse();
+        assertThat(categorizationRuleRepository.deleteByIdAndUserId(first.id(), userId)).isTrue();
+        assertThat(categorizationRuleRepository.findAllByUserId(userId)).containsExactly(second);
+    }
+
+    @Test
+    void lockByUserId_then_hold_advisory_lock_until_transaction_ends() {
+        categorizationRuleRepository.lockByUserId(userId);
+
+        var locks = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_locks WHERE locktype = 'advisory' AND pid = pg_backend_pid() AND granted",
+                Integer.class
+        );
+
+        assertThat(locks).isEqualTo(1);
+    }
+
+    @Test
+    void findUncategorizedByUserId_given_cursor_then_return_next_uncategorized_page() {
+        var firstPage = categorizationRuleRepository.findUncategorizedByUserId(userId, new UUID(0L, 0L), 1);
+        var secondPage = categorizationRuleRepository.findUncategorizedByUserId(userId, netflixId, 10);
+
+        assertThat(firstPage).extracting("id").containsExactly(netflixId);
+        assertThat(secondPage).extracting("id").containsExactly(groceriesId);
+    }
+
+    @Test
+    void findUncategorizedByUserId_given_several_accounts_then_merge_them_in_id_order() {
+        var savingsId = UUID.randomUUID();
+        var savingsTransactionId = UUID.fromString("00000000-0000-0000-0000-000000000004");
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Savings', 0)", savingsId, userId);
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Other', 0)", UUID.randomUUID(), UUID.randomUUID());
+        insertTransaction(savingsId, savingsTransactionId, LocalDate.of(2024, 3, 4), "Interest", null);
+        insertTransaction(savingsId, UUID.fromString("00000000-0000-0000-0000-000000000005"), LocalDate.of(2024, 3, 5), "Fee", "Bank");
+
+        var firstPage = categorizationRuleRepository.findUncategorizedByUserId(userId, new UUID(0L, 0L), 2);
+        var secondPage = categorizationRuleRepository.findUncategorizedByUserId(userId, groceriesId, 2);
+
+        assertThat(firstPage).extracting("id").containsExactly(netflixId, groceriesId);
+        assertThat(secondPage).extracting("id").containsExactly(savingsTransactionId);
+    }
+
+    @Test
+    void assignCategories_given_uncategorized_transactions_then_update_them_and_bump_account_version() {
+        var assigned = categorizationRuleRepository.assignCategories(List.of(
+                new CategoryAssignment(netflixId, LocalDate.of(2024, 3, 1), "Subscriptions"),
+                new CategoryAssignment(spotifyId, LocalDate.of(2024, 3, 3), "Subscriptions")
+        ));
+
+        var netflixCategory = jdbcTemplate.queryForObject("SELECT category FROM transaction WHERE id = ?", String.class, netflixId);
+        var spotifyCategory = jdbcTemplate.queryForObject("SELECT category FROM transaction WHERE id = ?", String.class, spotifyId);
+        var version = jdbcTemplate.queryForObject("SELECT version FROM account WHERE id = ?", Long.class, accountId);
+
+        assertThat(assigned).extracting(CategorizedTransaction::transactionId).containsExactly(netflixId);
+        assertThat(assigned).extracting(CategorizedTransaction::accountId).containsExactly(accountId);
+        assertThat(netflixCategory).isEqualTo("Subscriptions");
+        assertThat(spotifyCategory).isEqualTo("Music");
+        assertThat(version).isEqualTo(1);
+    }
+
+    private void insertTransaction(UUID id, LocalDate date, String memo, String category) {
+        insertTransaction(accountId, id, date, memo, category);
+    }
+
+    private void insertTransaction(UUID accountId, UUID id, LocalDate date, String memo, String category) {
+        jdbcTemplate.update(
+                "INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared, category) VALUES (?, ?, -9.99, ?, ?, true, ?)",
+                id, accountId, date, memo, category
+        );
+    }
+
+}
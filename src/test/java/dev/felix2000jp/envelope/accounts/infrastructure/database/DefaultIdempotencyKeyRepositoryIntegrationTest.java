@@ -0,0 +1,74 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.idempotency.IdempotencyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, DefaultIdempotencyKeyRepository.class})
+class DefaultIdempotencyKeyRepositoryIntegrationTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+
+    @Autowired
+    private DefaultIdempotencyKeyRepository idempotencyKeyRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reserve_given_new_key_then_return_true() {
+        var userId = UUID.randomUUID();
+
+        assertThat(idempotencyKeyRepository.reserve(userId, "key-1", "hash", TTL)).isTrue();
+    }
+
+    @Test
+    void reserve_given_live_key_then_return_false() {
+        var userId = UUID.randomUUID();
+        idempotencyKeyRepository.reserve(userId, "key-1", "hash", TTL);
+
+        assertThat(idempotencyKeyRepository.reserve(userId, "key-1", "other-hash", TTL)).isFalse();
+    }
+
+    @Test
+    void reserve_given_same_key_for_other_user_then_return_true() {
+        idempotencyKeyRepository.reserve(UUID.randomUUID(), "key-1", "hash", TTL);
+
+        assertThat(idempotencyKeyRepository.reserve(UUID.randomUUID(), "key-1", "hash", TTL)).isTrue();
+    }
+
+    @Test
+    void reserve_given_expired_key_then_take_it_over() {
+        var userId = UUID.randomUUID();
+        idempotencyKeyRepository.reserve(userId, "key-1", "hash", TTL);
+        idempotencyKeyRepository.complete(userId, "key-1", "{}");
+        jdbcTemplate.update("UPDATE idempotency_key SET expires_at = now() - interval '1 minute' WHERE user_id = ?", userId);
+
+        assertThat(idempotencyKeyRepository.reserve(userId, "key-1", "other-hash", TTL)).isTrue();
+        assertThat(idempotencyKeyRepository.findByUserIdAndKey(userId, "key-1")).isEmpty();
+    }
+
+    @Test
+    void findByUserIdAndKey_given_completed_key_then_return_record() {
+        var userId = UUID.randomUUID();
+        idempotencyKeyRepository.reserve(userId, "key-1", "hash", TTL);
+        idempotencyKeyRepository.complete(userId, "key-1", "{\"id\":1}");
+
+        assertThat(idempotencyKeyRepository.findByUserIdAndKey(userId, "key-1")).contains(new IdempotencyRecord("hash", "{\"id\":1}"));
+    }
+
+    @Test
+    void findByUserIdAndKey_given_unknown_key_then_return_empty() {
+        assertThat(idempotencyKeyRepository.findByUserIdAndKey(UUID.randomUUID(), "key-1")).isEmpty();
+    }
+
+}
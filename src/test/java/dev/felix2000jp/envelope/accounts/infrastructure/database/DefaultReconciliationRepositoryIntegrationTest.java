@@ -0,0 +1,70 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, DefaultReconciliationRepository.class})
+class DefaultReconciliationRepositoryIntegrationTest {
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID unclearedId = UUID.randomUUID();
+    private final UUID otherUnclearedId = UUID.randomUUID();
+    private final UUID clearedId = UUID.randomUUID();
+
+    @Autowired
+    private DefaultReconciliationRepository reconciliationRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Checking', 100)", accountId, UUID.randomUUID());
+        insertTransaction(unclearedId, "-40.00", LocalDate.of(2024, 3, 5), false);
+        insertTransaction(otherUnclearedId, "-10.00", LocalDate.of(2024, 3, 20), false);
+        insertTransaction(clearedId, "-5.00", LocalDate.of(2024, 3, 6), true);
+    }
+
+    @Test
+    void findUnclearedByAccountId_then_return_uncleared_transactions_in_range() {
+        var actual = reconciliationRepository.findUnclearedByAccountId(accountId, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10));
+
+        assertThat(actual).extracting("id").containsExactly(unclearedId);
+    }
+
+    @Test
+    void clearTransactions_then_clear_rows_and_apply_single_balance_delta() {
+        reconciliationRepository.lockAccount(accountId);
+
+        var delta = reconciliationRepository.clearTransactions(accountId, List.of(unclearedId, otherUnclearedId, clearedId));
+
+        var balance = jdbcTemplate.queryForObject("SELECT balance FROM account WHERE id = ?", BigDecimal.class, accountId);
+        var version = jdbcTemplate.queryForObject("SELECT version FROM account WHERE id = ?", Long.class, accountId);
+        var uncleared = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction WHERE account_id = ? AND NOT cleared", Integer.class, accountId);
+
+        assertThat(delta).isEqualByComparingTo("-50.00");
+        assertThat(balance).isEqualByComparingTo("50.00");
+        assertThat(version).isEqualTo(1L);
+        assertThat(uncleared).isZero();
+    }
+
+    private void insertTransaction(UUID id, String amount, LocalDate date, boolean cleared) {
+        jdbcTemplate.update(
+                "INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared) VALUES (?, ?, ?, ?, 'Memo', ?)",
+                id, accountId, new BigDecimal(amount), date, cleared
+        );
+    }
+
+}
@@ -0,0 +1,60 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.dtos.RecurringTransactionDto;
+import dev.felix2000jp.envelope.accounts.application.recurring.RecurrenceFrequency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, DefaultRecurringTransactionRepository.class})
+class DefaultRecurringTransactionRepositoryIntegrationTest {
+
+    private final UUID accountId = UUID.randomUUID();
+
+    @Autowired
+    private DefaultRecurringTransactionRepository recurringTransactionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Checking', 0)", accountId, UUID.randomUUID());
+    }
+
+    @Test
+    void save_then_findAllByAccountId_returns_definition() {
+        var recurringTransaction = new RecurringTransactionDto(
+                UUID.randomUUID(), new BigDecimal("-950.00"), "Rent", true, RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 1), LocalDate.of(2024, 1, 1)
+        );
+
+        recurringTransactionRepository.save(accountId, recurringTransaction);
+
+        assertThat(recurringTransactionRepository.findAllByAccountId(accountId)).containsExactly(recurringTransaction);
+    }
+
+    @Test
+    void deleteByIdAndAccountId_given_other_account_then_return_false() {
+        var recurringTransaction = new RecurringTransactionDto(
+                UUID.randomUUID(), new BigDecimal("-950.00"), "Rent", true, RecurrenceFrequency.MONTHLY, 1,
+                LocalDate.of(2024, 1, 1), null, LocalDate.of(2024, 1, 1)
+        );
+        recurringTransactionRepository.save(accountId, recurringTransaction);
+
+        assertThat(recurringTransactionRepository.deleteByIdAndAccountId(recurringTransaction.id(), UUID.randomUUID())).isFalse();
+        assertThat(recurringTransactionRepository.deleteByIdAndAccountId(recurringTransaction.id(), accountId)).isTrue();
+        assertThat(recurringTransactionRepository.findAllByAccountId(accountId)).isEmpty();
+    }
+
+}
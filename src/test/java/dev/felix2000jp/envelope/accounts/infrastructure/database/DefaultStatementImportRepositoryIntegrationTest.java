@@ -0,0 +1,71 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.imports.ImportedTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, DefaultStatementImportRepository.class})
+class DefaultStatementImportRepositoryIntegrationTest {
+
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID rentFingerprint = UUID.randomUUID();
+    private final UUID coffeeFingerprint = UUID.randomUUID();
+
+    @Autowired
+    private DefaultStatementImportRepository statementImportRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Checking', 1000)", accountId, UUID.randomUUID());
+    }
+
+    @Test
+    void insertIgnoringDuplicates_given_overlapping_statement_then_insert_only_new_rows() {
+        statementImportRepository.lockAccount(accountId);
+
+        var first = statementImportRepository.insertIgnoringDuplicates(accountId, List.of(
+                transaction("-950.00", LocalDate.of(2024, 3, 1), "Rent", rentFingerprint)
+        ));
+        var second = statementImportRepository.insertIgnoringDuplicates(accountId, List.of(
+                transaction("-950.00", LocalDate.of(2024, 3, 1), "Rent", rentFingerprint),
+                transaction("-3.00", LocalDate.of(2024, 3, 2), "Coffee", coffeeFingerprint)
+        ));
+
+        var count = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction WHERE account_id = ? AND cleared", Integer.class, accountId);
+
+        assertThat(first).extracting(ImportedTransaction::amount).containsExactly(new BigDecimal("-950.00"));
+        assertThat(second).extracting(ImportedTransaction::memo).containsExactly("Coffee");
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    void applyBalance_then_add_delta_and_bump_version() {
+        statementImportRepository.applyBalance(accountId, new BigDecimal("-953.00"));
+
+        var balance = jdbcTemplate.queryForObject("SELECT balance FROM account WHERE id = ?", BigDecimal.class, accountId);
+        var version = jdbcTemplate.queryForObject("SELECT version FROM account WHERE id = ?", Long.class, accountId);
+
+        assertThat(balance).isEqualByComparingTo("47.00");
+        assertThat(version).isEqualTo(1L);
+    }
+
+    private ImportedTransaction transaction(String amount, LocalDate date, String memo, UUID fingerprint) {
+        return new ImportedTransaction(UUID.randomUUID(), new BigDecimal(amount), date, memo, null, fingerprint);
+    }
+
+}
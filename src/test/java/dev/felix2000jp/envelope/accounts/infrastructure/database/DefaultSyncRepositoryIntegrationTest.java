@@ -0,0 +1,131 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncChange;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncEntityType;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, DefaultSyncRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DefaultSyncRepositoryIntegrationTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID accountId = UUID.randomUUID();
+    private final UUID transactionId = UUID.randomUUID();
+
+    @Autowired
+    private DefaultSyncRepository syncRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Main', 0)", accountId, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM account WHERE user_id = ?", userId);
+        syncRepository.deleteAllByUserId(userId);
+    }
+
+    @Test
+    void findChangesByUserId_given_committed_writes_then_return_them_in_commit_order() {
+        jdbcTemplate.update("""
+                INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared)
+                VALUES (?, ?, -25.00, DATE '2024-03-01', 'Coffee', false)
+                """, transactionId, accountId);
+        jdbcTemplate.update("UPDATE account SET balance = -25.00 WHERE id = ?", accountId);
+        jdbcTemplate.update("UPDATE transaction SET cleared = true WHERE id = ?", transactionId);
+
+        var changes = syncRepository.findChangesByUserId(userId, SyncToken.ZERO, 10);
+
+        assertThat(changes).extracting(SyncChange::entityType, SyncChange::entityId).containsExactly(
+                tuple(SyncEntityType.ACCOUNT, accountId),
+                tuple(SyncEntityType.TRANSACTION, transactionId),
+                tuple(SyncEntityType.ACCOUNT, accountId),
+                tuple(SyncEntityType.TRANSACTION, transactionId)
+        );
+        assertThat(changes).extracting(SyncChange::token).isSorted();
+        assertThat(syncRepository.findHeadByUserId(userId)).isEqualTo(changes.getLast().token());
+    }
+
+    @Test
+    void findChangesByUserId_given_token_then_return_only_later_changes() {
+        var first = syncRepository.findChangesByUserId(userId, SyncToken.ZERO, 10);
+        jdbcTemplate.update("UPDATE account SET name = 'Renamed' WHERE id = ?", accountId);
+
+        var changes = syncRepository.findChangesByUserId(userId, first.getLast().token(), 10);
+
+        assertThat(first).hasSize(1);
+        assertThat(changes).extracting(SyncChange::entityId).containsExactly(accountId);
+        assertThat(changes.getFirst().token()).isGreaterThan(first.getLast().token());
+    }
+
+    @Test
+    void findChangesByUserId_given_unchanged_update_then_do_not_record_change() {
+        jdbcTemplate.update("UPDATE account SET name = name WHERE id = ?", accountId);
+
+        var changes = syncRepository.findChangesByUserId(userId, SyncToken.ZERO, 10);
+
+        assertThat(changes).hasSize(1);
+    }
+
+    @Test
+    void findTransactionsByUserIdAndIds_given_deleted_transaction_then_omit_it() {
+        jdbcTemplate.update("""
+                INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared)
+                VALUES (?, ?, -25.00, DATE '2024-03-01', 'Coffee', false)
+                """, transactionId, accountId);
+        jdbcTemplate.update("DELETE FROM transaction WHERE id = ?", transactionId);
+
+        var changes = syncRepository.findChangesByUserId(userId, SyncToken.ZERO, 10);
+        var transactions = syncRepository.findTransactionsByUserIdAndIds(userId, List.of(transactionId));
+
+        assertThat(changes).filteredOn(change -> change.entityType() == SyncEntityType.TRANSACTION).hasSize(2);
+        assertThat(transactions).isEmpty();
+    }
+
+    @Test
+    void findAccountsByUserIdAndIds_given_other_user_then_return_nothing() {
+        var accounts = syncRepository.findAccountsByUserIdAndIds(UUID.randomUUID(), List.of(accountId));
+
+        assertThat(accounts).isEmpty();
+        assertThat(syncRepository.findAccountsByUserIdAndIds(userId, List.of(accountId))).hasSize(1);
+    }
+
+    @Test
+    void findHeadByUserId_given_purged_changes_then_return_horizon() {
+        var horizon = syncRepository.findChangesByUserId(userId, SyncToken.ZERO, 10).getLast().token();
+        jdbcTemplate.update("DELETE FROM sync_change WHERE user_id = ?", userId);
+        jdbcTemplate.update(
+                "INSERT INTO sync_horizon (user_id, xid, seq) VALUES (?, CAST(? AS xid8), ?)",
+                userId, Long.toString(horizon.transactionId()), horizon.sequence()
+        );
+
+        assertThat(syncRepository.findHeadByUserId(userId)).isEqualTo(horizon);
+        assertThat(syncRepository.findHorizonByUserId(userId)).isEqualTo(horizon);
+    }
+
+    @Test
+    void findHeadByUserId_given_no_changes_then_return_zero() {
+        assertThat(syncRepository.findHeadByUserId(UUID.randomUUID())).isEqualTo(SyncToken.ZERO);
+    }
+
+}
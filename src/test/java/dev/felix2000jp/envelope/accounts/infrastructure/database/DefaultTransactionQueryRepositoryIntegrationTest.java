@@ -118,7 +118,7 @@ class DefaultTransactionQueryRepositoryIntegrationTest {
 
     @Test
     void findByAccountIdAndUserId_returnsOnlyRequestedAccountAndUserTransactions() {
-        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null);
+        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null, null, null, null);
 
         var actual = transactionQueryRepository.findByAccountIdAndUserId(
                 ACCOUNT_ID,
@@ -135,7 +135,7 @@ class DefaultTransactionQueryRepositoryIntegrationTest {
 
     @Test
     void findByAccountIdAndUserId_sortsByDateThenId_forAscAndDesc() {
-        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null);
+        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null, null, null, null);
 
         var desc = transactionQueryRepository.findByAccountIdAndUserId(
                 ACCOUNT_ID,
@@ -186,7 +186,7 @@ class DefaultTransactionQueryRepositoryIntegrationTest {
                 LocalDate.of(2024, 3, 10),
                 TransactionQuerySortDirection.ASC
         );
-        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null);
+        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null, null, null, null);
 
         var desc = transactionQueryRepository.findByAccountIdAndUserId(
                 ACCOUNT_ID,
@@ -221,7 +221,7 @@ class DefaultTransactionQueryRepositoryIntegrationTest {
 
     @Test
     void findByAccountIdAndUserId_appliesMemoFilter_caseInsensitiveAndTrimmed() {
-        var query = new GetTransactionsDto(50, "desc", null, null, null, "  CoFfEe ", null);
+        var query = new GetTransactionsDto(50, "desc", null, null, null, "  CoFfEe ", null, null, null, null);
 
         var actual = transactionQueryRepository.findByAccountIdAndUserId(
                 ACCOUNT_ID,
@@ -241,7 +241,7 @@ class DefaultTransactionQueryRepositoryIntegrationTest {
 
     @Test
     void findByAccountIdAndUserId_treatsMemoWildcardsAsLiteralCharacters() {
-        var query = new GetTransactionsDto(50, "desc", null, null, null, "%", null);
+        var query = new GetTransactionsDto(50, "desc", null, null, null, "%", null, null, null, null);
 
         var actual = transactionQueryRepository.findByAccountIdAndUserId(
                 ACCOUNT_ID,
@@ -257,7 +257,7 @@ class DefaultTransactionQueryRepositoryIntegrationTest {
 
     @Test
     void findByAccountIdAndUserId_appliesClearedAndAmountFiltersAndLimit() {
-        var query = new GetTransactionsDto(50, "desc", null, new BigDecimal("15.00"), new BigDecimal("40.00"), null, true);
+        var query = new GetTransactionsDto(50, "desc", null, new BigDecimal("15.00"), new BigDecimal("40.00"), null, true, null, null, null);
 
         var filtered = transactionQueryRepository.findByAccountIdAndUserId(
                 ACCOUNT_ID,
@@ -286,4 +286,113 @@ class DefaultTransactionQueryRepositoryIntegrationTest {
 
         assertThat(limited).hasSize(2);
     }
+
+    @Test
+    void findByAccountIdAndUserId_appliesDateRange() {
+        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null, LocalDate.of(2024, 3, 11), LocalDate.of(2024, 3, 12), null);
+
+        var actual = transactionQueryRepository.findByAccountIdAndUserId(
+                ACCOUNT_ID,
+                USER_ID,
+                query,
+                TransactionQuerySortDirection.DESC,
+                null,
+                50
+        );
+
+        assertThat(actual).extracting(t -> t.id().toString())
+                .containsExactly(
+                        "00000000-0000-0000-0000-000000000104",
+                        "00000000-0000-0000-0000-000000000103"
+                );
+    }
+
+    @Test
+    void findByAccountIdAndUserId_appliesDateRangeTogetherWithCursor_forDescAndAsc() {
+        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null, LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 12), null);
+        var descCursor = new TransactionQueryCursor(
+                UUID.fromString("00000000-0000-0000-0000-000000000103"),
+                LocalDate.of(2024, 3, 11),
+                TransactionQuerySortDirection.DESC
+        );
+        var ascCursor = new TransactionQueryCursor(
+                UUID.fromString("00000000-0000-0000-0000-000000000101"),
+                LocalDate.of(2024, 3, 10),
+                TransactionQuerySortDirection.ASC
+        );
+
+        var desc = transactionQueryRepository.findByAccountIdAndUserId(
+                ACCOUNT_ID,
+                USER_ID,
+                query,
+                TransactionQuerySortDirection.DESC,
+                descCursor,
+                50
+        );
+        var asc = transactionQueryRepository.findByAccountIdAndUserId(
+                ACCOUNT_ID,
+                USER_ID,
+                query,
+                TransactionQuerySortDirection.ASC,
+                ascCursor,
+                50
+        );
+
+        assertThat(desc).extracting(t -> t.id().toString())
+                .containsExactly(
+                        "00000000-0000-0000-0000-000000000102",
+                        "00000000-0000-0000-0000-000000000101"
+                );
+        assertThat(asc).extracting(t -> t.id().toString())
+                .containsExactly(
+                        "00000000-0000-0000-0000-000000000102",
+                        "00000000-0000-0000-0000-000000000103",
+                        "00000000-0000-0000-0000-000000000104"
+                );
+    }
+
+    @Test
+    void findByAccountIdAndUserId_givenCursorOutsideDateRange_appliesDateRange() {
+        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null, LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 11), null);
+        var cursor = new TransactionQueryCursor(
+                UUID.fromString("00000000-0000-0000-0000-000000000105"),
+                LocalDate.of(2024, 3, 13),
+                TransactionQuerySortDirection.DESC
+        );
+
+        var actual = transactionQueryRepository.findByAccountIdAndUserId(
+                ACCOUNT_ID,
+                USER_ID,
+                query,
+                TransactionQuerySortDirection.DESC,
+                cursor,
+                50
+        );
+
+        assertThat(actual).extracting(t -> t.id().toString())
+                .containsExactly(
+                        "00000000-0000-0000-0000-000000000103",
+                        "00000000-0000-0000-0000-000000000102",
+                        "00000000-0000-0000-0000-000000000101"
+                );
+    }
+
+    @Test
+    void countByAccountIdAndUserId_appliesFiltersAndDateRange() {
+        var all = new GetTransactionsDto(50, "desc", null, null, null, null, null, null, null, "exact");
+        var coffee = new GetTransactionsDto(50, "desc", null, null, null, "coffee", null, null, null, "exact");
+        var range = new GetTransactionsDto(50, "desc", null, null, null, null, true, LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 11), "exact");
+
+        assertThat(transactionQueryRepository.countByAccountIdAndUserId(ACCOUNT_ID, USER_ID, all)).isEqualTo(5);
+        assertThat(transactionQueryRepository.countByAccountIdAndUserId(ACCOUNT_ID, USER_ID, coffee)).isEqualTo(2);
+        assertThat(transactionQueryRepository.countByAccountIdAndUserId(ACCOUNT_ID, USER_ID, range)).isEqualTo(2);
+        assertThat(transactionQueryRepository.countByAccountIdAndUserId(ACCOUNT_ID, OTHER_USER_ID, all)).isZero();
+    }
+
+    @Test
+    void estimateCountByAccountIdAndUserId_returnsPlannerEstimate() {
+        var query = new GetTransactionsDto(50, "desc", null, null, null, null, null, null, null, "estimate");
+
+        assertThat(transactionQueryRepository.estimateCountByAccountIdAndUserId(ACCOUNT_ID, USER_ID, query)).isPositive();
+    }
 }
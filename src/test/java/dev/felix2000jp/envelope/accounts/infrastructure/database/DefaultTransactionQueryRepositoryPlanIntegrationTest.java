@@ -0,0 +1,147 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.dtos.GetTransactionsDto;
+import dev.felix2000jp.envelope.accounts.application.queries.TransactionQueryCursor;
+import dev.felix2000jp.envelope.accounts.application.queries.TransactionQuerySortDirection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, DefaultTransactionQueryRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DefaultTransactionQueryRepositoryPlanIntegrationTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ACCOUNT_ID = UUID.fromString("00000000-0000-0000-0000-000000000011");
+
+    @MockitoSpyBean
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DefaultTransactionQueryRepository transactionQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM account");
+        jdbcTemplate.queryForList("SELECT create_transaction_partition(make_date(2024, m, 1)) FROM generate_series(1, 12) m", Boolean.class);
+        jdbcTemplate.update("""
+                INSERT INTO account (id, user_id, name, balance)
+                SELECT CASE WHEN n = 0 THEN ?::uuid ELSE gen_random_uuid() END, ?::uuid, 'Account ' || n, 0
+                FROM generate_series(0, 9) n
+                """, ACCOUNT_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared)
+                SELECT gen_random_uuid(), a.id, n % 500, DATE '2024-01-01' + n % 365, 'Memo ' || n, n % 2 = 0
+                FROM account a, generate_series(1, 5000) n
+                """);
+        jdbcTemplate.execute("VACUUM ANALYZE transaction");
+        clearInvocations(namedParameterJdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM account");
+    }
+
+    @Test
+    void findByAccountIdAndUserId_given_first_page_then_use_index_only_scan() {
+        var plan = explain(new GetTransactionsDto(30, "desc", null, null, null, null, null, null, null, null), TransactionQuerySortDirection.DESC, null);
+
+        assertThat(plan)
+                .containsPattern("Index Only Scan Backward using \\w+ on transaction_p2024_12 t")
+                .doesNotContainPattern("Seq Scan on transaction_p2024_\\d{2}")
+                .doesNotContainPattern("Heap Fetches: [1-9]");
+    }
+
+    @Test
+    void findByAccountIdAndUserId_given_cursor_then_prune_earlier_partitions() {
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2024, 6, 1), TransactionQuerySortDirection.ASC);
+
+        var plan = explain(new GetTransactionsDto(30, "asc", null, null, null, null, null, null, null, null), TransactionQuerySortDirection.ASC, cursor);
+
+        assertThat(plan)
+                .containsPattern("Index Only Scan using \\w+ on transaction_p2024_06 t")
+                .doesNotContain("transaction_p2024_05")
+                .doesNotContain("transaction_p2024_01")
+                .doesNotContainPattern("Heap Fetches: [1-9]");
+    }
+
+    @Test
+    void findByAccountIdAndUserId_given_cleared_filter_then_use_index_only_scan() {
+        var plan = explain(new GetTransactionsDto(30, "desc", null, null, null, null, true, null, null, null), TransactionQuerySortDirection.DESC, null);
+
+        assertThat(plan)
+                .containsPattern("Index Only Scan Backward using \\w+ on transaction_p2024_12 t")
+                .doesNotContainPattern("Heap Fetches: [1-9]");
+    }
+
+    @Test
+    void findByAccountIdAndUserId_given_date_range_then_scan_only_matching_partition() {
+        var query = new GetTransactionsDto(30, "desc", null, null, null, null, null, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30), null);
+
+        var plan = explain(query, TransactionQuerySortDirection.DESC, null);
+
+        assertThat(plan)
+                .containsPattern("Index Only Scan Backward using \\w+ on transaction_p2024_06 t")
+                .doesNotContain("transaction_p2024_05")
+                .doesNotContain("transaction_p2024_07")
+                .doesNotContain("transaction_default")
+                .contains("Heap Fetches: 0")
+                .doesNotContainPattern("(?m)^\\s*(->\\s+)?(Sort|Merge Append) \\(");
+    }
+
+    @Test
+    void findByAccountIdAndUserId_given_date_range_and_cursor_then_bound_index_scan_on_both_ends() {
+        var query = new GetTransactionsDto(30, "desc", null, null, null, null, null, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30), null);
+        var cursor = new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2024, 6, 15), TransactionQuerySortDirection.DESC);
+
+        var plan = explain(query, TransactionQuerySortDirection.DESC, cursor);
+
+        assertThat(plan)
+                .containsPattern("Index Only Scan Backward using \\w+ on transaction_p2024_06 t")
+                .containsPattern("Index Cond: .*date_of_transaction >= '2024-06-01'::date")
+                .containsPattern("Index Cond: .*ROW\\(t\\.date_of_transaction, t\\.id\\) < ROW\\('2024-06-15'::date")
+                .doesNotContainPattern("(?m)^\\s+Filter:")
+                .doesNotContain("transaction_default")
+                .doesNotContainPattern("(?m)^\\s*(->\\s+)?Sort \\(");
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explain(GetTransactionsDto query, TransactionQuerySortDirection sort, TransactionQueryCursor cursor) {
+        transactionQueryRepository.findByAccountIdAndUserId(ACCOUNT_ID, USER_ID, query, sort, cursor, query.limit() + 1);
+
+        var sql = ArgumentCaptor.forClass(String.class);
+        var params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(namedParameterJdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+
+        var plan = namedParameterJdbcTemplate.queryForList(
+                "EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF, SUMMARY OFF) " + sql.getValue(),
+                params.getValue(),
+                String.class
+        );
+        return String.join("\n", plan);
+    }
+
+}
@@ -0,0 +1,85 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.dtos.GetTransactionsDto;
+import dev.felix2000jp.envelope.accounts.application.queries.TransactionQueryCursor;
+import dev.felix2000jp.envelope.accounts.application.queries.TransactionQuerySortDirection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, DefaultTransactionQueryRepository.class})
+class DefaultTransactionQueryRepositoryPreparedStatementIntegrationTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ACCOUNT_ID = UUID.fromString("00000000-0000-0000-0000-000000000011");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DefaultTransactionQueryRepository transactionQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM account");
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Main', 0)", ACCOUNT_ID, USER_ID);
+        jdbcTemplate.update("""
+                INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared)
+                SELECT gen_random_uuid(), ?, n, DATE '2024-01-01' + n, 'Memo ' || n, n % 2 = 0
+                FROM generate_series(1, 100) n
+                """, ACCOUNT_ID);
+        jdbcTemplate.execute("DEALLOCATE ALL");
+    }
+
+    @Test
+    void findByAccountIdAndUserId_given_filter_combinations_then_reuse_one_prepared_statement_per_direction() {
+        var queries = new ArrayList<GetTransactionsDto>();
+        for (var memo : new String[]{null, "Memo 1"}) {
+            for (var cleared : new Boolean[]{null, true}) {
+                for (var minAmount : new BigDecimal[]{null, BigDecimal.TEN}) {
+                    queries.add(new GetTransactionsDto(10, "desc", null, minAmount, null, memo, cleared, null, null, null));
+                }
+            }
+        }
+        queries.add(new GetTransactionsDto(10, "desc", null, null, new BigDecimal("50"), null, null, null, null, null));
+        queries.add(new GetTransactionsDto(10, "desc", null, null, null, null, null, LocalDate.of(2024, 2, 1), null, null));
+        queries.add(new GetTransactionsDto(10, "desc", null, null, null, null, null, null, LocalDate.of(2024, 3, 1), null));
+        queries.add(new GetTransactionsDto(10, "desc", null, null, null, "Memo", false, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1), null));
+
+        var cursors = new TransactionQueryCursor[]{
+                null,
+                new TransactionQueryCursor(UUID.randomUUID(), LocalDate.of(2024, 2, 15), TransactionQuerySortDirection.DESC)
+        };
+
+        var executions = 0;
+        for (var sort : TransactionQuerySortDirection.values()) {
+            for (var query : queries) {
+                for (var cursor : cursors) {
+                    transactionQueryRepository.findByAccountIdAndUserId(ACCOUNT_ID, USER_ID, query, sort, cursor, query.limit() + 1);
+                    executions++;
+                }
+            }
+        }
+
+        var statements = jdbcTemplate.queryForList("""
+                SELECT generic_plans + custom_plans
+                FROM pg_prepared_statements
+                WHERE statement LIKE '%FROM transaction t%'
+                """, Long.class);
+
+        assertThat(statements).hasSize(2);
+        assertThat(statements.stream().mapToLong(Long::longValue).sum()).isEqualTo(executions);
+    }
+
+}
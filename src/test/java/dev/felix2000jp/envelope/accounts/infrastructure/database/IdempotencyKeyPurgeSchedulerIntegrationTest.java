@@ -0,0 +1,44 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, IdempotencyKeyPurgeScheduler.class})
+@TestPropertySource(properties = "idempotency-keys.purge-batch-size=2")
+class IdempotencyKeyPurgeSchedulerIntegrationTest {
+
+    @Autowired
+    private IdempotencyKeyPurgeScheduler idempotencyKeyPurgeScheduler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void purgeExpired_given_expired_keys_then_delete_them_in_batches() {
+        var userId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO idempotency_key (user_id, idempotency_key, request_hash, expires_at)
+                SELECT ?, 'expired-' || n, 'hash', now() - interval '1 hour'
+                FROM generate_series(1, 5) n
+                """, userId);
+        jdbcTemplate.update("""
+                INSERT INTO idempotency_key (user_id, idempotency_key, request_hash, expires_at)
+                VALUES (?, 'live', 'hash', now() + interval '1 hour')
+                """, userId);
+
+        idempotencyKeyPurgeScheduler.purgeExpired();
+
+        var remaining = jdbcTemplate.queryForList("SELECT idempotency_key FROM idempotency_key WHERE user_id = ?", String.class, userId);
+        assertThat(remaining).containsExactly("live");
+    }
+
+}
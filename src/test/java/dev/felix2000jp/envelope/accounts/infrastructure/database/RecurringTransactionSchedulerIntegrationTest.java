@@ -0,0 +1,136 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, RecurringTransactionScheduler.class})
+@TestPropertySource(properties = {"recurring-transactions.batch-size=2", "recurring-transactions.max-occurrences-per-run=5"})
+class RecurringTransactionSchedulerIntegrationTest {
+
+    private final UUID accountId = UUID.randomUUID();
+
+    @Autowired
+    private RecurringTransactionScheduler recurringTransactionScheduler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Checking', 1000)", accountId, UUID.randomUUID());
+    }
+
+    @Test
+    void materializeDue_given_missed_occurrences_then_catch_up_and_advance() {
+        var startDate = LocalDate.now().minusMonths(3);
+        var recurringId = insertRecurring(new BigDecimal("-100.00"), true, startDate, null);
+
+        recurringTransactionScheduler.materializeDue();
+
+        var count = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction WHERE account_id = ?", Integer.class, accountId);
+        var balance = jdbcTemplate.queryForObject("SELECT balance FROM account WHERE id = ?", BigDecimal.class, accountId);
+        var version = jdbcTemplate.queryForObject("SELECT version FROM account WHERE id = ?", Long.class, accountId);
+        var next = jdbcTemplate.queryForObject("SELECT next_occurrence FROM recurring_transaction WHERE id = ?", Date.class, recurringId);
+
+        assertThat(count).isEqualTo(4);
+        assertThat(balance).isEqualByComparingTo("600.00");
+        assertThat(version).isEqualTo(1L);
+        assertThat(next.toLocalDate()).isEqualTo(startDate.plusMonths(4));
+    }
+
+    @Test
+    void materializeDue_given_end_date_passed_then_stop_recurring() {
+        var startDate = LocalDate.now().minusDays(10);
+        var recurringId = insertRecurring(new BigDecimal("5.00"), false, startDate, startDate.plusDays(2));
+
+        recurringTransactionScheduler.materializeDue();
+
+        var count = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction WHERE account_id = ?", Integer.class, accountId);
+        var balance = jdbcTemplate.queryForObject("SELECT balance FROM account WHERE id = ?", BigDecimal.class, accountId);
+        var next = jdbcTemplate.queryForObject("SELECT next_occurrence FROM recurring_transaction WHERE id = ?", Date.class, recurringId);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(balance).isEqualByComparingTo("1000.00");
+        assertThat(next).isNull();
+    }
+
+    @Test
+    void materializeDue_given_more_definitions_than_batch_size_then_process_all_batches() {
+        for (var i = 0; i < 5; i++) {
+            insertRecurring(new BigDecimal("10.00"), true, LocalDate.now(), null);
+        }
+        insertRecurring(new BigDecimal("10.00"), true, LocalDate.now().plusDays(1), null);
+
+        recurringTransactionScheduler.materializeDue();
+
+        var count = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction WHERE account_id = ?", Integer.class, accountId);
+        var balance = jdbcTemplate.queryForObject("SELECT balance FROM account WHERE id = ?", BigDecimal.class, accountId);
+
+        assertThat(count).isEqualTo(5);
+        assertThat(balance).isEqualByComparingTo("1050.00");
+    }
+
+    @Test
+    void materializeDue_given_long_backlog_then_cap_occurrences_per_run() {
+        var startDate = LocalDate.now().minusDays(10);
+        var recurringId = insertRecurring(new BigDecimal("-1.00"), true, startDate, LocalDate.now().plusYears(1));
+
+        recurringTransactionScheduler.materializeDue();
+
+        var count = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction WHERE account_id = ?", Integer.class, accountId);
+        var next = jdbcTemplate.queryForObject("SELECT next_occurrence FROM recurring_transaction WHERE id = ?", Date.class, recurringId);
+
+        assertThat(count).isEqualTo(5);
+        assertThat(next.toLocalDate()).isEqualTo(startDate.plusDays(5));
+
+        recurringTransactionScheduler.materializeDue();
+        recurringTransactionScheduler.materializeDue();
+
+        var caughtUp = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction WHERE account_id = ?", Integer.class, accountId);
+        var balance = jdbcTemplate.queryForObject("SELECT balance FROM account WHERE id = ?", BigDecimal.class, accountId);
+
+        assertThat(caughtUp).isEqualTo(11);
+        assertThat(balance).isEqualByComparingTo("989.00");
+    }
+
+    @Test
+    void materializeDue_given_backlogs_filling_a_batch_then_cap_occurrences_once_per_run() {
+        var startDate = LocalDate.now().minusDays(10);
+        var endDate = LocalDate.now().plusYears(1);
+        var firstId = insertRecurring(new BigDecimal("-1.00"), true, startDate, endDate);
+        var secondId = insertRecurring(new BigDecimal("-1.00"), true, startDate, endDate);
+
+        recurringTransactionScheduler.materializeDue();
+
+        var count = jdbcTemplate.queryForObject("SELECT count(*) FROM transaction WHERE account_id = ?", Integer.class, accountId);
+        var firstNext = jdbcTemplate.queryForObject("SELECT next_occurrence FROM recurring_transaction WHERE id = ?", Date.class, firstId);
+        var secondNext = jdbcTemplate.queryForObject("SELECT next_occurrence FROM recurring_transaction WHERE id = ?", Date.class, secondId);
+
+        assertThat(count).isEqualTo(10);
+        assertThat(firstNext.toLocalDate()).isEqualTo(startDate.plusDays(5));
+        assertThat(secondNext.toLocalDate()).isEqualTo(startDate.plusDays(5));
+    }
+
+    private UUID insertRecurring(BigDecimal amount, boolean cleared, LocalDate startDate, LocalDate endDate) {
+        var id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO recurring_transaction (id, account_id, amount, memo, cleared, frequency, interval_count, start_date, end_date, next_occurrence)
+                VALUES (?, ?, ?, 'Recurring', ?, ?, 1, ?, ?, ?)
+                """, id, accountId, amount, cleared, endDate == null ? "MONTHLY" : "DAILY", startDate, endDate, startDate);
+        return id;
+    }
+
+}
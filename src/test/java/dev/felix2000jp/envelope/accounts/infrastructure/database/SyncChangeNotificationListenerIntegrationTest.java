@@ -0,0 +1,117 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.application.sync.SyncNotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, SyncChangeNotificationListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyncChangeNotificationListenerIntegrationTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    @MockitoBean
+    private SyncNotificationService syncNotificationService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline && !isListening()) {
+            Thread.sleep(50);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM account WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM sync_change WHERE user_id = ?", userId);
+    }
+
+    @Test
+    void listen_given_committed_change_then_notify_user_once_per_transaction() {
+        jdbcTemplate.update("""
+                INSERT INTO account (id, user_id, name, balance)
+                SELECT gen_random_uuid(), ?, 'Account ' || n, 0
+                FROM generate_series(1, 3) n
+                """, userId);
+
+        verify(syncNotificationService, timeout(5000)).notifyChanged(userId);
+        verify(syncNotificationService, after(500).times(1)).notifyChanged(userId);
+    }
+
+    @Test
+    void listen_given_rolled_back_change_then_do_not_notify() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (gen_random_uuid(), ?, 'Main', 0)", userId);
+            status.setRollbackOnly();
+        });
+
+        verify(syncNotificationService, after(1000).never()).notifyChanged(userId);
+    }
+
+    @Test
+    void listen_given_older_transaction_still_open_then_notify_once_it_ends() throws SQLException {
+        try (var olderTransaction = dataSource.getConnection()) {
+            olderTransaction.setAutoCommit(false);
+            try (var statement = olderTransaction.createStatement()) {
+                statement.execute("SELECT pg_current_xact_id()");
+            }
+
+            jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (gen_random_uuid(), ?, 'Main', 0)", userId);
+
+            verify(syncNotificationService, after(1000).never()).notifyChanged(userId);
+
+            olderTransaction.rollback();
+        }
+
+        verify(syncNotificationService, timeout(5000)).notifyChanged(userId);
+        verify(syncNotificationService, after(500).times(1)).notifyChanged(userId);
+    }
+
+    @Test
+    void listen_then_use_dedicated_connection_outside_pool() {
+        var applicationName = jdbcTemplate.queryForObject(
+                "SELECT application_name FROM pg_stat_activity WHERE query LIKE 'LISTEN %' OR query LIKE '%pg_snapshot_xmin%' AND pid <> pg_backend_pid()",
+                String.class
+        );
+
+        assertThat(applicationName).isEqualTo("sync-change-listener");
+    }
+
+    private boolean isListening() {
+        var listeners = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE application_name = 'sync-change-listener' AND query <> ''",
+                Long.class
+        );
+        return listeners != null && listeners > 0;
+    }
+
+}
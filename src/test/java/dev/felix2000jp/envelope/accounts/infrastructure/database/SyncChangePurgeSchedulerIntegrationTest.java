@@ -0,0 +1,50 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, SyncChangePurgeScheduler.class})
+@TestPropertySource(properties = {"sync-changes.retention=1d", "sync-changes.purge-batch-size=2"})
+class SyncChangePurgeSchedulerIntegrationTest {
+
+    @Autowired
+    private SyncChangePurgeScheduler syncChangePurgeScheduler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void purgeExpired_given_expired_changes_then_delete_them_and_advance_horizon() {
+        var userId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO sync_change (user_id, entity_type, entity_id, changed_at)
+                SELECT ?, 'ACCOUNT', gen_random_uuid(), now() - interval '2 days'
+                FROM generate_series(1, 5)
+                """, userId);
+        jdbcTemplate.update("""
+                INSERT INTO sync_change (user_id, entity_type, entity_id, changed_at)
+                VALUES (?, 'ACCOUNT', gen_random_uuid(), now())
+                """, userId);
+        var lastExpiredSequence = jdbcTemplate.queryForObject(
+                "SELECT max(seq) FROM sync_change WHERE user_id = ? AND changed_at < now() - interval '1 day'",
+                Long.class, userId
+        );
+
+        syncChangePurgeScheduler.purgeExpired();
+
+        var remaining = jdbcTemplate.queryForObject("SELECT count(*) FROM sync_change WHERE user_id = ?", Long.class, userId);
+        var horizonSequence = jdbcTemplate.queryForObject("SELECT seq FROM sync_horizon WHERE user_id = ?", Long.class, userId);
+        assertThat(remaining).isEqualTo(1);
+        assertThat(horizonSequence).isEqualTo(lastExpiredSequence);
+    }
+
+}
@@ -0,0 +1,112 @@
+package dev.felix2000jp.envelope.accounts.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, TransactionPartitionScheduler.class})
+class TransactionPartitionSchedulerIntegrationTest {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Autowired
+    private TransactionPartitionScheduler transactionPartitionScheduler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createUpcomingPartitions_then_create_partitions_for_current_and_next_months() {
+        transactionPartitionScheduler.createUpcomingPartitions();
+
+        var currentMonth = LocalDate.now().withDayOfMonth(1);
+        for (var i = 0; i <= 3; i++) {
+            var partition = "transaction_p" + currentMonth.plusMonths(i).format(PARTITION_SUFFIX);
+
+            assertThat(partitions()).contains(partition);
+        }
+    }
+
+    @Test
+    void createUpcomingPartitions_given_partitions_already_exist_then_keep_them() {
+        transactionPartitionScheduler.createUpcomingPartitions();
+        var before = partitions();
+
+        transactionPartitionScheduler.createUpcomingPartitions();
+
+        assertThat(partitions()).containsExactlyInAnyOrderElementsOf(before);
+    }
+
+    @Test
+    void create_transaction_partition_given_rows_in_default_partition_then_move_them_to_new_partition() {
+        var accountId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Account', 0)", accountId, UUID.randomUUID());
+        jdbcTemplate.update(
+                "INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared) VALUES (?, ?, 10, ?, 'Old', true)",
+                UUID.randomUUID(), accountId, LocalDate.of(1999, 7, 14)
+        );
+
+        var created = jdbcTemplate.queryForObject("SELECT create_transaction_partition(?)", Boolean.class, LocalDate.of(1999, 7, 1));
+
+        assertThat(created).isTrue();
+        assertThat(partitions()).contains("transaction_p1999_07");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM transaction_default", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM transaction_p1999_07", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    void create_transaction_partition_given_rows_in_default_partition_then_keep_monthly_rollup() {
+        var accountId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Account', 0)", accountId, UUID.randomUUID());
+        jdbcTemplate.update(
+                "INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared) VALUES (?, ?, 10, ?, 'Old', true)",
+                UUID.randomUUID(), accountId, LocalDate.of(1998, 3, 14)
+        );
+
+        jdbcTemplate.queryForObject("SELECT create_transaction_partition(?)", Boolean.class, LocalDate.of(1998, 3, 1));
+
+        var transactionCount = jdbcTemplate.queryForObject(
+                "SELECT transaction_count FROM account_monthly_rollup WHERE account_id = ? AND month = ?",
+                Integer.class,
+                accountId,
+                LocalDate.of(1998, 3, 1)
+        );
+        assertThat(transactionCount).isEqualTo(1);
+    }
+
+    @Test
+    void transaction_given_date_moved_to_other_month_then_move_row_between_partitions() {
+        transactionPartitionScheduler.createUpcomingPartitions();
+        var accountId = UUID.randomUUID();
+        var transactionId = UUID.randomUUID();
+        var currentMonth = LocalDate.now().withDayOfMonth(1);
+        jdbcTemplate.update("INSERT INTO account (id, user_id, name, balance) VALUES (?, ?, 'Account', 0)", accountId, UUID.randomUUID());
+        jdbcTemplate.update(
+                "INSERT INTO transaction (id, account_id, amount, date_of_transaction, memo, cleared) VALUES (?, ?, 10, ?, 'Rent', true)",
+                transactionId, accountId, currentMonth
+        );
+
+        jdbcTemplate.update("UPDATE transaction SET date_of_transaction = ? WHERE id = ?", currentMonth.plusMonths(1), transactionId);
+
+        var partition = jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM transaction WHERE id = ?", String.class, transactionId);
+        assertThat(partition).isEqualTo("transaction_p" + currentMonth.plusMonths(1).format(PARTITION_SUFFIX));
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT inhrelid::regclass::text FROM pg_inherits WHERE inhparent = 'transaction'::regclass",
+                String.class
+        );
+    }
+
+}
@@ -0,0 +1,50 @@
+package dev.felix2000jp.envelope.appusers.infrastructure.aot;
+
+import dev.felix2000jp.envelope.appusers.domain.Appuser;
+import dev.felix2000jp.envelope.appusers.domain.events.AppuserDeletedEvent;
+import dev.felix2000jp.envelope.appusers.domain.valueobjects.Username;
+import org.jmolecules.event.types.DomainEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppuserRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new AppuserRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_then_register_entity_and_value_objects_for_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Appuser.class).withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Username.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    void registerHints_then_register_events_for_serialization() throws NoSuchMethodException {
+        var accessor = AppuserDeletedEvent.class.getMethod("appuserId");
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(AppuserDeletedEvent.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(accessor)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(DomainEvent.class)).accepts(hints);
+    }
+
+    @Test
+    void registrar_is_declared_in_aot_factories() {
+        var registrars = SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+                .load(RuntimeHintsRegistrar.class);
+
+        assertThat(registrars).hasAtLeastOneElementOfType(AppuserRuntimeHints.class);
+    }
+
+}
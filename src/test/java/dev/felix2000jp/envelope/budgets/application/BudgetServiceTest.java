@@ -0,0 +1,222 @@
+package dev.felix2000jp.envelope.budgets.application;
+
+import dev.felix2000jp.envelope.budgets.application.dtos.AllocateEnvelopeDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.CreateEnvelopeDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeBudgetDto;
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import dev.felix2000jp.envelope.budgets.domain.EnvelopeRepository;
+import dev.felix2000jp.envelope.budgets.domain.exceptions.EnvelopeAlreadyExistsException;
+import dev.felix2000jp.envelope.budgets.domain.exceptions.EnvelopeNotFoundException;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import dev.felix2000jp.envelope.system.security.SecurityService;
+import dev.felix2000jp.envelope.system.security.SecurityUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BudgetServiceTest {
+
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private EnvelopeRepository envelopeRepository;
+    @Mock
+    private EnvelopeMonthRepository envelopeMonthRepository;
+    @Spy
+    private EnvelopeMapper envelopeMapper;
+    @InjectMocks
+    private BudgetService budgetService;
+
+    @Captor
+    private ArgumentCaptor<Envelope> envelopeCaptor;
+    @Captor
+    private ArgumentCaptor<EnvelopeActivity> activityCaptor;
+
+    private SecurityUser user;
+
+    @BeforeEach
+    void setUp() {
+        user = new SecurityUser(UUID.randomUUID(), "username", "password", Set.of());
+    }
+
+    @Test
+    void getBudget_given_month_then_return_budget_dto() {
+        var month = YearMonth.of(2024, 3);
+        var envelopes = List.of(
+                new EnvelopeBudgetDto(UUID.randomUUID(), "Groceries", new BigDecimal("300.00"), new BigDecimal("-50.00"), new BigDecimal("250.00"))
+        );
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(envelopeMonthRepository.findBudgetByUserIdAndMonth(user.id(), month)).thenReturn(envelopes);
+
+        var actual = budgetService.getBudget(month);
+
+        assertThat(actual.month()).isEqualTo(month);
+        assertThat(actual.available()).isEqualByComparingTo("250.00");
+        assertThat(actual.envelopes()).isEqualTo(envelopes);
+    }
+
+    @Test
+    void createEnvelope_given_dto_then_create_envelope() {
+        var createEnvelopeDto = new CreateEnvelopeDto("  Groceries ");
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(envelopeRepository.existsByUserIdAndName(new UserId(user.id()), new EnvelopeName("Groceries"))).thenReturn(false);
+
+        var actual = budgetService.createEnvelope(createEnvelopeDto);
+
+        verify(envelopeRepository).save(envelopeCaptor.capture());
+        assertThat(envelopeCaptor.getValue().getUserId().value()).isEqualTo(user.id());
+        assertThat(envelopeCaptor.getValue().getName().value()).isEqualTo("Groceries");
+        assertThat(actual.id()).isEqualTo(envelopeCaptor.getValue().getId().value());
+        assertThat(actual.name()).isEqualTo("Groceries");
+    }
+
+    @Test
+    void createEnvelope_given_existing_name_then_throw_exception() {
+        var createEnvelopeDto = new CreateEnvelopeDto("Groceries");
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(envelopeRepository.existsByUserIdAndName(new UserId(user.id()), new EnvelopeName("Groceries"))).thenReturn(true);
+
+        assertThatThrownBy(() -> budgetService.createEnvelope(createEnvelopeDto)).isInstanceOf(EnvelopeAlreadyExistsException.class);
+        verify(envelopeRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteEnvelope_given_id_then_delete_envelope() {
+        var envelope = Envelope.from(EnvelopeId.generate(), new UserId(user.id()), new EnvelopeName("Groceries"));
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(envelopeRepository.findByIdAndUserId(envelope.getId(), envelope.getUserId())).thenReturn(Optional.of(envelope));
+
+        budgetService.deleteEnvelope(envelope.getId().value());
+
+        verify(envelopeRepository).delete(envelope);
+    }
+
+    @Test
+    void deleteEnvelope_given_not_found_envelope_then_throw_exception() {
+        var id = UUID.randomUUID();
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(envelopeRepository.findByIdAndUserId(new EnvelopeId(id), new UserId(user.id()))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> budgetService.deleteEnvelope(id)).isInstanceOf(EnvelopeNotFoundException.class);
+    }
+
+    @Test
+    void allocate_given_envelope_then_allocate_to_envelope_category() {
+        var envelope = Envelope.from(EnvelopeId.generate(), new UserId(user.id()), new EnvelopeName("Groceries"));
+        var month = YearMonth.of(2024, 3);
+        var amount = new BigDecimal("300.00");
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(envelopeRepository.findByIdAndUserId(envelope.getId(), envelope.getUserId())).thenReturn(Optional.of(envelope));
+
+        budgetService.allocate(envelope.getId().value(), month, new AllocateEnvelopeDto(amount));
+
+        verify(envelopeMonthRepository).allocate(user.id(), "Groceries", month, amount);
+    }
+
+    @Test
+    void allocate_given_not_found_envelope_then_throw_exception() {
+        var id = UUID.randomUUID();
+        var allocateEnvelopeDto = new AllocateEnvelopeDto(BigDecimal.TEN);
+
+        when(securityService.loadUserFromSecurityContext()).thenReturn(user);
+        when(envelopeRepository.findByIdAndUserId(new EnvelopeId(id), new UserId(user.id()))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> budgetService.allocate(id, YearMonth.of(2024, 3), allocateEnvelopeDto))
+                .isInstanceOf(EnvelopeNotFoundException.class);
+        verify(envelopeMonthRepository, never()).allocate(any(), any(), any(), any());
+    }
+
+    @Test
+    void recordActivity_given_activities_then_merge_and_apply_in_lock_order() {
+        var march = YearMonth.of(2024, 3);
+        var april = YearMonth.of(2024, 4);
+
+        var eventId = UUID.randomUUID();
+
+        when(envelopeMonthRepository.markEventProcessed(eventId)).thenReturn(true);
+
+        budgetService.recordActivity(eventId, Map.of(user.id(), List.of(
+                new EnvelopeActivity("Rent", march, new BigDecimal("-900.00")),
+                new EnvelopeActivity("Groceries", april, new BigDecimal("-20.00")),
+                new EnvelopeActivity("Groceries", march, new BigDecimal("-30.00")),
+                new EnvelopeActivity("Groceries", march, new BigDecimal("-15.50"))
+        )));
+
+        verify(envelopeMonthRepository, times(3)).addActivity(eq(user.id()), activityCaptor.capture());
+        assertThat(activityCaptor.getAllValues())
+                .extracting(EnvelopeActivity::category, EnvelopeActivity::month)
+                .containsExactly(
+                        tuple("Groceries", march),
+                        tuple("Groceries", april),
+                        tuple("Rent", march)
+                );
+        assertThat(activityCaptor.getAllValues().getFirst().amount()).isEqualByComparingTo("-45.50");
+    }
+
+    @Test
+    void recordActivity_given_uncategorized_or_cancelling_activities_then_skip_them() {
+        var month = YearMonth.of(2024, 3);
+
+        var eventId = UUID.randomUUID();
+
+        when(envelopeMonthRepository.markEventProcessed(eventId)).thenReturn(true);
+
+        budgetService.recordActivity(eventId, Map.of(user.id(), List.of(
+                new EnvelopeActivity(null, month, new BigDecimal("-10.00")),
+                new EnvelopeActivity("Groceries", month, new BigDecimal("-10.00")),
+                new EnvelopeActivity("Groceries", month, new BigDecimal("10.00"))
+        )));
+
+        verify(envelopeMonthRepository, never()).addActivity(any(), any());
+    }
+
+    @Test
+    void recordActivity_given_already_processed_event_then_skip_it() {
+        var eventId = UUID.randomUUID();
+
+        when(envelopeMonthRepository.markEventProcessed(eventId)).thenReturn(false);
+
+        budgetService.recordActivity(eventId, Map.of(user.id(), List.of(
+                new EnvelopeActivity("Groceries", YearMonth.of(2024, 3), new BigDecimal("-10.00"))
+        )));
+
+        verify(envelopeMonthRepository, never()).addActivity(any(), any());
+    }
+
+    @Test
+    void deleteByUserId_given_user_id_then_delete_envelopes_and_months() {
+        var userId = UUID.randomUUID();
+
+        budgetService.deleteByUserId(userId);
+
+        verify(envelopeRepository).deleteAllByUserId(new UserId(userId));
+        verify(envelopeMonthRepository).deleteAllByUserId(userId);
+    }
+
+}
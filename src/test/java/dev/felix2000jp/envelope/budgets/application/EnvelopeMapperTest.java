@@ -0,0 +1,58 @@
+package dev.felix2000jp.envelope.budgets.application;
+
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeBudgetDto;
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnvelopeMapperTest {
+
+    private final EnvelopeMapper envelopeMapper = new EnvelopeMapper();
+
+    @Test
+    void toEnvelopeDto_given_envelope_then_map_to_dto() {
+        var envelope = Envelope.from(EnvelopeId.generate(), new UserId(UUID.randomUUID()), new EnvelopeName("Groceries"));
+
+        var actual = envelopeMapper.toEnvelopeDto(envelope);
+
+        assertThat(actual.id()).isEqualTo(envelope.getId().value());
+        assertThat(actual.name()).isEqualTo("Groceries");
+    }
+
+    @Test
+    void toBudgetDto_given_envelopes_then_sum_totals() {
+        var month = YearMonth.of(2024, 3);
+        var envelopes = List.of(
+                new EnvelopeBudgetDto(UUID.randomUUID(), "Groceries", new BigDecimal("300.00"), new BigDecimal("-120.50"), new BigDecimal("179.50")),
+                new EnvelopeBudgetDto(UUID.randomUUID(), "Rent", new BigDecimal("900.00"), new BigDecimal("-900.00"), new BigDecimal("0.00"))
+        );
+
+        var actual = envelopeMapper.toBudgetDto(month, envelopes);
+
+        assertThat(actual.month()).isEqualTo(month);
+        assertThat(actual.allocated()).isEqualByComparingTo("1200.00");
+        assertThat(actual.activity()).isEqualByComparingTo("-1020.50");
+        assertThat(actual.available()).isEqualByComparingTo("179.50");
+        assertThat(actual.envelopes()).isEqualTo(envelopes);
+    }
+
+    @Test
+    void toBudgetDto_given_no_envelopes_then_return_zero_totals() {
+        var actual = envelopeMapper.toBudgetDto(YearMonth.of(2024, 3), List.of());
+
+        assertThat(actual.allocated()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(actual.activity()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(actual.available()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(actual.envelopes()).isEmpty();
+    }
+
+}
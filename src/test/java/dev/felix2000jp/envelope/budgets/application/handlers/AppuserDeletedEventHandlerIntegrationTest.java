@@ -0,0 +1,43 @@
+package dev.felix2000jp.envelope.budgets.application.handlers;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.appusers.domain.events.AppuserDeletedEvent;
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import dev.felix2000jp.envelope.budgets.domain.EnvelopeRepository;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.modulith.test.Scenario;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ApplicationModuleTest
+@Import({TestcontainersConfiguration.class})
+class AppuserDeletedEventHandlerIntegrationTest {
+
+    @Autowired
+    private EnvelopeRepository envelopeRepository;
+
+    @Test
+    void on_then_delete_all_envelopes_for_specific_user_only(Scenario scenario) {
+        var user1 = new UserId(UUID.randomUUID());
+        envelopeRepository.save(Envelope.from(EnvelopeId.generate(), user1, new EnvelopeName("Groceries")));
+        envelopeRepository.save(Envelope.from(EnvelopeId.generate(), user1, new EnvelopeName("Rent")));
+
+        var user2 = new UserId(UUID.randomUUID());
+        envelopeRepository.save(Envelope.from(EnvelopeId.generate(), user2, new EnvelopeName("Groceries")));
+
+        var appuserDeletedEvent = new AppuserDeletedEvent(user1.value());
+        scenario
+                .publish(appuserDeletedEvent)
+                .andWaitForStateChange(() -> envelopeRepository.existsByUserIdAndName(user1, new EnvelopeName("Groceries")), exists -> !exists)
+                .andVerify(_ -> assertThat(envelopeRepository.existsByUserIdAndName(user2, new EnvelopeName("Groceries"))).isTrue());
+    }
+
+}
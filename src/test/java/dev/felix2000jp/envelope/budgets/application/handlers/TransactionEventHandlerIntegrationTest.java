@@ -0,0 +1,128 @@
+package dev.felix2000jp.envelope.budgets.application.handlers;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionAddedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionClearedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionRemovedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionUpdatedEvent;
+import dev.felix2000jp.envelope.accounts.domain.events.TransactionsChangedEvent;
+import dev.felix2000jp.envelope.budgets.application.BudgetService;
+import dev.felix2000jp.envelope.budgets.application.EnvelopeActivity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.modulith.test.Scenario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ApplicationModuleTest
+@Import({TestcontainersConfiguration.class})
+class TransactionEventHandlerIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BudgetService budgetService;
+
+    @Test
+    void on_given_added_transactions_then_add_activity_to_category_month(Scenario scenario) {
+        var userId = UUID.randomUUID();
+        var event = changed(
+                List.of(
+                        new TransactionAddedEvent(userId, UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("-25.00"), LocalDate.of(2024, 3, 10), "Groceries"),
+                        new TransactionAddedEvent(userId, UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("-5.00"), LocalDate.of(2024, 3, 12), "Groceries")
+                ),
+                List.of(),
+                List.of()
+        );
+
+        scenario
+                .publish(event)
+                .andWaitForStateChange(() -> available(userId, "Groceries", LocalDate.of(2024, 3, 1)), available -> !available.isEmpty())
+                .andVerify(available -> assertThat(available.getFirst()).isEqualByComparingTo("-30.00"));
+    }
+
+    @Test
+    void on_given_updated_transaction_then_move_activity_between_categories(Scenario scenario) {
+        var userId = UUID.randomUUID();
+        var event = changed(
+                List.of(),
+                List.of(new TransactionUpdatedEvent(
+                        userId, UUID.randomUUID(), UUID.randomUUID(),
+                        new BigDecimal("-25.00"), LocalDate.of(2024, 3, 10), "Groceries",
+                        new BigDecimal("-30.00"), LocalDate.of(2024, 4, 2), "Dining"
+                )),
+                List.of()
+        );
+
+        scenario
+                .publish(event)
+                .andWaitForStateChange(() -> available(userId, "Dining", LocalDate.of(2024, 4, 1)), available -> !available.isEmpty())
+                .andVerify(available -> {
+                    assertThat(available.getFirst()).isEqualByComparingTo("-30.00");
+                    assertThat(available(userId, "Groceries", LocalDate.of(2024, 3, 1)).getFirst()).isEqualByComparingTo("25.00");
+                });
+    }
+
+    @Test
+    void on_given_added_and_removed_transaction_in_same_batch_then_apply_net_activity(Scenario scenario) {
+        var userId = UUID.randomUUID();
+        var transactionId = UUID.randomUUID();
+        var event = new TransactionsChangedEvent(
+                UUID.randomUUID(),
+                List.of(
+                        new TransactionAddedEvent(userId, UUID.randomUUID(), transactionId, new BigDecimal("-25.00"), LocalDate.of(2024, 3, 10), "Groceries"),
+                        new TransactionAddedEvent(userId, UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("-900.00"), LocalDate.of(2024, 3, 1), "Rent")
+                ),
+                List.of(),
+                List.of(new TransactionRemovedEvent(userId, UUID.randomUUID(), transactionId, new BigDecimal("-25.00"), LocalDate.of(2024, 3, 10), "Groceries")),
+                List.of(new TransactionClearedEvent(userId, UUID.randomUUID(), transactionId, new BigDecimal("-25.00"), LocalDate.of(2024, 3, 10))),
+                List.of()
+        );
+
+        scenario
+                .publish(event)
+                .andWaitForStateChange(() -> available(userId, "Rent", LocalDate.of(2024, 3, 1)), available -> !available.isEmpty())
+                .andVerify(available -> {
+                    assertThat(available.getFirst()).isEqualByComparingTo("-900.00");
+                    assertThat(available(userId, "Groceries", LocalDate.of(2024, 3, 1))).isEmpty();
+                });
+    }
+
+    @Test
+    void recordActivity_given_republished_event_then_apply_activity_once() {
+        var userId = UUID.randomUUID();
+        var eventId = UUID.randomUUID();
+        var activities = Map.of(userId, List.of(new EnvelopeActivity("Groceries", YearMonth.of(2024, 3), new BigDecimal("-25.00"))));
+
+        budgetService.recordActivity(eventId, activities);
+        budgetService.recordActivity(eventId, activities);
+
+        assertThat(available(userId, "Groceries", LocalDate.of(2024, 3, 1)).getFirst()).isEqualByComparingTo("-25.00");
+    }
+
+    private TransactionsChangedEvent changed(
+            List<TransactionAddedEvent> added,
+            List<TransactionUpdatedEvent> updated,
+            List<TransactionRemovedEvent> removed
+    ) {
+        return new TransactionsChangedEvent(UUID.randomUUID(), added, updated, removed, List.of(), List.of());
+    }
+
+    private List<BigDecimal> available(UUID userId, String category, LocalDate month) {
+        return jdbcTemplate.queryForList(
+                "SELECT available FROM envelope_month WHERE user_id = ? AND category = ? AND month = ?",
+                BigDecimal.class, userId, category, month
+        );
+    }
+
+}
@@ -0,0 +1,42 @@
+package dev.felix2000jp.envelope.budgets.domain;
+
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnvelopeTest {
+
+    @Test
+    void from_given_valid_parameters_then_create_envelope() {
+        var id = EnvelopeId.generate();
+        var userId = new UserId(UUID.randomUUID());
+
+        var envelope = Envelope.from(id, userId, new EnvelopeName("Groceries"));
+
+        assertThat(envelope.getId()).isEqualTo(id);
+        assertThat(envelope.getUserId()).isEqualTo(userId);
+        assertThat(envelope.getName().value()).isEqualTo("Groceries");
+    }
+
+    @Test
+    void from_given_null_name_then_throw_exception() {
+        var id = EnvelopeId.generate();
+        var userId = new UserId(UUID.randomUUID());
+
+        assertThatThrownBy(() -> Envelope.from(id, userId, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void envelopeName_given_name_longer_than_64_characters_then_throw_exception() {
+        var name = "a".repeat(65);
+
+        assertThatThrownBy(() -> new EnvelopeName(name)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,51 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.aot;
+
+import dev.felix2000jp.envelope.budgets.domain.Envelope;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeId;
+import dev.felix2000jp.envelope.budgets.domain.valueobjects.EnvelopeName;
+import org.jmolecules.ddd.types.AggregateRoot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BudgetRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new BudgetRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_then_register_entities_for_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Envelope.class).withMemberCategory(MemberCategory.ACCESS_DECLARED_FIELDS)).accepts(hints);
+    }
+
+    @Test
+    void registerHints_then_register_value_objects_for_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(EnvelopeId.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(EnvelopeName.class).withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+    }
+
+    @Test
+    void registerHints_then_register_jmolecules_types_for_reflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(AggregateRoot.class)).accepts(hints);
+    }
+
+    @Test
+    void registrar_is_declared_in_aot_factories() {
+        var registrars = SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+                .load(RuntimeHintsRegistrar.class);
+
+        assertThat(registrars).hasAtLeastOneElementOfType(BudgetRuntimeHints.class);
+    }
+
+}
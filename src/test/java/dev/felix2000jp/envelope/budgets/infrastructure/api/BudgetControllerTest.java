@@ -0,0 +1,225 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.api;
+
+import dev.felix2000jp.envelope.budgets.application.BudgetService;
+import dev.felix2000jp.envelope.budgets.application.dtos.AllocateEnvelopeDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.BudgetDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.CreateEnvelopeDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeBudgetDto;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeDto;
+import dev.felix2000jp.envelope.budgets.domain.exceptions.EnvelopeAlreadyExistsException;
+import dev.felix2000jp.envelope.budgets.domain.exceptions.EnvelopeNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = BudgetController.class)
+class BudgetControllerTest {
+
+    @MockitoBean
+    private BudgetService budgetService;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    @WithMockUser
+    void getBudget_then_return_200_and_budget() throws Exception {
+        var month = YearMonth.of(2024, 3);
+        var budgetDto = new BudgetDto(
+                month,
+                new BigDecimal("300.00"),
+                new BigDecimal("-50.00"),
+                new BigDecimal("250.00"),
+                List.of(new EnvelopeBudgetDto(UUID.randomUUID(), "Groceries", new BigDecimal("300.00"), new BigDecimal("-50.00"), new BigDecimal("250.00")))
+        );
+        var expectedResponse = jsonMapper.writeValueAsString(budgetDto);
+
+        when(budgetService.getBudget(month)).thenReturn(budgetDto);
+
+        var request = get("/api/budgets/2024-03");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().json(expectedResponse));
+    }
+
+    @Test
+    @WithMockUser
+    void getBudget_given_invalid_month_then_return_400() throws Exception {
+        var request = get("/api/budgets/2024-13");
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(budgetService);
+    }
+
+    @Test
+    @WithMockUser
+    void createEnvelope_then_return_201_and_location_header() throws Exception {
+        var createEnvelopeDto = new CreateEnvelopeDto("Groceries");
+        var envelopeDto = new EnvelopeDto(UUID.randomUUID(), "Groceries");
+        var body = jsonMapper.writeValueAsString(createEnvelopeDto);
+
+        when(budgetService.createEnvelope(createEnvelopeDto)).thenReturn(envelopeDto);
+
+        var request = post("/api/budgets/envelopes").contentType(MediaType.APPLICATION_JSON).content(body);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("LOCATION", "/api/budgets/envelopes/" + envelopeDto.id()))
+                .andExpect(content().json(jsonMapper.writeValueAsString(envelopeDto)));
+    }
+
+    @Test
+    @WithMockUser
+    void createEnvelope_given_duplicate_name_then_return_409() throws Exception {
+        var createEnvelopeDto = new CreateEnvelopeDto("Groceries");
+        var body = jsonMapper.writeValueAsString(createEnvelopeDto);
+
+        var exception = new EnvelopeAlreadyExistsException();
+        when(budgetService.createEnvelope(createEnvelopeDto)).thenThrow(exception);
+
+        var request = post("/api/budgets/envelopes").contentType(MediaType.APPLICATION_JSON).content(body);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Conflict"))
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()))
+                .andExpect(jsonPath("$.status").value(409));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    @WithMockUser
+    void createEnvelope_given_invalid_body_then_return_400(String name) throws Exception {
+        var createEnvelopeDto = new CreateEnvelopeDto(name);
+        var body = jsonMapper.writeValueAsString(createEnvelopeDto);
+
+        var request = post("/api/budgets/envelopes").contentType(MediaType.APPLICATION_JSON).content(body);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Bad Request"))
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    private static Stream<Arguments> createEnvelope_given_invalid_body_then_return_400() {
+        return Stream.of(
+                arguments((String) null),
+                arguments(""),
+                arguments(" "),
+                arguments("a".repeat(65))
+        );
+    }
+
+    @Test
+    @WithMockUser
+    void deleteEnvelope_then_return_204() throws Exception {
+        var id = UUID.randomUUID();
+
+        var request = delete("/api/budgets/envelopes/" + id);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(budgetService).deleteEnvelope(id);
+    }
+
+    @Test
+    @WithMockUser
+    void deleteEnvelope_given_not_found_envelope_then_return_404() throws Exception {
+        var id = UUID.randomUUID();
+
+        var exception = new EnvelopeNotFoundException();
+        doThrow(exception).when(budgetService).deleteEnvelope(id);
+
+        var request = delete("/api/budgets/envelopes/" + id);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("Not Found"))
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()))
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    @WithMockUser
+    void allocate_then_return_204() throws Exception {
+        var id = UUID.randomUUID();
+        var allocateEnvelopeDto = new AllocateEnvelopeDto(new BigDecimal("300.00"));
+        var body = jsonMapper.writeValueAsString(allocateEnvelopeDto);
+
+        var request = put("/api/budgets/2024-03/envelopes/" + id).contentType(MediaType.APPLICATION_JSON).content(body);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(budgetService).allocate(id, YearMonth.of(2024, 3), allocateEnvelopeDto);
+    }
+
+    @Test
+    @WithMockUser
+    void allocate_given_not_found_envelope_then_return_404() throws Exception {
+        var id = UUID.randomUUID();
+        var allocateEnvelopeDto = new AllocateEnvelopeDto(new BigDecimal("300.00"));
+        var body = jsonMapper.writeValueAsString(allocateEnvelopeDto);
+
+        var exception = new EnvelopeNotFoundException();
+        doThrow(exception).when(budgetService).allocate(id, YearMonth.of(2024, 3), allocateEnvelopeDto);
+
+        var request = put("/api/budgets/2024-03/envelopes/" + id).contentType(MediaType.APPLICATION_JSON).content(body);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value(exception.getMessage()))
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    @WithMockUser
+    void allocate_given_invalid_body_then_return_400(BigDecimal amount) throws Exception {
+        var body = jsonMapper.writeValueAsString(new AllocateEnvelopeDto(amount));
+
+        var request = put("/api/budgets/2024-03/envelopes/" + UUID.randomUUID()).contentType(MediaType.APPLICATION_JSON).content(body);
+        mockMvc
+                .perform(request.with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Bad Request"))
+                .andExpect(jsonPath("$.status").value(400));
+
+        verify(budgetService, never()).allocate(any(), any(), any());
+    }
+
+    private static Stream<Arguments> allocate_given_invalid_body_then_return_400() {
+        return Stream.of(
+                arguments((BigDecimal) null),
+                arguments(new BigDecimal("1.001")),
+                arguments(new BigDecimal("12345678901"))
+        );
+    }
+
+}
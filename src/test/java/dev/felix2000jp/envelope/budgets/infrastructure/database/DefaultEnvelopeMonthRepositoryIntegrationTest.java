@@ -0,0 +1,132 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import dev.felix2000jp.envelope.budgets.application.EnvelopeActivity;
+import dev.felix2000jp.envelope.budgets.application.dtos.EnvelopeBudgetDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TestcontainersConfiguration.class, DefaultEnvelopeMonthRepository.class})
+class DefaultEnvelopeMonthRepositoryIntegrationTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID groceriesId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private final UUID rentId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private final YearMonth january = YearMonth.of(2024, 1);
+    private final YearMonth february = YearMonth.of(2024, 2);
+    private final YearMonth march = YearMonth.of(2024, 3);
+
+    @Autowired
+    private DefaultEnvelopeMonthRepository envelopeMonthRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO envelope (id, user_id, name) VALUES (?, ?, 'Groceries')", groceriesId, userId);
+        jdbcTemplate.update("INSERT INTO envelope (id, user_id, name) VALUES (?, ?, 'Rent')", rentId, userId);
+    }
+
+    @Test
+    void findBudgetByUserIdAndMonth_given_no_months_then_return_zero_envelopes() {
+        var actual = envelopeMonthRepository.findBudgetByUserIdAndMonth(userId, january);
+
+        assertThat(actual).extracting(EnvelopeBudgetDto::name).containsExactly("Groceries", "Rent");
+        assertThat(actual).allSatisfy(envelope -> {
+            assertThat(envelope.allocated()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(envelope.activity()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(envelope.available()).isEqualByComparingTo(BigDecimal.ZERO);
+        });
+    }
+
+    @Test
+    void findBudgetByUserIdAndMonth_given_earlier_months_then_carry_available_forward() {
+        envelopeMonthRepository.allocate(userId, "Groceries", january, new BigDecimal("300.00"));
+        envelopeMonthRepository.addActivity(userId, new EnvelopeActivity("Groceries", january, new BigDecimal("-120.00")));
+
+        var actual = groceries(envelopeMonthRepository.findBudgetByUserIdAndMonth(userId, march));
+
+        assertThat(actual.allocated()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(actual.activity()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(actual.available()).isEqualByComparingTo("180.00");
+    }
+
+    @Test
+    void markEventProcessed_given_same_event_twice_then_return_false_the_second_time() {
+        var eventId = UUID.randomUUID();
+
+        assertThat(envelopeMonthRepository.markEventProcessed(eventId)).isTrue();
+        assertThat(envelopeMonthRepository.markEventProcessed(eventId)).isFalse();
+    }
+
+    @Test
+    void addActivity_given_earlier_month_then_update_available_of_later_months() {
+        envelopeMonthRepository.allocate(userId, "Groceries", january, new BigDecimal("300.00"));
+        envelopeMonthRepository.allocate(userId, "Groceries", march, new BigDecimal("200.00"));
+        envelopeMonthRepository.addActivity(userId, new EnvelopeActivity("Groceries", february, new BigDecimal("-50.00")));
+
+        var februaryBudget = groceries(envelopeMonthRepository.findBudgetByUserIdAndMonth(userId, february));
+        assertThat(februaryBudget.activity()).isEqualByComparingTo("-50.00");
+        assertThat(februaryBudget.available()).isEqualByComparingTo("250.00");
+
+        var marchBudget = groceries(envelopeMonthRepository.findBudgetByUserIdAndMonth(userId, march));
+        assertThat(marchBudget.allocated()).isEqualByComparingTo("200.00");
+        assertThat(marchBudget.activity()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(marchBudget.available()).isEqualByComparingTo("450.00");
+    }
+
+    @Test
+    void allocate_given_existing_allocation_then_apply_only_the_difference() {
+        envelopeMonthRepository.allocate(userId, "Groceries", january, new BigDecimal("300.00"));
+        envelopeMonthRepository.allocate(userId, "Groceries", february, new BigDecimal("100.00"));
+        envelopeMonthRepository.allocate(userId, "Groceries", january, new BigDecimal("250.00"));
+
+        var januaryBudget = groceries(envelopeMonthRepository.findBudgetByUserIdAndMonth(userId, january));
+        assertThat(januaryBudget.allocated()).isEqualByComparingTo("250.00");
+        assertThat(januaryBudget.available()).isEqualByComparingTo("250.00");
+
+        var februaryBudget = groceries(envelopeMonthRepository.findBudgetByUserIdAndMonth(userId, february));
+        assertThat(februaryBudget.available()).isEqualByComparingTo("350.00");
+    }
+
+    @Test
+    void addActivity_given_category_without_envelope_then_count_once_envelope_is_created() {
+        envelopeMonthRepository.addActivity(userId, new EnvelopeActivity("Fuel", january, new BigDecimal("-40.00")));
+        jdbcTemplate.update("INSERT INTO envelope (id, user_id, name) VALUES (?, ?, 'Fuel')", UUID.randomUUID(), userId);
+
+        var actual = envelopeMonthRepository.findBudgetByUserIdAndMonth(userId, january);
+
+        assertThat(actual).extracting(EnvelopeBudgetDto::name).containsExactly("Fuel", "Groceries", "Rent");
+        assertThat(actual.getFirst().activity()).isEqualByComparingTo("-40.00");
+        assertThat(actual.getFirst().available()).isEqualByComparingTo("-40.00");
+    }
+
+    @Test
+    void deleteAllByUserId_given_user_id_then_delete_only_that_users_months() {
+        var otherUserId = UUID.randomUUID();
+        envelopeMonthRepository.allocate(userId, "Groceries", january, new BigDecimal("300.00"));
+        envelopeMonthRepository.allocate(otherUserId, "Groceries", january, new BigDecimal("300.00"));
+
+        envelopeMonthRepository.deleteAllByUserId(userId);
+
+        var remaining = jdbcTemplate.queryForList("SELECT user_id FROM envelope_month", UUID.class);
+        assertThat(remaining).containsExactly(otherUserId);
+    }
+
+    private EnvelopeBudgetDto groceries(List<EnvelopeBudgetDto> envelopes) {
+        return envelopes.stream().filter(envelope -> envelope.id().equals(groceriesId)).findFirst().orElseThrow();
+    }
+
+}
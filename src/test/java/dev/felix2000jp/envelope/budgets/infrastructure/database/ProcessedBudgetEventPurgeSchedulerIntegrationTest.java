@@ -0,0 +1,46 @@
+package dev.felix2000jp.envelope.budgets.infrastructure.database;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({TestcontainersConfiguration.class, ProcessedBudgetEventPurgeScheduler.class})
+@TestPropertySource(properties = {"processed-budget-events.retention=1d", "processed-budget-events.purge-batch-size=2"})
+class ProcessedBudgetEventPurgeSchedulerIntegrationTest {
+
+    @Autowired
+    private ProcessedBudgetEventPurgeScheduler processedBudgetEventPurgeScheduler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void purgeExpired_given_old_processed_events_then_delete_only_those() {
+        jdbcTemplate.update("""
+                INSERT INTO processed_budget_event (event_id, processed_at)
+                SELECT gen_random_uuid(), now() - interval '2 days'
+                FROM generate_series(1, 5)
+                """);
+        var recentEventId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO processed_budget_event (event_id) VALUES (?)", recentEventId);
+
+        processedBudgetEventPurgeScheduler.purgeExpired();
+
+        var expired = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM processed_budget_event WHERE processed_at < now() - interval '1 day'",
+                Long.class
+        );
+        var recent = jdbcTemplate.queryForObject("SELECT count(*) FROM processed_budget_event WHERE event_id = ?", Long.class, recentEventId);
+        assertThat(expired).isZero();
+        assertThat(recent).isEqualTo(1);
+    }
+
+}
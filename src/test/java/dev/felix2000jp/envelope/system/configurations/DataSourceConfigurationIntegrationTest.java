@@ -0,0 +1,71 @@
+package dev.felix2000jp.envelope.system.configurations;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@Import({TestcontainersConfiguration.class})
+class DataSourceConfigurationIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> replicaContainer = new PostgreSQLContainer<>("postgres").withDatabaseName("replica");
+
+    @DynamicPropertySource
+    static void readOnlyDataSourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("read-only-datasource.url", replicaContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void given_read_only_transaction_then_use_read_only_pool_without_flushing() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(_ -> {
+            var session = entityManager.unwrap(Session.class);
+
+            assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.MANUAL);
+            assertThat(session.isDefaultReadOnly()).isTrue();
+            assertThat(jdbcTemplate.queryForObject("SELECT current_database()", String.class)).isEqualTo("replica");
+            assertThat(jdbcTemplate.queryForObject("SHOW transaction_read_only", String.class)).isEqualTo("on");
+        });
+    }
+
+    @Test
+    void given_read_write_transaction_then_use_write_pool() {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(_ -> {
+            var session = entityManager.unwrap(Session.class);
+
+            assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.AUTO);
+            assertThat(session.isDefaultReadOnly()).isFalse();
+            assertThat(jdbcTemplate.queryForObject("SELECT current_database()", String.class)).isNotEqualTo("replica");
+            assertThat(jdbcTemplate.queryForObject("SHOW transaction_read_only", String.class)).isEqualTo("off");
+        });
+    }
+
+}
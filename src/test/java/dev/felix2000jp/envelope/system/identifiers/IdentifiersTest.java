@@ -0,0 +1,40 @@
+package dev.felix2000jp.envelope.system.identifiers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdentifiersTest {
+
+    @AfterEach
+    void tearDown() {
+        Identifiers.use(new TimeOrderedIdGenerator());
+    }
+
+    @Test
+    void next_then_return_time_ordered_id() {
+        var actual = Identifiers.next();
+
+        assertThat(actual.version()).isEqualTo(7);
+    }
+
+    @Test
+    void next_given_id_generator_in_use_then_return_id_from_that_generator() {
+        var id = UUID.randomUUID();
+        Identifiers.use(() -> id);
+
+        var actual = Identifiers.next();
+
+        assertThat(actual).isEqualTo(id);
+    }
+
+    @Test
+    void use_given_null_then_throw_exception() {
+        assertThatThrownBy(() -> Identifiers.use(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
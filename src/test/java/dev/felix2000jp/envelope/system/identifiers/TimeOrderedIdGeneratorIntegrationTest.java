@@ -0,0 +1,78 @@
+package dev.felix2000jp.envelope.system.identifiers;
+
+import dev.felix2000jp.envelope.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.IdGenerator;
+import org.springframework.util.JdkIdGenerator;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(TestcontainersConfiguration.class)
+class TimeOrderedIdGeneratorIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeOrderedIdGeneratorIntegrationTest.class);
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generateId_then_build_smaller_indexes_than_random_ids() {
+        var randomIndexSize = insertAndMeasureIndexSize("random_ids", new JdkIdGenerator());
+        var timeOrderedIndexSize = insertAndMeasureIndexSize("time_ordered_ids", new TimeOrderedIdGenerator());
+
+        assertThat(timeOrderedIndexSize).isLessThan(randomIndexSize);
+    }
+
+    private long insertAndMeasureIndexSize(String table, IdGenerator idGenerator) {
+        jdbcTemplate.execute("""
+                CREATE TABLE %s
+                (
+                    id                  uuid PRIMARY KEY,
+                    account_id          uuid NOT NULL,
+                    date_of_transaction date NOT NULL
+                )
+                """.formatted(table));
+        jdbcTemplate.execute("CREATE INDEX %1$s_account_date_id ON %1$s (account_id, date_of_transaction, id)".formatted(table));
+
+        var accountIds = new ArrayList<UUID>();
+        for (var i = 0; i < 100; i++) {
+            accountIds.add(idGenerator.generateId());
+        }
+
+        var start = System.nanoTime();
+        for (var inserted = 0; inserted < ROWS; inserted += BATCH_SIZE) {
+            var batch = new ArrayList<Object[]>(BATCH_SIZE);
+            for (var i = 0; i < BATCH_SIZE; i++) {
+                var accountId = accountIds.get(ThreadLocalRandom.current().nextInt(accountIds.size()));
+                batch.add(new Object[]{idGenerator.generateId(), accountId, Date.valueOf(LocalDate.now())});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO %s (id, account_id, date_of_transaction) VALUES (?, ?, ?)".formatted(table), batch);
+        }
+        var elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        var indexSize = jdbcTemplate.queryForObject(
+                "SELECT pg_relation_size('%1$s_pkey') + pg_relation_size('%1$s_account_date_id')".formatted(table),
+                Long.class
+        );
+        log.info("{}: {} rows/s, {} bytes of indexes", table, ROWS * 1_000L / elapsedMillis, indexSize);
+
+        return indexSize;
+    }
+
+}
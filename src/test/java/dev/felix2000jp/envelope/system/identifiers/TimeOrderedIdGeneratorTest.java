@@ -0,0 +1,87 @@
+package dev.felix2000jp.envelope.system.identifiers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void generateId_then_return_version_7_uuid() {
+        var idGenerator = new TimeOrderedIdGenerator();
+
+        var actual = idGenerator.generateId();
+
+        assertThat(actual.version()).isEqualTo(7);
+        assertThat(actual.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void generateId_then_encode_current_time_in_first_48_bits() {
+        var idGenerator = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+
+        var actual = idGenerator.generateId();
+
+        assertThat(actual.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void generateId_given_same_millisecond_then_return_increasing_ids() {
+        var idGenerator = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+
+        var ids = new ArrayList<UUID>();
+        for (var i = 0; i < 10_000; i++) {
+            ids.add(idGenerator.generateId());
+        }
+
+        assertThat(ids).extracting(UUID::toString).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void generateId_given_clock_moving_backwards_then_return_increasing_ids() {
+        var now = new AtomicLong(1_700_000_000_000L);
+        var idGenerator = new TimeOrderedIdGenerator(now::get);
+
+        var first = idGenerator.generateId();
+        now.addAndGet(-1_000);
+        var second = idGenerator.generateId();
+
+        assertThat(second.toString()).isGreaterThan(first.toString());
+    }
+
+    @Test
+    void generateId_given_concurrent_callers_then_return_unique_ids_increasing_per_thread() throws Exception {
+        var idGenerator = new TimeOrderedIdGenerator();
+        var tasks = new ArrayList<Callable<List<UUID>>>();
+        for (var i = 0; i < 8; i++) {
+            tasks.add(() -> {
+                var ids = new ArrayList<UUID>();
+                for (var j = 0; j < 10_000; j++) {
+                    ids.add(idGenerator.generateId());
+                }
+                return ids;
+            });
+        }
+
+        var allIds = new HashSet<UUID>();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (var future : executor.invokeAll(tasks)) {
+                var ids = future.get();
+
+                assertThat(ids).extracting(UUID::toString).isSorted();
+                allIds.addAll(ids);
+            }
+        }
+
+        assertThat(allIds).hasSize(80_000);
+    }
+
+}